@@ -12,6 +12,7 @@ import com.mastercard.mobile_api.utils.apdu.emv.GetDataApdu;
 import com.mastercard.mobile_api.utils.apdu.emv.GetProcessingOptions;
 import com.mastercard.mobile_api.utils.apdu.emv.ReadRecordApdu;
 import com.mastercard.mobile_api.utils.apdu.emv.VerifyPINApdu;
+import com.samsung.android.spayfw.p002b.TapTracer;
 
 public enum CommandSet {
     APPLICATION_SELECTION((byte) 0, ISO7816.INS_SELECT, new ApplicationSelectionProcess()),
@@ -40,12 +41,14 @@ public enum CommandSet {
 
     public TokenAPDUResponse process(CommandAPDU commandAPDU) {
         new TokenAPDUResponse().setsSW(com.samsung.android.spayfw.appinterface.ISO7816.SW_UNKNOWN);
+        TapTracer.begin(TapTracer.EV_AMEX_COMMAND, this.bINS & 255);
         try {
             this.commandProcess.set();
             TokenAPDUResponse process = this.commandProcess.process(commandAPDU);
             return process;
         } finally {
             this.commandProcess.reset();
+            TapTracer.end(TapTracer.EV_AMEX_COMMAND, this.bINS & 255);
         }
     }
 }
@@ -1,8 +1,8 @@
 package com.samsung.android.spayfw.core;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spayfw.utils.Utils;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import java.util.Comparator;
@@ -54,7 +54,7 @@ public class BinAttribute {
     }
 
     static {
-        sGson = new GsonBuilder().disableHtmlEscaping().create();
+        sGson = GsonHolder.get();
         BIN_SET = new TreeSet(new C04041());
         COUNTRY_MAP = new HashMap();
         SERVER_BIN_VERSION = BuildConfig.FLAVOR;
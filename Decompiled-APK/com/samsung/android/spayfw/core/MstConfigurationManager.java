@@ -1,10 +1,10 @@
 package com.samsung.android.spayfw.core;
 
 import android.content.Context;
+import android.content.SharedPreferences;
 import android.location.Location;
 import com.google.android.gms.location.LocationStatusCodes;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.samsung.android.spayfw.appinterface.PayConfig;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.Request.C0413a;
@@ -22,6 +22,7 @@ import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Network;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Sequence;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Token;
 import com.samsung.android.spayfw.storage.MstConfigurationStorage;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spayfw.utils.SyncFileDownloaderClient;
 import com.samsung.android.spayfw.utils.Utils;
 import java.io.File;
@@ -223,7 +224,7 @@ public class MstConfigurationManager implements Runnable {
                 Log.m285d("MstConfigurationManager", "storedCacheMetaData : " + z);
                 if (z == null || c.getUpdatedAt().compareTo(z.getUpdatedAt()) > 0) {
                     com.squareup.okhttp.Response a;
-                    SyncFileDownloaderClient syncFileDownloaderClient = new SyncFileDownloaderClient();
+                    SyncFileDownloaderClient syncFileDownloaderClient = new SyncFileDownloaderClient(this.jq.mContext);
                     File file = new File(this.jq.mContext.getDir("MstConfigurationCache", 0), c.getType());
                     try {
                         a = syncFileDownloaderClient.m1270a(c.getHref(), file);
@@ -232,8 +233,22 @@ public class MstConfigurationManager implements Runnable {
                         a = null;
                     }
                     if (a != null && a.isSuccessful()) {
-                        Log.m285d("MstConfigurationManager", "CacheMetaData Successfully retrieved and stored in " + file.getAbsolutePath() + " Size: " + file.length());
-                        this.jq.m595a(c, file, ac);
+                        String validator = SyncFileDownloaderClient.validator(a);
+                        SharedPreferences sharedPreferences = this.jq.mContext.getSharedPreferences("MstConfigurationCache", 0);
+                        String str = c.getId() + "/" + c.getType();
+                        if (z != null && validator != null && SyncFileDownloaderClient.isNotModified(a) && validator.equals(sharedPreferences.getString(str, null))) {
+                            Log.m287i("MstConfigurationManager", "CacheMetaData not modified, keeping parsed configuration");
+                            ac.m1248c(c);
+                        } else {
+                            Log.m285d("MstConfigurationManager", "CacheMetaData Successfully retrieved and stored in " + file.getAbsolutePath() + " Size: " + file.length());
+                            this.jq.m595a(c, file, ac);
+                            CacheMetaData z2 = ac.m1249z(c.getId(), c.getType());
+                            if (validator == null || z2 == null || !c.getUpdatedAt().equals(z2.getUpdatedAt())) {
+                                sharedPreferences.edit().remove(str).apply();
+                            } else {
+                                sharedPreferences.edit().putString(str, validator).apply();
+                            }
+                        }
                     } else if (a != null) {
                         Log.m286e("MstConfigurationManager", "Failed retrieving cacheMetaData : " + a.code());
                         file.delete();
@@ -262,7 +277,7 @@ public class MstConfigurationManager implements Runnable {
     }
 
     static {
-        sGson = new GsonBuilder().disableHtmlEscaping().create();
+        sGson = GsonHolder.get();
     }
 
     public static final synchronized MstConfigurationManager m604j(Context context) {
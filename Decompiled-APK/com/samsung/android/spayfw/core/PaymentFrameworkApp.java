@@ -21,6 +21,7 @@ import com.samsung.android.spayfw.appinterface.PaymentFramework;
 import com.samsung.android.spayfw.cncc.CNCCTAController;
 import com.samsung.android.spayfw.core.retry.NetworkEventReceiver;
 import com.samsung.android.spayfw.core.retry.RetryRequester;
+import com.samsung.android.spayfw.core.retry.RetryScheduler;
 import com.samsung.android.spayfw.fraud.FraudDataCollector;
 import com.samsung.android.spayfw.fraud.FraudDataProvider;
 import com.samsung.android.spayfw.p001a.UserHandleAdapter;
@@ -428,6 +429,7 @@ public class PaymentFrameworkApp extends Application {
                                             Log.m286e("PaymentFrameworkApp", e3.getMessage());
                                         }
                                         jA.registerReceiver(new NetworkEventReceiver(), new IntentFilter("android.net.conn.CONNECTIVITY_CHANGE"));
+                                        RetryScheduler.init(jA);
                                         RetryRequester.m673e(true);
                                         Log.m285d("PaymentFrameworkApp", "initPF: Prepare MST pay config data");
                                         PayConfigurator.m616k(jA);
@@ -489,16 +491,30 @@ public class PaymentFrameworkApp extends Application {
         Log.m285d("PaymentFrameworkApp", "new screenDpi " + screenDensity);
         if (!screenDensity.equals(this.jH)) {
             Log.m285d("PaymentFrameworkApp", "onConfigurationChanged. Screen DPI changed Killing PF! " + Process.myPid());
+            FraudDataCollector.flush();
             Process.killProcess(Process.myPid());
         }
         Log.m285d("PaymentFrameworkApp", "original Locale " + this.jI);
         Log.m285d("PaymentFrameworkApp", "new Locale " + locale);
         if (!locale.equals(this.jI)) {
             Log.m285d("PaymentFrameworkApp", "onConfigurationChanged. Locale changed Killing PF! " + Process.myPid());
+            FraudDataCollector.flush();
             Process.killProcess(Process.myPid());
         }
     }
 
+    public void onTrimMemory(int i) {
+        super.onTrimMemory(i);
+        Log.m285d("PaymentFrameworkApp", "onTrimMemory: " + i);
+        FraudDataCollector.requestFlush();
+    }
+
+    public void onLowMemory() {
+        super.onLowMemory();
+        Log.m285d("PaymentFrameworkApp", "onLowMemory");
+        FraudDataCollector.requestFlush();
+    }
+
     private void prepare() {
         int i = 0;
         List fv = this.jJ.fv();
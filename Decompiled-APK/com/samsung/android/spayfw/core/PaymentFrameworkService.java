@@ -62,6 +62,7 @@ import com.samsung.android.spayfw.core.hce.SPayHCEService;
 import com.samsung.android.spayfw.core.p005a.PaymentProcessor;
 import com.samsung.android.spayfw.core.p005a.ServerRequestProcessor;
 import com.samsung.android.spayfw.core.p005a.TokenManager;
+import com.samsung.android.spayfw.fraud.FraudDataCollector;
 import com.samsung.android.spayfw.fraud.FraudReceiver;
 import com.samsung.android.spayfw.p001a.UserHandleAdapter;
 import com.samsung.android.spayfw.p002b.Log;
@@ -791,6 +792,12 @@ public class PaymentFrameworkService extends Service {
         this.mContext = getApplicationContext();
     }
 
+    public void onDestroy() {
+        Log.m285d("PaymentFrameworkService", "onDestroy");
+        FraudDataCollector.requestFlush();
+        super.onDestroy();
+    }
+
     public IBinder onBind(Intent intent) {
         int callingUserId = UserHandleAdapter.getCallingUserId();
         if (callingUserId != UserHandleAdapter.USER_OWNER) {
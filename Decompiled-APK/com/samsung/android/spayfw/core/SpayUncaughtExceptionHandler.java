@@ -5,6 +5,7 @@ import android.os.Process;
 import com.samsung.android.spayfw.appinterface.PaymentFramework;
 import com.samsung.android.spayfw.core.retry.RetryRequestData;
 import com.samsung.android.spayfw.core.retry.RetryRequester;
+import com.samsung.android.spayfw.fraud.FraudDataCollector;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ErrorReport;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ReportData;
@@ -20,6 +21,11 @@ public class SpayUncaughtExceptionHandler implements UncaughtExceptionHandler {
         intent.putExtra(PaymentFramework.EXTRA_NOTIFICATION_TYPE, PaymentFramework.NOTIFICATION_TYPE_PAY_FW_CRASHED);
         PaymentFrameworkApp.m315a(intent);
         m647a(th);
+        try {
+            FraudDataCollector.flush();
+        } catch (Throwable e) {
+            Log.m284c("SpayUncaughtExceptionHandler", "cannot flush fraud events", e);
+        }
         Process.killProcess(Process.myPid());
         System.exit(1);
     }
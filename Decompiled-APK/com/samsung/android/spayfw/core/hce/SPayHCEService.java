@@ -8,7 +8,11 @@ import com.samsung.android.spayfw.core.PaymentFrameworkApp;
 import com.samsung.android.spayfw.core.p005a.IPaymentProcessor;
 import com.samsung.android.spayfw.core.p005a.PaymentProcessor;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spayfw.utils.Utils;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.io.PrintWriter;
 
 public class SPayHCEService extends HostApduService {
     public static final boolean DEBUG;
@@ -38,6 +42,16 @@ public class SPayHCEService extends HostApduService {
     }
 
     public byte[] processCommandApdu(byte[] bArr, Bundle bundle) {
+        int i = (bArr == null || bArr.length < 2) ? -1 : bArr[1] & 255;
+        TapTracer.begin(TapTracer.EV_HCE_APDU, i);
+        try {
+            return handleCommandApdu(bArr, bundle);
+        } finally {
+            TapTracer.end(TapTracer.EV_HCE_APDU, i);
+        }
+    }
+
+    private byte[] handleCommandApdu(byte[] bArr, Bundle bundle) {
         long currentTimeMillis = System.currentTimeMillis();
         if (DEBUG) {
             Log.m287i("SPayHCEService", "processCommandApdu(): time= " + currentTimeMillis);
@@ -64,7 +78,31 @@ public class SPayHCEService extends HostApduService {
         }
     }
 
+    /**
+     * adb shell dumpsys activity service SPayHCEService taptrace [on|off|clear]
+     * prints the TapTracer ring as Chrome trace JSON, or switches it.
+     */
+    protected void dump(FileDescriptor fileDescriptor, PrintWriter printWriter, String[] strArr) {
+        if (strArr == null || strArr.length == 0 || !"taptrace".equals(strArr[0])) {
+            printWriter.println("usage: taptrace [on|off|clear]");
+        } else if (strArr.length == 1) {
+            try {
+                TapTracer.exportChromeTrace(printWriter);
+                printWriter.println();
+            } catch (IOException e) {
+                printWriter.println("taptrace: " + e.getMessage());
+            }
+        } else if ("on".equals(strArr[1]) || "off".equals(strArr[1])) {
+            TapTracer.setEnabled("on".equals(strArr[1]));
+            printWriter.println("taptrace " + strArr[1]);
+        } else if ("clear".equals(strArr[1])) {
+            TapTracer.clear();
+            printWriter.println("taptrace cleared");
+        }
+    }
+
     public void onDeactivated(int i) {
+        TapTracer.instant(TapTracer.EV_HCE_DEACTIVATED, i);
         if (DEBUG) {
             Log.m285d("SPayHCEService", "onDeactivated(): time= " + System.currentTimeMillis());
         } else {
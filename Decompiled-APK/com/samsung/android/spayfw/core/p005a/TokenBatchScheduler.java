@@ -0,0 +1,242 @@
+package com.samsung.android.spayfw.core.p005a;
+
+import android.content.Context;
+import android.os.SystemClock;
+import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Request;
+import com.samsung.android.spayfw.remoteservice.Request.C0413a;
+import com.samsung.android.spayfw.remoteservice.models.ServerCertificates;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Bulk mode for the per-token replenish and status check jobs. The token
+ * requester has no batch endpoint, so instead of one handler post per token
+ * every job that falls due close to an already scheduled batch joins it, and
+ * the batch runs its jobs back to back in one post on the replenisher
+ * handler. A job never joins a batch that is due after it, and only joins an
+ * earlier batch when that runs it at most a tenth of its delay (capped at
+ * WINDOW_MS) ahead of time.
+ *
+ * At most MAX_IN_FLIGHT jobs per card brand have a request outstanding. A
+ * job takes a slot with acquire() before sending and hands its callback
+ * through wrap(), which releases the slot once the request has completed;
+ * a job that finds its brand busy is parked and posted again when a slot
+ * frees up.
+ */
+public final class TokenBatchScheduler {
+    private static final long IN_FLIGHT_TIMEOUT_MS = 120000;
+    private static final int MAX_IN_FLIGHT = 2;
+    private static final String TAG = "TokenBatchScheduler";
+    private static final long WINDOW_MS = 30000;
+    private static final HashMap<Runnable, InFlight> sInFlight;
+    private static final HashMap<Runnable, Batch> sPending;
+    private static final TreeMap<Long, Batch> sSlots;
+    private static final LinkedHashMap<Runnable, String> sWaiting;
+
+    private static class Batch implements Runnable {
+        final LinkedHashMap<Runnable, String> mTasks;
+        final long mWhen;
+
+        Batch(long j) {
+            this.mWhen = j;
+            this.mTasks = new LinkedHashMap();
+        }
+
+        public void run() {
+            List<Runnable> arrayList;
+            synchronized (TokenBatchScheduler.class) {
+                TokenBatchScheduler.sSlots.remove(Long.valueOf(this.mWhen));
+                arrayList = new ArrayList(this.mTasks.keySet());
+                for (Runnable remove : arrayList) {
+                    TokenBatchScheduler.sPending.remove(remove);
+                }
+                this.mTasks.clear();
+            }
+            Log.m287i(TokenBatchScheduler.TAG, "run batch: tokens " + arrayList.size());
+            for (Runnable run : arrayList) {
+                try {
+                    run.run();
+                } catch (Throwable e) {
+                    Log.m284c(TokenBatchScheduler.TAG, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static class InFlight {
+        int mHolds;
+        final String mProvider;
+        final long mSince;
+
+        InFlight(String str) {
+            this.mProvider = str;
+            this.mSince = SystemClock.uptimeMillis();
+        }
+    }
+
+    private static class Releasing<X, Y> extends C0413a<X, Y> {
+        private final C0413a<X, Y> mCallback;
+        private final Runnable mJob;
+
+        Releasing(Runnable runnable, C0413a<X, Y> c0413a) {
+            this.mJob = runnable;
+            this.mCallback = c0413a;
+        }
+
+        public void m363a(int i, X x) {
+            try {
+                this.mCallback.m363a(i, x);
+            } finally {
+                TokenBatchScheduler.release(this.mJob);
+            }
+        }
+
+        public boolean m364a(int i, String str) {
+            boolean z = false;
+            try {
+                z = this.mCallback.m364a(i, str);
+                return z;
+            } finally {
+                if (!z) {
+                    TokenBatchScheduler.release(this.mJob);
+                }
+            }
+        }
+
+        public void m362a(int i, ServerCertificates serverCertificates, Y y) {
+            try {
+                this.mCallback.m362a(i, serverCertificates, y);
+            } finally {
+                TokenBatchScheduler.release(this.mJob);
+            }
+        }
+
+        public void m365f(int i, String str) {
+            this.mCallback.m365f(i, str);
+        }
+    }
+
+    static {
+        sInFlight = new HashMap();
+        sPending = new HashMap();
+        sSlots = new TreeMap();
+        sWaiting = new LinkedHashMap();
+    }
+
+    private TokenBatchScheduler() {
+    }
+
+    /**
+     * Schedules the job for tokenId to run after the delay. The job joins the
+     * latest batch that is due no later than it and no more than its slack
+     * ahead of it; otherwise a new batch is started at the job's time.
+     * Scheduling a job that is already pending moves it.
+     */
+    public static synchronized void schedule(Context context, String str, Runnable runnable, long j) {
+        cancel(runnable);
+        long max = Math.max(0, j);
+        long uptimeMillis = SystemClock.uptimeMillis();
+        long j2 = uptimeMillis + max;
+        long min = Math.min(WINDOW_MS, max / 10);
+        Batch batch = null;
+        Entry floorEntry = sSlots.floorEntry(Long.valueOf(j2));
+        if (floorEntry != null && j2 - Math.max(((Long) floorEntry.getKey()).longValue(), uptimeMillis) <= min) {
+            batch = (Batch) floorEntry.getValue();
+        }
+        if (batch == null) {
+            batch = new Batch(j2);
+            sSlots.put(Long.valueOf(j2), batch);
+            TokenReplenisher.getHandler().postAtTime(batch, j2);
+        }
+        batch.mTasks.put(runnable, str);
+        sPending.put(runnable, batch);
+        Log.m285d(TAG, "schedule: tokenId " + str + " in batch of " + batch.mTasks.size());
+    }
+
+    /**
+     * Takes an in-flight slot of the card brand for the job. Returns false and
+     * parks the job when the brand already has MAX_IN_FLIGHT requests
+     * outstanding; it is posted again once one of them completes. A job that
+     * already holds a slot keeps it.
+     */
+    public static synchronized boolean acquire(String str, Runnable runnable) {
+        if (sInFlight.containsKey(runnable)) {
+            return true;
+        }
+        long uptimeMillis = SystemClock.uptimeMillis();
+        int i = 0;
+        Iterator it = sInFlight.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry entry = (Entry) it.next();
+            InFlight inFlight = (InFlight) entry.getValue();
+            if (uptimeMillis - inFlight.mSince > IN_FLIGHT_TIMEOUT_MS) {
+                Log.m290w(TAG, "acquire: dropping stale slot of " + inFlight.mProvider);
+                it.remove();
+            } else if (inFlight.mProvider.equals(str)) {
+                i++;
+            }
+        }
+        if (i >= MAX_IN_FLIGHT) {
+            sWaiting.put(runnable, str);
+            Log.m285d(TAG, "acquire: " + str + " busy, parked " + sWaiting.size());
+            return false;
+        }
+        sInFlight.put(runnable, new InFlight(str));
+        return true;
+    }
+
+    /**
+     * Wraps the request callback of a job that holds a slot so the slot is
+     * released once the request has completed. A job that chains a second
+     * request from its callback wraps that callback too and keeps the slot
+     * until the last one completes.
+     */
+    public static synchronized <X, Y> C0413a<X, Y> wrap(Runnable runnable, C0413a<X, Y> c0413a) {
+        InFlight inFlight = (InFlight) sInFlight.get(runnable);
+        if (inFlight == null) {
+            return c0413a;
+        }
+        inFlight.mHolds++;
+        return new Releasing(runnable, c0413a);
+    }
+
+    static synchronized void release(Runnable runnable) {
+        InFlight inFlight = (InFlight) sInFlight.get(runnable);
+        if (inFlight != null) {
+            int i = inFlight.mHolds - 1;
+            inFlight.mHolds = i;
+            if (i <= 0) {
+                sInFlight.remove(runnable);
+                Iterator it = sWaiting.entrySet().iterator();
+                while (it.hasNext()) {
+                    Entry entry = (Entry) it.next();
+                    if (inFlight.mProvider.equals(entry.getValue())) {
+                        it.remove();
+                        TokenReplenisher.getHandler().post((Runnable) entry.getKey());
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    public static synchronized void cancel(Runnable runnable) {
+        if (runnable != null) {
+            sWaiting.remove(runnable);
+            Batch batch = (Batch) sPending.remove(runnable);
+            if (batch != null) {
+                batch.mTasks.remove(runnable);
+                if (batch.mTasks.isEmpty()) {
+                    TokenReplenisher.getHandler().removeCallbacks(batch);
+                    sSlots.remove(Long.valueOf(batch.mWhen));
+                }
+            }
+        }
+    }
+}
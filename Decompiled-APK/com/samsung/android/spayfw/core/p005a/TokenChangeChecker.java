@@ -239,10 +239,11 @@ public class TokenChangeChecker extends Processor implements Runnable {
             } else {
                 Log.m287i("TokenChangeChecker", "Update Instance of Token Change Checker");
                 handler.removeCallbacks(obj);
+                TokenBatchScheduler.cancel(obj);
                 obj.mq = j;
             }
             if (obj.mq != -1) {
-                handler.postDelayed(obj, obj.mq);
+                TokenBatchScheduler.schedule(context, str, obj, obj.mq);
             }
             if (((long) obj.mr) >= 10) {
                 Log.m290w("TokenChangeChecker", "Token Change Checker Retry Limit Reached. Try Token Replenisher.");
@@ -274,6 +275,7 @@ public class TokenChangeChecker extends Processor implements Runnable {
             } else {
                 Log.m287i("TokenChangeChecker", "Update Instance of Token Change Checker");
                 handler.removeCallbacks(runnable);
+                TokenBatchScheduler.cancel(runnable);
             }
             runnable.mq = 0;
             runnable.lS = iPushMessageCallback;
@@ -294,19 +296,20 @@ public class TokenChangeChecker extends Processor implements Runnable {
     public static synchronized void remove(String str) {
         synchronized (TokenChangeChecker.class) {
             Log.m287i("TokenChangeChecker", "Remove Instance of Token Change Checker");
-            TokenReplenisher.getHandler().removeCallbacks((TokenChangeChecker) mo.remove(str));
+            Runnable runnable = (TokenChangeChecker) mo.remove(str);
+            TokenReplenisher.getHandler().removeCallbacks(runnable);
+            TokenBatchScheduler.cancel(runnable);
         }
     }
 
     public static synchronized void restart() {
         synchronized (TokenChangeChecker.class) {
             Log.m287i("TokenChangeChecker", "restart");
-            Handler handler = TokenReplenisher.getHandler();
             for (Entry entry : mo.entrySet()) {
                 if (((TokenChangeChecker) entry.getValue()).mq == -1) {
                     TokenChangeChecker tokenChangeChecker = (TokenChangeChecker) entry.getValue();
                     tokenChangeChecker.mq = 0;
-                    handler.postDelayed(tokenChangeChecker, tokenChangeChecker.mq);
+                    TokenBatchScheduler.schedule(tokenChangeChecker.mContext, tokenChangeChecker.mTokenId, tokenChangeChecker, tokenChangeChecker.mq);
                 }
             }
         }
@@ -339,8 +342,11 @@ public class TokenChangeChecker extends Processor implements Runnable {
             return;
         }
         String cardBrand = r.getCardBrand();
+        if (!TokenBatchScheduler.acquire(cardBrand, this)) {
+            return;
+        }
         QueryTokenRequest x = this.lQ.m1141x(Card.m574y(r.getCardBrand()), this.mTokenId);
         x.m1205h(false);
-        x.m839b(new TokenChangeChecker(this, r, cardBrand));
+        x.m839b(TokenBatchScheduler.wrap(this, new TokenChangeChecker(this, r, cardBrand)));
     }
 }
@@ -793,7 +793,10 @@ public class TokenReplenisher extends Processor implements Runnable {
     public static synchronized void remove(String str) {
         synchronized (TokenReplenisher.class) {
             Log.m287i("TokenReplenisher", "Remove Instance of Token Replenisher");
-            TokenReplenisher.getHandler().removeCallbacks((TokenReplenisher) mD.remove(str));
+            Runnable runnable = (TokenReplenisher) mD.remove(str);
+            TokenReplenisher.getHandler().removeCallbacks(runnable);
+            TokenBatchScheduler.cancel(runnable);
+            ReplenishRetryRequester.cancel(str);
         }
     }
 
@@ -813,6 +816,10 @@ public class TokenReplenisher extends Processor implements Runnable {
         mHandler.post(this);
     }
 
+    public void processBatched(long j) {
+        TokenBatchScheduler.schedule(this.mContext, this.mTokenId, this, j);
+    }
+
     public void run() {
         Log.m287i("TokenReplenisher", "Entered replenish Request");
         Log.m285d("TokenReplenisher", "Entered replenish Request: tokenId " + this.mTokenId);
@@ -821,10 +828,13 @@ public class TokenReplenisher extends Processor implements Runnable {
             Log.m286e("TokenReplenisher", " unable to get card based on tokenId. ignore replenish request");
             return;
         }
+        if (!TokenBatchScheduler.acquire(r.getCardBrand(), this)) {
+            return;
+        }
         QueryTokenRequest x = this.lQ.m1141x(Card.m574y(r.getCardBrand()), this.mTokenId);
         x.m1205h(false);
         x.bk(this.iJ.m562u(r.getCardBrand()));
-        x.m839b(new TokenReplenisher(this, r));
+        x.m839b(TokenBatchScheduler.wrap(this, new TokenReplenisher(this, r)));
     }
 
     public String getTokenId() {
@@ -849,7 +859,7 @@ public class TokenReplenisher extends Processor implements Runnable {
         ReplenishTokenRequest a = this.lQ.m1131a(Card.m574y(card.getCardBrand()), card.ac().getTokenId(), replenishTokenRequestData);
         a.setCardBrand(Card.m574y(card.getCardBrand()));
         a.bf(m329P(card.getCardBrand()));
-        a.m839b(new TokenReplenisher(this, this.mTokenId, card, aQ));
+        a.m839b(TokenBatchScheduler.wrap(this, new TokenReplenisher(this, this.mTokenId, card, aQ)));
         return true;
     }
 
@@ -6,18 +6,16 @@ import com.samsung.android.spayfw.core.PaymentFrameworkHandler;
 import com.samsung.android.spayfw.p002b.Log;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /* renamed from: com.samsung.android.spayfw.core.retry.a */
 public class JwtRetryRequester {
     private static JwtRetryRequester mL;
     private static List<Message> mM;
     private PaymentFrameworkHandler jB;
-    private Timer lH;
+    private boolean lH;
 
     /* renamed from: com.samsung.android.spayfw.core.retry.a.a */
-    public class JwtRetryRequester extends TimerTask {
+    public class JwtRetryRequester implements Runnable {
         final /* synthetic */ JwtRetryRequester mN;
 
         public JwtRetryRequester(JwtRetryRequester jwtRetryRequester) {
@@ -53,9 +51,9 @@ public class JwtRetryRequester {
         Log.m285d("JwtRetryRequester", "addInQueue: adding msg in queue = " + message.toString());
         if (!(mM == null || mM.contains(message))) {
             mM.add(message);
-            if (this.lH == null) {
-                this.lH = new Timer();
-                this.lH.schedule(new JwtRetryRequester(this), 60000);
+            if (!this.lH) {
+                this.lH = true;
+                RetryScheduler.schedule(RetryScheduler.CATEGORY_JWT, "flush", null, new JwtRetryRequester(this), RetryScheduler.jitter(60000));
             }
         }
     }
@@ -74,9 +72,9 @@ public class JwtRetryRequester {
                 }
             }
         }
-        if (this.lH != null) {
-            this.lH.cancel();
-            this.lH = null;
+        if (this.lH) {
+            RetryScheduler.cancel(RetryScheduler.CATEGORY_JWT, "flush");
+            this.lH = false;
         }
     }
 }
@@ -22,8 +22,7 @@ public class NetworkEventReceiver extends BroadcastReceiver {
                 State state = networkInfo.getState();
                 Log.m285d("NetworkEventReceiver", "state = " + state.toString());
                 if (state.equals(State.CONNECTED)) {
-                    RetryRequester.m673e(false);
-                    ReplenishRetryRequester.bm();
+                    RetryScheduler.onNetworkAvailable();
                     TokenChangeChecker.restart();
                 }
             }
@@ -1,38 +1,33 @@
 package com.samsung.android.spayfw.core.retry;
 
+import android.content.Context;
 import com.samsung.android.spayfw.core.p005a.TokenReplenisher;
 import com.samsung.android.spayfw.p002b.Log;
-import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.HashMap;
 
 /* renamed from: com.samsung.android.spayfw.core.retry.c */
 public class ReplenishRetryRequester {
+    private static final long BASE_DELAY_MS = 120000;
+    private static final long MAX_DELAY_MS = 3840000;
     private static ReplenishRetryRequester mO;
-    private static ArrayList<TokenReplenisher> mP;
+    private static HashMap<String, Integer> mP;
 
     /* renamed from: com.samsung.android.spayfw.core.retry.c.a */
-    public class ReplenishRetryRequester extends TimerTask {
+    private static class ReplenishRetryRequester implements Runnable {
         private TokenReplenisher mQ;
-        final /* synthetic */ ReplenishRetryRequester mR;
 
-        public ReplenishRetryRequester(ReplenishRetryRequester replenishRetryRequester, TokenReplenisher tokenReplenisher) {
-            this.mR = replenishRetryRequester;
+        public ReplenishRetryRequester(TokenReplenisher tokenReplenisher) {
             this.mQ = tokenReplenisher;
         }
 
         public void run() {
-            Log.m285d("ReplenishRetryRequester", "run : ReplenishRetryTimerTask - tokenId = " + this.mQ.getTokenId());
-            try {
-                this.mQ.process();
-            } catch (Throwable e) {
-                Log.m284c("ReplenishRetryRequester", e.getMessage(), e);
-            }
+            Log.m285d("ReplenishRetryRequester", "run : ReplenishRetryTask - tokenId = " + this.mQ.getTokenId());
+            this.mQ.processBatched(0);
         }
     }
 
     static {
-        mP = new ArrayList();
+        mP = new HashMap();
     }
 
     private ReplenishRetryRequester() {
@@ -52,38 +47,36 @@ public class ReplenishRetryRequester {
     public static synchronized void m665a(TokenReplenisher tokenReplenisher) {
         synchronized (ReplenishRetryRequester.class) {
             Log.m285d("ReplenishRetryRequester", "addInQueue: adding token in queue = " + tokenReplenisher.getTokenId());
-            if (!(mP == null || mP.contains(tokenReplenisher))) {
-                mP.add(tokenReplenisher);
-            }
+            RetryScheduler.schedule(RetryScheduler.CATEGORY_REPLENISH, tokenReplenisher.getTokenId(), tokenReplenisher.getTokenId(), new ReplenishRetryRequester(tokenReplenisher), 0);
         }
     }
 
-    public static synchronized void bm() {
+    public static synchronized void m666b(TokenReplenisher tokenReplenisher) {
         synchronized (ReplenishRetryRequester.class) {
-            int size = mP.size();
-            for (int i = 0; i < size; i++) {
-                TokenReplenisher tokenReplenisher = (TokenReplenisher) mP.get(0);
-                Log.m285d("ReplenishRetryRequester", "flushReplenishQueue: trTokenId = " + tokenReplenisher.getTokenId());
-                try {
-                    tokenReplenisher.process();
-                } catch (Throwable e) {
-                    Log.m284c("ReplenishRetryRequester", e.getMessage(), e);
-                }
-                mP.remove(tokenReplenisher);
-                if (mP.size() < 1) {
-                    break;
-                }
-            }
+            Integer num = (Integer) mP.get(tokenReplenisher.getTokenId());
+            int intValue = num != null ? num.intValue() : 0;
+            long backoff = RetryScheduler.backoff(BASE_DELAY_MS, intValue, MAX_DELAY_MS);
+            mP.put(tokenReplenisher.getTokenId(), Integer.valueOf(intValue + 1));
+            Log.m285d("ReplenishRetryRequester", "scheduleTimer: scheduling replenish timer for token = " + tokenReplenisher.getTokenId() + " in " + backoff);
+            RetryScheduler.schedule(RetryScheduler.CATEGORY_REPLENISH, tokenReplenisher.getTokenId(), tokenReplenisher.getTokenId(), new ReplenishRetryRequester(tokenReplenisher), backoff);
         }
     }
 
-    public static synchronized void m666b(TokenReplenisher tokenReplenisher) {
+    public static synchronized void cancel(String str) {
+        synchronized (ReplenishRetryRequester.class) {
+            mP.remove(str);
+            RetryScheduler.cancel(RetryScheduler.CATEGORY_REPLENISH, str);
+        }
+    }
+
+    static void restore(Context context, String str, long j) {
+        TokenReplenisher b = TokenReplenisher.m547b(context, str);
+        if (b == null) {
+            Log.m290w("ReplenishRetryRequester", "restore: replenisher pending for token = " + str);
+            return;
+        }
         synchronized (ReplenishRetryRequester.class) {
-            Log.m285d("ReplenishRetryRequester", "scheduleTimer: scheduling replenish timer for token = " + tokenReplenisher.getTokenId());
-            Timer timer = new Timer();
-            ReplenishRetryRequester bl = ReplenishRetryRequester.bl();
-            bl.getClass();
-            timer.schedule(new ReplenishRetryRequester(bl, tokenReplenisher), 120000);
+            RetryScheduler.schedule(RetryScheduler.CATEGORY_REPLENISH, str, str, new ReplenishRetryRequester(b), j);
         }
     }
 }
@@ -1,20 +1,30 @@
 package com.samsung.android.spayfw.core.retry;
 
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ReportData;
+import java.util.UUID;
 
 public class RetryRequestData {
     private String cardType;
+    private String id;
     private long nextRetryTimeoutValue;
     private int numRetryAttempts;
     private ReportData reportData;
 
     public RetryRequestData(ReportData reportData, String str) {
+        this.id = UUID.randomUUID().toString();
         this.reportData = reportData;
         this.cardType = str;
         this.numRetryAttempts = 0;
         this.nextRetryTimeoutValue = -1;
     }
 
+    public String getId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID().toString();
+        }
+        return this.id;
+    }
+
     public ReportData getReportData() {
         return this.reportData;
     }
@@ -1,18 +1,16 @@
 package com.samsung.android.spayfw.core.retry;
 
 import android.content.SharedPreferences;
-import android.content.SharedPreferences.Editor;
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.samsung.android.spayfw.core.PaymentFrameworkApp;
 import com.samsung.android.spayfw.core.PaymentFrameworkMessage;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.TokenRequesterClient;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ReportData;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
 
 /* renamed from: com.samsung.android.spayfw.core.retry.d */
@@ -27,12 +25,10 @@ public class RetryRequester {
     }
 
     /* renamed from: com.samsung.android.spayfw.core.retry.d.a */
-    private class RetryRequester extends TimerTask {
+    private static class RetryRequester implements Runnable {
         private RetryRequestData mU;
-        final /* synthetic */ RetryRequester mV;
 
-        public RetryRequester(RetryRequester retryRequester, RetryRequestData retryRequestData) {
-            this.mV = retryRequester;
+        public RetryRequester(RetryRequestData retryRequestData) {
             this.mU = retryRequestData;
         }
 
@@ -60,14 +56,16 @@ public class RetryRequester {
     public static synchronized void m670a(ReportData reportData, RetryRequestData retryRequestData) {
         synchronized (RetryRequester.class) {
             mT.put(reportData, retryRequestData);
-            RetryRequester.bp();
+            RetryRequester.m674c(retryRequestData);
         }
     }
 
     public static synchronized void m669a(ReportData reportData) {
         synchronized (RetryRequester.class) {
-            mT.remove(reportData);
-            RetryRequester.bp();
+            RetryRequestData retryRequestData = (RetryRequestData) mT.remove(reportData);
+            if (retryRequestData != null) {
+                RetryScheduler.cancel(RetryScheduler.CATEGORY_REPORT, retryRequestData.getId());
+            }
         }
     }
 
@@ -87,7 +85,7 @@ public class RetryRequester {
                 return;
             }
             retryRequestData.setNumRetryAttempts(retryRequestData.getNumRetryAttempts() + 1);
-            RetryRequester.bp();
+            RetryRequester.m674c(retryRequestData);
             TokenRequesterClient.m1126Q(PaymentFrameworkApp.aB()).m1134a(retryRequestData.getCardType(), retryRequestData.getReportData()).fe();
         }
     }
@@ -98,7 +96,7 @@ public class RetryRequester {
             if (!mT.isEmpty()) {
                 for (RetryRequestData retryRequestData : mT.values()) {
                     Log.m285d("RetryRequester", "rObj = " + retryRequestData.getReportData() + "; rObj.retryNum = " + retryRequestData.getNumRetryAttempts());
-                    RetryRequester.m667a(retryRequestData);
+                    RetryRequester.m668a(retryRequestData, 0);
                 }
             }
         }
@@ -113,17 +111,14 @@ public class RetryRequester {
             if (mT.isEmpty()) {
                 Log.m285d("RetryRequester", "flushRetryRequestQueue: Request Queue empty!");
             } else {
-                PaymentFrameworkApp.az().sendMessage(PaymentFrameworkMessage.m620a(15, null, null));
+                RetryRequester.bo();
             }
         }
     }
 
     public static void m668a(RetryRequestData retryRequestData, long j) {
         Log.m285d("RetryRequester", "scheduleRetryTimer: scheduling timer at " + j);
-        Timer timer = new Timer();
-        RetryRequester bn = RetryRequester.bn();
-        bn.getClass();
-        timer.schedule(new RetryRequester(bn, retryRequestData), j);
+        RetryScheduler.schedule(RetryScheduler.CATEGORY_REPORT, retryRequestData.getId(), GsonHolder.get().toJson(retryRequestData), new RetryRequester(retryRequestData), j);
     }
 
     public static void m672b(RetryRequestData retryRequestData) {
@@ -132,42 +127,57 @@ public class RetryRequester {
             nextRetryTimeoutValue = 300000;
         }
         retryRequestData.setNextRetryTimeoutValue(20 * nextRetryTimeoutValue);
-        RetryRequester.bp();
-        RetryRequester.m668a(retryRequestData, nextRetryTimeoutValue);
+        RetryRequester.m668a(retryRequestData, RetryScheduler.jitter(nextRetryTimeoutValue));
     }
 
-    private static synchronized void bp() {
-        synchronized (RetryRequester.class) {
-            Log.m285d("RetryRequester", "persistData - mRetryReqQueue = " + mT);
-            Editor edit = PaymentFrameworkApp.aB().getSharedPreferences("RetryRequestQueue", 0).edit();
-            edit.putString("RequestList", new Gson().toJson(mT.values()));
-            edit.commit();
-        }
+    private static void m674c(RetryRequestData retryRequestData) {
+        Log.m285d("RetryRequester", "persistData - rObj = " + retryRequestData.getReportData());
+        RetryScheduler.record(RetryScheduler.CATEGORY_REPORT, retryRequestData.getId(), GsonHolder.get().toJson(retryRequestData));
     }
 
     private static synchronized void bq() {
         synchronized (RetryRequester.class) {
+            Collection<RetryRequestData> arrayList = new ArrayList();
             SharedPreferences sharedPreferences = PaymentFrameworkApp.aB().getSharedPreferences("RetryRequestQueue", 0);
+            boolean z = false;
             try {
                 String string = sharedPreferences.getString("RequestList", BuildConfig.FLAVOR);
                 if (!BuildConfig.FLAVOR.equals(string)) {
-                    Collection<RetryRequestData> collection = (Collection) new Gson().fromJson(string, new RetryRequester().getType());
-                    Log.m285d("RetryRequester", "readPersistedData - reqList = " + collection);
+                    Collection collection = (Collection) GsonHolder.get().fromJson(string, new RetryRequester().getType());
+                    Log.m285d("RetryRequester", "readPersistedData: migrating shared prefs queue = " + collection);
                     if (collection != null) {
-                        ConcurrentHashMap concurrentHashMap = new ConcurrentHashMap();
-                        for (RetryRequestData retryRequestData : collection) {
-                            if (retryRequestData != null) {
-                                Log.m285d("RetryRequester", "rObj.reportData = " + retryRequestData.getReportData() + "; rObj.numRetry = " + retryRequestData.getNumRetryAttempts());
-                                concurrentHashMap.put(retryRequestData.getReportData(), retryRequestData);
-                            }
-                        }
-                        mT = concurrentHashMap;
+                        arrayList.addAll(collection);
                     }
+                    z = true;
                 }
             } catch (Throwable e) {
                 Log.m284c("RetryRequester", e.getMessage(), e);
                 Log.m286e("RetryRequester", "readPersistedData: Data corrupted, clear the shared prefs values!");
-                sharedPreferences.edit().clear();
+                sharedPreferences.edit().clear().commit();
+            }
+            for (String str : RetryScheduler.payloads(RetryScheduler.CATEGORY_REPORT)) {
+                try {
+                    arrayList.add(GsonHolder.get().fromJson(str, RetryRequestData.class));
+                } catch (Throwable e2) {
+                    Log.m284c("RetryRequester", e2.getMessage(), e2);
+                }
+            }
+            ConcurrentHashMap concurrentHashMap = new ConcurrentHashMap();
+            for (RetryRequestData retryRequestData : arrayList) {
+                if (!(retryRequestData == null || retryRequestData.getReportData() == null)) {
+                    Log.m285d("RetryRequester", "rObj.reportData = " + retryRequestData.getReportData() + "; rObj.numRetry = " + retryRequestData.getNumRetryAttempts());
+                    concurrentHashMap.put(retryRequestData.getReportData(), retryRequestData);
+                    RetryRequester.m674c(retryRequestData);
+                }
+            }
+            mT = concurrentHashMap;
+            if (!z) {
+                return;
+            }
+            if (RetryScheduler.saveNow()) {
+                sharedPreferences.edit().clear().commit();
+            } else {
+                Log.m286e("RetryRequester", "readPersistedData: journal not written, keeping the shared prefs queue");
             }
         }
     }
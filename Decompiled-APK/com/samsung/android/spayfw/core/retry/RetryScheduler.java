@@ -0,0 +1,448 @@
+package com.samsung.android.spayfw.core.retry;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.AtomicFile;
+import com.samsung.android.spayfw.core.PaymentFrameworkApp;
+import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.utils.GsonHolder;
+import com.samsung.android.spayfw.utils.Utils;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+/**
+ * One scheduler for every retry in the framework, in place of a Timer
+ * thread per requester. A retry is a job keyed by category and key and
+ * posted on a single handler thread. A job that falls due while the device
+ * is offline is parked until NetworkEventReceiver reports a connection.
+ * Due jobs are started while their category has fewer than its limit in
+ * flight, so a reconnect does not fire the whole backlog at once. A started
+ * job stays in flight until its requester schedules, cancels or finishes
+ * it, or IN_FLIGHT_TIMEOUT_MS passes. Jobs that carry a payload are
+ * journaled to disk and restored by init().
+ */
+public final class RetryScheduler {
+    public static final String CATEGORY_JWT = "jwt";
+    public static final String CATEGORY_REPLENISH = "replenish";
+    public static final String CATEGORY_REPORT = "report";
+    public static final String CATEGORY_TRANSACTION_DETAILS = "transactionDetails";
+    private static final long IN_FLIGHT_TIMEOUT_MS = 120000;
+    private static final String JOURNAL_FILE = "retry_journal";
+    private static final long SAVE_DELAY_MS = 500;
+    private static final String TAG = "RetryScheduler";
+    private static final Charset UTF_8;
+    private static Context sContext;
+    private static final Runnable sDrain;
+    private static boolean sDrainPosted;
+    private static final Handler sHandler;
+    private static final HashMap<String, InFlight> sInFlight;
+    private static final HashMap<String, Job> sJobs;
+    private static AtomicFile sJournal;
+    private static final HashMap<String, Integer> sLimits;
+    private static final Random sRandom;
+    private static final LinkedHashMap<String, ArrayDeque<Job>> sReady;
+    private static final Runnable sSave;
+    private static final Object sSaveLock;
+
+    private static class InFlight {
+        final String category;
+        final long since;
+
+        InFlight(String str, long j) {
+            this.category = str;
+            this.since = j;
+        }
+    }
+
+    private static class Job implements Runnable {
+        String category;
+        long due;
+        boolean keep;
+        String key;
+        transient boolean parked;
+        String payload;
+        transient Runnable task;
+
+        Job() {
+        }
+
+        Job(String str, String str2) {
+            this.category = str;
+            this.key = str2;
+        }
+
+        String id() {
+            return RetryScheduler.id(this.category, this.key);
+        }
+
+        public void run() {
+            RetryScheduler.onDue(this);
+        }
+    }
+
+    static {
+        UTF_8 = Charset.forName("UTF-8");
+        sInFlight = new HashMap();
+        sJobs = new HashMap();
+        sReady = new LinkedHashMap();
+        sRandom = new Random();
+        sSaveLock = new Object();
+        sLimits = new HashMap();
+        sLimits.put(CATEGORY_JWT, Integer.valueOf(1));
+        sLimits.put(CATEGORY_REPLENISH, Integer.valueOf(4));
+        sLimits.put(CATEGORY_REPORT, Integer.valueOf(2));
+        sLimits.put(CATEGORY_TRANSACTION_DETAILS, Integer.valueOf(2));
+        HandlerThread handlerThread = new HandlerThread(TAG);
+        handlerThread.start();
+        sHandler = new Handler(handlerThread.getLooper());
+        sDrain = new Runnable() {
+            public void run() {
+                RetryScheduler.drain();
+            }
+        };
+        sSave = new Runnable() {
+            public void run() {
+                RetryScheduler.save();
+            }
+        };
+    }
+
+    private RetryScheduler() {
+    }
+
+    /**
+     * Opens the journal and restores the replenish and transaction details
+     * retries it holds. Report retries stay in the journal until
+     * RetryRequester reads them back through payloads().
+     */
+    public static void init(Context context) {
+        List<Job> arrayList = new ArrayList();
+        synchronized (RetryScheduler.class) {
+            if (sJournal != null) {
+                return;
+            }
+            sContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+            sJournal = new AtomicFile(new File(sContext.getFilesDir(), JOURNAL_FILE));
+            try {
+                Job[] jobArr = (Job[]) GsonHolder.get().fromJson(new String(sJournal.readFully(), UTF_8), Job[].class);
+                if (jobArr != null) {
+                    for (Job job : jobArr) {
+                        if (job == null || job.category == null || job.key == null) {
+                            continue;
+                        }
+                        if (CATEGORY_REPORT.equals(job.category)) {
+                            sJobs.put(job.id(), job);
+                        } else {
+                            arrayList.add(job);
+                        }
+                    }
+                }
+            } catch (FileNotFoundException e) {
+                Log.m285d(TAG, "init: no journal");
+            } catch (Throwable e2) {
+                Log.m284c(TAG, "init: journal corrupted, dropping it", e2);
+                sJournal.delete();
+            }
+            Log.m287i(TAG, "init: reports " + sJobs.size() + ", restoring " + arrayList.size());
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        for (Job job2 : arrayList) {
+            try {
+                if (CATEGORY_REPLENISH.equals(job2.category)) {
+                    ReplenishRetryRequester.restore(sContext, job2.key, Math.max(0, job2.due - currentTimeMillis));
+                } else if (CATEGORY_TRANSACTION_DETAILS.equals(job2.category)) {
+                    TransactionDetailsRetryRequester.m679w(sContext).add(job2.key);
+                }
+            } catch (Throwable e3) {
+                Log.m284c(TAG, e3.getMessage(), e3);
+            }
+        }
+    }
+
+    /**
+     * Runs the task after the delay, or once the network is back if it is
+     * down at that time. Replaces any job with the same category and key.
+     * A non-null payload is journaled until the job runs or is cancelled.
+     */
+    public static synchronized void schedule(String str, String str2, String str3, Runnable runnable, long j) {
+        String id = id(str, str2);
+        finish(id);
+        Job job = (Job) sJobs.get(id);
+        if (job == null) {
+            job = new Job(str, str2);
+            sJobs.put(id, job);
+        } else {
+            unpost(job);
+        }
+        if (str3 != null) {
+            job.payload = str3;
+        }
+        job.task = runnable;
+        job.due = System.currentTimeMillis() + Math.max(0, j);
+        sHandler.postDelayed(job, Math.max(0, j));
+        Log.m285d(TAG, "schedule: " + id + " in " + j + " ms");
+        if (job.payload != null) {
+            saveLater();
+        }
+    }
+
+    /**
+     * Journals a payload that must survive until cancel(), whether or not a
+     * task is currently scheduled for it.
+     */
+    public static synchronized void record(String str, String str2, String str3) {
+        String id = id(str, str2);
+        Job job = (Job) sJobs.get(id);
+        if (job == null) {
+            job = new Job(str, str2);
+            sJobs.put(id, job);
+        }
+        job.payload = str3;
+        job.keep = true;
+        saveLater();
+    }
+
+    public static synchronized void cancel(String str, String str2) {
+        finish(id(str, str2));
+        Job job = (Job) sJobs.remove(id(str, str2));
+        if (job != null) {
+            unpost(job);
+            if (job.payload != null) {
+                saveLater();
+            }
+        }
+    }
+
+    /**
+     * Ends the in-flight attempt of a job that completed without being
+     * scheduled again or cancelled, freeing its slot in the category.
+     */
+    public static synchronized void done(String str, String str2) {
+        finish(id(str, str2));
+    }
+
+    /**
+     * Writes the journal now on the calling thread. Returns false if it
+     * could not be written.
+     */
+    public static boolean saveNow() {
+        sHandler.removeCallbacks(sSave);
+        return save();
+    }
+
+    public static synchronized List<String> payloads(String str) {
+        List<String> arrayList = new ArrayList();
+        for (Job job : sJobs.values()) {
+            if (str.equals(job.category) && job.payload != null) {
+                arrayList.add(job.payload);
+            }
+        }
+        return arrayList;
+    }
+
+    /**
+     * Releases every parked job. They go out through the drain, so the
+     * per-category in-flight limits still apply.
+     */
+    public static synchronized void onNetworkAvailable() {
+        int i = 0;
+        for (Job job : sJobs.values()) {
+            if (job.parked) {
+                job.parked = false;
+                ready(job);
+                i++;
+            }
+        }
+        Log.m287i(TAG, "onNetworkAvailable: released " + i);
+    }
+
+    /**
+     * Exponential backoff: base doubled per attempt, capped, then jittered.
+     */
+    public static long backoff(long j, int i, long j2) {
+        long j3 = j;
+        for (int i2 = 0; i2 < i && j3 < j2; i2++) {
+            j3 *= 2;
+        }
+        return jitter(Math.min(j3, j2));
+    }
+
+    /**
+     * Spreads a delay uniformly over 75% to 125% of its value so retries
+     * that failed together do not come back together.
+     */
+    public static long jitter(long j) {
+        if (j <= 0) {
+            return j;
+        }
+        return (j - (j / 4)) + ((long) (sRandom.nextDouble() * ((double) (j / 2))));
+    }
+
+    private static synchronized void onDue(Job job) {
+        if (sJobs.get(job.id()) == job) {
+            Context context = sContext != null ? sContext : PaymentFrameworkApp.aB();
+            if (context == null || Utils.ak(context)) {
+                ready(job);
+                return;
+            }
+            Log.m287i(TAG, "onDue: no network, parking " + job.id());
+            job.parked = true;
+        }
+    }
+
+    private static void ready(Job job) {
+        ArrayDeque arrayDeque = (ArrayDeque) sReady.get(job.category);
+        if (arrayDeque == null) {
+            arrayDeque = new ArrayDeque();
+            sReady.put(job.category, arrayDeque);
+        }
+        if (!arrayDeque.contains(job)) {
+            arrayDeque.add(job);
+        }
+        if (!sDrainPosted) {
+            sDrainPosted = true;
+            sHandler.post(sDrain);
+        }
+    }
+
+    private static void drain() {
+        List<Runnable> arrayList = new ArrayList();
+        synchronized (RetryScheduler.class) {
+            boolean z = false;
+            boolean z2 = false;
+            long uptimeMillis = SystemClock.uptimeMillis();
+            long j = Long.MAX_VALUE;
+            HashMap hashMap = new HashMap();
+            Iterator it = sInFlight.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry entry = (Entry) it.next();
+                InFlight inFlight = (InFlight) entry.getValue();
+                if (uptimeMillis - inFlight.since >= IN_FLIGHT_TIMEOUT_MS) {
+                    Log.m290w(TAG, "drain: " + ((String) entry.getKey()) + " timed out in flight");
+                    it.remove();
+                } else {
+                    Integer num = (Integer) hashMap.get(inFlight.category);
+                    hashMap.put(inFlight.category, Integer.valueOf(num != null ? num.intValue() + 1 : 1));
+                    j = Math.min(j, inFlight.since + IN_FLIGHT_TIMEOUT_MS);
+                }
+            }
+            for (Entry entry2 : sReady.entrySet()) {
+                ArrayDeque arrayDeque = (ArrayDeque) entry2.getValue();
+                Integer num2 = (Integer) sLimits.get(entry2.getKey());
+                Integer num3 = (Integer) hashMap.get(entry2.getKey());
+                int intValue = (num2 != null ? num2.intValue() : 1) - (num3 != null ? num3.intValue() : 0);
+                for (int i = 0; i < intValue && !arrayDeque.isEmpty(); i++) {
+                    Job job = (Job) arrayDeque.poll();
+                    if (job.task != null) {
+                        arrayList.add(job.task);
+                        sInFlight.put(job.id(), new InFlight(job.category, uptimeMillis));
+                        j = Math.min(j, uptimeMillis + IN_FLIGHT_TIMEOUT_MS);
+                    }
+                    if (job.keep) {
+                        job.due = 0;
+                        job.task = null;
+                    } else {
+                        sJobs.remove(job.id());
+                        z2 |= job.payload != null;
+                    }
+                }
+                z |= !arrayDeque.isEmpty();
+            }
+            if (z2) {
+                saveLater();
+            }
+            sDrainPosted = false;
+            if (z && j != Long.MAX_VALUE) {
+                sHandler.postAtTime(sDrain, j);
+            }
+        }
+        for (Runnable run : arrayList) {
+            try {
+                run.run();
+            } catch (Throwable e) {
+                Log.m284c(TAG, e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void finish(String str) {
+        InFlight inFlight = (InFlight) sInFlight.remove(str);
+        if (inFlight != null) {
+            ArrayDeque arrayDeque = (ArrayDeque) sReady.get(inFlight.category);
+            if (!(arrayDeque == null || arrayDeque.isEmpty() || sDrainPosted)) {
+                sDrainPosted = true;
+                sHandler.removeCallbacks(sDrain);
+                sHandler.post(sDrain);
+            }
+        }
+    }
+
+    private static void unpost(Job job) {
+        sHandler.removeCallbacks(job);
+        job.parked = false;
+        ArrayDeque arrayDeque = (ArrayDeque) sReady.get(job.category);
+        if (arrayDeque != null) {
+            arrayDeque.remove(job);
+        }
+    }
+
+    private static void saveLater() {
+        if (sJournal != null) {
+            sHandler.removeCallbacks(sSave);
+            sHandler.postDelayed(sSave, SAVE_DELAY_MS);
+        }
+    }
+
+    private static boolean save() {
+        synchronized (sSaveLock) {
+            AtomicFile atomicFile;
+            List arrayList = new ArrayList();
+            synchronized (RetryScheduler.class) {
+                atomicFile = sJournal;
+                for (Job job : sJobs.values()) {
+                    if (job.payload != null) {
+                        Job job2 = new Job(job.category, job.key);
+                        job2.due = job.due;
+                        job2.keep = job.keep;
+                        job2.payload = job.payload;
+                        arrayList.add(job2);
+                    }
+                }
+            }
+            if (atomicFile == null) {
+                return false;
+            }
+            FileOutputStream fileOutputStream = null;
+            try {
+                fileOutputStream = atomicFile.startWrite();
+                fileOutputStream.write(GsonHolder.get().toJson(arrayList).getBytes(UTF_8));
+                atomicFile.finishWrite(fileOutputStream);
+                Log.m285d(TAG, "save: journaled " + arrayList.size());
+                return true;
+            } catch (IOException e) {
+                Log.m284c(TAG, e.getMessage(), e);
+                if (fileOutputStream != null) {
+                    atomicFile.failWrite(fileOutputStream);
+                }
+                return false;
+            }
+        }
+    }
+
+    private static String id(String str, String str2) {
+        return str + '/' + str2;
+    }
+}
@@ -14,18 +14,15 @@ import com.samsung.android.spayfw.storage.TokenRecordStorage;
 import com.samsung.android.spayfw.storage.models.TokenRecord;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /* renamed from: com.samsung.android.spayfw.core.retry.e */
 public class TransactionDetailsRetryRequester {
     private static TransactionDetailsRetryRequester mW;
-    private Timer mTimer;
     private Map<String, TransactionDetailsRetryRequester> mX;
     private TokenRecordStorage mY;
 
     /* renamed from: com.samsung.android.spayfw.core.retry.e.a */
-    private class TransactionDetailsRetryRequester extends TimerTask {
+    private class TransactionDetailsRetryRequester implements Runnable {
         final /* synthetic */ TransactionDetailsRetryRequester mZ;
         private long time;
         private String tokenId;
@@ -95,17 +92,12 @@ public class TransactionDetailsRetryRequester {
 
     private TransactionDetailsRetryRequester(Context context) {
         this.mX = new HashMap();
-        this.mTimer = new Timer();
         this.mY = TokenRecordStorage.ae(context);
     }
 
     public synchronized void remove(String str) {
         Log.m285d("TransactionDetailsRetryRequester", "remove :  " + str);
-        TransactionDetailsRetryRequester transactionDetailsRetryRequester = (TransactionDetailsRetryRequester) this.mX.get(str);
-        if (transactionDetailsRetryRequester != null) {
-            transactionDetailsRetryRequester.cancel();
-            this.mTimer.purge();
-        }
+        RetryScheduler.cancel(RetryScheduler.CATEGORY_TRANSACTION_DETAILS, str);
         this.mX.remove(str);
     }
 
@@ -119,14 +111,8 @@ public class TransactionDetailsRetryRequester {
                 Log.m286e("TransactionDetailsRetryRequester", "Token Record is null");
             } else if (bq.fw()) {
                 Log.m287i("TransactionDetailsRetryRequester", "Transaction Retry Allowed");
-                TransactionDetailsRetryRequester transactionDetailsRetryRequester = (TransactionDetailsRetryRequester) this.mX.get(str);
-                if (transactionDetailsRetryRequester == null) {
-                    this.mX.put(str, new TransactionDetailsRetryRequester(this, str, 0));
-                } else {
-                    transactionDetailsRetryRequester.cancel();
-                    this.mTimer.purge();
-                    this.mX.put(str, new TransactionDetailsRetryRequester(this, str, 0));
-                }
+                RetryScheduler.cancel(RetryScheduler.CATEGORY_TRANSACTION_DETAILS, str);
+                this.mX.put(str, new TransactionDetailsRetryRequester(this, str, 0));
                 m676T(str);
             } else {
                 Log.m287i("TransactionDetailsRetryRequester", "Transaction Retry NOT Allowed");
@@ -138,7 +124,7 @@ public class TransactionDetailsRetryRequester {
         Log.m285d("TransactionDetailsRetryRequester", "retry: adding token in queue = " + str);
         if (this.mX != null) {
             long a = ((TransactionDetailsRetryRequester) this.mX.get(str)).time;
-            TimerTask transactionDetailsRetryRequester = new TransactionDetailsRetryRequester(this, str, 0);
+            TransactionDetailsRetryRequester transactionDetailsRetryRequester = new TransactionDetailsRetryRequester(this, str, 0);
             if (a == 0) {
                 transactionDetailsRetryRequester.time = PaymentNetworkProvider.NFC_WAIT_TIME;
                 this.mX.put(str, transactionDetailsRetryRequester);
@@ -150,10 +136,12 @@ public class TransactionDetailsRetryRequester {
                 this.mX.put(str, transactionDetailsRetryRequester);
             } else if (a == 240000) {
                 this.mX.remove(str);
+                RetryScheduler.cancel(RetryScheduler.CATEGORY_TRANSACTION_DETAILS, str);
                 Log.m285d("TransactionDetailsRetryRequester", "Retry Limit Reached. Stop Retry.");
+                return;
             }
             Log.m287i("TransactionDetailsRetryRequester", "retry time = " + transactionDetailsRetryRequester.time);
-            this.mTimer.schedule(transactionDetailsRetryRequester, transactionDetailsRetryRequester.time);
+            RetryScheduler.schedule(RetryScheduler.CATEGORY_TRANSACTION_DETAILS, str, str, transactionDetailsRetryRequester, RetryScheduler.jitter(transactionDetailsRetryRequester.time));
         }
     }
 }
@@ -17,6 +17,7 @@ import com.samsung.android.spayfw.fraud.p011a.FCardRecord;
 import com.samsung.android.spayfw.fraud.p011a.FCounterRecord;
 import com.samsung.android.spayfw.fraud.p011a.FTokenRecord;
 import com.samsung.android.spayfw.fraud.p011a.FraudDao;
+import com.samsung.android.spayfw.fraud.p011a.FraudEventWriter;
 import com.samsung.android.spayfw.fraud.p011a.p012a.FDeviceRecord;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.payprovider.plcc.util.PlccConstants;
@@ -30,11 +31,60 @@ import java.util.regex.Pattern;
 
 /* renamed from: com.samsung.android.spayfw.fraud.a */
 public class FraudDataCollector {
+    private static final int EVENT_ADD_DEVICE_RECORD = 4;
+    private static final int EVENT_ADD_PROVISION_ATTEMPT = 5;
+    private static final int EVENT_PROVISION_FAILED = 1;
+    private static final int EVENT_PROVISION_SUCCESS = 0;
+    private static final int EVENT_TRANSACTION_DETAIL = 3;
+    private static final int EVENT_UPDATE_TOKEN_STATUS = 2;
     private static Context mContext;
     private static FraudDataCollector nb;
     private static FraudDao nc;
     private static FCardRecord nd;
 
+    private static final class CollectorEvent implements Runnable {
+        private final String mArg1;
+        private final String mArg2;
+        private final FCardRecord mCard;
+        private final PaymentDetailsRecord mDetails;
+        private final int mEvent;
+        private final FCardRecord mSource;
+
+        private CollectorEvent(int i, FCardRecord fCardRecord, String str, String str2, PaymentDetailsRecord paymentDetailsRecord) {
+            this.mEvent = i;
+            this.mSource = fCardRecord;
+            this.mCard = fCardRecord != null ? fCardRecord.copy() : null;
+            this.mArg1 = str;
+            this.mArg2 = str2;
+            this.mDetails = paymentDetailsRecord;
+        }
+
+        public void run() {
+            switch (this.mEvent) {
+                case FraudDataCollector.EVENT_PROVISION_SUCCESS /*0*/:
+                    FraudDataCollector.storeTokenProvisionSuccess(this.mSource, this.mCard, this.mArg1, this.mArg2);
+                    return;
+                case FraudDataCollector.EVENT_PROVISION_FAILED /*1*/:
+                    FraudDataCollector.storeTokenProvisionFailed(this.mSource, this.mCard);
+                    return;
+                case FraudDataCollector.EVENT_UPDATE_TOKEN_STATUS /*2*/:
+                    FraudDataCollector.updateTokenStatus(this.mArg1, this.mArg2);
+                    return;
+                case FraudDataCollector.EVENT_TRANSACTION_DETAIL /*3*/:
+                    FraudDataCollector.storeTransactionDetail(this.mDetails);
+                    return;
+                case FraudDataCollector.EVENT_ADD_DEVICE_RECORD /*4*/:
+                    FraudDataCollector.addDeviceRecord(this.mArg1);
+                    return;
+                case FraudDataCollector.EVENT_ADD_PROVISION_ATTEMPT /*5*/:
+                    FraudDataCollector.addProvisionAttempt(this.mArg1);
+                    return;
+                default:
+                    return;
+            }
+        }
+    }
+
     static {
         nd = null;
     }
@@ -130,11 +180,27 @@ public class FraudDataCollector {
                 Log.m286e("FraudDataCollector", "updateFTokenRecordStatus: cannot update ftoken status");
                 return;
             }
-            long a = (long) nc.m703a(str, FraudDataCollector.m715V(str2));
-            if (a <= 0) {
-                Log.m285d("FraudDataCollector", "cannot find token");
-            } else {
-                Log.m285d("FraudDataCollector", "find " + a + " token");
+            FraudDataCollector.submit(new CollectorEvent(EVENT_UPDATE_TOKEN_STATUS, null, str, str2, null));
+        }
+    }
+
+    private static void updateTokenStatus(String str, String str2) {
+        long a = (long) nc.m703a(str, FraudDataCollector.m715V(str2));
+        if (a <= 0) {
+            Log.m285d("FraudDataCollector", "cannot find token");
+        } else {
+            Log.m285d("FraudDataCollector", "find " + a + " token");
+        }
+    }
+
+    private static void submit(CollectorEvent collectorEvent) {
+        FraudEventWriter.getInstance(mContext).submit(collectorEvent);
+    }
+
+    private static synchronized void discard(FCardRecord fCardRecord) {
+        synchronized (FraudDataCollector.class) {
+            if (nd == fCardRecord) {
+                FraudDataCollector.br();
             }
         }
     }
@@ -148,30 +214,34 @@ public class FraudDataCollector {
             FraudDataCollector.br();
         } else {
             FraudDataCollector.m717b(0, -1);
-            long a = nc.m705a(nd);
-            if (a < 0) {
-                Log.m286e("FraudDataCollector", "db error: cannot add card record");
-                FraudDataCollector.br();
-                return;
-            }
-            FTokenRecord a2 = FraudDataCollector.m716a(str, str2, a);
-            if (a2 == null) {
-                Log.m286e("FraudDataCollector", "token is null");
-                FraudDataCollector.br();
-                return;
-            }
-            long a3 = nc.m708a(a2);
-            if (a3 < 0) {
-                Log.m286e("FraudDataCollector", "cannot add ftoken record, this should not happen");
-                FraudDataCollector.br();
-                return;
-            }
-            ContentValues contentValues = new ContentValues();
-            contentValues.put("token_id", Long.valueOf(a3));
-            if (nc.m702a(a, contentValues) < 0) {
-                Log.m286e("FraudDataCollector", "cannot update ftoken record, this should not happen");
-                FraudDataCollector.br();
-            }
+            FraudDataCollector.submit(new CollectorEvent(EVENT_PROVISION_SUCCESS, nd, str, str2, null));
+        }
+    }
+
+    private static void storeTokenProvisionSuccess(FCardRecord fCardRecord, FCardRecord fCardRecord2, String str, String str2) {
+        long a = nc.m705a(fCardRecord2);
+        if (a < 0) {
+            Log.m286e("FraudDataCollector", "db error: cannot add card record");
+            FraudDataCollector.discard(fCardRecord);
+            return;
+        }
+        FTokenRecord a2 = FraudDataCollector.m716a(str, str2, a);
+        if (a2 == null) {
+            Log.m286e("FraudDataCollector", "token is null");
+            FraudDataCollector.discard(fCardRecord);
+            return;
+        }
+        long a3 = nc.m708a(a2);
+        if (a3 < 0) {
+            Log.m286e("FraudDataCollector", "cannot add ftoken record, this should not happen");
+            FraudDataCollector.discard(fCardRecord);
+            return;
+        }
+        ContentValues contentValues = new ContentValues();
+        contentValues.put("token_id", Long.valueOf(a3));
+        if (nc.m702a(a, contentValues) < 0) {
+            Log.m286e("FraudDataCollector", "cannot update ftoken record, this should not happen");
+            FraudDataCollector.discard(fCardRecord);
         }
     }
 
@@ -184,10 +254,14 @@ public class FraudDataCollector {
             FraudDataCollector.br();
         } else {
             FraudDataCollector.m717b(1, -1);
-            if (nc.m705a(nd) < 0) {
-                Log.m286e("FraudDataCollector", "db error: cannot add card record");
-                FraudDataCollector.br();
-            }
+            FraudDataCollector.submit(new CollectorEvent(EVENT_PROVISION_FAILED, nd, null, null, null));
+        }
+    }
+
+    private static void storeTokenProvisionFailed(FCardRecord fCardRecord, FCardRecord fCardRecord2) {
+        if (nc.m705a(fCardRecord2) < 0) {
+            Log.m286e("FraudDataCollector", "db error: cannot add card record");
+            FraudDataCollector.discard(fCardRecord);
         }
     }
 
@@ -285,6 +359,10 @@ public class FraudDataCollector {
             Log.m290w("FraudDataCollector", "storeFTransactionDetail: payment details null, returning!");
             return;
         }
+        FraudDataCollector.submit(new CollectorEvent(EVENT_TRANSACTION_DETAIL, null, null, null, paymentDetailsRecord));
+    }
+
+    private static void storeTransactionDetail(PaymentDetailsRecord paymentDetailsRecord) {
         FTokenRecord ae = nc.ae(paymentDetailsRecord.getTrTokenId());
         if (ae == null) {
             Log.m286e("FraudDataCollector", "cannot find token record");
@@ -299,6 +377,10 @@ public class FraudDataCollector {
             Log.m286e("FraudDataCollector", "addFDeviceRecord: cannot add FDeviceRecord");
             return;
         }
+        FraudDataCollector.submit(new CollectorEvent(EVENT_ADD_DEVICE_RECORD, null, str, null, null));
+    }
+
+    private static void addDeviceRecord(String str) {
         if (nc.m704a(new FDeviceRecord(-1, Utils.am(mContext), str, null, null, 0)) > 0) {
             Log.m285d("FraudDataCollector", "add a new " + str + " record");
         } else {
@@ -315,6 +397,22 @@ public class FraudDataCollector {
             Log.m286e("FraudDataCollector", "addProvisionAttempts: cannot add privision attempts");
             return;
         }
+        FraudDataCollector.submit(new CollectorEvent(EVENT_ADD_PROVISION_ATTEMPT, null, str, null, null));
+    }
+
+    private static void addProvisionAttempt(String str) {
         Log.m285d("FraudDataCollector", "add a new provision attempts " + nc.m706a(new FCounterRecord(str, Utils.am(mContext))));
     }
+
+    public static void flush() {
+        if (mContext != null) {
+            FraudEventWriter.getInstance(mContext).flush();
+        }
+    }
+
+    public static void requestFlush() {
+        if (mContext != null) {
+            FraudEventWriter.getInstance(mContext).requestFlush();
+        }
+    }
 }
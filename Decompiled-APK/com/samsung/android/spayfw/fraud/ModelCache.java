@@ -3,18 +3,45 @@ package com.samsung.android.spayfw.fraud;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import com.samsung.android.spayfw.fraud.p011a.FraudEventWriter;
 import com.samsung.android.spayfw.interfacelibrary.db.DBName;
+import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.p008e.p009a.DBHelperWrapper;
 import com.samsung.android.spayfw.utils.DBUtils;
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map.Entry;
 
 /* renamed from: com.samsung.android.spayfw.fraud.g */
 class ModelCache {
+    private static final int MAX_MODELS = 16;
+    private static Context mContext;
     static ModelCache nq;
-    static HashMap<String, SoftReference<FraudModelInfo>> nr;
+    static LinkedHashMap<String, FraudModelInfo> nr;
+    private static HashSet<String> sAccessed;
+    private static final Runnable sAccessFlushTask;
+
+    private static final class ModelLru extends LinkedHashMap<String, FraudModelInfo> {
+        private ModelLru() {
+            super(MAX_MODELS, 0.75f, true);
+        }
+
+        protected boolean removeEldestEntry(Entry<String, FraudModelInfo> entry) {
+            return size() > ModelCache.MAX_MODELS;
+        }
+    }
+
+    private static final class AccessFlushTask implements Runnable {
+        private AccessFlushTask() {
+        }
+
+        public void run() {
+            ModelCache.flushAccessTimes();
+        }
+    }
 
     /* renamed from: com.samsung.android.spayfw.fraud.g.a */
     static class ModelCache {
@@ -53,7 +80,6 @@ class ModelCache {
                             fraudModelInfo.nh = str;
                             fraudModelInfo.ng = rawQuery.getString(0);
                             fraudModelInfo.ni = rawQuery.getBlob(1);
-                            ad(str);
                             rawQuery.close();
                             if (rawQuery != null) {
                                 rawQuery.close();
@@ -90,57 +116,83 @@ class ModelCache {
                 while (rawQuery.moveToNext()) {
                     String string = rawQuery.getString(0);
                     linkedList.add(string);
-                    ad(string);
                 }
                 rawQuery.close();
             }
             return linkedList;
         }
 
-        private void ad(String str) {
-            this.nu.execSQL("update modelinfo set lastaccesstime = current_timestamp where modelid=?", new String[]{str});
+        public void updateAccessTimes(Collection<String> collection) {
+            StringBuilder stringBuilder = new StringBuilder("update modelinfo set lastaccesstime = current_timestamp where modelid in (");
+            for (int i = 0; i < collection.size(); i++) {
+                stringBuilder.append(i == 0 ? "?" : ",?");
+            }
+            stringBuilder.append(")");
+            this.nu.execSQL(stringBuilder.toString(), collection.toArray(new String[collection.size()]));
         }
     }
 
     static {
         nq = null;
-        nr = new HashMap();
+        nr = new ModelLru();
+        sAccessed = new HashSet();
+        sAccessFlushTask = new AccessFlushTask();
     }
 
     static void initialize(Context context) {
+        mContext = context;
         nq = new ModelCache(context);
     }
 
     static FraudModelInfo ab(String str) {
         FraudModelInfo fraudModelInfo;
-        if (nr.containsKey(str)) {
-            fraudModelInfo = (FraudModelInfo) ((SoftReference) nr.get(str)).get();
-            if (fraudModelInfo != null) {
-                return fraudModelInfo;
-            }
+        synchronized (nr) {
+            fraudModelInfo = (FraudModelInfo) nr.get(str);
         }
-        try {
-            nq.beginTransaction();
+        if (fraudModelInfo == null) {
             fraudModelInfo = nq.ab(str);
-            nq.setTransactionSuccessful();
             if (fraudModelInfo == null) {
                 return null;
             }
-            nr.put(str, new SoftReference(fraudModelInfo));
-            return fraudModelInfo;
-        } finally {
-            nq.endTransaction();
+            synchronized (nr) {
+                nr.put(str, fraudModelInfo);
+            }
         }
+        recordAccess(str);
+        return fraudModelInfo;
     }
 
     static List<String> ac(String str) {
+        List<String> ac = nq.ac(str);
+        for (String recordAccess : ac) {
+            recordAccess(recordAccess);
+        }
+        return ac;
+    }
+
+    private static void recordAccess(String str) {
+        synchronized (sAccessFlushTask) {
+            boolean isEmpty = sAccessed.isEmpty();
+            if (!sAccessed.add(str) || !isEmpty) {
+                return;
+            }
+        }
+        FraudEventWriter.getInstance(mContext).submit(sAccessFlushTask);
+    }
+
+    static void flushAccessTimes() {
+        Collection collection;
+        synchronized (sAccessFlushTask) {
+            if (sAccessed.isEmpty()) {
+                return;
+            }
+            collection = sAccessed;
+            sAccessed = new HashSet();
+        }
         try {
-            nq.beginTransaction();
-            List<String> ac = nq.ac(str);
-            nq.setTransactionSuccessful();
-            return ac;
-        } finally {
-            nq.endTransaction();
+            nq.updateAccessTimes(collection);
+        } catch (Throwable e) {
+            Log.m284c("ModelCache", "flushAccessTimes: " + e.getMessage(), e);
         }
     }
 }
@@ -48,6 +48,14 @@ public class FCardRecord extends FBaseRecord {
         return this.nP;
     }
 
+    public int getResult() {
+        return this.result;
+    }
+
+    public long getAttemptTime() {
+        return this.nQ;
+    }
+
     public FCardRecord(boolean z, long j, String str, long j2, long j3, String str2, int i, String str3, String str4, String str5, String str6, String str7, String str8) {
         super("fcard");
         if (z) {
@@ -79,6 +87,12 @@ public class FCardRecord extends FBaseRecord {
         this.country = str8;
     }
 
+    public FCardRecord copy() {
+        FCardRecord fCardRecord = new FCardRecord(false, this.id, this.nH, this.nI, this.nJ, this.nK, this.nL, this.nM, this.nN, this.lastNameHash, this.nO, this.nP, this.country);
+        fCardRecord.m696a(this.nQ, this.result, this.nR, this.nS, this.nT, this.nU);
+        return fCardRecord;
+    }
+
     public void reset() {
         this.id = 0;
         this.nH = null;
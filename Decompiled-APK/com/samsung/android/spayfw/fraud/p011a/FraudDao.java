@@ -52,6 +52,12 @@ public class FraudDao {
         }
     }
 
+    private FraudFeatureStore getFeatureStore() {
+        FraudFeatureStore instance = FraudFeatureStore.getInstance(this.mContext);
+        instance.load();
+        return instance;
+    }
+
     private String m700w(int i) {
         if (i <= 0) {
             i = 0;
@@ -65,17 +71,23 @@ public class FraudDao {
             if (bH() == null) {
                 Log.m286e("FraudDao", "addCardRecord: cannot get db adapter");
             } else {
+                FraudFeatureStore featureStore = getFeatureStore();
                 String[] strArr = new String[]{fCardRecord.getAccountId(), fCardRecord.bD()};
                 Cursor a = ne.m713a("fcard", "account_id = ? AND four_digits = ?", strArr);
                 if (a != null) {
                     try {
                         if (a.getCount() == 0) {
                             j = ne.m711a((FBaseRecord) fCardRecord);
+                            if (j != -1) {
+                                featureStore.onCardRecord(fCardRecord);
+                            }
                         } else if (a.getCount() == 1) {
                             a.moveToNext();
                             j = a.getLong(a.getColumnIndex(PushMessage.JSON_KEY_ID));
                             ContentValues bC = fCardRecord.bC();
-                            ne.m710a("fcard", bC, "id = ? ", new String[]{Long.toString(j)});
+                            if (ne.m710a("fcard", bC, "id = ? ", new String[]{Long.toString(j)}) > 0) {
+                                featureStore.onCardRecord(fCardRecord);
+                            }
                             FraudDao.m699a(a);
                         } else {
                             Log.m286e("FraudDao", "more than one card is found");
@@ -132,7 +144,13 @@ public class FraudDao {
             return -1;
         }
         if (bH() != null) {
-            return ne.m711a((FBaseRecord) fTokenRecord);
+            FraudFeatureStore featureStore = getFeatureStore();
+            long a = ne.m711a((FBaseRecord) fTokenRecord);
+            if (a != -1) {
+                ContentValues bC = fTokenRecord.bC();
+                featureStore.onTokenStatus(bC.getAsLong("token_id").longValue(), bC.getAsLong("time").longValue());
+            }
+            return a;
         }
         Log.m286e("FraudDao", "addTokenStatusHistory: cannot get db adapter");
         return -1;
@@ -260,8 +278,14 @@ public class FraudDao {
             Log.m286e("FraudDao", "addDeviceRecord: cannot get db adapter");
             return -1;
         }
-        Log.m285d("FraudDao", "addDeviceRecord: delCount = " + nf.m695b(fDeviceRecord.bB(), "time < ? OR id not in (select id from " + fDeviceRecord.bB() + " order by " + "time" + " desc limit ? )", new String[]{m700w(90), "1000"}));
-        return nf.m694a(fDeviceRecord);
+        FraudFeatureStore featureStore = getFeatureStore();
+        String w = m700w(90);
+        Log.m285d("FraudDao", "addDeviceRecord: delCount = " + nf.m695b(fDeviceRecord.bB(), "time < ? OR id not in (select id from " + fDeviceRecord.bB() + " order by " + "time" + " desc limit ? )", new String[]{w, "1000"}));
+        long a = nf.m694a(fDeviceRecord);
+        if (a != -1) {
+            featureStore.onDeviceRecord(fDeviceRecord.getReason(), fDeviceRecord.getTime(), Long.parseLong(w));
+        }
+        return a;
     }
 
     public long m706a(FCounterRecord fCounterRecord) {
@@ -51,6 +51,18 @@ public class FraudDbAdapter {
         }
     }
 
+    public void beginTransaction() {
+        this.ob.beginTransaction();
+    }
+
+    public void setTransactionSuccessful() {
+        this.ob.setTransactionSuccessful();
+    }
+
+    public void endTransaction() {
+        this.ob.endTransaction();
+    }
+
     public Cursor rawQuery(String str, String[] strArr) {
         try {
             return this.ob.rawQuery(str, strArr);
@@ -60,6 +72,34 @@ public class FraudDbAdapter {
         }
     }
 
+    public byte[] loadBlob(String str) {
+        Cursor cursor = null;
+        try {
+            cursor = this.ob.rawQuery("select data from ffeature where name = ?", new String[]{str});
+            if (cursor.moveToFirst()) {
+                byte[] blob = cursor.getBlob(0);
+                FraudDao.m699a(cursor);
+                return blob;
+            }
+        } catch (Throwable e) {
+            Log.m284c("FraudDbAdapter", e.getMessage(), e);
+        }
+        FraudDao.m699a(cursor);
+        return null;
+    }
+
+    public long saveBlob(String str, byte[] bArr) {
+        try {
+            ContentValues contentValues = new ContentValues();
+            contentValues.put("name", str);
+            contentValues.put("data", bArr);
+            return this.ob.replaceOrThrow("ffeature", null, contentValues);
+        } catch (Throwable e) {
+            Log.m284c("FraudDbAdapter", e.getMessage(), e);
+            return -1;
+        }
+    }
+
     public long m711a(FBaseRecord fBaseRecord) {
         long j = -1;
         if (fBaseRecord != null) {
@@ -0,0 +1,220 @@
+package com.samsung.android.spayfw.fraud.p011a;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import com.samsung.android.spayfw.fraud.p011a.p012a.FraudEfsAdapter;
+import com.samsung.android.spayfw.p002b.Log;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single background writer for fraud collector events. Events are queued by
+ * the calling thread and applied in order on the writer thread, one
+ * transaction per flush. A caller that finds the queue full waits until the
+ * writer has taken it; events are never applied on the caller's thread. An
+ * event that throws is queued again and retried with the next flush, up to
+ * MAX_ATTEMPTS times.
+ */
+public class FraudEventWriter {
+    private static final long FLUSH_DELAY_MS = 500;
+    private static final long FLUSH_TIMEOUT_MS = 5000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_PENDING = 64;
+    private static final long RETRY_DELAY_MS = 5000;
+    private static final String TAG = "FraudEventWriter";
+    private static FraudEventWriter sInstance;
+    private final Context mContext;
+    private final Runnable mFlushTask;
+    private final Handler mHandler;
+    private final HandlerThread mHandlerThread;
+    private ArrayList<Runnable> mPending;
+    private boolean mScheduled;
+
+    private class FlushTask implements Runnable {
+        private FlushTask() {
+        }
+
+        public void run() {
+            FraudEventWriter.this.drain();
+        }
+    }
+
+    private static final class FailedEvent implements Runnable {
+        final int mAttempts;
+        final Runnable mEvent;
+
+        FailedEvent(Runnable runnable, int i) {
+            this.mEvent = runnable;
+            this.mAttempts = i;
+        }
+
+        public void run() {
+            this.mEvent.run();
+        }
+    }
+
+    public static synchronized FraudEventWriter getInstance(Context context) {
+        FraudEventWriter fraudEventWriter;
+        synchronized (FraudEventWriter.class) {
+            if (sInstance == null) {
+                sInstance = new FraudEventWriter(context);
+            }
+            fraudEventWriter = sInstance;
+        }
+        return fraudEventWriter;
+    }
+
+    public static void awaitPending() {
+        FraudEventWriter fraudEventWriter;
+        synchronized (FraudEventWriter.class) {
+            fraudEventWriter = sInstance;
+        }
+        if (fraudEventWriter != null && fraudEventWriter.hasPending()) {
+            fraudEventWriter.flush();
+        }
+    }
+
+    private FraudEventWriter(Context context) {
+        this.mPending = new ArrayList(8);
+        this.mContext = context;
+        this.mHandlerThread = new HandlerThread("FraudEventWriterThread", 10);
+        this.mHandlerThread.start();
+        this.mHandler = new Handler(this.mHandlerThread.getLooper());
+        this.mFlushTask = new FlushTask();
+    }
+
+    public void submit(Runnable runnable) {
+        synchronized (this) {
+            if (Thread.currentThread() != this.mHandlerThread) {
+                while (this.mPending.size() >= MAX_PENDING) {
+                    Log.m285d(TAG, "submit: queue full, waiting for the writer");
+                    scheduleFlush(0);
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            this.mPending.add(runnable);
+            scheduleFlush(this.mPending.size() >= MAX_PENDING ? 0 : FLUSH_DELAY_MS);
+        }
+    }
+
+    public synchronized boolean hasPending() {
+        return !this.mPending.isEmpty();
+    }
+
+    /**
+     * Asks the writer to apply the queued events now without waiting for it.
+     */
+    public void requestFlush() {
+        synchronized (this) {
+            if (!this.mPending.isEmpty()) {
+                scheduleFlush(0);
+            }
+        }
+    }
+
+    /**
+     * Applies the queued events on the writer thread and waits up to
+     * FLUSH_TIMEOUT_MS for them. Does nothing when called from the writer.
+     */
+    public void flush() {
+        if (Thread.currentThread() != this.mHandlerThread) {
+            final CountDownLatch countDownLatch = new CountDownLatch(1);
+            this.mHandler.postAtFrontOfQueue(new Runnable() {
+                public void run() {
+                    try {
+                        FraudEventWriter.this.drain();
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                }
+            });
+            try {
+                if (!countDownLatch.await(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    Log.m290w(TAG, "flush: timed out waiting for the writer");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void scheduleFlush(long j) {
+        if (j == 0) {
+            this.mHandler.removeCallbacks(this.mFlushTask);
+            this.mHandler.post(this.mFlushTask);
+            this.mScheduled = true;
+        } else if (!this.mScheduled) {
+            this.mScheduled = true;
+            this.mHandler.postDelayed(this.mFlushTask, j);
+        }
+    }
+
+    private void drain() {
+        List<Runnable> list;
+        synchronized (this) {
+            this.mHandler.removeCallbacks(this.mFlushTask);
+            this.mScheduled = false;
+            if (this.mPending.isEmpty()) {
+                return;
+            }
+            list = this.mPending;
+            this.mPending = new ArrayList(8);
+            notifyAll();
+        }
+        int i = 0;
+        List arrayList = new ArrayList();
+        FraudDbAdapter z = FraudDbAdapter.m709z(this.mContext);
+        FraudEfsAdapter A = FraudEfsAdapter.m693A(this.mContext);
+        if (z != null) {
+            z.beginTransaction();
+        }
+        if (A != null) {
+            A.beginTransaction();
+        }
+        try {
+            for (Runnable runnable : list) {
+                try {
+                    runnable.run();
+                } catch (Throwable e) {
+                    i++;
+                    int i2 = runnable instanceof FailedEvent ? ((FailedEvent) runnable).mAttempts + 1 : 1;
+                    if (i2 < MAX_ATTEMPTS) {
+                        Log.m284c(TAG, "drain: event failed, attempt " + i2 + ": " + e.getMessage(), e);
+                        arrayList.add(new FailedEvent(runnable instanceof FailedEvent ? ((FailedEvent) runnable).mEvent : runnable, i2));
+                    } else {
+                        Log.m284c(TAG, "drain: event failed " + i2 + " times, giving up: " + e.getMessage(), e);
+                    }
+                }
+            }
+            FraudFeatureStore.getInstance(this.mContext).persistIfDirty();
+            if (A != null) {
+                A.setTransactionSuccessful();
+            }
+            if (z != null) {
+                z.setTransactionSuccessful();
+            }
+            Log.m285d(TAG, "committed " + (list.size() - i) + " fraud events, failed " + i);
+        } finally {
+            if (A != null) {
+                A.endTransaction();
+            }
+            if (z != null) {
+                z.endTransaction();
+            }
+        }
+        if (!arrayList.isEmpty()) {
+            synchronized (this) {
+                this.mPending.addAll(0, arrayList);
+                scheduleFlush(RETRY_DELAY_MS);
+            }
+        }
+    }
+}
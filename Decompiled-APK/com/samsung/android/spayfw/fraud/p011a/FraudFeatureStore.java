@@ -0,0 +1,344 @@
+package com.samsung.android.spayfw.fraud.p011a;
+
+import android.content.Context;
+import android.database.Cursor;
+import com.samsung.android.spayfw.fraud.p011a.p012a.FraudEfsAdapter;
+import com.samsung.android.spayfw.p002b.Log;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Aggregates used by the risk models, kept up to date as FraudDao writes the
+ * fraud tables. The state is persisted as one blob in ffeature and rebuilt
+ * from fcard, ftoken_status_history and fdevice_info when it is missing.
+ */
+public class FraudFeatureStore {
+    private static final String BLOB_NAME = "features";
+    private static final int DEVICE_ROW_LIMIT = 1000;
+    private static final String TAG = "FraudFeatureStore";
+    private static final int VERSION = 1;
+    private static FraudFeatureStore sInstance;
+    private final LinkedHashMap<String, CardFeature> mCards;
+    private final Context mContext;
+    private long[] mDeviceTimes;
+    private boolean[] mDeviceResets;
+    private int mDeviceCount;
+    private boolean mDirty;
+    private boolean mLoaded;
+    private final HashMap<Long, Long> mTokenFirstStatus;
+
+    private static final class CardFeature {
+        private String mAddress;
+        private long mAttemptTime;
+        private String mFirstName;
+        private String mLastName;
+        private int mResult;
+        private String mZip;
+
+        private CardFeature() {
+        }
+    }
+
+    public static synchronized FraudFeatureStore getInstance(Context context) {
+        FraudFeatureStore fraudFeatureStore;
+        synchronized (FraudFeatureStore.class) {
+            if (sInstance == null) {
+                sInstance = new FraudFeatureStore(context);
+            }
+            fraudFeatureStore = sInstance;
+        }
+        return fraudFeatureStore;
+    }
+
+    private FraudFeatureStore(Context context) {
+        this.mCards = new LinkedHashMap();
+        this.mTokenFirstStatus = new HashMap();
+        this.mDeviceTimes = new long[16];
+        this.mDeviceResets = new boolean[16];
+        this.mContext = context;
+    }
+
+    public static boolean isReset(String str) {
+        return "app_reset".equals(str) || "factory_reset".equals(str);
+    }
+
+    public synchronized void load() {
+        if (!this.mLoaded) {
+            FraudDbAdapter z = FraudDbAdapter.m709z(this.mContext);
+            byte[] loadBlob = z != null ? z.loadBlob(BLOB_NAME) : null;
+            if (loadBlob != null) {
+                try {
+                    decode(loadBlob);
+                    this.mLoaded = true;
+                    return;
+                } catch (IOException e) {
+                    Log.m286e(TAG, "load: discarding stored features, " + e.getMessage());
+                }
+            }
+            rebuild();
+            this.mLoaded = true;
+            this.mDirty = true;
+        }
+    }
+
+    public synchronized void onCardRecord(FCardRecord fCardRecord) {
+        load();
+        String str = fCardRecord.getAccountId() + "|" + fCardRecord.bD();
+        CardFeature cardFeature = (CardFeature) this.mCards.get(str);
+        if (cardFeature == null) {
+            cardFeature = new CardFeature();
+            this.mCards.put(str, cardFeature);
+        }
+        cardFeature.mFirstName = fCardRecord.getFirstName();
+        cardFeature.mLastName = fCardRecord.getLastName();
+        cardFeature.mAddress = fCardRecord.bE();
+        cardFeature.mZip = fCardRecord.getZip();
+        cardFeature.mResult = fCardRecord.getResult();
+        cardFeature.mAttemptTime = fCardRecord.getAttemptTime();
+        this.mDirty = true;
+    }
+
+    public synchronized void onTokenStatus(long j, long j2) {
+        load();
+        Long l = (Long) this.mTokenFirstStatus.get(Long.valueOf(j));
+        if (l == null || j2 < l.longValue()) {
+            this.mTokenFirstStatus.put(Long.valueOf(j), Long.valueOf(j2));
+            this.mDirty = true;
+        }
+    }
+
+    public synchronized void onDeviceRecord(String str, long j, long j2) {
+        load();
+        pruneDevice(j2);
+        appendDevice(j, isReset(str));
+        this.mDirty = true;
+    }
+
+    public synchronized int countAttemptsSince(long j) {
+        load();
+        int i = 0;
+        for (CardFeature cardFeature : this.mCards.values()) {
+            if (cardFeature.mAttemptTime / 1000 > j / 1000) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    public synchronized int countResetsSince(long j) {
+        load();
+        int i = 0;
+        for (int i2 = 0; i2 < this.mDeviceCount; i2++) {
+            if (this.mDeviceResets[i2] && this.mDeviceTimes[i2] / 1000 > j / 1000) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    public synchronized int countTokensSeenBefore(long j) {
+        load();
+        int i = 0;
+        for (Long longValue : this.mTokenFirstStatus.values()) {
+            if (longValue.longValue() / 1000 < j / 1000) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    public synchronized List<String[]> getNames(boolean z) {
+        return collect(z, true);
+    }
+
+    public synchronized List<String[]> getAddresses(boolean z) {
+        return collect(z, false);
+    }
+
+    private List<String[]> collect(boolean z, boolean z2) {
+        load();
+        List<String[]> arrayList = new ArrayList(this.mCards.size());
+        LinkedHashSet linkedHashSet = z ? null : new LinkedHashSet();
+        for (CardFeature cardFeature : this.mCards.values()) {
+            String str = z2 ? cardFeature.mFirstName : cardFeature.mAddress;
+            String str2 = z2 ? cardFeature.mLastName : cardFeature.mZip;
+            if (z) {
+                if (cardFeature.mResult == 0) {
+                    arrayList.add(new String[]{str, str2});
+                }
+            } else if (linkedHashSet.add(str + "\u0000" + str2 + "\u0000" + (str == null) + (str2 == null))) {
+                arrayList.add(new String[]{str, str2});
+            }
+        }
+        return arrayList;
+    }
+
+    public synchronized void persistIfDirty() {
+        if (this.mLoaded && this.mDirty) {
+            FraudDbAdapter z = FraudDbAdapter.m709z(this.mContext);
+            if (z != null) {
+                try {
+                    if (z.saveBlob(BLOB_NAME, encode()) != -1) {
+                        this.mDirty = false;
+                    }
+                } catch (IOException e) {
+                    Log.m286e(TAG, "persistIfDirty: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void pruneDevice(long j) {
+        int i = this.mDeviceCount > DEVICE_ROW_LIMIT ? this.mDeviceCount - DEVICE_ROW_LIMIT : 0;
+        int i2 = 0;
+        for (int i3 = i; i3 < this.mDeviceCount; i3++) {
+            if (this.mDeviceTimes[i3] >= j) {
+                this.mDeviceTimes[i2] = this.mDeviceTimes[i3];
+                this.mDeviceResets[i2] = this.mDeviceResets[i3];
+                i2++;
+            }
+        }
+        this.mDeviceCount = i2;
+    }
+
+    private void appendDevice(long j, boolean z) {
+        if (this.mDeviceCount == this.mDeviceTimes.length) {
+            long[] jArr = new long[(this.mDeviceCount * 2)];
+            boolean[] zArr = new boolean[(this.mDeviceCount * 2)];
+            System.arraycopy(this.mDeviceTimes, 0, jArr, 0, this.mDeviceCount);
+            System.arraycopy(this.mDeviceResets, 0, zArr, 0, this.mDeviceCount);
+            this.mDeviceTimes = jArr;
+            this.mDeviceResets = zArr;
+        }
+        int i = this.mDeviceCount - 1;
+        while (i >= 0 && this.mDeviceTimes[i] > j) {
+            this.mDeviceTimes[i + 1] = this.mDeviceTimes[i];
+            this.mDeviceResets[i + 1] = this.mDeviceResets[i];
+            i--;
+        }
+        this.mDeviceTimes[i + 1] = j;
+        this.mDeviceResets[i + 1] = z;
+        this.mDeviceCount++;
+    }
+
+    private void rebuild() {
+        Log.m287i(TAG, "rebuilding fraud features from tables");
+        this.mCards.clear();
+        this.mTokenFirstStatus.clear();
+        this.mDeviceCount = 0;
+        FraudDbAdapter z = FraudDbAdapter.m709z(this.mContext);
+        if (z != null) {
+            Cursor rawQuery = z.rawQuery("select account_id, four_digits, first_name, last_name, avsaddr, avszip, result, attempt_time from fcard", null);
+            if (rawQuery != null) {
+                while (rawQuery.moveToNext()) {
+                    CardFeature cardFeature = new CardFeature();
+                    cardFeature.mFirstName = rawQuery.getString(2);
+                    cardFeature.mLastName = rawQuery.getString(3);
+                    cardFeature.mAddress = rawQuery.getString(4);
+                    cardFeature.mZip = rawQuery.getString(5);
+                    cardFeature.mResult = rawQuery.getInt(6);
+                    cardFeature.mAttemptTime = rawQuery.getLong(7);
+                    this.mCards.put(rawQuery.getString(0) + "|" + rawQuery.getString(1), cardFeature);
+                }
+                FraudDao.m699a(rawQuery);
+            }
+            rawQuery = z.rawQuery("select token_id, min(time) from ftoken_status_history group by token_id", null);
+            if (rawQuery != null) {
+                while (rawQuery.moveToNext()) {
+                    this.mTokenFirstStatus.put(Long.valueOf(rawQuery.getLong(0)), Long.valueOf(rawQuery.getLong(1)));
+                }
+                FraudDao.m699a(rawQuery);
+            }
+        }
+        FraudEfsAdapter A = FraudEfsAdapter.m693A(this.mContext);
+        if (A != null) {
+            Cursor rawQuery2 = A.rawQuery("select time, reason from fdevice_info order by time", null);
+            if (rawQuery2 != null) {
+                while (rawQuery2.moveToNext()) {
+                    appendDevice(rawQuery2.getLong(0), isReset(rawQuery2.getString(1)));
+                }
+                FraudDao.m699a(rawQuery2);
+            }
+        }
+    }
+
+    private byte[] encode() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+        dataOutputStream.writeInt(VERSION);
+        dataOutputStream.writeInt(this.mCards.size());
+        for (Entry entry : this.mCards.entrySet()) {
+            CardFeature cardFeature = (CardFeature) entry.getValue();
+            dataOutputStream.writeUTF((String) entry.getKey());
+            writeString(dataOutputStream, cardFeature.mFirstName);
+            writeString(dataOutputStream, cardFeature.mLastName);
+            writeString(dataOutputStream, cardFeature.mAddress);
+            writeString(dataOutputStream, cardFeature.mZip);
+            dataOutputStream.writeInt(cardFeature.mResult);
+            dataOutputStream.writeLong(cardFeature.mAttemptTime);
+        }
+        dataOutputStream.writeInt(this.mTokenFirstStatus.size());
+        for (Entry entry2 : this.mTokenFirstStatus.entrySet()) {
+            dataOutputStream.writeLong(((Long) entry2.getKey()).longValue());
+            dataOutputStream.writeLong(((Long) entry2.getValue()).longValue());
+        }
+        dataOutputStream.writeInt(this.mDeviceCount);
+        for (int i = 0; i < this.mDeviceCount; i++) {
+            dataOutputStream.writeLong(this.mDeviceTimes[i]);
+            dataOutputStream.writeBoolean(this.mDeviceResets[i]);
+        }
+        dataOutputStream.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private void decode(byte[] bArr) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(bArr));
+        int readInt = dataInputStream.readInt();
+        if (readInt != VERSION) {
+            throw new IOException("unsupported feature version " + readInt);
+        }
+        this.mCards.clear();
+        this.mTokenFirstStatus.clear();
+        this.mDeviceCount = 0;
+        int readInt2 = dataInputStream.readInt();
+        for (int i = 0; i < readInt2; i++) {
+            String readUTF = dataInputStream.readUTF();
+            CardFeature cardFeature = new CardFeature();
+            cardFeature.mFirstName = readString(dataInputStream);
+            cardFeature.mLastName = readString(dataInputStream);
+            cardFeature.mAddress = readString(dataInputStream);
+            cardFeature.mZip = readString(dataInputStream);
+            cardFeature.mResult = dataInputStream.readInt();
+            cardFeature.mAttemptTime = dataInputStream.readLong();
+            this.mCards.put(readUTF, cardFeature);
+        }
+        readInt2 = dataInputStream.readInt();
+        for (int i2 = 0; i2 < readInt2; i2++) {
+            this.mTokenFirstStatus.put(Long.valueOf(dataInputStream.readLong()), Long.valueOf(dataInputStream.readLong()));
+        }
+        readInt2 = dataInputStream.readInt();
+        for (int i3 = 0; i3 < readInt2; i3++) {
+            appendDevice(dataInputStream.readLong(), dataInputStream.readBoolean());
+        }
+    }
+
+    private static void writeString(DataOutputStream dataOutputStream, String str) throws IOException {
+        dataOutputStream.writeBoolean(str != null);
+        if (str != null) {
+            dataOutputStream.writeUTF(str);
+        }
+    }
+
+    private static String readString(DataInputStream dataInputStream) throws IOException {
+        return dataInputStream.readBoolean() ? dataInputStream.readUTF() : null;
+    }
+}
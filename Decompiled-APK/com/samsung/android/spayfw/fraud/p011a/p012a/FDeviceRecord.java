@@ -22,6 +22,14 @@ public class FDeviceRecord extends FBaseRecord {
         this.oe = j3;
     }
 
+    public String getReason() {
+        return this.reason;
+    }
+
+    public long getTime() {
+        return this.time;
+    }
+
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("id=");
@@ -93,6 +93,18 @@ public class FraudEfsAdapter {
         return of;
     }
 
+    public void beginTransaction() {
+        oj.beginTransaction();
+    }
+
+    public void setTransactionSuccessful() {
+        oj.setTransactionSuccessful();
+    }
+
+    public void endTransaction() {
+        oj.endTransaction();
+    }
+
     public Cursor rawQuery(String str, String[] strArr) {
         try {
             return oj.rawQuery(str, strArr);
@@ -2,6 +2,7 @@ package com.samsung.android.spayfw.fraud.p013b;
 
 import com.samsung.android.spayfw.fraud.FraudModelInfo;
 import com.samsung.android.spayfw.fraud.RiskModelSkeleton;
+import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.utils.Utils;
 import java.util.HashMap;
 
@@ -20,7 +21,12 @@ public class FraudRiskModels {
             return FraudRiskModels.bJ();
         }
         if (Utils.DEBUG && "neuralnet-v1".equals(fraudModelInfo.ng)) {
-            return new NeuralNetV1(fraudModelInfo);
+            NeuralNetEngine forParams = NeuralNetEngine.forParams(fraudModelInfo.ni);
+            if (forParams != null && forParams.getInputCount() == NeuralNetV1.FEATURE_COUNT) {
+                return new NeuralNetV1(fraudModelInfo, forParams);
+            }
+            Log.m286e("FraudRiskModels", "cannot load model " + fraudModelInfo.nh + ", using default");
+            return FraudRiskModels.bJ();
         }
         if ("simpleriskscore-v1".equals(fraudModelInfo.ng)) {
             return new SimpleRiskScoreV1(fraudModelInfo);
@@ -1,21 +1,28 @@
 package com.samsung.android.spayfw.fraud.p013b;
 
 import android.database.Cursor;
+import android.os.SystemClock;
 import com.americanexpress.mobilepayments.hceclient.utils.common.HCEClientConstants;
 import com.samsung.android.spayfw.fraud.FraudDataCollector;
 import com.samsung.android.spayfw.fraud.FraudModule;
 import com.samsung.android.spayfw.fraud.p011a.FCardRecord;
 import com.samsung.android.spayfw.fraud.p011a.FraudDbAdapter;
+import com.samsung.android.spayfw.fraud.p011a.FraudEventWriter;
+import com.samsung.android.spayfw.fraud.p011a.FraudFeatureStore;
 import com.samsung.android.spayfw.fraud.p011a.p012a.FraudEfsAdapter;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.utils.Utils;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.TimeZone;
 
 /* renamed from: com.samsung.android.spayfw.fraud.b.b */
 public class ModelUtils {
     private static final String[] EMPTY_STRING_ARRAY;
+    private static final long VERIFY_INTERVAL_MS = 3600000;
+    private static long sLastVerified;
 
     /* renamed from: com.samsung.android.spayfw.fraud.b.b.a */
     public static class ModelUtils {
@@ -156,6 +163,7 @@ public class ModelUtils {
             Cursor rawQuery;
             String str = "select count(*) from (" + this.oo + ")";
             String[] strArr = (String[]) this.oq.toArray(ModelUtils.EMPTY_STRING_ARRAY);
+            FraudEventWriter.awaitPending();
             FraudDbAdapter z = FraudDbAdapter.m709z(FraudModule.getContext());
             if (z != null) {
                 rawQuery = z.rawQuery(str, strArr);
@@ -326,15 +334,131 @@ public class ModelUtils {
     }
 
     public static int ag(String str) {
-        return new ModelUtils().al(str).getCount();
+        return features().countAttemptsSince(windowStart(str));
     }
 
     public static int ah(String str) {
-        return new ModelUtils().ak(str).bT().getCount();
+        return features().countResetsSince(windowStart(str));
     }
 
     public static int ai(String str) {
-        return new ModelUtils().am(str).getCount();
+        return features().countTokensSeenBefore(windowStart(str));
+    }
+
+    public static List<ModelUtils> getCardNames() {
+        return toNames(features().getNames(false));
+    }
+
+    public static List<ModelUtils> getProvisionedCardNames() {
+        return toNames(features().getNames(true));
+    }
+
+    public static List<ModelUtils> getCardAddresses() {
+        return toAddresses(features().getAddresses(false));
+    }
+
+    public static List<ModelUtils> getProvisionedCardAddresses() {
+        return toAddresses(features().getAddresses(true));
+    }
+
+    public static void verifyFeatureStoreSampled() {
+        synchronized (ModelUtils.class) {
+            long elapsedRealtime = SystemClock.elapsedRealtime();
+            if (sLastVerified != 0 && elapsedRealtime - sLastVerified < VERIFY_INTERVAL_MS) {
+                return;
+            }
+            sLastVerified = elapsedRealtime;
+        }
+        verifyFeatureStore();
+    }
+
+    public static boolean verifyFeatureStore() {
+        String[] strArr = new String[]{"24 hour", "7 day", "6 month", "12 month"};
+        boolean z = true;
+        for (String str : strArr) {
+            int ag = ag(str);
+            int count = new ModelUtils().al(str).getCount();
+            if (ag != count) {
+                Log.m286e("ModelUtils", "verifyFeatureStore: attempts in " + str + " store " + ag + ", sql " + count);
+                z = false;
+            }
+            int ah = ah(str);
+            count = new ModelUtils().ak(str).bT().getCount();
+            if (ah != count) {
+                Log.m286e("ModelUtils", "verifyFeatureStore: resets in " + str + " store " + ah + ", sql " + count);
+                z = false;
+            }
+            int ai = ai(str);
+            count = new ModelUtils().am(str).getCount();
+            if (ai != count) {
+                Log.m286e("ModelUtils", "verifyFeatureStore: tokens before " + str + " store " + ai + ", sql " + count);
+                z = false;
+            }
+        }
+        z = matchesSqlCount("select distinct first_name, last_name from fcard", getCardNames().size()) & z;
+        z = matchesSqlCount("select first_name, last_name from fcard where result = 0", getProvisionedCardNames().size()) & z;
+        z = matchesSqlCount("select distinct avsaddr, avszip from fcard where avsaddr is not null and avszip is not null", getCardAddresses().size()) & z;
+        z = matchesSqlCount("select avsaddr, avszip from fcard where result = 0 and avsaddr is not null and avszip is not null", getProvisionedCardAddresses().size()) & z;
+        Log.m287i("ModelUtils", "verifyFeatureStore: " + (z ? "consistent" : "mismatch"));
+        return z;
+    }
+
+    private static boolean matchesSqlCount(String str, int i) {
+        Cursor rawQuery = rawQuery("select count(*) from (" + str + ")", null);
+        int intValue = m729a(rawQuery, 0, Integer.valueOf(0)).intValue();
+        if (rawQuery != null) {
+            rawQuery.close();
+        }
+        if (intValue == i) {
+            return true;
+        }
+        Log.m286e("ModelUtils", "verifyFeatureStore: " + str + " store " + i + ", sql " + intValue);
+        return false;
+    }
+
+    private static FraudFeatureStore features() {
+        FraudEventWriter.awaitPending();
+        return FraudFeatureStore.getInstance(FraudModule.getContext());
+    }
+
+    private static long windowStart(String str) {
+        Calendar instance = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        instance.setTimeInMillis(System.currentTimeMillis());
+        String[] split = str.trim().split(" +");
+        int parseInt = Integer.parseInt(split[0]);
+        String str2 = split.length > 1 ? split[1] : "day";
+        if (str2.startsWith("second")) {
+            instance.add(13, -parseInt);
+        } else if (str2.startsWith("minute")) {
+            instance.add(12, -parseInt);
+        } else if (str2.startsWith("hour")) {
+            instance.add(11, -parseInt);
+        } else if (str2.startsWith("month")) {
+            instance.add(2, -parseInt);
+        } else if (str2.startsWith("year")) {
+            instance.add(1, -parseInt);
+        } else {
+            instance.add(5, -parseInt);
+        }
+        return instance.getTimeInMillis();
+    }
+
+    private static List<ModelUtils> toNames(List<String[]> list) {
+        List<ModelUtils> arrayList = new ArrayList(list.size());
+        for (String[] strArr : list) {
+            arrayList.add(new ModelUtils(strArr[0], strArr[1]));
+        }
+        return arrayList;
+    }
+
+    private static List<ModelUtils> toAddresses(List<String[]> list) {
+        List<ModelUtils> arrayList = new ArrayList(list.size());
+        for (String[] strArr : list) {
+            if (!(strArr[0] == null || strArr[1] == null)) {
+                arrayList.add(new ModelUtils(strArr[0], strArr[1]));
+            }
+        }
+        return arrayList;
     }
 
     public static ModelUtils bM() {
@@ -376,6 +500,7 @@ public class ModelUtils {
     }
 
     private static Cursor rawQuery(String str, String[] strArr) {
+        FraudEventWriter.awaitPending();
         FraudDbAdapter z = FraudDbAdapter.m709z(FraudModule.getContext());
         if (z == null) {
             return null;
@@ -384,6 +509,7 @@ public class ModelUtils {
     }
 
     private static Cursor m728a(String str, String[] strArr) {
+        FraudEventWriter.awaitPending();
         FraudEfsAdapter A = FraudEfsAdapter.m693A(FraudModule.getContext());
         if (A != null) {
             return A.rawQuery(str, strArr);
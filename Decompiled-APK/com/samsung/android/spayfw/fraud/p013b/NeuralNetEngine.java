@@ -0,0 +1,200 @@
+package com.samsung.android.spayfw.fraud.p013b;
+
+import com.samsung.android.spayfw.p002b.Log;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.WeakHashMap;
+
+/**
+ * Feed-forward network decoded from a modelparams blob. All weights live in
+ * one flat array so a forward pass only touches primitive arrays.
+ *
+ * Blob layout (big endian): int magic, int version, int inputs, int layers,
+ * then per layer: int outputs, int activation, outputs*inputs weights (row
+ * major), outputs biases. Decoded engines are kept while ModelCache still
+ * holds the blob they came from.
+ */
+final class NeuralNetEngine {
+    static final int ACTIVATION_LINEAR = 0;
+    static final int ACTIVATION_RELU = 1;
+    static final int ACTIVATION_SIGMOID = 2;
+    static final int ACTIVATION_TANH = 3;
+    private static final int MAGIC = 1313754673;
+    private static final int MAX_LAYER_WIDTH = 4096;
+    private static final int MAX_LAYERS = 64;
+    private static final String TAG = "NeuralNetEngine";
+    private static final int VERSION = 1;
+    private static final WeakHashMap<byte[], NeuralNetEngine> sEngines;
+    private final int[] mActivations;
+    private final float[] mBias;
+    private final int[] mBiasOffsets;
+    private final int mInputs;
+    private final int mLayers;
+    private final float[] mScratchA;
+    private final float[] mScratchB;
+    private final int[] mWeightOffsets;
+    private final float[] mWeights;
+    private final int[] mWidths;
+
+    static {
+        sEngines = new WeakHashMap();
+    }
+
+    private NeuralNetEngine(int i, int[] iArr, int[] iArr2, float[] fArr, float[] fArr2) {
+        int i2 = 0;
+        this.mInputs = i;
+        this.mLayers = iArr.length;
+        this.mWidths = iArr;
+        this.mActivations = iArr2;
+        this.mWeights = fArr;
+        this.mBias = fArr2;
+        this.mWeightOffsets = new int[this.mLayers];
+        this.mBiasOffsets = new int[this.mLayers];
+        int i3 = 0;
+        int i4 = i;
+        int i5 = i;
+        for (int i6 = 0; i6 < this.mLayers; i6++) {
+            this.mWeightOffsets[i6] = i2;
+            this.mBiasOffsets[i6] = i3;
+            i2 += iArr[i6] * i4;
+            i3 += iArr[i6];
+            i4 = iArr[i6];
+            i5 = Math.max(i5, i4);
+        }
+        this.mScratchA = new float[i5];
+        this.mScratchB = new float[i5];
+    }
+
+    static NeuralNetEngine forParams(byte[] bArr) {
+        if (bArr == null) {
+            return decode(null);
+        }
+        synchronized (sEngines) {
+            NeuralNetEngine neuralNetEngine = (NeuralNetEngine) sEngines.get(bArr);
+            if (neuralNetEngine == null) {
+                neuralNetEngine = decode(bArr);
+                if (neuralNetEngine != null) {
+                    sEngines.put(bArr, neuralNetEngine);
+                }
+            }
+            return neuralNetEngine;
+        }
+    }
+
+    static NeuralNetEngine decode(byte[] bArr) {
+        if (bArr == null) {
+            Log.m286e(TAG, "decode: no model params");
+            return null;
+        }
+        try {
+            ByteBuffer wrap = ByteBuffer.wrap(bArr);
+            if (wrap.getInt() != MAGIC) {
+                Log.m286e(TAG, "decode: bad magic");
+                return null;
+            }
+            int i = wrap.getInt();
+            if (i != VERSION) {
+                Log.m286e(TAG, "decode: unsupported version " + i);
+                return null;
+            }
+            int i2 = wrap.getInt();
+            int i3 = wrap.getInt();
+            if (i2 <= 0 || i2 > MAX_LAYER_WIDTH || i3 <= 0 || i3 > MAX_LAYERS || i3 * 8 > wrap.remaining()) {
+                Log.m286e(TAG, "decode: bad shape " + i2 + "x" + i3);
+                return null;
+            }
+            int[] iArr = new int[i3];
+            int[] iArr2 = new int[i3];
+            float[][] fArr = new float[i3][];
+            float[][] fArr2 = new float[i3][];
+            int i4 = i2;
+            int i5 = 0;
+            int i6 = 0;
+            for (int i7 = 0; i7 < i3; i7++) {
+                int i8 = wrap.getInt();
+                int i9 = wrap.getInt();
+                if (i8 <= 0 || i8 > MAX_LAYER_WIDTH || i9 < ACTIVATION_LINEAR || i9 > ACTIVATION_TANH) {
+                    Log.m286e(TAG, "decode: bad layer " + i7);
+                    return null;
+                }
+                if (((long) i8) * ((long) i4) * 4 > ((long) wrap.remaining())) {
+                    Log.m286e(TAG, "decode: truncated layer " + i7);
+                    return null;
+                }
+                iArr[i7] = i8;
+                iArr2[i7] = i9;
+                fArr[i7] = new float[(i8 * i4)];
+                wrap.asFloatBuffer().get(fArr[i7]);
+                wrap.position(wrap.position() + (fArr[i7].length * 4));
+                fArr2[i7] = new float[i8];
+                wrap.asFloatBuffer().get(fArr2[i7]);
+                wrap.position(wrap.position() + (i8 * 4));
+                i5 += fArr[i7].length;
+                i6 += i8;
+                i4 = i8;
+            }
+            if (i4 != 1) {
+                Log.m286e(TAG, "decode: output layer must have one unit, found " + i4);
+                return null;
+            }
+            float[] fArr3 = new float[i5];
+            float[] fArr4 = new float[i6];
+            i5 = 0;
+            i6 = 0;
+            for (int i10 = 0; i10 < i3; i10++) {
+                System.arraycopy(fArr[i10], 0, fArr3, i5, fArr[i10].length);
+                System.arraycopy(fArr2[i10], 0, fArr4, i6, fArr2[i10].length);
+                i5 += fArr[i10].length;
+                i6 += fArr2[i10].length;
+            }
+            return new NeuralNetEngine(i2, iArr, iArr2, fArr3, fArr4);
+        } catch (BufferUnderflowException e) {
+            Log.m286e(TAG, "decode: truncated model params");
+            return null;
+        }
+    }
+
+    int getInputCount() {
+        return this.mInputs;
+    }
+
+    synchronized float evaluate(float[] fArr) {
+        if (fArr.length != this.mInputs) {
+            throw new IllegalArgumentException("expected " + this.mInputs + " features, got " + fArr.length);
+        }
+        float[] fArr2 = fArr;
+        float[] fArr3 = this.mScratchA;
+        int i = this.mInputs;
+        for (int i2 = 0; i2 < this.mLayers; i2++) {
+            int i3 = this.mWidths[i2];
+            int i4 = this.mActivations[i2];
+            int i5 = this.mWeightOffsets[i2];
+            int i6 = this.mBiasOffsets[i2];
+            for (int i7 = 0; i7 < i3; i7++) {
+                float f = this.mBias[i6 + i7];
+                for (int i8 = 0; i8 < i; i8++) {
+                    f += this.mWeights[i5 + i8] * fArr2[i8];
+                }
+                i5 += i;
+                switch (i4) {
+                    case ACTIVATION_RELU /*1*/:
+                        if (f < 0.0f) {
+                            f = 0.0f;
+                        }
+                        break;
+                    case ACTIVATION_SIGMOID /*2*/:
+                        f = (float) (1.0d / (1.0d + Math.exp((double) (-f))));
+                        break;
+                    case ACTIVATION_TANH /*3*/:
+                        f = (float) Math.tanh((double) f);
+                        break;
+                }
+                fArr3[i7] = f;
+            }
+            fArr2 = fArr3;
+            fArr3 = fArr3 == this.mScratchA ? this.mScratchB : this.mScratchA;
+            i = i3;
+        }
+        return fArr2[0];
+    }
+}
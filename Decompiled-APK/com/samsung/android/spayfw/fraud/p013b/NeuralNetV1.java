@@ -2,18 +2,54 @@ package com.samsung.android.spayfw.fraud.p013b;
 
 import com.samsung.android.spayfw.fraud.FraudModelInfo;
 import com.samsung.android.spayfw.fraud.RiskModelSkeleton;
+import com.samsung.android.spayfw.fraud.p013b.ModelUtils.ModelUtils;
+import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.utils.Utils;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 /* renamed from: com.samsung.android.spayfw.fraud.b.c */
 class NeuralNetV1 extends RiskModelSkeleton {
-    public NeuralNetV1(FraudModelInfo fraudModelInfo) {
+    static final int FEATURE_COUNT = 8;
+    private final NeuralNetEngine mEngine;
+    private final float[] mFeatures;
+
+    public NeuralNetV1(FraudModelInfo fraudModelInfo, NeuralNetEngine neuralNetEngine) {
         super(fraudModelInfo);
+        this.mFeatures = new float[FEATURE_COUNT];
+        this.mEngine = neuralNetEngine;
     }
 
     protected float by() {
-        return 0.0055f;
+        ModelUtils bK = ModelUtils.bK();
+        ModelUtils bL = ModelUtils.bL();
+        if (bK == null || bL == null) {
+            Utils.m1274a(new NullPointerException("The database does not contain cardholder info tied to this enrollment."));
+            return 0.0055f;
+        }
+        List cardNames = ModelUtils.getCardNames();
+        List provisionedNames = ModelUtils.getProvisionedCardNames();
+        List cardAddresses = ModelUtils.getCardAddresses();
+        List provisionedAddresses = ModelUtils.getProvisionedCardAddresses();
+        this.mFeatures[0] = (float) ModelUtils.m727a(bK, provisionedNames);
+        this.mFeatures[1] = (float) ModelUtils.m732b(bK, cardNames);
+        this.mFeatures[2] = (float) ModelUtils.m726a(bL, provisionedAddresses);
+        this.mFeatures[3] = (float) ModelUtils.m731b(bL, cardAddresses);
+        this.mFeatures[4] = (float) ModelUtils.ag("24 hour");
+        this.mFeatures[5] = (float) ModelUtils.ah("7 day");
+        this.mFeatures[6] = (float) ModelUtils.ai("6 month");
+        this.mFeatures[7] = (float) ModelUtils.ai("12 month");
+        float evaluate = this.mEngine.evaluate(this.mFeatures);
+        Log.m285d("NeuralNetV1", "score = " + evaluate);
+        if (Float.isNaN(evaluate)) {
+            return 0.0055f;
+        }
+        return evaluate;
     }
 
     protected byte[] bz() {
-        return null;
+        ByteBuffer allocate = ByteBuffer.allocate(this.mFeatures.length * 4);
+        allocate.asFloatBuffer().put(this.mFeatures);
+        return allocate.array();
     }
 }
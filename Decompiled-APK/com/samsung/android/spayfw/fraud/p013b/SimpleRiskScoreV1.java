@@ -21,10 +21,13 @@ class SimpleRiskScoreV1 extends RiskModelSkeleton {
             Utils.m1274a(new NullPointerException("The database does not contain cardholder info tied to this enrollment."));
             return 0.0055f;
         }
-        List bQ = ModelUtils.bM().bV().bR().bW().bQ();
-        List bQ2 = ModelUtils.bM().bU().bV().bR().bQ();
-        List bQ3 = ModelUtils.bM().bV().bS().bP().bQ();
-        List bQ4 = ModelUtils.bM().bU().bV().bS().bQ();
+        if (Utils.DEBUG) {
+            ModelUtils.verifyFeatureStoreSampled();
+        }
+        List bQ = ModelUtils.getCardNames();
+        List bQ2 = ModelUtils.getProvisionedCardNames();
+        List bQ3 = ModelUtils.getCardAddresses();
+        List bQ4 = ModelUtils.getProvisionedCardAddresses();
         int a = ModelUtils.m727a(bK, bQ2);
         int b = ModelUtils.m732b(bK, bQ);
         if (a >= 2) {
@@ -2,44 +2,75 @@ package com.samsung.android.spayfw.p002b;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.os.Handler;
-import android.os.HandlerThread;
-import android.os.Looper;
-import android.os.Message;
 import android.os.Process;
+import android.os.SystemClock;
 import android.util.Log;
-import com.samsung.android.spayfw.utils.IOExceptionHandler;
-import com.samsung.android.spayfw.utils.IOExceptionHandler.C0403a;
-import java.io.BufferedWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.concurrent.CountDownLatch;
-import org.bouncycastle.asn1.cmp.PKIFailureInfo;
-import org.bouncycastle.pqc.jcajce.provider.util.CipherSpiExt;
-import org.bouncycastle.x509.ExtendedPKIXParameters;
+import java.util.HashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * File logger backed by a preallocated multi-producer ring. Callers claim a
+ * slot with one CAS and never block; when the ring is full the message is
+ * dropped and counted. One writer thread drains the ring into rotating
+ * binary files, which are only decoded to text when logs are exported. The
+ * writer flushes the file whenever it empties the ring and then parks until
+ * a producer or flush() unparks it.
+ */
 @SuppressLint({"LongLogTag"})
 /* renamed from: com.samsung.android.spayfw.b.a */
 public final class BufferedFileLogger extends Logger {
+    private static final int CAPACITY = 8192;
+    private static final int MASK = 8191;
+    private static final int MAGIC = 1397772359;
+    private static final long MAX_FILE_BYTES = 2097152;
+    private static final int MAX_MESSAGE = 100000;
+    private static final byte RECORD_DROPPED = (byte) 3;
+    private static final byte RECORD_LOG = (byte) 2;
+    private static final byte RECORD_TAG = (byte) 1;
+    private static final Charset UTF_8;
+    private static final int VERSION = 1;
     private static SimpleDateFormat oA;
     private static String oB;
+    private final AtomicInteger mDropped;
+    private volatile long mFlushCompleted;
+    private final Object mFlushLock;
+    private final AtomicLong mFlushRequested;
+    private volatile long mHead;
+    private final int[] mLevels;
+    private final String[] mMessages;
+    private final AtomicLongArray mPublished;
+    private final ConcurrentHashMap<String, Integer> mTagIds;
+    private final AtomicInteger mNextTagId;
+    private final int[] mTags;
+    private final AtomicLong mTail;
+    private final int[] mTids;
+    private final long[] mTimes;
+    private final Thread mWriter;
+    private volatile boolean mWriterIdle;
     private String oC;
-    private BufferedFileLogger oD;
 
-    /* renamed from: com.samsung.android.spayfw.b.a.1 */
-    class BufferedFileLogger implements Comparator<File> {
-        final /* synthetic */ BufferedFileLogger oE;
-
-        BufferedFileLogger(BufferedFileLogger bufferedFileLogger) {
-            this.oE = bufferedFileLogger;
+    private static class FileNameComparator implements Comparator<File> {
+        private FileNameComparator() {
         }
 
         public int compare(File file, File file2) {
@@ -52,135 +83,183 @@ public final class BufferedFileLogger extends Logger {
         }
     }
 
-    /* renamed from: com.samsung.android.spayfw.b.a.2 */
-    class BufferedFileLogger extends C0403a<FileInputStream> {
-        final /* synthetic */ BufferedFileLogger oE;
-        final /* synthetic */ FileOutputStream oF;
-        final /* synthetic */ File val$file;
-
-        BufferedFileLogger(BufferedFileLogger bufferedFileLogger, File file, FileOutputStream fileOutputStream) {
-            this.oE = bufferedFileLogger;
-            this.val$file = file;
-            this.oF = fileOutputStream;
+    private static class ExpiredFilter implements FilenameFilter {
+        private ExpiredFilter() {
         }
 
-        public /* synthetic */ Object aJ() {
-            return bZ();
-        }
-
-        public /* synthetic */ void m269c(Object obj) {
-            m268b((FileInputStream) obj);
+        public boolean accept(File file, String str) {
+            try {
+                return BufferedFileLogger.m274c(System.currentTimeMillis()) - Long.parseLong(str) > 86400;
+            } catch (NumberFormatException e) {
+                return true;
+            }
         }
+    }
 
-        public /* synthetic */ void m270f(Object obj) {
-            m267a((FileInputStream) obj);
-        }
+    private class WriterLoop implements Runnable {
+        private boolean[] mFileTags;
+        private String[] mTagNames;
+        private long mDay;
+        private DataOutputStream mOut;
+        private boolean mUnflushed;
+        private long mWritten;
 
-        public FileInputStream bZ() {
-            return new FileInputStream(this.val$file);
+        private WriterLoop() {
+            this.mFileTags = new boolean[64];
+            this.mTagNames = new String[64];
         }
 
-        public void m267a(FileInputStream fileInputStream) {
-            byte[] bArr = new byte[PKIFailureInfo.certConfirmed];
+        public void run() {
             while (true) {
-                int read = fileInputStream.read(bArr);
-                if (read >= 0) {
-                    this.oF.write(bArr, 0, read);
-                } else {
-                    return;
+                long j = BufferedFileLogger.this.mFlushRequested.get();
+                int drain = drain();
+                if (drain < 512) {
+                    if (this.mUnflushed) {
+                        flushFile();
+                    }
+                    if (j != BufferedFileLogger.this.mFlushCompleted) {
+                        synchronized (BufferedFileLogger.this.mFlushLock) {
+                            BufferedFileLogger.this.mFlushCompleted = j;
+                            BufferedFileLogger.this.mFlushLock.notifyAll();
+                        }
+                    }
+                    if (drain == 0) {
+                        BufferedFileLogger.this.mWriterIdle = true;
+                        if (!BufferedFileLogger.this.hasPending() && BufferedFileLogger.this.mFlushRequested.get() == BufferedFileLogger.this.mFlushCompleted) {
+                            LockSupport.park(this);
+                        }
+                        BufferedFileLogger.this.mWriterIdle = false;
+                    }
                 }
             }
         }
 
-        public void m268b(FileInputStream fileInputStream) {
-            fileInputStream.close();
+        private int drain() {
+            long j = BufferedFileLogger.this.mHead;
+            int i = 0;
+            while (i < 512) {
+                int i2 = (int) (j & MASK);
+                if (BufferedFileLogger.this.mPublished.get(i2) != 1 + j) {
+                    break;
+                }
+                String str = BufferedFileLogger.this.mMessages[i2];
+                BufferedFileLogger.this.mMessages[i2] = null;
+                write(BufferedFileLogger.this.mTimes[i2], BufferedFileLogger.this.mLevels[i2], BufferedFileLogger.this.mTags[i2], BufferedFileLogger.this.mTids[i2], str);
+                j++;
+                BufferedFileLogger.this.mHead = j;
+                i++;
+            }
+            int andSet = BufferedFileLogger.this.mDropped.getAndSet(0);
+            if (andSet > 0 && ensureFile(System.currentTimeMillis())) {
+                try {
+                    this.mOut.writeByte(BufferedFileLogger.RECORD_DROPPED);
+                    this.mOut.writeInt(andSet);
+                    this.mWritten += 5;
+                    this.mUnflushed = true;
+                } catch (IOException e) {
+                    closeFile();
+                }
+            }
+            return i;
         }
-    }
 
-    /* renamed from: com.samsung.android.spayfw.b.a.3 */
-    class BufferedFileLogger implements FilenameFilter {
-        final /* synthetic */ BufferedFileLogger oE;
+        private void write(long j, int i, int i2, int i3, String str) {
+            if (ensureFile(j)) {
+                try {
+                    if (i2 >= this.mFileTags.length || !this.mFileTags[i2]) {
+                        String tagName = tagName(i2);
+                        if (i2 >= this.mFileTags.length) {
+                            this.mFileTags = Arrays.copyOf(this.mFileTags, Math.max(i2 + 1, this.mFileTags.length * 2));
+                        }
+                        this.mFileTags[i2] = true;
+                        this.mOut.writeByte(BufferedFileLogger.RECORD_TAG);
+                        this.mOut.writeInt(i2);
+                        this.mOut.writeUTF(tagName);
+                        this.mWritten += (long) (tagName.length() + 7);
+                    }
+                    byte[] bytes = str.getBytes(BufferedFileLogger.UTF_8);
+                    this.mOut.writeByte(BufferedFileLogger.RECORD_LOG);
+                    this.mOut.writeLong(j);
+                    this.mOut.writeByte(i);
+                    this.mOut.writeInt(i2);
+                    this.mOut.writeInt(i3);
+                    this.mOut.writeInt(bytes.length);
+                    this.mOut.write(bytes);
+                    this.mWritten += (long) (bytes.length + 22);
+                    this.mUnflushed = true;
+                } catch (IOException e) {
+                    Log.e("BufferedFileLogger", "write failed: " + e.getMessage());
+                    closeFile();
+                }
+            }
+        }
 
-        BufferedFileLogger(BufferedFileLogger bufferedFileLogger) {
-            this.oE = bufferedFileLogger;
+        private String tagName(int i) {
+            if (i >= this.mTagNames.length || this.mTagNames[i] == null) {
+                for (Entry entry : BufferedFileLogger.this.mTagIds.entrySet()) {
+                    int intValue = ((Integer) entry.getValue()).intValue();
+                    if (intValue >= this.mTagNames.length) {
+                        this.mTagNames = (String[]) Arrays.copyOf(this.mTagNames, Math.max(intValue + 1, this.mTagNames.length * 2));
+                    }
+                    this.mTagNames[intValue] = (String) entry.getKey();
+                }
+            }
+            return (i >= this.mTagNames.length || this.mTagNames[i] == null) ? "?" : this.mTagNames[i];
         }
 
-        public boolean accept(File file, String str) {
-            if (BufferedFileLogger.m274c(System.currentTimeMillis()) - Long.parseLong(str) > 86400) {
+        private boolean ensureFile(long j) {
+            long c = BufferedFileLogger.m274c(j);
+            if (this.mOut != null && this.mDay == c && this.mWritten < BufferedFileLogger.MAX_FILE_BYTES) {
                 return true;
             }
-            return false;
+            closeFile();
+            BufferedFileLogger.this.bX();
+            File file = new File(BufferedFileLogger.this.oC);
+            if (!file.exists()) {
+                file.mkdirs();
+            }
+            long j2 = j / 1000;
+            File file2 = new File(file, Long.toString(j2));
+            while (file2.exists()) {
+                j2++;
+                file2 = new File(file, Long.toString(j2));
+            }
+            try {
+                this.mOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file2), 16384));
+                this.mOut.writeInt(BufferedFileLogger.MAGIC);
+                this.mOut.writeInt(BufferedFileLogger.VERSION);
+                this.mOut.writeInt(Process.myPid());
+                this.mDay = c;
+                this.mWritten = 12;
+                Arrays.fill(this.mFileTags, false);
+                Log.d("BufferedFileLogger", "Create File");
+                return true;
+            } catch (IOException e) {
+                Log.e("BufferedFileLogger", "cannot create log file: " + e.getMessage());
+                this.mOut = null;
+                return false;
+            }
         }
-    }
 
-    /* renamed from: com.samsung.android.spayfw.b.a.a */
-    private class BufferedFileLogger extends Handler {
-        final /* synthetic */ BufferedFileLogger oE;
-        private int oG;
-        private BufferedWriter oH;
-        private String oI;
-
-        public BufferedFileLogger(BufferedFileLogger bufferedFileLogger, Looper looper) {
-            this.oE = bufferedFileLogger;
-            super(looper);
-            this.oG = 1;
+        private void flushFile() {
+            this.mUnflushed = false;
+            if (this.mOut != null) {
+                try {
+                    this.mOut.flush();
+                } catch (IOException e) {
+                    closeFile();
+                }
+            }
         }
 
-        public void handleMessage(Message message) {
-            switch (message.what) {
-                case ExtendedPKIXParameters.CHAIN_VALIDITY_MODEL /*1*/:
-                    if (this.oG > 100) {
-                        this.oG = 0;
-                        this.oE.bX();
-                    }
-                    this.oG++;
-                    Date date = new Date();
-                    StringBuilder stringBuilder = (StringBuilder) message.obj;
-                    stringBuilder.insert(0, BufferedFileLogger.oA.format(date));
-                    String str = this.oE.oC + "/" + BufferedFileLogger.m274c(date.getTime());
-                    if (this.oI == null || !this.oI.equals(str)) {
-                        if (this.oH != null) {
-                            Log.d("BufferedFileLogger", "Close File");
-                            try {
-                                this.oH.close();
-                            } catch (IOException e) {
-                                e.printStackTrace();
-                            }
-                        }
-                        Log.d("BufferedFileLogger", "Create File");
-                        this.oI = str;
-                        File file = new File(this.oI);
-                        if (!(file.exists() || file.getParentFile() == null)) {
-                            file.getParentFile().mkdirs();
-                        }
-                        try {
-                            this.oH = new BufferedWriter(new FileWriter(this.oI, true));
-                        } catch (IOException e2) {
-                            e2.printStackTrace();
-                            this.oI = null;
-                            return;
-                        }
-                    }
-                    try {
-                        this.oH.write(stringBuilder.toString());
-                        this.oH.newLine();
-                    } catch (IOException e22) {
-                        e22.printStackTrace();
-                    }
-                case CipherSpiExt.DECRYPT_MODE /*2*/:
-                    Log.d("BufferedFileLogger", "Flush File");
-                    if (this.oH != null) {
-                        try {
-                            this.oH.flush();
-                        } catch (IOException e222) {
-                            e222.printStackTrace();
-                        }
-                    }
-                    if (message.obj != null && (message.obj instanceof CountDownLatch)) {
-                        ((CountDownLatch) message.obj).countDown();
-                    }
-                default:
-                    Log.e("BufferedFileLogger", "Invalid File Log Handler Message Type" + message.what);
+        private void closeFile() {
+            if (this.mOut != null) {
+                try {
+                    this.mOut.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                this.mOut = null;
             }
         }
     }
@@ -188,6 +267,7 @@ public final class BufferedFileLogger extends Logger {
     static {
         oA = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS ZZZZ");
         oB = " | ";
+        UTF_8 = Charset.forName("UTF-8");
     }
 
     private static final long m274c(long j) {
@@ -197,11 +277,24 @@ public final class BufferedFileLogger extends Logger {
 
     public BufferedFileLogger(Context context, String str) {
         super(str);
+        this.mTail = new AtomicLong();
+        this.mDropped = new AtomicInteger();
+        this.mFlushLock = new Object();
+        this.mFlushRequested = new AtomicLong();
+        this.mTagIds = new ConcurrentHashMap();
+        this.mNextTagId = new AtomicInteger();
+        this.mPublished = new AtomicLongArray(CAPACITY);
+        this.mTimes = new long[CAPACITY];
+        this.mLevels = new int[CAPACITY];
+        this.mTags = new int[CAPACITY];
+        this.mTids = new int[CAPACITY];
+        this.mMessages = new String[CAPACITY];
         this.oC = context.getFilesDir().getAbsolutePath() + "/logs";
-        HandlerThread handlerThread = new HandlerThread("BufferedLogFileWriterThread", 10);
         bX();
-        handlerThread.start();
-        this.oD = new BufferedFileLogger(this, handlerThread.getLooper());
+        this.mWriter = new Thread(new WriterLoop(), "BufferedLogFileWriterThread");
+        this.mWriter.setDaemon(true);
+        this.mWriter.setPriority(1);
+        this.mWriter.start();
     }
 
     public void m277a(FileOutputStream fileOutputStream) {
@@ -210,23 +303,84 @@ public final class BufferedFileLogger extends Logger {
             flush();
             File[] listFiles = file.listFiles();
             if (listFiles != null) {
-                Arrays.sort(listFiles, new BufferedFileLogger(this));
-                for (File bufferedFileLogger : listFiles) {
-                    IOExceptionHandler.m1262a(new BufferedFileLogger(this, bufferedFileLogger, fileOutputStream), false);
+                Arrays.sort(listFiles, new FileNameComparator());
+                for (File a : listFiles) {
+                    try {
+                        m275a(a, fileOutputStream);
+                    } catch (IOException e) {
+                        Log.e("BufferedFileLogger", "export failed for " + a.getName() + ": " + e.getMessage());
+                    }
                 }
             }
         }
     }
 
+    private static void m275a(File file, FileOutputStream fileOutputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 16384));
+        try {
+            dataInputStream.mark(4);
+            if (file.length() < 12 || dataInputStream.readInt() != MAGIC) {
+                dataInputStream.reset();
+                byte[] bArr = new byte[8192];
+                while (true) {
+                    int read = dataInputStream.read(bArr);
+                    if (read >= 0) {
+                        fileOutputStream.write(bArr, 0, read);
+                    } else {
+                        return;
+                    }
+                }
+            }
+            dataInputStream.readInt();
+            String num = Integer.toString(dataInputStream.readInt());
+            HashMap hashMap = new HashMap();
+            Date date = new Date();
+            StringBuilder stringBuilder = new StringBuilder(256);
+            while (true) {
+                byte readByte = dataInputStream.readByte();
+                stringBuilder.setLength(0);
+                if (readByte == RECORD_TAG) {
+                    hashMap.put(Integer.valueOf(dataInputStream.readInt()), dataInputStream.readUTF());
+                } else if (readByte == RECORD_LOG) {
+                    date.setTime(dataInputStream.readLong());
+                    byte readByte2 = dataInputStream.readByte();
+                    String str = (String) hashMap.get(Integer.valueOf(dataInputStream.readInt()));
+                    int readInt = dataInputStream.readInt();
+                    byte[] bArr2 = new byte[dataInputStream.readInt()];
+                    dataInputStream.readFully(bArr2);
+                    stringBuilder.append(oA.format(date)).append(oB).append(num).append(oB).append(readInt).append(oB).append(com.samsung.android.spayfw.p002b.Log.m280I(readByte2)).append(oB).append("SpayFw_").append(str).append(oB).append(new String(bArr2, UTF_8)).append('\n');
+                    fileOutputStream.write(stringBuilder.toString().getBytes(UTF_8));
+                } else if (readByte == RECORD_DROPPED) {
+                    fileOutputStream.write(("-- " + dataInputStream.readInt() + " log messages dropped --\n").getBytes(UTF_8));
+                } else {
+                    throw new IOException("corrupt log record " + readByte);
+                }
+            }
+        } catch (EOFException e) {
+        } finally {
+            dataInputStream.close();
+        }
+    }
+
     public void flush() {
         Log.i("BufferedFileLogger", "flush start");
         bX();
-        CountDownLatch countDownLatch = new CountDownLatch(1);
-        this.oD.sendMessageAtFrontOfQueue(this.oD.obtainMessage(2, countDownLatch));
-        try {
-            countDownLatch.await();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        long incrementAndGet = this.mFlushRequested.incrementAndGet();
+        LockSupport.unpark(this.mWriter);
+        long uptimeMillis = SystemClock.uptimeMillis() + 2000;
+        synchronized (this.mFlushLock) {
+            while (this.mFlushCompleted < incrementAndGet) {
+                long uptimeMillis2 = uptimeMillis - SystemClock.uptimeMillis();
+                if (uptimeMillis2 <= 0) {
+                    break;
+                }
+                try {
+                    this.mFlushLock.wait(uptimeMillis2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
         }
         Log.i("BufferedFileLogger", "flush complete");
     }
@@ -234,21 +388,50 @@ public final class BufferedFileLogger extends Logger {
     @SuppressLint({"LogTagMismatch"})
     public void m276a(int i, String str, String str2) {
         if (isLoggable(i)) {
-            StringBuilder stringBuilder = new StringBuilder();
+            long j;
             if (str2.length() > 100001) {
-                Log.w("BufferedFileLoggerAVOIDOOM", "trimming msg to avoid OOM");
-                str2 = str2.substring(0, 100000);
+                str2 = str2.substring(0, MAX_MESSAGE);
             }
-            stringBuilder.append(oB).append(Process.myPid()).append(oB).append(Process.myTid()).append(oB).append(Log.m280I(i)).append(oB).append("SpayFw_" + str).append(oB).append(str2);
-            this.oD.obtainMessage(1, stringBuilder).sendToTarget();
+            do {
+                j = this.mTail.get();
+                if (j - this.mHead >= CAPACITY) {
+                    this.mDropped.incrementAndGet();
+                    return;
+                }
+            } while (!this.mTail.compareAndSet(j, 1 + j));
+            int i2 = (int) (j & MASK);
+            this.mTimes[i2] = System.currentTimeMillis();
+            this.mLevels[i2] = i;
+            this.mTags[i2] = tagId(str);
+            this.mTids[i2] = Process.myTid();
+            this.mMessages[i2] = str2;
+            this.mPublished.set(i2, 1 + j);
+            if (this.mWriterIdle) {
+                LockSupport.unpark(this.mWriter);
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        long j = this.mHead;
+        return this.mPublished.get((int) (j & MASK)) == 1 + j;
+    }
+
+    private int tagId(String str) {
+        Integer num = (Integer) this.mTagIds.get(str);
+        if (num != null) {
+            return num.intValue();
         }
+        Integer valueOf = Integer.valueOf(this.mNextTagId.getAndIncrement());
+        num = (Integer) this.mTagIds.putIfAbsent(str, valueOf);
+        return num != null ? num.intValue() : valueOf.intValue();
     }
 
     private synchronized void bX() {
         Log.d("BufferedFileLogger", "cleanupLogs");
         File file = new File(this.oC);
         if (file.exists()) {
-            File[] listFiles = file.listFiles(new BufferedFileLogger(this));
+            File[] listFiles = file.listFiles(new ExpiredFilter());
             if (listFiles != null) {
                 for (File delete : listFiles) {
                     delete.delete();
@@ -6,8 +6,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import org.bouncycastle.math.ec.ECCurve;
 import org.bouncycastle.math.ec.ECFieldElement.F2m;
 import org.bouncycastle.pqc.jcajce.provider.util.CipherSpiExt;
@@ -15,18 +14,33 @@ import org.bouncycastle.x509.ExtendedPKIXParameters;
 
 /* renamed from: com.samsung.android.spayfw.b.c */
 public final class Log {
-    private static ArrayList<Logger> oJ;
+    public static final int DEBUG = 2;
+    public static final int ERROR = 6;
+    public static final int INFO = 4;
+    public static final int VERBOSE = 3;
+    public static final int WARN = 5;
+    private static final char[] HEX;
+    private static volatile Logger[] oJ;
+    private static volatile int sMinLevel;
 
     static {
-        oJ = new ArrayList();
+        HEX = "0123456789ABCDEF".toCharArray();
+        oJ = new Logger[0];
+        sMinLevel = Integer.MAX_VALUE;
     }
 
     public static synchronized boolean m282a(Logger logger) {
         boolean z = false;
         synchronized (Log.class) {
             if (logger != null) {
-                if (!oJ.contains(logger)) {
-                    z = oJ.add(logger);
+                if (!Arrays.asList(oJ).contains(logger)) {
+                    Logger[] loggerArr = (Logger[]) Arrays.copyOf(oJ, oJ.length + 1);
+                    loggerArr[oJ.length] = logger;
+                    oJ = loggerArr;
+                    z = true;
+                    if (logger.level < sMinLevel) {
+                        sMinLevel = logger.level;
+                    }
                 }
             }
         }
@@ -36,83 +50,175 @@ public final class Log {
     public static synchronized Logger an(String str) {
         Logger logger;
         synchronized (Log.class) {
-            if (str == null) {
-                logger = null;
-            } else {
-                Iterator it = oJ.iterator();
-                while (it.hasNext()) {
-                    logger = (Logger) it.next();
-                    if (logger.oK.equals(str)) {
+            logger = null;
+            if (str != null) {
+                for (Logger logger2 : oJ) {
+                    if (str.equals(logger2.oK)) {
+                        logger = logger2;
                         break;
                     }
                 }
-                logger = null;
             }
         }
         return logger;
     }
 
     public static void m289v(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(3, str, str2);
+        if (isLoggable(3)) {
+            for (Logger a : oJ) {
+                a.m271a(3, str, str2);
+            }
         }
     }
 
     public static void m285d(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(2, str, str2);
+        if (isLoggable(2)) {
+            for (Logger a : oJ) {
+                a.m271a(2, str, str2);
+            }
         }
     }
 
     public static void m287i(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(4, str, str2);
+        if (isLoggable(4)) {
+            for (Logger a : oJ) {
+                a.m271a(4, str, str2);
+            }
         }
     }
 
     public static void m290w(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(5, str, str2);
+        if (isLoggable(5)) {
+            for (Logger a : oJ) {
+                a.m271a(5, str, str2);
+            }
         }
     }
 
     public static void m286e(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(6, str, str2);
+        if (isLoggable(6)) {
+            for (Logger a : oJ) {
+                a.m271a(6, str, str2);
+            }
         }
     }
 
     public static void m288m(String str, String str2) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(1, str, str2);
+        if (isLoggable(1)) {
+            for (Logger a : oJ) {
+                a.m271a(1, str, str2);
+            }
         }
     }
 
     public static void m281a(String str, String str2, Throwable th) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+        if (isLoggable(6)) {
+            for (Logger a : oJ) {
+                a.m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+            }
         }
     }
 
     public static void m283b(String str, String str2, Throwable th) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+        if (isLoggable(6)) {
+            for (Logger a : oJ) {
+                a.m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+            }
         }
     }
 
     public static void m284c(String str, String str2, Throwable th) {
-        Iterator it = oJ.iterator();
-        while (it.hasNext()) {
-            ((Logger) it.next()).m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+        if (isLoggable(6)) {
+            for (Logger a : oJ) {
+                a.m271a(6, str, str2 + '\n' + Log.getStackTraceString(th));
+            }
+        }
+    }
+
+    public static boolean isLoggable(int i) {
+        return i >= sMinLevel;
+    }
+
+    public static void d(String str, String str2) {
+        if (isLoggable(DEBUG)) {
+            println(DEBUG, str, str2);
+        }
+    }
+
+    public static void d(String str, String str2, long j) {
+        if (isLoggable(DEBUG)) {
+            println(DEBUG, str, format(str2, Long.valueOf(j), null));
+        }
+    }
+
+    public static void d(String str, String str2, long j, long j2) {
+        if (isLoggable(DEBUG)) {
+            println(DEBUG, str, format(str2, Long.valueOf(j), Long.valueOf(j2)));
+        }
+    }
+
+    public static void d(String str, String str2, Object obj) {
+        if (isLoggable(DEBUG)) {
+            println(DEBUG, str, format(str2, obj, null));
+        }
+    }
+
+    public static void d(String str, String str2, Object obj, Object obj2) {
+        if (isLoggable(DEBUG)) {
+            println(DEBUG, str, format(str2, obj, obj2));
+        }
+    }
+
+    public static void i(String str, String str2) {
+        if (isLoggable(INFO)) {
+            println(INFO, str, str2);
+        }
+    }
+
+    public static void i(String str, String str2, long j) {
+        if (isLoggable(INFO)) {
+            println(INFO, str, format(str2, Long.valueOf(j), null));
+        }
+    }
+
+    public static void i(String str, String str2, Object obj) {
+        if (isLoggable(INFO)) {
+            println(INFO, str, format(str2, obj, null));
+        }
+    }
+
+    private static void println(int i, String str, String str2) {
+        for (Logger a : oJ) {
+            a.m271a(i, str, str2);
+        }
+    }
+
+    private static String format(String str, Object obj, Object obj2) {
+        StringBuilder stringBuilder = new StringBuilder(str.length() + 32);
+        int i = 0;
+        int i2 = 0;
+        while (true) {
+            int indexOf = str.indexOf("{}", i);
+            if (indexOf < 0) {
+                break;
+            }
+            stringBuilder.append(str, i, indexOf);
+            appendArg(stringBuilder, i2 == 0 ? obj : obj2);
+            i2++;
+            i = indexOf + 2;
+        }
+        stringBuilder.append(str, i, str.length());
+        return stringBuilder.toString();
+    }
+
+    private static void appendArg(StringBuilder stringBuilder, Object obj) {
+        if (obj instanceof byte[]) {
+            for (byte b : (byte[]) obj) {
+                stringBuilder.append(HEX[(b >> 4) & 15]).append(HEX[b & 15]);
+            }
+            return;
         }
+        stringBuilder.append(obj);
     }
 
     public static String getStackTraceString(Throwable th) {
@@ -0,0 +1,160 @@
+package com.samsung.android.spayfw.p002b;
+
+import android.os.Process;
+import com.samsung.android.spayfw.utils.Utils;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-tap span recorder. Events are written into preallocated arrays with
+ * nanosecond timestamps and no allocation; the ring is only formatted when it
+ * is exported as Chrome trace JSON (chrome://tracing, Perfetto). On by
+ * default in debug builds only; SPayHCEService exports it through dumpsys.
+ * Each slot is guarded by its sequence number: a writer clears it, writes
+ * the event and publishes the sequence again, and the exporter skips a slot
+ * whose sequence changed while it was read. All slot fields are atomic
+ * arrays so those accesses are ordered.
+ */
+public final class TapTracer {
+    public static final int EV_AMEX_COMMAND = 6;
+    public static final int EV_DISCOVER_APDU = 4;
+    public static final int EV_HANDLE_APDU = 2;
+    public static final int EV_HCE_APDU = 0;
+    public static final int EV_HCE_DEACTIVATED = 8;
+    public static final int EV_MC_APDU = 3;
+    public static final int EV_PROVIDER_APDU = 1;
+    public static final int EV_TA_COMMAND = 7;
+    public static final int EV_VISA_APDU = 5;
+    private static final String[] EVENT_NAMES;
+    private static final int MASK = 4095;
+    private static final byte PHASE_BEGIN = (byte) 66;
+    private static final byte PHASE_END = (byte) 69;
+    private static final byte PHASE_INSTANT = (byte) 105;
+    private static final int SIZE = 4096;
+    private static final AtomicLong sCursor;
+    private static volatile boolean sEnabled;
+    private static final AtomicLongArray sKinds;
+    private static final AtomicLongArray sSequences;
+    private static final AtomicLongArray sThreadArgs;
+    private static final AtomicLongArray sTimestamps;
+
+    static {
+        EVENT_NAMES = new String[]{"hce.processCommandApdu", "provider.processApdu", "provider.handleApdu", "mc.processAPDU", "discover.handleApdu", "visa.processCommandApdu", "amex.commandProcess", "ta.executeNoLoad", "hce.onDeactivated"};
+        sCursor = new AtomicLong();
+        sEnabled = Utils.DEBUG;
+        sKinds = new AtomicLongArray(SIZE);
+        sSequences = new AtomicLongArray(SIZE);
+        sThreadArgs = new AtomicLongArray(SIZE);
+        sTimestamps = new AtomicLongArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            sSequences.set(i, -1);
+        }
+    }
+
+    private TapTracer() {
+    }
+
+    public static void setEnabled(boolean z) {
+        sEnabled = z;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    public static void begin(int i, int i2) {
+        record(i, PHASE_BEGIN, i2);
+    }
+
+    public static void end(int i, int i2) {
+        record(i, PHASE_END, i2);
+    }
+
+    public static void instant(int i, int i2) {
+        record(i, PHASE_INSTANT, i2);
+    }
+
+    private static void record(int i, byte b, int i2) {
+        if (sEnabled) {
+            long timestamp = System.nanoTime();
+            long andIncrement = sCursor.getAndIncrement();
+            int i3 = (int) (andIncrement & MASK);
+            sSequences.set(i3, -1);
+            sTimestamps.set(i3, timestamp);
+            sKinds.set(i3, (long) ((i << 8) | (b & 255)));
+            sThreadArgs.set(i3, (((long) Process.myTid()) << 32) | (((long) i2) & 4294967295L));
+            sSequences.set(i3, andIncrement);
+        }
+    }
+
+    public static void clear() {
+        sCursor.set(0);
+        for (int i = 0; i < SIZE; i++) {
+            sSequences.set(i, -1);
+        }
+    }
+
+    public static String exportChromeTrace() {
+        Writer stringWriter = new StringWriter(SIZE * 96);
+        try {
+            exportChromeTrace(stringWriter);
+        } catch (IOException e) {
+            Log.m286e("TapTracer", "exportChromeTrace: " + e.getMessage());
+        }
+        return stringWriter.toString();
+    }
+
+    public static void exportChromeTrace(Writer writer) throws IOException {
+        long j = sCursor.get();
+        long j2 = j > SIZE ? j - SIZE : 0;
+        int myPid = Process.myPid();
+        writer.write("{\"traceEvents\":[");
+        boolean z = true;
+        for (long j3 = j2; j3 < j; j3++) {
+            int i = (int) (j3 & MASK);
+            long j6 = sSequences.get(i);
+            long j4 = sTimestamps.get(i);
+            long j7 = sKinds.get(i);
+            long j8 = sThreadArgs.get(i);
+            int i2 = (int) (j7 >> 8);
+            byte b = (byte) ((int) j7);
+            int i3 = (int) j8;
+            int i4 = (int) (j8 >> 32);
+            if (j6 == j3 && sSequences.get(i) == j3 && i2 >= 0 && i2 < EVENT_NAMES.length) {
+                if (!z) {
+                    writer.write(44);
+                }
+                z = false;
+                writer.write("{\"name\":\"");
+                writer.write(EVENT_NAMES[i2]);
+                writer.write("\",\"cat\":\"tap\",\"ph\":\"");
+                writer.write(b);
+                writer.write("\",\"ts\":");
+                writer.write(Long.toString(j4 / 1000));
+                writer.write(46);
+                long j5 = j4 % 1000;
+                if (j5 < 100) {
+                    writer.write(48);
+                }
+                if (j5 < 10) {
+                    writer.write(48);
+                }
+                writer.write(Long.toString(j5));
+                writer.write(",\"pid\":");
+                writer.write(Integer.toString(myPid));
+                writer.write(",\"tid\":");
+                writer.write(Integer.toString(i4));
+                if (b == PHASE_INSTANT) {
+                    writer.write(",\"s\":\"t\"");
+                }
+                writer.write(",\"args\":{\"arg\":");
+                writer.write(Integer.toString(i3));
+                writer.write("}}");
+            }
+        }
+        writer.write("],\"displayTimeUnit\":\"ns\"}");
+    }
+}
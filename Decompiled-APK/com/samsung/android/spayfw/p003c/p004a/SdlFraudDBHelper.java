@@ -16,7 +16,7 @@ public class SdlFraudDBHelper extends SdlBaseDBHelper {
     }
 
     protected SdlFraudDBHelper(Context context) {
-        super(context, "collector_enc.db", null, 3);
+        super(context, "collector_enc.db", null, 4);
     }
 
     public void onConfigure(SQLiteDatabase sQLiteDatabase) {
@@ -38,6 +38,7 @@ public class SdlFraudDBHelper extends SdlBaseDBHelper {
                 sQLiteDatabase.execSQL("  create table knownmachines(    machineid text,    primary key(machineid)  );");
                 sQLiteDatabase.execSQL("  create table modelinfo(    modelid text,    modelbase text,    modelparams blob,    lastaccesstime real default current_timestamp,    primary key(modelid)  );");
                 sQLiteDatabase.execSQL("  create table activemodels(    machineid text,    modelid text,    modelIndex integer,    foreign key(machineid) references knownmachines(machineid)  );");
+                sQLiteDatabase.execSQL("CREATE TABLE IF NOT EXISTS ffeature (name text NOT NULL  PRIMARY KEY,data blob)");
                 Log.i("SdlFraudDBHelper", "second database is created");
             }
         } catch (Throwable e) {
@@ -72,6 +73,10 @@ public class SdlFraudDBHelper extends SdlBaseDBHelper {
                 i = 3;
             }
             if (i == 3) {
+                sQLiteDatabase.execSQL("CREATE TABLE IF NOT EXISTS ffeature (name text NOT NULL  PRIMARY KEY,data blob)");
+                i = 4;
+            }
+            if (i == 4) {
                 Log.d("SdlFraudDBHelper", "This is the current version");
             }
         }
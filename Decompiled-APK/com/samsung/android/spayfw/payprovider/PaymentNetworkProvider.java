@@ -40,6 +40,7 @@ import com.samsung.android.spayfw.core.PaymentFrameworkRequester;
 import com.samsung.android.spayfw.core.State;
 import com.samsung.android.spayfw.core.hce.SPayHCEReceiver;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spayfw.payprovider.MerchantServerRequester.MerchantInfo;
 import com.samsung.android.spayfw.payprovider.TACounter.TACounter;
 import com.samsung.android.spayfw.payprovider.plcc.tzsvc.ExtractCardDetailResult;
@@ -527,6 +528,9 @@ public abstract class PaymentNetworkProvider {
 
     protected abstract void unloadTA();
 
+    protected void prepareAhead() {
+    }
+
     protected abstract ProviderResponseData updateTokenStatus(JsonObject jsonObject, TokenStatus tokenStatus);
 
     static {
@@ -1023,6 +1027,16 @@ public abstract class PaymentNetworkProvider {
     }
 
     public final byte[] processApdu(byte[] bArr, Bundle bundle) {
+        int i = (bArr == null || bArr.length < 2) ? -1 : bArr[1] & 255;
+        TapTracer.begin(TapTracer.EV_PROVIDER_APDU, i);
+        try {
+            return processApduInternal(bArr, bundle, i);
+        } finally {
+            TapTracer.end(TapTracer.EV_PROVIDER_APDU, i);
+        }
+    }
+
+    private byte[] processApduInternal(byte[] bArr, Bundle bundle, int i) {
         if (mNfcWait != null) {
             mNfcWait.open();
         }
@@ -1032,13 +1046,14 @@ public abstract class PaymentNetworkProvider {
                     boolean p = State.m656p(64);
                     if (State.m657q(32)) {
                         providerInterruptMstPayIfPossible();
+                        prepareAhead();
                         if (p) {
-                            Log.m287i(LOG_TAG, "onPaySwitch (MST -> NFC): start: " + System.currentTimeMillis());
+                            Log.i(LOG_TAG, "onPaySwitch (MST -> NFC): start: {}", System.currentTimeMillis());
                             onPaySwitch(CREATE_TOKEN_SRC_PROV_PUSH, CREATE_TOKEN_SRC_PROV_RESPONSE);
                             if (this.mPayCallback != null) {
                                 this.mPayCallback.m446a(null, CREATE_TOKEN_SRC_PROV_PUSH, CREATE_TOKEN_SRC_PROV_RESPONSE, this.mAuthType);
                             }
-                            Log.m285d(LOG_TAG, "onPaySwitch end= " + System.currentTimeMillis());
+                            Log.d(LOG_TAG, "onPaySwitch end= {}", System.currentTimeMillis());
                         }
                     } else if (this.mPayCallback == null) {
                         return null;
@@ -1054,12 +1069,18 @@ public abstract class PaymentNetworkProvider {
                 this.mPayCallback.m448a(null, -11, this.mAuthType);
                 return null;
             }
-            Log.m287i(LOG_TAG, "handleApdu SDK start: currentTime" + System.currentTimeMillis());
-            byte[] handleApdu = handleApdu(bArr, bundle);
-            Log.m287i(LOG_TAG, "handleApdu SDK end:  currentTime" + System.currentTimeMillis());
+            Log.d(LOG_TAG, "handleApdu SDK start: currentTime{}", System.currentTimeMillis());
+            TapTracer.begin(TapTracer.EV_HANDLE_APDU, i);
+            byte[] handleApdu;
+            try {
+                handleApdu = handleApdu(bArr, bundle);
+            } finally {
+                TapTracer.end(TapTracer.EV_HANDLE_APDU, i);
+            }
+            Log.d(LOG_TAG, "handleApdu SDK end:  currentTime{}", System.currentTimeMillis());
             return handleApdu;
         }
-        Log.m285d(LOG_TAG, "cannot continue the payment, state has changed");
+        Log.d(LOG_TAG, "cannot continue the payment, state has changed");
         return null;
     }
 
@@ -17,6 +17,7 @@ import com.samsung.android.spayfw.appinterface.TransactionDetails;
 import com.samsung.android.spayfw.core.PaymentFrameworkApp;
 import com.samsung.android.spayfw.core.PaymentFrameworkRequester;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spayfw.payprovider.PaymentNetworkProvider;
 import com.samsung.android.spayfw.payprovider.PaymentNetworkProvider.InAppDetailedTransactionInfo;
 import com.samsung.android.spayfw.payprovider.ProviderRequestData;
@@ -286,7 +287,7 @@ public class DiscoverPayProvider extends PaymentNetworkProvider {
     }
 
     protected byte[] handleApdu(byte[] bArr, Bundle bundle) {
-        Log.m287i("DCSDK_DiscoverPayProvider", "handleApdu: start, timestamp " + System.currentTimeMillis());
+        Log.d("DCSDK_DiscoverPayProvider", "handleApdu: start, timestamp {}", System.currentTimeMillis());
         if (bArr == null) {
             Log.m286e("DCSDK_DiscoverPayProvider", "handleApdu: can't process apdu, apdu buffer is null, return null.");
             return null;
@@ -294,8 +295,15 @@ public class DiscoverPayProvider extends PaymentNetworkProvider {
             Log.m286e("DCSDK_DiscoverPayProvider", "handleApdu: can't process apdu, apdu buffer is empty, return null.");
             return null;
         } else {
-            byte[] h = this.sg.m994h(bArr);
-            Log.m287i("DCSDK_DiscoverPayProvider", "handleApdu: end, timestamp " + System.currentTimeMillis());
+            int i = bArr.length < 2 ? -1 : bArr[1] & 255;
+            TapTracer.begin(TapTracer.EV_DISCOVER_APDU, i);
+            byte[] h;
+            try {
+                h = this.sg.m994h(bArr);
+            } finally {
+                TapTracer.end(TapTracer.EV_DISCOVER_APDU, i);
+            }
+            Log.d("DCSDK_DiscoverPayProvider", "handleApdu: end, timestamp {}", System.currentTimeMillis());
             return h;
         }
     }
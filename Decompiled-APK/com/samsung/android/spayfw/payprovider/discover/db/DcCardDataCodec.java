@@ -0,0 +1,406 @@
+package com.samsung.android.spayfw.payprovider.discover.db;
+
+import com.samsung.android.spayfw.payprovider.discover.payment.data.PDOLCheckEntry;
+import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverApplicationData;
+import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverContactlessPaymentData;
+import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverIDDTag;
+import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverIssuerOptions;
+import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverRecord;
+import com.samsung.android.spayfw.payprovider.discover.payment.utils.ByteBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Versioned binary encoding of DiscoverContactlessPaymentData for the
+ * CardDetails table. Records start with a magic byte and a format version;
+ * anything else is treated as a legacy Gson JSON blob by the caller. Payment
+ * profiles are stored in their own table and are not part of the record.
+ */
+public final class DcCardDataCodec {
+    private static final int ABSENT = -1;
+    private static final byte MAGIC = (byte) -36;
+    private static final int NULL_BYTES = -2;
+    public static final int VERSION = 1;
+
+    private DcCardDataCodec() {
+    }
+
+    public static boolean isEncoded(byte[] bArr) {
+        return bArr != null && bArr.length >= 2 && bArr[0] == MAGIC;
+    }
+
+    public static byte[] encode(DiscoverContactlessPaymentData discoverContactlessPaymentData) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(2048);
+        DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+        dataOutputStream.writeByte(MAGIC);
+        dataOutputStream.writeByte(VERSION);
+        writeApplicationData(dataOutputStream, discoverContactlessPaymentData.getDiscoverApplicationData());
+        writeIssuerOptions(dataOutputStream, discoverContactlessPaymentData.getIssuerApplicationData());
+        writeRecords(dataOutputStream, discoverContactlessPaymentData.getRecords());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getAid());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getFciPpse());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getFciMainAid());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getFciZipAid());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getFciDebitAid());
+        writeBufferMap(dataOutputStream, discoverContactlessPaymentData.getFciAltAid());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getPasscodeRetryCounter());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getSecondaryCurrency1());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getSecondaryCurrency2());
+        writeString(dataOutputStream, discoverContactlessPaymentData.getServiceCode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getTrack1DataZipMsMode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getTrack2DataZipMsMode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getTrack2EquivalentData());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getTrack1DataMstMode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getTrack2DataMstMode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getZipAip());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getZipAfl());
+        writePdolEntries(dataOutputStream, discoverContactlessPaymentData.getPdolProfileEntries());
+        writePdolEntries(dataOutputStream, discoverContactlessPaymentData.getPdolOnlineEntries());
+        writePdolEntries(dataOutputStream, discoverContactlessPaymentData.getPdolDeclineEntries());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getCountryCode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getCurrencyCodeCode());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getCaco());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getPth());
+        writeBuffer(dataOutputStream, discoverContactlessPaymentData.getPDOLProfileCheckTable());
+        writeBufferList(dataOutputStream, discoverContactlessPaymentData.getAliasList());
+        dataOutputStream.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    public static DiscoverContactlessPaymentData decode(byte[] bArr) {
+        if (!isEncoded(bArr)) {
+            throw new IOException("not a binary card record");
+        }
+        DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(bArr));
+        dataInputStream.readByte();
+        int readUnsignedByte = dataInputStream.readUnsignedByte();
+        if (readUnsignedByte > VERSION) {
+            throw new IOException("unsupported card record version " + readUnsignedByte);
+        }
+        DiscoverContactlessPaymentData discoverContactlessPaymentData = new DiscoverContactlessPaymentData();
+        discoverContactlessPaymentData.setDiscoverApplicationData(readApplicationData(dataInputStream));
+        discoverContactlessPaymentData.setIssuerApplicationData(readIssuerOptions(dataInputStream));
+        discoverContactlessPaymentData.setRecords(readRecords(dataInputStream));
+        discoverContactlessPaymentData.setAid(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setFciPpse(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setFciMainAid(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setFciZipAid(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setFciDebitAid(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setFciAltAid(readBufferMap(dataInputStream));
+        discoverContactlessPaymentData.setPasscodeRetryCounter(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setSecondaryCurrency1(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setSecondaryCurrency2(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setServiceCode(readString(dataInputStream));
+        discoverContactlessPaymentData.setTrack1DataZipMsMode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setTrack2DataZipMsMode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setTrack2EquivalentData(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setTrack1DataMstMode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setTrack2DataMstMode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setZipAip(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setZipAfl(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setPdolProfileEntries(readPdolEntries(dataInputStream));
+        discoverContactlessPaymentData.setPdolOnlineEntries(readPdolEntries(dataInputStream));
+        discoverContactlessPaymentData.setPdolDeclineEntries(readPdolEntries(dataInputStream));
+        discoverContactlessPaymentData.setCountryCode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setCurrencyCode(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setCaco(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setPth(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setPDOLProfileCheckTable(readBuffer(dataInputStream));
+        discoverContactlessPaymentData.setAliasList(readBufferList(dataInputStream));
+        return discoverContactlessPaymentData;
+    }
+
+    private static void writeApplicationData(DataOutputStream dataOutputStream, DiscoverApplicationData discoverApplicationData) {
+        dataOutputStream.writeBoolean(discoverApplicationData != null);
+        if (discoverApplicationData != null) {
+            writeBuffer(dataOutputStream, discoverApplicationData.getPanSn());
+            writeBuffer(dataOutputStream, discoverApplicationData.getPan());
+            writeBuffer(dataOutputStream, discoverApplicationData.getApplicationEffectiveDate());
+            writeBuffer(dataOutputStream, discoverApplicationData.getApplicationExpirationDate());
+            writeBuffer(dataOutputStream, discoverApplicationData.getApplicationState());
+            writeBuffer(dataOutputStream, discoverApplicationData.getApplicationVersionNumber());
+            writeBuffer(dataOutputStream, discoverApplicationData.getCardholderName());
+            writeBuffer(dataOutputStream, discoverApplicationData.getCLApplicationConfigurationOptions());
+            writeBufferList(dataOutputStream, discoverApplicationData.getApplicationBlockedList());
+        }
+    }
+
+    private static DiscoverApplicationData readApplicationData(DataInputStream dataInputStream) {
+        if (!dataInputStream.readBoolean()) {
+            return null;
+        }
+        DiscoverApplicationData discoverApplicationData = new DiscoverApplicationData();
+        discoverApplicationData.setPanSn(readBuffer(dataInputStream));
+        discoverApplicationData.setPan(readBuffer(dataInputStream));
+        discoverApplicationData.setApplicationEffectiveDate(readBuffer(dataInputStream));
+        discoverApplicationData.setApplicationExpirationDate(readBuffer(dataInputStream));
+        discoverApplicationData.setApplicationState(readBuffer(dataInputStream));
+        discoverApplicationData.setApplicationVersionNumber(readBuffer(dataInputStream));
+        discoverApplicationData.setCardholderName(readBuffer(dataInputStream));
+        discoverApplicationData.setCLApplicationConfigurationOptions(readBuffer(dataInputStream));
+        discoverApplicationData.setApplicationBlockedList(readBufferList(dataInputStream));
+        return discoverApplicationData;
+    }
+
+    private static void writeIssuerOptions(DataOutputStream dataOutputStream, DiscoverIssuerOptions discoverIssuerOptions) {
+        dataOutputStream.writeBoolean(discoverIssuerOptions != null);
+        if (discoverIssuerOptions != null) {
+            writeBuffer(dataOutputStream, discoverIssuerOptions.getIssuerApplicationData());
+            writeBuffer(dataOutputStream, discoverIssuerOptions.getIssuerLifeCycleData());
+            writeBuffer(dataOutputStream, discoverIssuerOptions.getIADOL());
+            List<DiscoverIDDTag> iDDTags = discoverIssuerOptions.getIDDTags();
+            if (iDDTags == null) {
+                dataOutputStream.writeInt(ABSENT);
+                return;
+            }
+            dataOutputStream.writeInt(iDDTags.size());
+            for (DiscoverIDDTag discoverIDDTag : iDDTags) {
+                writeBuffer(dataOutputStream, discoverIDDTag.getTag());
+                dataOutputStream.writeByte(discoverIDDTag.getSize());
+                dataOutputStream.writeByte(discoverIDDTag.getAccess());
+                writeBuffer(dataOutputStream, discoverIDDTag.getData());
+            }
+        }
+    }
+
+    private static DiscoverIssuerOptions readIssuerOptions(DataInputStream dataInputStream) {
+        if (!dataInputStream.readBoolean()) {
+            return null;
+        }
+        DiscoverIssuerOptions discoverIssuerOptions = new DiscoverIssuerOptions();
+        discoverIssuerOptions.setIssuerApplicationData(readBuffer(dataInputStream));
+        discoverIssuerOptions.setIssuerLifeCycleData(readBuffer(dataInputStream));
+        discoverIssuerOptions.setIADOL(readBuffer(dataInputStream));
+        int readInt = dataInputStream.readInt();
+        if (readInt != ABSENT) {
+            List arrayList = new ArrayList(readInt);
+            for (int i = 0; i < readInt; i++) {
+                ByteBuffer readBuffer = readBuffer(dataInputStream);
+                byte readByte = dataInputStream.readByte();
+                byte readByte2 = dataInputStream.readByte();
+                ByteBuffer readBuffer2 = readBuffer(dataInputStream);
+                ByteBuffer byteBuffer = new ByteBuffer(new byte[]{readByte, readByte2});
+                if (readBuffer2 != null) {
+                    byteBuffer.append(readBuffer2);
+                }
+                try {
+                    arrayList.add(new DiscoverIDDTag(byteBuffer, readBuffer));
+                } catch (Exception e) {
+                    throw new IOException("invalid IDD tag: " + e.getMessage());
+                }
+            }
+            discoverIssuerOptions.setIDDTags(arrayList);
+        }
+        return discoverIssuerOptions;
+    }
+
+    private static void writeRecords(DataOutputStream dataOutputStream, List<DiscoverRecord> list) {
+        if (list == null) {
+            dataOutputStream.writeInt(ABSENT);
+            return;
+        }
+        dataOutputStream.writeInt(list.size());
+        for (DiscoverRecord discoverRecord : list) {
+            dataOutputStream.writeBoolean(discoverRecord != null);
+            if (discoverRecord != null) {
+                writeBuffer(dataOutputStream, discoverRecord.getSFI());
+                writeBuffer(dataOutputStream, discoverRecord.getRecordNumber());
+                writeBuffer(dataOutputStream, discoverRecord.getRecordData());
+            }
+        }
+    }
+
+    private static List<DiscoverRecord> readRecords(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        List<DiscoverRecord> arrayList = new ArrayList(readInt);
+        for (int i = 0; i < readInt; i++) {
+            if (dataInputStream.readBoolean()) {
+                DiscoverRecord discoverRecord = new DiscoverRecord();
+                discoverRecord.setSFI(readBuffer(dataInputStream));
+                discoverRecord.setRecordNumber(readBuffer(dataInputStream));
+                discoverRecord.setRecordData(readBuffer(dataInputStream));
+                arrayList.add(discoverRecord);
+            } else {
+                arrayList.add(null);
+            }
+        }
+        return arrayList;
+    }
+
+    private static void writePdolEntries(DataOutputStream dataOutputStream, PDOLCheckEntry[] pDOLCheckEntryArr) {
+        if (pDOLCheckEntryArr == null) {
+            dataOutputStream.writeInt(ABSENT);
+            return;
+        }
+        dataOutputStream.writeInt(pDOLCheckEntryArr.length);
+        for (PDOLCheckEntry pDOLCheckEntry : pDOLCheckEntryArr) {
+            dataOutputStream.writeBoolean(pDOLCheckEntry != null);
+            if (pDOLCheckEntry != null) {
+                dataOutputStream.writeByte(pDOLCheckEntry.getDataType());
+                dataOutputStream.writeByte(pDOLCheckEntry.getDataSize());
+                writeBytes(dataOutputStream, pDOLCheckEntry.getDataOffset());
+                dataOutputStream.writeByte(pDOLCheckEntry.getTestType());
+                dataOutputStream.writeByte(pDOLCheckEntry.getResult());
+                dataOutputStream.writeByte(pDOLCheckEntry.getMatchFound());
+                dataOutputStream.writeByte(pDOLCheckEntry.getMatchNotFound());
+                writeBuffer(dataOutputStream, pDOLCheckEntry.getBitMask());
+                dataOutputStream.writeByte(pDOLCheckEntry.getNumberMatchValues());
+                ByteBuffer[] values = pDOLCheckEntry.getValues();
+                if (values == null) {
+                    dataOutputStream.writeInt(ABSENT);
+                } else {
+                    dataOutputStream.writeInt(values.length);
+                    for (ByteBuffer writeBuffer : values) {
+                        writeBuffer(dataOutputStream, writeBuffer);
+                    }
+                }
+            }
+        }
+    }
+
+    private static PDOLCheckEntry[] readPdolEntries(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        PDOLCheckEntry[] pDOLCheckEntryArr = new PDOLCheckEntry[readInt];
+        for (int i = 0; i < readInt; i++) {
+            if (dataInputStream.readBoolean()) {
+                byte readByte = dataInputStream.readByte();
+                byte readByte2 = dataInputStream.readByte();
+                byte[] readBytes = readBytes(dataInputStream);
+                byte readByte3 = dataInputStream.readByte();
+                byte readByte4 = dataInputStream.readByte();
+                byte readByte5 = dataInputStream.readByte();
+                byte readByte6 = dataInputStream.readByte();
+                ByteBuffer readBuffer = readBuffer(dataInputStream);
+                byte readByte7 = dataInputStream.readByte();
+                ByteBuffer[] byteBufferArr = null;
+                int readInt2 = dataInputStream.readInt();
+                if (readInt2 != ABSENT) {
+                    byteBufferArr = new ByteBuffer[readInt2];
+                    for (int i2 = 0; i2 < readInt2; i2++) {
+                        byteBufferArr[i2] = readBuffer(dataInputStream);
+                    }
+                }
+                pDOLCheckEntryArr[i] = new PDOLCheckEntry(readByte, readByte2, readBytes, readByte3, readByte4, readByte5, readByte6, readBuffer, readByte7, byteBufferArr);
+            }
+        }
+        return pDOLCheckEntryArr;
+    }
+
+    private static void writeBufferMap(DataOutputStream dataOutputStream, HashMap<String, ByteBuffer> hashMap) {
+        if (hashMap == null) {
+            dataOutputStream.writeInt(ABSENT);
+            return;
+        }
+        dataOutputStream.writeInt(hashMap.size());
+        for (Entry entry : hashMap.entrySet()) {
+            writeString(dataOutputStream, (String) entry.getKey());
+            writeBuffer(dataOutputStream, (ByteBuffer) entry.getValue());
+        }
+    }
+
+    private static HashMap<String, ByteBuffer> readBufferMap(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        HashMap<String, ByteBuffer> hashMap = new HashMap(readInt);
+        for (int i = 0; i < readInt; i++) {
+            hashMap.put(readString(dataInputStream), readBuffer(dataInputStream));
+        }
+        return hashMap;
+    }
+
+    private static void writeBufferList(DataOutputStream dataOutputStream, List<ByteBuffer> list) {
+        if (list == null) {
+            dataOutputStream.writeInt(ABSENT);
+            return;
+        }
+        dataOutputStream.writeInt(list.size());
+        for (ByteBuffer writeBuffer : list) {
+            writeBuffer(dataOutputStream, writeBuffer);
+        }
+    }
+
+    private static ArrayList<ByteBuffer> readBufferList(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        ArrayList<ByteBuffer> arrayList = new ArrayList(readInt);
+        for (int i = 0; i < readInt; i++) {
+            arrayList.add(readBuffer(dataInputStream));
+        }
+        return arrayList;
+    }
+
+    private static void writeBuffer(DataOutputStream dataOutputStream, ByteBuffer byteBuffer) {
+        if (byteBuffer == null) {
+            dataOutputStream.writeInt(ABSENT);
+        } else if (byteBuffer.getBytes() == null) {
+            dataOutputStream.writeInt(NULL_BYTES);
+        } else {
+            writeBytes(dataOutputStream, byteBuffer.getBytes());
+        }
+    }
+
+    private static ByteBuffer readBuffer(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        if (readInt == NULL_BYTES) {
+            return new ByteBuffer(null);
+        }
+        return new ByteBuffer(readFully(dataInputStream, readInt));
+    }
+
+    private static void writeBytes(DataOutputStream dataOutputStream, byte[] bArr) {
+        if (bArr == null) {
+            dataOutputStream.writeInt(ABSENT);
+            return;
+        }
+        dataOutputStream.writeInt(bArr.length);
+        dataOutputStream.write(bArr);
+    }
+
+    private static byte[] readBytes(DataInputStream dataInputStream) {
+        int readInt = dataInputStream.readInt();
+        if (readInt == ABSENT) {
+            return null;
+        }
+        return readFully(dataInputStream, readInt);
+    }
+
+    private static byte[] readFully(DataInputStream dataInputStream, int i) {
+        if (i < 0 || i > dataInputStream.available()) {
+            throw new IOException("corrupt card record, length " + i);
+        }
+        byte[] bArr = new byte[i];
+        dataInputStream.readFully(bArr);
+        return bArr;
+    }
+
+    private static void writeString(DataOutputStream dataOutputStream, String str) {
+        dataOutputStream.writeBoolean(str != null);
+        if (str != null) {
+            dataOutputStream.writeUTF(str);
+        }
+    }
+
+    private static String readString(DataInputStream dataInputStream) {
+        return dataInputStream.readBoolean() ? dataInputStream.readUTF() : null;
+    }
+}
@@ -2,7 +2,6 @@ package com.samsung.android.spayfw.payprovider.discover.db;
 
 import android.text.TextUtils;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.payprovider.discover.DiscoverPayProvider;
 import com.samsung.android.spayfw.payprovider.discover.db.dao.CardDetailsDaoImpl;
@@ -17,7 +16,9 @@ import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.Disc
 import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverPaymentCard;
 import com.samsung.android.spayfw.payprovider.discover.payment.data.profile.DiscoverPaymentProfile;
 import com.samsung.android.spayfw.payprovider.discover.payment.utils.ByteBuffer;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spaytzsvc.api.TACommands.MoveServiceKey;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +26,11 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 public class DcStorageManager {
+    private static final HashMap<Long, byte[]> sContactlessData;
+    private static CardDetailsDaoImpl sCardDetailsDao;
+    private static DcCardMasterDaoImpl sCardMasterDao;
+    private static DcPaymentProfileDaoImpl sPaymentProfileDao;
+    private static final HashMap<Long, List<DcPaymentProfile>> sPaymentProfiles;
     private static Gson mGson;
 
     public enum ResultCode {
@@ -52,7 +58,30 @@ public class DcStorageManager {
     }
 
     static {
-        mGson = new GsonBuilder().create();
+        mGson = GsonHolder.get();
+        sContactlessData = new HashMap();
+        sPaymentProfiles = new HashMap();
+    }
+
+    private static synchronized CardDetailsDaoImpl cardDetailsDao() {
+        if (sCardDetailsDao == null) {
+            sCardDetailsDao = new CardDetailsDaoImpl(DiscoverPayProvider.cC());
+        }
+        return sCardDetailsDao;
+    }
+
+    private static synchronized DcCardMasterDaoImpl cardMasterDao() {
+        if (sCardMasterDao == null) {
+            sCardMasterDao = new DcCardMasterDaoImpl(DiscoverPayProvider.cC());
+        }
+        return sCardMasterDao;
+    }
+
+    private static synchronized DcPaymentProfileDaoImpl paymentProfileDao() {
+        if (sPaymentProfileDao == null) {
+            sPaymentProfileDao = new DcPaymentProfileDaoImpl(DiscoverPayProvider.cC());
+        }
+        return sPaymentProfileDao;
     }
 
     public static synchronized DiscoverContactlessPaymentData m866e(long j) {
@@ -60,16 +89,29 @@ public class DcStorageManager {
         synchronized (DcStorageManager.class) {
             Log.m285d("DCSDK_DcStorageManager", "getContactlessPaymentData");
             try {
-                CardDetails a = m863a(j, DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ());
-                if (a == null) {
-                    Log.m286e("DCSDK_DcStorageManager", "getContactlessPaymentData, loadCardDetailsRecord returns null, tokenId " + j);
-                    discoverContactlessPaymentData = null;
-                } else {
-                    discoverContactlessPaymentData = (DiscoverContactlessPaymentData) mGson.fromJson(new String(a.getData(), "UTF8"), DiscoverContactlessPaymentData.class);
-                    discoverContactlessPaymentData.setPaymentProfiles(m874m(j));
+                byte[] bArr = (byte[]) sContactlessData.get(Long.valueOf(j));
+                if (bArr == null) {
+                    CardDetails a = m863a(j, DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ());
+                    if (a == null) {
+                        Log.m286e("DCSDK_DcStorageManager", "getContactlessPaymentData, loadCardDetailsRecord returns null, tokenId " + j);
+                        return null;
+                    }
+                    bArr = a.getData();
+                    if (!DcCardDataCodec.isEncoded(bArr)) {
+                        Log.m287i("DCSDK_DcStorageManager", "getContactlessPaymentData: migrating JSON record, tokenId " + j);
+                        bArr = DcCardDataCodec.encode((DiscoverContactlessPaymentData) mGson.fromJson(new String(bArr, "UTF8"), DiscoverContactlessPaymentData.class));
+                        m854a(j, DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ(), bArr);
+                    }
+                    sContactlessData.put(Long.valueOf(j), bArr);
                 }
-            } catch (UnsupportedEncodingException e) {
-                e.printStackTrace();
+                discoverContactlessPaymentData = DcCardDataCodec.decode(bArr);
+                discoverContactlessPaymentData.setPaymentProfiles(m874m(j));
+            } catch (IOException e) {
+                Log.m286e("DCSDK_DcStorageManager", "getContactlessPaymentData: " + e.getMessage());
+                sContactlessData.remove(Long.valueOf(j));
+                discoverContactlessPaymentData = null;
+            } catch (NullPointerException e2) {
+                e2.printStackTrace();
                 discoverContactlessPaymentData = null;
             }
         }
@@ -93,17 +135,12 @@ public class DcStorageManager {
                     Log.m285d("DCSDK_DcStorageManager", "saveContactlessPaymentData: Failed to save Payment Profiles");
                 } else {
                     discoverContactlessPaymentData.setPaymentProfiles(null);
-                    Object toJson = mGson.toJson((Object) discoverContactlessPaymentData);
-                    if (TextUtils.isEmpty(toJson)) {
-                        Log.m286e("DCSDK_DcStorageManager", "saveContactlessPaymentData: jsonData failed");
-                        resultCode = ResultCode.ERR_SERIALIZATION_FAILED;
-                    } else {
-                        resultCode = m854a(j, DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ(), toJson.getBytes("UTF8"));
-                    }
+                    resultCode = m854a(j, DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ(), DcCardDataCodec.encode(discoverContactlessPaymentData));
                 }
-            } catch (UnsupportedEncodingException e) {
-                e.printStackTrace();
-                resultCode = ResultCode.ERR_EXCEPTION;
+            } catch (IOException e) {
+                Log.m286e("DCSDK_DcStorageManager", "saveContactlessPaymentData: encoding failed " + e.getMessage());
+                sContactlessData.remove(Long.valueOf(j));
+                resultCode = ResultCode.ERR_SERIALIZATION_FAILED;
             } catch (NullPointerException e2) {
                 e2.printStackTrace();
                 resultCode = ResultCode.ERR_EXCEPTION;
@@ -187,7 +224,8 @@ public class DcStorageManager {
     public static synchronized ResultCode m859a(long j, DiscoverPaymentProfile discoverPaymentProfile) {
         ResultCode resultCode;
         synchronized (DcStorageManager.class) {
-            DcPaymentProfileDaoImpl dcPaymentProfileDaoImpl = new DcPaymentProfileDaoImpl(DiscoverPayProvider.cC());
+            DcPaymentProfileDaoImpl dcPaymentProfileDaoImpl = paymentProfileDao();
+            sPaymentProfiles.remove(Long.valueOf(j));
             ResultCode resultCode2 = ResultCode.ERR_NONE;
             Log.m285d("DCSDK_DcStorageManager", "saveOrUpdatePaymentProfile");
             try {
@@ -231,7 +269,7 @@ public class DcStorageManager {
     public static synchronized byte[] m869h(long j) {
         byte[] bArr = null;
         synchronized (DcStorageManager.class) {
-            CardDetailsDaoImpl cardDetailsDaoImpl = new CardDetailsDaoImpl(DiscoverPayProvider.cC());
+            CardDetailsDaoImpl cardDetailsDaoImpl = cardDetailsDao();
             Log.m285d("DCSDK_DcStorageManager", "getOTPKData");
             try {
                 CardDetails b = cardDetailsDaoImpl.m880b(j, (long) DetailDataId.DC_PAYMENT_OTPKDATA.cJ());
@@ -374,9 +412,11 @@ public class DcStorageManager {
     public static synchronized ResultCode m872k(long j) {
         ResultCode resultCode;
         synchronized (DcStorageManager.class) {
-            DcCardMasterDaoImpl dcCardMasterDaoImpl = new DcCardMasterDaoImpl(DiscoverPayProvider.cC());
+            DcCardMasterDaoImpl dcCardMasterDaoImpl = cardMasterDao();
             resultCode = ResultCode.ERR_NONE;
             Log.m287i("DCSDK_DcStorageManager", "deleteToken");
+            sContactlessData.remove(Long.valueOf(j));
+            sPaymentProfiles.remove(Long.valueOf(j));
             try {
                 dcCardMasterDaoImpl.deleteData(j);
             } catch (DcDbException e) {
@@ -389,7 +429,7 @@ public class DcStorageManager {
     }
 
     public static ResultCode m856a(long j, DcCardMaster dcCardMaster) {
-        DcCardMasterDaoImpl dcCardMasterDaoImpl = new DcCardMasterDaoImpl(DiscoverPayProvider.cC());
+        DcCardMasterDaoImpl dcCardMasterDaoImpl = cardMasterDao();
         ResultCode resultCode = ResultCode.ERR_NONE;
         try {
             dcCardMasterDaoImpl.updateData(dcCardMaster, j);
@@ -401,8 +441,12 @@ public class DcStorageManager {
     }
 
     public static void cH() {
+        synchronized (DcStorageManager.class) {
+            sContactlessData.clear();
+            sPaymentProfiles.clear();
+        }
         try {
-            new DcCardMasterDaoImpl(DiscoverPayProvider.cC()).cI();
+            cardMasterDao().cI();
         } catch (DcDbException e) {
             e.printStackTrace();
         }
@@ -410,7 +454,11 @@ public class DcStorageManager {
 
     private static ResultCode m854a(long j, int i, byte[] bArr) {
         ResultCode resultCode = ResultCode.ERR_NONE;
-        CardDetailsDaoImpl cardDetailsDaoImpl = new CardDetailsDaoImpl(DiscoverPayProvider.cC());
+        CardDetailsDaoImpl cardDetailsDaoImpl = cardDetailsDao();
+        boolean z = i == DetailDataId.DC_CONTACTLESS_PAYMENT_DATA.cJ();
+        if (z) {
+            sContactlessData.remove(Long.valueOf(j));
+        }
         try {
             CardDetails b = cardDetailsDaoImpl.m880b(j, (long) i);
             if (b == null) {
@@ -421,6 +469,9 @@ public class DcStorageManager {
                 b.setData(bArr);
                 cardDetailsDaoImpl.m879a(b, j);
             }
+            if (z) {
+                sContactlessData.put(Long.valueOf(j), bArr);
+            }
             return ResultCode.ERR_NONE;
         } catch (DcDbException e) {
             Log.m286e("DCSDK_DcStorageManager", e.getMessage());
@@ -434,7 +485,7 @@ public class DcStorageManager {
 
     private static DcCardMaster m873l(long j) {
         DcCardMaster dcCardMaster;
-        DcCardMasterDaoImpl dcCardMasterDaoImpl = new DcCardMasterDaoImpl(DiscoverPayProvider.cC());
+        DcCardMasterDaoImpl dcCardMasterDaoImpl = cardMasterDao();
         Log.m285d("DCSDK_DcStorageManager", "loadCardMaster: tokenId - " + j);
         try {
             dcCardMaster = (DcCardMaster) dcCardMasterDaoImpl.getData(j);
@@ -449,7 +500,7 @@ public class DcStorageManager {
     }
 
     private static CardDetails m863a(long j, int i) {
-        CardDetailsDaoImpl cardDetailsDaoImpl = new CardDetailsDaoImpl(DiscoverPayProvider.cC());
+        CardDetailsDaoImpl cardDetailsDaoImpl = cardDetailsDao();
         Log.m285d("DCSDK_DcStorageManager", "loadCardDetailsRecord: tokenId - " + j + ", detailDataId - " + i);
         try {
             return cardDetailsDaoImpl.m880b(j, (long) i);
@@ -462,10 +513,15 @@ public class DcStorageManager {
 
     private static HashMap<Integer, DiscoverPaymentProfile> m874m(long j) {
         Log.m285d("DCSDK_DcStorageManager", "loadDiscoverPaymentProfiles: tokenId - " + j);
-        DcPaymentProfileDaoImpl dcPaymentProfileDaoImpl = new DcPaymentProfileDaoImpl(DiscoverPayProvider.cC());
         HashMap<Integer, DiscoverPaymentProfile> hashMap = new HashMap();
         try {
-            List<DcPaymentProfile> o = dcPaymentProfileDaoImpl.m891o(j);
+            List<DcPaymentProfile> o = (List) sPaymentProfiles.get(Long.valueOf(j));
+            if (o == null) {
+                o = paymentProfileDao().m891o(j);
+                if (o != null) {
+                    sPaymentProfiles.put(Long.valueOf(j), o);
+                }
+            }
             if (o != null) {
                 for (DcPaymentProfile dcPaymentProfile : o) {
                     hashMap.put(Integer.valueOf((int) dcPaymentProfile.getProfileId()), DcPaymentProfile.toDiscoverPaymentProfile(dcPaymentProfile));
@@ -89,7 +89,7 @@ public enum DiscoverApduHandlerState {
     public abstract List<DiscoverApduHandlerState> cP();
 
     public DiscoverApduProcessingResult m895e(ByteBuffer byteBuffer, DiscoverTransactionContext discoverTransactionContext, DiscoverPaymentCard discoverPaymentCard) {
-        Log.m287i("DCSDK_DiscoverApduHandlerState", "state: " + name());
+        Log.d("DCSDK_DiscoverApduHandlerState", "state: {}", name());
         if (byteBuffer == null) {
             Log.m286e("DCSDK_DiscoverApduHandlerState", "process: apdu is null");
             return new DiscoverApduProcessingResult((short) ISO7816.SW_WRONG_DATA);
@@ -101,19 +101,19 @@ public enum DiscoverApduHandlerState {
             return new DiscoverApduProcessingResult((short) ISO7816.SW_WRONG_DATA);
         } else {
             byte b = byteBuffer.getByte(1);
-            Log.m287i("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: " + (b & GF2Field.MASK));
+            Log.d("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: {}", b & GF2Field.MASK);
             switch (b) {
                 case (byte) -92:
-                    Log.m287i("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: SELECT APDU received");
+                    Log.d("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: SELECT APDU received");
                     return m896f(byteBuffer, discoverTransactionContext, discoverPaymentCard);
                 case (byte) -88:
-                    Log.m287i("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: GPO APDU received");
+                    Log.d("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: GPO APDU received");
                     return m897g(byteBuffer, discoverTransactionContext, discoverPaymentCard);
                 case (byte) -78:
-                    Log.m287i("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: READ RECORD APDU received");
+                    Log.d("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: READ RECORD APDU received");
                     return m898h(byteBuffer, discoverTransactionContext, discoverPaymentCard);
                 case (byte) -54:
-                    Log.m287i("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: GET DATA APDU received");
+                    Log.d("DCSDK_DiscoverApduHandlerState", "handleApdu, APDU INS: GET DATA APDU received");
                     return m899i(byteBuffer, discoverTransactionContext, discoverPaymentCard);
                 default:
                     return new DiscoverApduProcessingResult((short) ISO7816.SW_INS_NOT_SUPPORTED);
@@ -54,24 +54,32 @@ public class DiscoverGetDataApduHandler extends DiscoverApduHandler {
                 Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, GPO is not executed, required by CL ACO B2b2, 27013");
                 return new DiscoverApduProcessingResult((short) ISO7816.SW_CONDITIONS_NOT_SATISFIED);
             } else if (DiscoverDataTags.m981y(byteBuffer)) {
-                Log.m285d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, counter/limit, tag = " + byteBuffer.toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, counter/limit, tag = {}", byteBuffer.toHexString());
+                }
                 if (cN().dM() == null) {
                     Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, GPO is not executed, return 27013");
                     return new DiscoverApduProcessingResult((short) ISO7816.SW_CONDITIONS_NOT_SATISFIED);
                 } else if (cM().getCaco().checkBit(1, 1)) {
-                    Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag is retrievable, return tag = " + byteBuffer.toHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag is retrievable, return tag = {}", byteBuffer.toHexString());
+                    }
                     return m931a(byteBuffer);
                 } else {
                     Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag is not retrievable, tag = " + byteBuffer.toHexString());
                     return new DiscoverApduProcessingResult((short) ISO7816.SW_CONDITIONS_NOT_SATISFIED);
                 }
             } else {
-                Log.m285d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, check IDDT tag...");
+                Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, check IDDT tag...");
                 if (!DiscoverDataTags.m982z(byteBuffer)) {
-                    Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, not IDD tag, return tag = " + byteBuffer.toHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, not IDD tag, return tag = {}", byteBuffer.toHexString());
+                    }
                     return m931a(byteBuffer);
                 } else if (cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions().checkBit(2, 5)) {
-                    Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, IDD tag & IDDT enabled, return tag = " + byteBuffer.toHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, IDD tag & IDDT enabled, return tag = {}", byteBuffer.toHexString());
+                    }
                     return m931a(byteBuffer);
                 } else {
                     Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, IDD tag & IDDT disabled, tag = " + byteBuffer.toHexString());
@@ -83,16 +91,22 @@ public class DiscoverGetDataApduHandler extends DiscoverApduHandler {
 
     private DiscoverApduProcessingResult m931a(ByteBuffer byteBuffer) {
         ByteBuffer byteBuffer2 = null;
-        Log.m285d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag " + (byteBuffer != null ? byteBuffer.toHexString() : null));
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag {}", (byteBuffer != null ? byteBuffer.toHexString() : null));
+        }
         if (byteBuffer == null) {
             Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag is null, tag.");
             return new DiscoverApduProcessingResult((short) ISO7816.SW_DATA_NOT_FOUND);
         }
         if (DiscoverDataTags.m967A(byteBuffer)) {
-            Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, profile tag found." + byteBuffer.toHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, profile tag found.{}", byteBuffer.toHexString());
+            }
             byteBuffer2 = DiscoverDataTags.m969a(byteBuffer, cM());
         } else if (DiscoverDataTags.m968B(byteBuffer)) {
-            Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, IDDT tag found." + byteBuffer.toHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, IDDT tag found.{}", byteBuffer.toHexString());
+            }
             DiscoverIDDTag b = DiscoverDataTags.m974b(byteBuffer, cM());
             if (b != null) {
                 if ((b.getAccess() & 64) == 64 && cN().dM() == null) {
@@ -108,7 +122,9 @@ public class DiscoverGetDataApduHandler extends DiscoverApduHandler {
             Log.m286e("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, tag data is null, tag = " + byteBuffer.toHexString());
             return new DiscoverApduProcessingResult((short) ISO7816.SW_DATA_NOT_FOUND);
         }
-        Log.m287i("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, return data for tag = " + byteBuffer.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGetDataApduHandler", "processApdu, C-APDU GET DATA, return data for tag = {}", byteBuffer.toHexString());
+        }
         ResponseApdu responseApdu = new ResponseApdu();
         responseApdu.m926r(BERTLV.m1004c(byteBuffer, byteBuffer2));
         return new DiscoverApduProcessingResult(responseApdu.dj());
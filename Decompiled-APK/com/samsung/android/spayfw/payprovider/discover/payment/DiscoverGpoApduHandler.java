@@ -73,39 +73,39 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             return new DiscoverApduProcessingResult((short) ISO7816.SW_WRONG_DATA);
         } else {
             try {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, parse GPO data...");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, parse GPO data...");
                 this.te.parse();
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, parsed GPO data.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, parsed GPO data.");
                 if (DiscoverClTransactionType.DISCOVER_CL_ZIP.equals(cN().dK())) {
-                    Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, ZIP AID, start ZIP transaction...");
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, ZIP AID, start ZIP transaction...");
                     return cR();
                 }
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start EMV transaction...");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start EMV transaction...");
                 if (cQ()) {
-                    Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, check terminal mode support...");
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, check terminal mode support...");
                     ByteBuffer dm = this.te.dm();
                     if (dm.checkBit(1, 8)) {
-                        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: MS/EMV mode");
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: MS/EMV mode");
                         if (dm.checkBit(1, 6)) {
-                            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: EMV capable");
+                            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: EMV capable");
                             if (cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions().checkBit(1, 8)) {
-                                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, MS is preferred mode.");
+                                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, MS is preferred mode.");
                                 return cR();
                             }
-                            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, EMV is preferred mode.");
+                            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, EMV is preferred mode.");
                             if (cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions().checkBit(2, 4)) {
-                                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start PDOL check...");
+                                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start PDOL check...");
                                 return cW();
                             }
-                            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start CRM...");
+                            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start CRM...");
                             return cS();
                         }
-                        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: MS only mode");
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, terminal mode: MS only mode");
                         return cR();
                     } else if (dm.checkBit(1, 8) || !dm.checkBit(1, 6)) {
                         return new DiscoverApduProcessingResult((short) ISO7816.SW_CONDITIONS_NOT_SATISFIED);
                     } else {
-                        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start CRM in EMV only mode...");
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, EMV AID, start CRM in EMV only mode...");
                         return cS();
                     }
                 }
@@ -124,19 +124,21 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
     }
 
     private boolean cQ() {
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "TTQ: " + (this.te.dm() != null ? this.te.dm().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getAuthAmount: " + (this.te.dn() != null ? this.te.dn().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getOtherAmount: " + (this.te.m912do() != null ? this.te.m912do().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getTerminalCountryCode: " + (this.te.dp() != null ? this.te.dp().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getTerminalCurrencyCode: " + (this.te.dq() != null ? this.te.dq().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getTransactionDate: " + (this.te.dr() != null ? this.te.dr().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getTransactionType: " + (this.te.ds() != null ? this.te.ds().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getUnpredictableNumber: " + (this.te.dt() != null ? this.te.dt().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getTerminalType: " + (this.te.du() != null ? this.te.du().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getLoyalityProgram: " + (this.te.dv() != null ? this.te.dv().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getMerchantCategoryCode: " + (this.te.dw() != null ? this.te.dw().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getVAT1: " + (this.te.dx() != null ? this.te.dx().toHexString() : "null"));
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "getVAT2: " + (this.te.dy() != null ? this.te.dy().toHexString() : "null"));
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "TTQ: {}", toHex(this.te.dm()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getAuthAmount: {}", toHex(this.te.dn()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getOtherAmount: {}", toHex(this.te.m912do()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getTerminalCountryCode: {}", toHex(this.te.dp()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getTerminalCurrencyCode: {}", toHex(this.te.dq()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getTransactionDate: {}", toHex(this.te.dr()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getTransactionType: {}", toHex(this.te.ds()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getUnpredictableNumber: {}", toHex(this.te.dt()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getTerminalType: {}", toHex(this.te.du()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getLoyalityProgram: {}", toHex(this.te.dv()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getMerchantCategoryCode: {}", toHex(this.te.dw()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getVAT1: {}", toHex(this.te.dx()));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "getVAT2: {}", toHex(this.te.dy()));
+        }
         if (this.te.dm() == null || this.te.dm().getSize() < 4 || this.te.dn() == null || this.te.dn().getSize() < 6 || !m936b(this.te.dn()) || this.te.m912do() == null || this.te.m912do().getSize() < 6 || this.te.dp() == null || this.te.dp().getSize() < 2 || this.te.dq() == null || this.te.dq().getSize() < 2 || this.te.dr() == null || this.te.dr().getSize() < 3 || this.te.ds() == null || this.te.ds().getSize() < 1 || this.te.dt() == null || this.te.dt().getSize() < 4) {
             return false;
         }
@@ -151,16 +153,21 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             Long.parseLong(byteBuffer.toHexString());
             return true;
         } catch (Exception e) {
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "isNumericValue, value " + byteBuffer.toHexString() + " not numeric.");
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGpoApduHandler", "isNumericValue, value {} not numeric.", byteBuffer.toHexString());
+            }
             return false;
         }
     }
 
+    private static String toHex(ByteBuffer byteBuffer) {
+        return byteBuffer != null ? byteBuffer.toHexString() : "null";
+    }
+
     private DiscoverApduProcessingResult cR() {
-        String str = null;
         cN().m947a(DiscoverClTransactionType.DISCOVER_CL_ZIP);
         if (cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions().checkBit(1, 7)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processClTransactionInZipMode, dcvv supported.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processClTransactionInZipMode, dcvv supported.");
             ByteBuffer dt = this.te.dt();
             if (dt == null || !(dt.getSize() == 1 || dt.getSize() == 4)) {
                 Log.m286e("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processClTransactionInZipMode, wrong un length, un length: " + (dt != null ? Integer.valueOf(dt.getSize()) : "null"));
@@ -171,32 +178,23 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
                 if (dt.getSize() > 1) {
                     dt = dt.copyBytes(0, 1);
                 }
-                Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, un to TA: " + dt.toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, un to TA: {}", dt.toHexString());
+                }
                 try {
-                    String toHexString;
                     long j = E.m1054l(dt.getBytes()).wO.get();
-                    Log.m285d("DCSDK_DiscoverGpoApduHandler", "DCVV: " + j);
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "DCVV: {}", j);
                     DiscoverCryptoData discoverCryptoData = new DiscoverCryptoData();
                     discoverCryptoData.m964u(j);
                     DiscoverTrackData discoverTrackData = new DiscoverTrackData(cL().dT(), dt, j, cL().ea());
                     dt = discoverTrackData.m959C(cM().getTrack1DataZipMsMode());
                     ByteBuffer D = discoverTrackData.m960D(cM().getTrack2DataZipMsMode());
                     ByteBuffer dZ = discoverTrackData.dZ();
-                    Log.m285d("DCSDK_DiscoverGpoApduHandler", "track1: " + (dt != null ? dt.toHexString() : null));
-                    String str2 = "DCSDK_DiscoverGpoApduHandler";
-                    StringBuilder append = new StringBuilder().append("track2: ");
-                    if (D != null) {
-                        toHexString = D.toHexString();
-                    } else {
-                        toHexString = null;
-                    }
-                    Log.m285d(str2, append.append(toHexString).toString());
-                    toHexString = "DCSDK_DiscoverGpoApduHandler";
-                    StringBuilder append2 = new StringBuilder().append("dcvvData: ");
-                    if (dZ != null) {
-                        str = dZ.toHexString();
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "track1: {}", toHex(dt));
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "track2: {}", toHex(D));
+                        Log.d("DCSDK_DiscoverGpoApduHandler", "dcvvData: {}", toHex(dZ));
                     }
-                    Log.m285d(toHexString, append2.append(str).toString());
                     discoverCryptoData.m963a(discoverTrackData);
                     cN().m948a(discoverCryptoData);
                     ByteBuffer a = BERTLV.m1001a((byte) 86, dt);
@@ -224,7 +222,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
                 return new DiscoverApduProcessingResult((short) ISO7816.SW_WRONG_DATA);
             }
         }
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processClTransactionInZipMode, dcvv not supported.");
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processClTransactionInZipMode, dcvv not supported.");
         GPORApdu gPORApdu = new GPORApdu(cM().getZipAip(), cM().getZipAfl());
         DiscoverDataTags.m977b(cL(), cM());
         DiscoverDataTags.m972a(cL(), cM());
@@ -233,7 +231,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
 
     private DiscoverApduProcessingResult cS() {
         long j = DSRPConstants.DSRP_INPUT_AMOUNT_MAX;
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm starting...");
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm starting...");
         ByteBuffer dH = cN().dH();
         ByteBuffer pth = cN().getPth();
         if (pth.getByte(1) != null) {
@@ -276,49 +274,51 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         if (pth.checkBit(3, 8)) {
             dH.setBit(7, 4);
         }
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, after pth, ttq check, cvr " + dH.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, after pth, ttq check, cvr {}", dH.toHexString());
+        }
         pth = cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions();
         if (pth.checkBit(1, 1) && cM().getCountryCode().equals(this.te.dp())) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, domestic transaction,  domestic transaction CL ACO B1b1 = 1 & country code equals");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, domestic transaction,  domestic transaction CL ACO B1b1 = 1 & country code equals");
             dH.setBit(2, 5);
         } else {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, international transaction , country code check.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, international transaction , country code check.");
             dH.setBit(2, 4);
         }
         if (pth.checkBit(1, 1) || !cM().getCurrencyCodeCode().equals(this.te.dq())) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, international transaction, currency code check.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, international transaction, currency code check.");
             dH.setBit(2, 4);
         } else {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, domestic transaction CL ACO B1b1 = 0 & currency code equals");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, domestic transaction CL ACO B1b1 = 0 & currency code equals");
             dH.setBit(2, 5);
         }
         byte b = this.te.ds().getByte(0);
         if (b == (byte) 1 || b == 9) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, cash advance/goods service");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, cash advance/goods service");
             dH.setBit(2, 7);
         } else if (b == 32) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, refund");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, refund");
             dH.setBit(2, 6);
         }
         if (cN().getPaymentProfile().getAip().checkBit(1, 6) || !cN().getPaymentProfile().getAip().checkBit(1, 1)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, offline, perform cvm or");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, offline, perform cvm or");
             return cU();
         }
         if (b == 32) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, process refund transaction.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, process refund transaction.");
             if (!cM().getCaco().checkBit(1, 4)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, do not count/accumulate refund.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, do not count/accumulate refund.");
                 return cU();
             }
         }
         long parseLong = Long.parseLong(this.te.dn().toHexString());
         long parseLong2 = Long.parseLong(this.te.m912do().toHexString());
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, authAmount: " + parseLong);
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, otherAmount: " + parseLong2);
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, authAmount: {}", parseLong);
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, otherAmount: {}", parseLong2);
         if (parseLong == 0 && parseLong2 == 0) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, auth amount is 0, and other amount is 0.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCrm, auth amount is 0, and other amount is 0.");
         } else if (cM().getCurrencyCodeCode().equals(this.te.dq())) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, currency code is ok.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, currency code is ok.");
             m940d(parseLong, parseLong2);
         } else if (cM().getSecondaryCurrency1().copyBytes(1, 2).equals(this.te.dq())) {
             parseLong = m932a(parseLong, cM().getSecondaryCurrency1());
@@ -330,7 +330,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
                 j = parseLong2;
             }
             this.te.m913e(ByteBuffer.getFromLong(parseLong));
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, convert amount to sec currency 1.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, convert amount to sec currency 1.");
             m940d(parseLong, j);
         } else if (cM().getSecondaryCurrency2().copyBytes(1, 2).equals(this.te.dq())) {
             parseLong2 = m932a(parseLong, cM().getSecondaryCurrency2());
@@ -342,12 +342,16 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
                 j = parseLong;
             }
             this.te.m913e(ByteBuffer.getFromLong(parseLong2));
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, convert amount to sec currency 2.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, increment accumulator, convert amount to sec currency 2.");
             m940d(parseLong2, j);
         }
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, before processCrmCvmCounters, cvr " + dH.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, before processCrmCvmCounters, cvr {}", dH.toHexString());
+        }
         cT();
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, after processCrmCvmCounters, cvr " + dH.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, after processCrmCvmCounters, cvr {}", dH.toHexString());
+        }
         return cU();
     }
 
@@ -368,16 +372,16 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         long longValue;
         try {
             longValue = Long.getLong(byteBuffer.copyBytes(3, 4).toHexString()).longValue();
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "convertAmount convertion rate: " + longValue);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "convertAmount convertion rate: {}", longValue);
             long j2 = (long) byteBuffer.getByte(5);
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "convertAmount convertion exponent: " + j2);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "convertAmount convertion exponent: {}", j2);
             if (((j2 >> 7) & 1) == 1) {
                 longValue = (long) (((double) (longValue * j)) / Math.pow(10.0d, (double) (j2 & 127)));
             } else {
                 longValue = (long) (((double) (longValue * j)) * Math.pow(10.0d, (double) (j2 & 127)));
             }
             try {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "convertAmount, value: " + longValue);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "convertAmount, value: {}", longValue);
                 return longValue;
             } catch (Exception e2) {
                 e = e2;
@@ -393,19 +397,21 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
     }
 
     private void m940d(long j, long j2) {
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, START");
+        Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, START");
         ByteBuffer caco = cM().getCaco();
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, caco: " + caco.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, caco: {}", caco.toHexString());
+        }
         long j3 = 0;
         if (!caco.checkBit(2, 8) && !caco.checkBit(2, 7)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: " + j);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: {}", j);
             j3 = j;
         } else if (!caco.checkBit(2, 8) && caco.checkBit(2, 7)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: " + j2);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: {}", j2);
             j3 = j2;
         } else if (caco.checkBit(2, 8) && !caco.checkBit(2, 7)) {
             j3 = j + j2;
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amounts: " + j3);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amounts: {}", j3);
         }
         j3 += cN().getPaymentProfile().getCRM().getCrmAccumulator();
         if (j3 > DSRPConstants.DSRP_INPUT_AMOUNT_MAX) {
@@ -413,17 +419,17 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         }
         cN().getPaymentProfile().getCRM().setCrmAccumulator(j3);
         if (caco.checkBit(1, 8)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cl accumulator");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cl accumulator");
             j3 = 0;
             if (!caco.checkBit(4, 8) && !caco.checkBit(4, 7)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: " + j);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: {}", j);
                 j3 = j;
             } else if (!caco.checkBit(4, 8) && caco.checkBit(4, 7)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: " + j2);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: {}", j2);
                 j3 = j2;
             } else if (caco.checkBit(4, 8) && !caco.checkBit(4, 7)) {
                 j3 = j + j2;
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amount: " + j3);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amount: {}", j3);
             }
             j3 += cN().getPaymentProfile().getCl().getClAccumulator();
             if (j3 > DSRPConstants.DSRP_INPUT_AMOUNT_MAX) {
@@ -432,27 +438,27 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             cN().getPaymentProfile().getCl().setClAccumulator(j3);
         }
         if (caco.checkBit(1, 6)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cvm accumulator");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cvm accumulator");
             if (!caco.checkBit(5, 8) && !caco.checkBit(5, 7)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: " + j);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added auth amount: {}", j);
             } else if (!caco.checkBit(5, 8) && caco.checkBit(5, 7)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: " + j2);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added other amount: {}", j2);
                 j = j2;
             } else if (!caco.checkBit(5, 8) || caco.checkBit(5, 7)) {
                 j = 0;
             } else {
                 j += j2;
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amount: " + j);
+                Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, added both amount: {}", j);
             }
             j3 = cN().getPaymentProfile().getCVM().getCvmAccumulator() + j;
             if (j3 > DSRPConstants.DSRP_INPUT_AMOUNT_MAX) {
                 j3 = DSRPConstants.DSRP_INPUT_AMOUNT_MAX;
             }
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cvmAddedAmount: " + j3);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, cvmAddedAmount: {}", j3);
             cN().getPaymentProfile().getCVM().setCvmAccumulator(j3);
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, set amount.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, set amount.");
         }
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, END");
+        Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, END");
     }
 
     private void cT() {
@@ -487,11 +493,11 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         if (caco.checkBit(1, 7)) {
             cN().getPaymentProfile().getCl().incrementClCounter();
         }
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, before increment cvm counter: " + cN().getPaymentProfile().getCVM().getCvmCounter());
+        Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, before increment cvm counter: {}", cN().getPaymentProfile().getCVM().getCvmCounter());
         if (caco.checkBit(1, 5) && !this.te.dm().checkBit(2, 7)) {
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, increment cvm counter, " + cN().getPaymentProfile().getCVM().getCvmCounter());
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, increment cvm counter, {}", cN().getPaymentProfile().getCVM().getCvmCounter());
             cN().getPaymentProfile().getCVM().incrementCvmCounter();
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, after increment cvm counter, " + cN().getPaymentProfile().getCVM().getCvmCounter());
+            Log.d("DCSDK_DiscoverGpoApduHandler", "incrementCrmAccumulators, after increment cvm counter, {}", cN().getPaymentProfile().getCVM().getCvmCounter());
         }
         caco = cN().dH();
         if (crm.getCrmAccumulator() > crm.getLCOA()) {
@@ -550,32 +556,32 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             return new DiscoverApduProcessingResult((short) ISO7816.SW_CONDITIONS_NOT_SATISFIED);
         }
         if (dm.checkBit(3, 7)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, terminal supports CDCVM.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, terminal supports CDCVM.");
             if (cN().dN() == (byte) 1) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCF = 1.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCF = 1.");
                 if (cN().dO() == (byte) 1) {
-                    Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCI = 1.");
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCI = 1.");
                     cN().dH().setBit(2, 1);
                 }
             } else if (dm.checkBit(3, 4)) {
                 return new DiscoverApduProcessingResult((short) ISO7816.SW_COMMAND_NOT_ALLOWED);
             } else {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCF = 0.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCF = 0.");
                 cN().dH().setBit(2, 2);
                 if (cN().dO() == (byte) 1) {
-                    Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCI = 1.");
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, CCI = 1.");
                     cN().dH().setBit(2, 1);
                 }
             }
         } else {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, terminal doesn't support CDCVM.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, terminal doesn't support CDCVM.");
             if (dm.checkBit(1, 3)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, online PIN supported.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, online PIN supported.");
                 dm = new ByteBuffer(2);
                 dm.setByte(0, cN().dH().getByte(1));
                 dm.setByte(1, cN().dH().getByte(2));
                 if (dm.checkBitAndMatch(cN().getPaymentProfile().getCVM().getCVM_CAC_Online_PIN())) {
-                    Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, match found, set online PIN required.");
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCvm, match found, set online PIN required.");
                     cN().dI().setBit(1, 8);
                 }
             }
@@ -591,34 +597,40 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         byteBuffer.setByte(1, dH.getByte(3));
         byteBuffer.setByte(2, dH.getByte(4));
         if (byteBuffer.checkBitAndMatch(crm.getCRM_CAC_Denial())) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Decline match found, aac. CVR data: " + byteBuffer.toHexString() + ", mask: " + crm.getCRM_CAC_Denial().toHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Decline match found, aac. CVR data: {}, mask: {}", byteBuffer.toHexString(), crm.getCRM_CAC_Denial().toHexString());
+            }
             return cX();
         }
         dH = this.te.dm();
         if (dH.checkBit(2, 8)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  online cryptogram required.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  online cryptogram required.");
             return dc();
         } else if (dH.checkBit(1, 4)) {
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  offline only reader.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  offline only reader.");
             if (byteBuffer.checkBitAndMatch(crm.getCRM_CAC_Default())) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Default match found, aac. CVR data: " + byteBuffer.toHexString() + ", mask: " + crm.getCRM_CAC_Default().toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Default match found, aac. CVR data: {}, mask: {}", byteBuffer.toHexString(), crm.getCRM_CAC_Default().toHexString());
+                }
                 return cX();
             } else if (cN().getPaymentProfile().getAip().checkBit(1, 1)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda supported, tc.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda supported, tc.");
                 return dd();
             } else {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda not supported, aac.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda not supported, aac.");
                 return cX();
             }
         } else if (byteBuffer.checkBitAndMatch(crm.getCRM_CAC_Online())) {
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Online match found, arqc. CVR data: " + byteBuffer.toHexString() + ", mask: " + crm.getCRM_CAC_Online().toHexString());
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  arqc.");
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra, CM-CAC-Online match found, arqc. CVR data: {}, mask: {}", byteBuffer.toHexString(), crm.getCRM_CAC_Online().toHexString());
+            }
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  arqc.");
             return dc();
         } else if (cN().getPaymentProfile().getAip().checkBit(1, 1)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda supported, tc.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda supported, tc.");
             return dd();
         } else {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda not supported, aac.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performCra,  cda not supported, aac.");
             return cX();
         }
     }
@@ -627,10 +639,10 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
         PDOLCheckEntry[] pdolDeclineEntries = cM().getPdolDeclineEntries();
         ByteBuffer dH = cN().dH();
         if (pdolDeclineEntries == null || !m937b(pdolDeclineEntries)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  get profile entries...");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  get profile entries...");
             pdolDeclineEntries = cM().getPdolProfileEntries();
             if (pdolDeclineEntries != null) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  Process PDOL profile...");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  Process PDOL profile...");
                 m935a(pdolDeclineEntries);
             } else if (cM().getPDOLProfileCheckTable() != null) {
                 Log.m286e("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  PDOL Profile check table cannot be parsed.");
@@ -638,10 +650,10 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             }
             pdolDeclineEntries = cM().getPdolOnlineEntries();
             if (pdolDeclineEntries != null && m937b(pdolDeclineEntries)) {
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  PDOL Online match found.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  PDOL Online match found.");
                 dH.setBit(4, 2);
             }
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  perform CRM.");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolProfile,  perform CRM.");
             return cS();
         }
         Log.m286e("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, performPdolCheck,  PDOL Decline match found, aac.");
@@ -651,18 +663,20 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
 
     private boolean m935a(PDOLCheckEntry[] pDOLCheckEntryArr) {
         DiscoverGpoApduHandler d = m939d(pDOLCheckEntryArr);
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "Result: " + d.tg);
+        Log.d("DCSDK_DiscoverGpoApduHandler", "Result: {}", d.tg);
         if (d.tf) {
             byte b = cN().dH().getByte(5);
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "cvrB6 1: " + b);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "cvrB6 1: {}", b);
             b = (byte) (b | d.tg);
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "cvrB6 2: " + b);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "cvrB6 2: {}", b);
             cN().dH().setByte(5, b);
-            Log.m285d("DCSDK_DiscoverGpoApduHandler", "cvrB6: " + cN().dH().toHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d("DCSDK_DiscoverGpoApduHandler", "cvrB6: {}", cN().dH().toHexString());
+            }
         }
         DiscoverPaymentProfile discoverPaymentProfile = (DiscoverPaymentProfile) cM().getPaymentProfiles().get(Integer.valueOf(d.tg));
         if (discoverPaymentProfile != null) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processPdolProfile,  set payment profile, id = " + (d.tg - 1));
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processPdolProfile,  set payment profile, id = {}", d.tg - 1);
             cN().setSelectedPaymentProfile(discoverPaymentProfile);
         } else {
             Log.m286e("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, processPdolProfile,  profile id = " + (d.tg - 1) + " not found, use default profile.");
@@ -1200,7 +1214,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
                 }
                 dM.m965u(cL().dT());
                 dM.m966v(new ByteBuffer(c));
-                Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, computeApplicationCryptogram, generated cryptogram, exit.");
+                Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, computeApplicationCryptogram, generated cryptogram, exit.");
             } catch (Throwable e) {
                 Log.m284c("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, computeApplicationCryptogram, computeAppCryptogram response is null. " + e.getMessage(), e);
                 throw new Exception("Conditions not satisfied, crypto data is empty");
@@ -1243,12 +1257,12 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
 
     private DiscoverApduProcessingResult dd() {
         int i = 6;
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc");
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc");
         setCid(EMVGetStatusApdu.P1);
         dg();
         DiscoverApduProcessingResult discoverApduProcessingResult;
         try {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc, compute application cryptogram");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc, compute application cryptogram");
             cY();
             ByteBuffer caco = cM().getCaco();
             if (caco != null && caco.getSize() >= r2 && caco.checkBit(r2, 2)) {
@@ -1268,13 +1282,13 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             cL().m984a(discoverApduProcessingResult);
             return discoverApduProcessingResult;
         } catch (Exception e) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc, unexpected exception: " + e.getMessage());
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, tc, unexpected exception: {}", e.getMessage());
             e.printStackTrace();
             discoverApduProcessingResult = new DiscoverApduProcessingResult((short) ISO7816.SW_SECURITY_STATUS_NOT_SATISFIED);
             return discoverApduProcessingResult;
         } finally {
             i = "processApdu, C-APDU GPO, tc, log transaction";
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", i);
+            Log.d("DCSDK_DiscoverGpoApduHandler", i);
             cZ();
         }
     }
@@ -1289,14 +1303,14 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
 
     private DiscoverApduProcessingResult m934a(byte b) {
         int i = 7;
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process start, cid = " + b);
+        Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process start, cid = {}", b);
         setCid(b);
         dg();
         DiscoverCryptoData dM = cN().dM();
         try {
             Object obj;
             GPORApdu gPORApdu;
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process, compute application cryptogram, cid =" + b);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process, compute application cryptogram, cid ={}", b);
             cY();
             if (cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions().checkBit(2, 8)) {
                 cN().getPth().setBit(1, i);
@@ -1318,7 +1332,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             DiscoverApduProcessingResult discoverApduProcessingResult = new DiscoverApduProcessingResult(gPORApdu.dj(), DiscoverApduHandlerState.DiscoverAPDUStateInitiated);
             discoverApduProcessingResult.dD();
             cL().m984a(discoverApduProcessingResult);
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process end, cid = " + b);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process end, cid = {}", b);
             return discoverApduProcessingResult;
         } catch (Exception e) {
             Log.m286e("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process, unexpected exception: " + e.getMessage());
@@ -1327,7 +1341,7 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
             return discoverApduProcessingResult2;
         } finally {
             i = "processApdu, C-APDU GPO, process, log transaction, cid = ";
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", i + b);
+            Log.d("DCSDK_DiscoverGpoApduHandler", "processApdu, C-APDU GPO, process, log transaction, cid = {}", b);
             cZ();
         }
     }
@@ -1347,16 +1361,20 @@ public class DiscoverGpoApduHandler extends DiscoverApduHandler {
     private void dg() {
         ByteBuffer cLApplicationConfigurationOptions = cM().getDiscoverApplicationData().getCLApplicationConfigurationOptions();
         ByteBuffer issuerApplicationData = cM().getIssuerApplicationData().getIssuerApplicationData();
-        Log.m287i("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, computeIssuerApplicationData, copy cvr: " + cN().dH().toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, computeIssuerApplicationData, copy cvr: {}", cN().dH().toHexString());
+        }
         ByteBuffer dH = cN().dH();
         for (int i = 0; i < 8; i++) {
             issuerApplicationData.setByte(i + 2, dH.getByte(i));
         }
         if (cLApplicationConfigurationOptions.checkBit(2, 6)) {
-            Log.m287i("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, computeIssuerApplicationData, compose IDD");
+            Log.d("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, computeIssuerApplicationData, compose IDD");
             DiscoverDataTags.m973a(cM().getIssuerApplicationData().getIADOL(), cN().getPaymentProfile(), cL(), cM().getIssuerApplicationData().getIDDTags(), issuerApplicationData);
         }
-        Log.m285d("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, iad: " + issuerApplicationData.toHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d("DCSDK_DiscoverGpoApduHandler", "computeIssuerApplicationData, iad: {}", issuerApplicationData.toHexString());
+        }
         cN().dM().setIssuerApplicationData(issuerApplicationData);
     }
 }
@@ -41,20 +41,20 @@ public class DiscoverReadRecordApduHandler extends DiscoverApduHandler {
             int i;
             byte sfiNumber = this.th.getSfiNumber();
             byte recordNumber = this.th.getRecordNumber();
-            Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "Requested SFI: " + (sfiNumber & GF2Field.MASK));
-            Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "Requested record: " + (recordNumber & GF2Field.MASK));
+            Log.d("DCSDK_DiscoverReadRecordApduHandler", "Requested SFI: {}", sfiNumber & GF2Field.MASK);
+            Log.d("DCSDK_DiscoverReadRecordApduHandler", "Requested record: {}", recordNumber & GF2Field.MASK);
             if (sfiNumber == (byte) 1 && recordNumber == (byte) 1) {
-                Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: zip record requested...");
+                Log.d("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: zip record requested...");
                 if (cN().dL() != null) {
                     dL = cN().dL();
-                    Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: zip record found.");
+                    Log.d("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: zip record found.");
                     i = 1;
                 } else {
                     dL = null;
                     i = 1;
                 }
             } else {
-                Log.m285d("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: EMV transaction");
+                Log.d("DCSDK_DiscoverReadRecordApduHandler", "Read record processApdu: EMV transaction");
                 if (sfiNumber < (byte) 1 || sfiNumber > (byte) 10) {
                     Log.m286e("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, record not supported, SFI <  EMV_MIN or SFI > EMV_MAX.");
                     return new DiscoverApduProcessingResult((short) ISO7816.SW_FILE_NOT_FOUND);
@@ -67,7 +67,7 @@ public class DiscoverReadRecordApduHandler extends DiscoverApduHandler {
                         Log.m286e("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, cannot find records in the profile.");
                         return new DiscoverApduProcessingResult((short) ISO7816.SW_RECORD_NOT_FOUND);
                     }
-                    Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "processApdu, requested record, sfi = " + sfiNumber + ", record number = " + recordNumber);
+                    Log.d("DCSDK_DiscoverReadRecordApduHandler", "processApdu, requested record, sfi = {}, record number = {}", sfiNumber, recordNumber);
                     i = 0;
                     for (DiscoverRecord dL2 : records) {
                         int i2;
@@ -96,13 +96,13 @@ public class DiscoverReadRecordApduHandler extends DiscoverApduHandler {
                 cL().ed().m944L(i);
                 if (cL().ed().dJ() == 0) {
                     if ((cL().ed().dH().getByte(1) & 48) == 1) {
-                        Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, indicate CDA successful.");
+                        Log.d("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, indicate CDA successful.");
                         cN().getPth().clearBit(1, 8);
                     }
-                    Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, indicate transaction completed.");
+                    Log.d("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, indicate transaction completed.");
                     cN().getPth().clearBit(1, 7);
                     if (cN().getPaymentProfile().getCpr().checkBit(1, 6)) {
-                        Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, loyality program indicated, reset PID counter.");
+                        Log.d("DCSDK_DiscoverReadRecordApduHandler", "processApdu, C-APDU ReadRecord, loyality program indicated, reset PID counter.");
                         cN().m945M(0);
                     }
                 }
@@ -122,7 +122,7 @@ public class DiscoverReadRecordApduHandler extends DiscoverApduHandler {
     private boolean m988a(DiscoverRecord discoverRecord) {
         ByteBuffer zipAfl;
         if (DiscoverClTransactionType.DISCOVER_CL_ZIP.equals(cN().dK())) {
-            Log.m287i("DCSDK_DiscoverReadRecordApduHandler", "checkRecordInAFL: initialize ZIP afl...");
+            Log.d("DCSDK_DiscoverReadRecordApduHandler", "checkRecordInAFL: initialize ZIP afl...");
             zipAfl = cM().getZipAfl();
         } else {
             zipAfl = cN().getPaymentProfile().getAfl();
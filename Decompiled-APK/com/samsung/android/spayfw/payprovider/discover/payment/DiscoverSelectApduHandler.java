@@ -27,7 +27,7 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
 
     public DiscoverApduProcessingResult cK() {
         int i = 0;
-        Log.m285d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select start...");
+        Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select start...");
         if (this.td.dk() != 0) {
             Log.m286e("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select, cla is not supported, cla = " + this.td.dk() + ", expected " + 0);
             return new DiscoverApduProcessingResult((short) ISO7816.SW_CLA_NOT_SUPPORTED);
@@ -50,42 +50,46 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
                 return new DiscoverApduProcessingResult((short) ISO7816.SW_FILE_NOT_FOUND);
             } else {
                 ByteBuffer fciPpse;
-                Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select aid = " + data.toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select aid = {}", data.toHexString());
+                }
                 if (data.toHexString().startsWith(DiscoverCLTransactionContext.ui.toHexString())) {
-                    Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select ppse aid");
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select ppse aid");
                     fciPpse = cM().getFciPpse();
                 } else if (data.toHexString().startsWith(DiscoverClTransactionType.DISCOVER_CL_EMV.getAid().toHexString())) {
-                    Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select emv aid");
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select emv aid");
                     r0 = cM().getFciMainAid();
                     cN().m947a(DiscoverClTransactionType.DISCOVER_CL_EMV);
                     fciPpse = r0;
                 } else if (data.toHexString().startsWith(DiscoverClTransactionType.DISCOVER_CL_ZIP.getAid().toHexString())) {
-                    Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select zip aid");
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select zip aid");
                     cN().m947a(DiscoverClTransactionType.DISCOVER_CL_ZIP);
                     fciPpse = cM().getFciZipAid();
                 } else if (data.toHexString().startsWith(DiscoverClTransactionType.DISCOVER_CL_EMV_DEBIT.getAid().toHexString())) {
-                    Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select emv debit aid");
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select emv debit aid");
                     r0 = cM().getFciDebitAid();
                     cN().m947a(DiscoverClTransactionType.DISCOVER_CL_EMV_DEBIT);
                     fciPpse = r0;
                 } else if (cM().getFciAltAid() != null) {
-                    Log.m285d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select alt aid: " + data.toHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select alt aid: {}", data.toHexString());
+                    }
                     HashMap fciAltAid = cM().getFciAltAid();
                     if (fciAltAid != null) {
-                        Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt FCI selected");
+                        Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt FCI selected");
                         r0 = (ByteBuffer) fciAltAid.get(data.toHexString());
                         DiscoverClTransactionType[] values = DiscoverClTransactionType.values();
                         int length = values.length;
                         while (i < length) {
                             DiscoverClTransactionType discoverClTransactionType = values[i];
                             if (!(discoverClTransactionType.getAid() == null || discoverClTransactionType.getAid().toHexString() == null || !data.toHexString().startsWith(discoverClTransactionType.getAid().toHexString()))) {
-                                Log.m285d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt AID found " + discoverClTransactionType.name());
+                                Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt AID found {}", discoverClTransactionType.name());
                                 cN().m947a(discoverClTransactionType);
                             }
                             i++;
                         }
                         if (cN().dK() == null) {
-                            Log.m287i("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt AID unknown alias, set to emv.");
+                            Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Alt AID unknown alias, set to emv.");
                             cN().m947a(DiscoverClTransactionType.DISCOVER_CL_EMV);
                         }
                         fciPpse = r0;
@@ -101,7 +105,9 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
                     Log.m286e("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU fci is null.");
                     return new DiscoverApduProcessingResult((short) ISO7816.SW_FILE_NOT_FOUND);
                 }
-                Log.m285d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select fci = " + fciPpse.toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d("DCSDK_DiscoverSelectApduHandler", "processApdu, C-APDU Select fci = {}", fciPpse.toHexString());
+                }
                 if (data.equals(DiscoverCLTransactionContext.ui) || m990a(data, fciPpse)) {
                     List applicationBlockedList = cM().getDiscoverApplicationData().getApplicationBlockedList();
                     if (applicationBlockedList == null || applicationBlockedList.isEmpty() || !applicationBlockedList.contains(data)) {
@@ -133,7 +139,7 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
             CharSequence toHexString2;
             boolean z;
             String toHexString3 = cM().getFciPpse().toHexString();
-            Log.m285d("DCSDK_", "parsePPSE_FCI, parse FCI Template tag.");
+            Log.d("DCSDK_", "parsePPSE_FCI, parse FCI Template tag.");
             TLVData c = BERTLV.m1005c(byteBuffer2.getBytes(), 0, byteBuffer2.getSize());
             if (!(c == null || c.m1006O(DiscoverDataTags.vO.getInt()) == null)) {
                 List O = c.m1006O(DiscoverDataTags.vO.getInt());
@@ -142,7 +148,7 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
                     return false;
                 }
                 c = BERTLV.m1005c(((ByteBuffer) O.get(0)).getBytes(), 0, ((ByteBuffer) O.get(0)).getSize());
-                Log.m285d("DCSDK_", "checkAidInAdf, returned parsed proprietaryTemplate.");
+                Log.d("DCSDK_", "checkAidInAdf, returned parsed proprietaryTemplate.");
                 if (!(c == null || c.m1006O(DiscoverDataTags.vP.getInt()) == null)) {
                     List O2 = c.m1006O(DiscoverDataTags.vP.getInt());
                     if (O2 == null || O2.isEmpty() || O2.get(0) == null) {
@@ -155,7 +161,7 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
                         return false;
                     }
                     toHexString = byteBuffer3.toHexString();
-                    Log.m287i("DCSDK_", "checkAidInAdf, df: " + toHexString);
+                    Log.d("DCSDK_", "checkAidInAdf, df: {}", toHexString);
                     toHexString2 = byteBuffer.toHexString();
                     z = toHexString.contains(toHexString2) && toHexString3.contains(toHexString2);
                     return z;
@@ -164,7 +170,7 @@ public class DiscoverSelectApduHandler extends DiscoverApduHandler {
             byteBuffer3 = null;
             if (byteBuffer3 != null) {
                 toHexString = byteBuffer3.toHexString();
-                Log.m287i("DCSDK_", "checkAidInAdf, df: " + toHexString);
+                Log.d("DCSDK_", "checkAidInAdf, df: {}", toHexString);
                 toHexString2 = byteBuffer.toHexString();
                 if (!toHexString.contains(toHexString2)) {
                 }
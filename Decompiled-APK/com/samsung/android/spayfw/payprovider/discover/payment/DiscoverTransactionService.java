@@ -279,14 +279,14 @@ public class DiscoverTransactionService {
     }
 
     public byte[] m994h(byte[] bArr) {
-        Log.m287i(TAG, "handleApdu: start");
+        Log.d(TAG, "handleApdu: start");
         if (bArr == null || bArr.length == 0) {
             Log.m286e(TAG, "Empty apdu received, apdu byte array is null or empty...");
             return null;
         }
         try {
             ByteBuffer byteBuffer = new ByteBuffer(bArr);
-            Log.m287i(TAG, "handleApdu, APDU INS: " + (byteBuffer.getByte(1) & GF2Field.MASK));
+            Log.d(TAG, "handleApdu, APDU INS: {}", byteBuffer.getByte(1) & GF2Field.MASK);
             if (this.tl == null) {
                 Log.m286e(TAG, "handleApdu, APDU INS, card is no selected.");
                 return null;
@@ -294,7 +294,7 @@ public class DiscoverTransactionService {
                 Log.m286e(TAG, "handleApdu, APDU INS, context is not initialized.");
                 return null;
             } else {
-                Log.m285d(TAG, "handleApdu, current state: : " + this.tk);
+                Log.d(TAG, "handleApdu, current state: : {}", this.tk);
                 DiscoverApduProcessingResult e = this.tk.m895e(byteBuffer, this.sS, this.tl);
                 if (e == null) {
                     Log.m286e(TAG, "handleApdu, apdu processing result is null.");
@@ -307,7 +307,9 @@ public class DiscoverTransactionService {
                     Log.m286e(TAG, "handleApdu, apdu processing result data is null.");
                     return new ByteBuffer(27013).getBytes();
                 }
-                Log.m287i(TAG, "handleApdu: end: result: " + e.dB().toHexString());
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.d(TAG, "handleApdu: end: result: {}", e.dB().toHexString());
+                }
                 return e.dB().getBytes();
             }
         } catch (Exception e2) {
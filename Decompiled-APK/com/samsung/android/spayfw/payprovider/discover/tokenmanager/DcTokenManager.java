@@ -305,11 +305,7 @@ public class DcTokenManager {
         if (resultCode != ResultCode.ERR_NONE) {
             Log.m286e("DCSDK_DcTokenManager", "processToken: Failed to save Discover Payment Card object " + resultCode.getErrorMessage());
             providerResponseData.setErrorCode(-2);
-            try {
-                this.wu.deleteData(j);
-            } catch (DcDbException e322) {
-                e322.printStackTrace();
-            }
+            DcStorageManager.m872k(j);
             return providerResponseData;
         }
         providerResponseData.setProviderTokenKey(new ProviderTokenKey(j));
@@ -384,6 +384,10 @@ public class McProvider extends PaymentNetworkProvider {
         this.mTransactionService.initTransaction(z);
     }
 
+    protected void prepareAhead() {
+        this.mTransactionService.prepareAhead();
+    }
+
     public void endPay() {
         Log.m285d(TAG, "endTransaction");
     }
@@ -197,6 +197,17 @@ public class McCardMasterDaoImpl extends MCAbstractDaoImpl<McCardMaster> {
         if (this.db == null) {
             return -1;
         }
+        McCardProfileDaoImpl.clearCache();
         return (long) this.db.delete(getTableName(), "isProvisioned > 1", null);
     }
+
+    public boolean deleteData(long j) {
+        McCardProfileDaoImpl.evict(j);
+        return super.deleteData(j);
+    }
+
+    public long deleteAll() {
+        McCardProfileDaoImpl.clearCache();
+        return super.deleteAll();
+    }
 }
@@ -5,6 +5,8 @@ import android.content.Context;
 import android.database.Cursor;
 import android.text.TextUtils;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.payprovider.mastercard.db.McDbContract;
@@ -14,12 +16,62 @@ import com.samsung.android.spayfw.payprovider.mastercard.pce.data.MCProfilesTabl
 import com.samsung.android.spayfw.payprovider.mastercard.pce.data.MCUnusedDGIElements;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfile<T>> {
     private static final String COL_DATA_ID = "dataId";
+    private static final int MAX_CACHED_TOKENS = 8;
     private static final String TAG = "McCardProfileDaoImpl";
+    private static final ProfileCache sCache;
+    private static final AtomicLong sHits;
+    private static final AtomicLong sMisses;
+    private static long sWrites;
     private Type mType;
 
+    /**
+     * JSON records are kept parsed but not bound, so every caller gets its
+     * own decoded objects and cannot change what the next tap sees.
+     */
+    private static final class CachedProfile {
+        private JsonElement mContainer;
+        private JsonElement mProfileTable;
+        private byte[] mTaAtcData;
+        private byte[] mTaData;
+        private JsonElement mUnusedDgiElements;
+        private boolean mUnusedDgiLoaded;
+
+        private CachedProfile() {
+        }
+    }
+
+    private static final class ProfileCache extends LinkedHashMap<Long, CachedProfile> {
+        private ProfileCache() {
+            super(MAX_CACHED_TOKENS, 0.75f, true);
+        }
+
+        protected boolean removeEldestEntry(Entry<Long, CachedProfile> entry) {
+            return size() > McCardProfileDaoImpl.MAX_CACHED_TOKENS;
+        }
+
+        CachedProfile entry(long j) {
+            CachedProfile cachedProfile = (CachedProfile) get(Long.valueOf(j));
+            if (cachedProfile != null) {
+                return cachedProfile;
+            }
+            cachedProfile = new CachedProfile();
+            put(Long.valueOf(j), cachedProfile);
+            return cachedProfile;
+        }
+    }
+
+    static {
+        sCache = new ProfileCache();
+        sHits = new AtomicLong();
+        sMisses = new AtomicLong();
+    }
+
     public McCardProfileDaoImpl(Context context, Type type) {
         super(context);
         this.mType = type;
@@ -164,7 +216,7 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
     }
 
     public MCBaseCardProfile<T> getData(long j) {
-        MCBaseCardProfile<T> profileData = getProfileData(j);
+        MCBaseCardProfile<T> profileData = getCachedProfileData(j);
         if (profileData != null) {
             profileData.setTADataContainer(getTaData(j));
             profileData.setTAProfilesTable(getProfileTable(j));
@@ -180,6 +232,13 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
         }
         ContentValues contentValues = getContentValues((MCBaseCardProfile) mCBaseCardProfile);
         int update = this.db.update(getTableName(), contentValues, getQuerySearch(j) + " AND " + COL_DATA_ID + " =?", new String[]{String.valueOf(CardInfoType.MCPSE_CARD_PROFILE.getValue())});
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null) {
+                cachedProfile.mContainer = null;
+            }
+            sWrites++;
+        }
         if (update == 1) {
             return true;
         }
@@ -194,6 +253,13 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
         ContentValues contentValues = new ContentValues();
         contentValues.put(CardProvisionData.COL_DATA, bArr);
         int update = this.db.update(getTableName(), contentValues, getQuerySearch(j) + " AND " + COL_DATA_ID + " =?", new String[]{String.valueOf(CardInfoType.TA_DATA.getValue())});
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null) {
+                cachedProfile.mTaData = (update != 1 || bArr == null) ? null : (byte[]) bArr.clone();
+            }
+            sWrites++;
+        }
         if (update == 1) {
             return true;
         }
@@ -208,6 +274,13 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
         ContentValues contentValues = new ContentValues();
         contentValues.put(CardProvisionData.COL_DATA, bArr);
         int update = this.db.update(getTableName(), contentValues, getQuerySearch(j) + " AND " + COL_DATA_ID + " =?", new String[]{String.valueOf(CardInfoType.TA_ATC_DATA.getValue())});
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null) {
+                cachedProfile.mTaAtcData = (update != 1 || bArr == null) ? null : (byte[]) bArr.clone();
+            }
+            sWrites++;
+        }
         if (update == 1) {
             return true;
         }
@@ -216,11 +289,47 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
     }
 
     public byte[] getTaData(long j) {
-        return getProvisionData(j, CardInfoType.TA_DATA);
+        long j2;
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null && cachedProfile.mTaData != null) {
+                sHits.incrementAndGet();
+                return (byte[]) cachedProfile.mTaData.clone();
+            }
+            j2 = sWrites;
+        }
+        sMisses.incrementAndGet();
+        byte[] provisionData = getProvisionData(j, CardInfoType.TA_DATA);
+        if (provisionData != null) {
+            synchronized (sCache) {
+                if (sWrites == j2) {
+                    sCache.entry(j).mTaData = (byte[]) provisionData.clone();
+                }
+            }
+        }
+        return provisionData;
     }
 
     public byte[] getTaAtcData(long j) {
-        return getProvisionData(j, CardInfoType.TA_ATC_DATA);
+        long j2;
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null && cachedProfile.mTaAtcData != null) {
+                sHits.incrementAndGet();
+                return (byte[]) cachedProfile.mTaAtcData.clone();
+            }
+            j2 = sWrites;
+        }
+        sMisses.incrementAndGet();
+        byte[] provisionData = getProvisionData(j, CardInfoType.TA_ATC_DATA);
+        if (provisionData != null) {
+            synchronized (sCache) {
+                if (sWrites == j2) {
+                    sCache.entry(j).mTaAtcData = (byte[]) provisionData.clone();
+                }
+            }
+        }
+        return provisionData;
     }
 
     public boolean updateUnusedDgiElements(byte[] bArr, long j) {
@@ -230,6 +339,14 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
         ContentValues contentValues = new ContentValues();
         contentValues.put(CardProvisionData.COL_DATA, bArr);
         int update = this.db.update(getTableName(), contentValues, getQuerySearch(j) + " AND " + COL_DATA_ID + " =?", new String[]{String.valueOf(CardInfoType.UNUSED_DGI_ELEMENTS.getValue())});
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            if (cachedProfile != null) {
+                cachedProfile.mUnusedDgiElements = null;
+                cachedProfile.mUnusedDgiLoaded = false;
+            }
+            sWrites++;
+        }
         if (update == 1) {
             return true;
         }
@@ -238,47 +355,88 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
     }
 
     public MCUnusedDGIElements getUnusedDgiElements(long j) {
-        byte[] provisionData = getProvisionData(j, CardInfoType.UNUSED_DGI_ELEMENTS);
+        JsonElement jsonElement;
+        long j2;
+        boolean z;
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            z = cachedProfile != null && cachedProfile.mUnusedDgiLoaded;
+            jsonElement = z ? cachedProfile.mUnusedDgiElements : null;
+            j2 = sWrites;
+        }
+        if (z) {
+            sHits.incrementAndGet();
+        } else {
+            sMisses.incrementAndGet();
+            jsonElement = readTree(j, CardInfoType.UNUSED_DGI_ELEMENTS);
+            synchronized (sCache) {
+                if (sWrites == j2) {
+                    CachedProfile entry = sCache.entry(j);
+                    entry.mUnusedDgiElements = jsonElement;
+                    entry.mUnusedDgiLoaded = true;
+                }
+            }
+        }
+        if (jsonElement != null) {
+            return (MCUnusedDGIElements) decode(jsonElement, CardInfoType.UNUSED_DGI_ELEMENTS, MCUnusedDGIElements.class);
+        }
+        Log.m285d(TAG, "getUnusedDgiElements : saved unused Element is null");
+        return null;
+    }
+
+    public MCProfilesTable getProfileTable(long j) {
+        JsonElement jsonElement;
+        long j2;
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            jsonElement = cachedProfile != null ? cachedProfile.mProfileTable : null;
+            j2 = sWrites;
+        }
+        if (jsonElement != null) {
+            sHits.incrementAndGet();
+        } else {
+            sMisses.incrementAndGet();
+            jsonElement = readTree(j, CardInfoType.PROFILE_TABLE);
+            if (jsonElement == null) {
+                return null;
+            }
+            synchronized (sCache) {
+                if (sWrites == j2) {
+                    sCache.entry(j).mProfileTable = jsonElement;
+                }
+            }
+        }
+        return (MCProfilesTable) decode(jsonElement, CardInfoType.PROFILE_TABLE, MCProfilesTable.class);
+    }
+
+    private JsonElement readTree(long j, CardInfoType cardInfoType) {
+        byte[] provisionData = getProvisionData(j, cardInfoType);
         if (provisionData == null) {
-            Log.m285d(TAG, "getUnusedDgiElements : saved unused Element is null");
             return null;
         }
         try {
-            return (MCUnusedDGIElements) createGson(CardInfoType.UNUSED_DGI_ELEMENTS).fromJson(new String(provisionData, "UTF8"), MCUnusedDGIElements.class);
+            return new JsonParser().parse(new String(provisionData, "UTF8"));
         } catch (UnsupportedEncodingException e) {
-            Log.m286e(TAG, "getUnusedDgiElements: : " + e.getMessage());
-            e.printStackTrace();
+            Log.m286e(TAG, "readTree: " + cardInfoType + ": " + e.getMessage());
             return null;
-        } catch (JsonSyntaxException e2) {
-            Log.m286e(TAG, "getUnusedDgiElements: : " + e2.getMessage());
+        } catch (Exception e2) {
+            Log.m286e(TAG, "readTree: " + cardInfoType + ": " + e2.getMessage());
             e2.printStackTrace();
             return null;
-        } catch (Exception e3) {
-            Log.m286e(TAG, "getUnusedDgiElements: : " + e3.getMessage());
-            e3.printStackTrace();
-            return null;
         }
     }
 
-    public MCProfilesTable getProfileTable(long j) {
-        byte[] provisionData = getProvisionData(j, CardInfoType.PROFILE_TABLE);
-        if (provisionData == null) {
-            return null;
-        }
+    private Object decode(JsonElement jsonElement, CardInfoType cardInfoType, Type type) {
         try {
-            return (MCProfilesTable) createGson(CardInfoType.PROFILE_TABLE).fromJson(new String(provisionData, "UTF8"), MCProfilesTable.class);
-        } catch (UnsupportedEncodingException e) {
-            Log.m286e(TAG, "getProfileTable: : " + e.getMessage());
+            return createGson(cardInfoType).fromJson(jsonElement, type);
+        } catch (JsonSyntaxException e) {
+            Log.m286e(TAG, "decode: " + cardInfoType + ": " + e.getMessage());
             e.printStackTrace();
             return null;
-        } catch (JsonSyntaxException e2) {
-            Log.m286e(TAG, "getProfileTable: : " + e2.getMessage());
+        } catch (Exception e2) {
+            Log.m286e(TAG, "decode: " + cardInfoType + ": " + e2.getMessage());
             e2.printStackTrace();
             return null;
-        } catch (Exception e3) {
-            Log.m286e(TAG, "getProfileTable: : " + e3.getMessage());
-            e3.printStackTrace();
-            return null;
         }
     }
 
@@ -391,37 +549,74 @@ public class McCardProfileDaoImpl<T> extends McCommonCardDaoImpl<MCBaseCardProfi
         }
     }
 
-    private MCBaseCardProfile<T> getProfileData(long j) {
-        Cursor query;
-        Throwable th;
-        MCBaseCardProfile<T> mCBaseCardProfile = null;
-        try {
-            query = query(j, CardInfoType.MCPSE_CARD_PROFILE, null);
-            if (query != null) {
-                try {
-                    if (query.moveToFirst()) {
-                        mCBaseCardProfile = getDataValues(query);
-                    }
-                } catch (Throwable th2) {
-                    th = th2;
-                    if (query != null) {
-                        query.close();
-                    }
-                    throw th;
-                }
-            }
-            if (query != null) {
-                query.close();
+    private MCBaseCardProfile<T> getCachedProfileData(long j) {
+        JsonElement jsonElement;
+        long j2;
+        synchronized (sCache) {
+            CachedProfile cachedProfile = (CachedProfile) sCache.get(Long.valueOf(j));
+            jsonElement = cachedProfile != null ? cachedProfile.mContainer : null;
+            j2 = sWrites;
+        }
+        if (jsonElement != null) {
+            sHits.incrementAndGet();
+            Log.d(TAG, "getData: cache hit, hit rate {}%", getCacheHitRate());
+        } else {
+            sMisses.incrementAndGet();
+            jsonElement = readTree(j, CardInfoType.MCPSE_CARD_PROFILE);
+            if (jsonElement == null) {
+                return null;
             }
-            return mCBaseCardProfile;
-        } catch (Throwable th3) {
-            th = th3;
-            query = null;
-            if (query != null) {
-                query.close();
+            synchronized (sCache) {
+                if (sWrites == j2) {
+                    sCache.entry(j).mContainer = jsonElement;
+                }
             }
-            throw th;
         }
+        Object decode = decode(jsonElement, CardInfoType.MCPSE_CARD_PROFILE, this.mType);
+        if (decode == null) {
+            return null;
+        }
+        MCBaseCardProfile<T> mCBaseCardProfile = new MCBaseCardProfile();
+        mCBaseCardProfile.setDigitalizedCardContainer((T) decode);
+        return mCBaseCardProfile;
+    }
+
+    public boolean deleteData(long j) {
+        evict(j);
+        return super.deleteData(j);
+    }
+
+    public long deleteAll() {
+        clearCache();
+        return super.deleteAll();
+    }
+
+    public static void evict(long j) {
+        synchronized (sCache) {
+            sCache.remove(Long.valueOf(j));
+            sWrites++;
+        }
+    }
+
+    public static void clearCache() {
+        synchronized (sCache) {
+            sCache.clear();
+            sWrites++;
+        }
+    }
+
+    public static long getCacheHits() {
+        return sHits.get();
+    }
+
+    public static long getCacheMisses() {
+        return sMisses.get();
+    }
+
+    public static long getCacheHitRate() {
+        long j = sHits.get();
+        long j2 = sMisses.get() + j;
+        return j2 == 0 ? 0 : (100 * j) / j2;
     }
 
     private Cursor query(long j, CardInfoType cardInfoType, String str) {
@@ -8,12 +8,13 @@ import com.samsung.android.spayfw.payprovider.mastercard.payload.subpayload.McCa
 import com.samsung.android.spayfw.payprovider.mastercard.payload.subpayload.McDeviceInfo;
 import com.samsung.android.spayfw.payprovider.mastercard.payload.subpayload.McSeInfo;
 import com.samsung.android.spayfw.payprovider.mastercard.payload.subpayload.McSpsdInfo;
+import com.samsung.android.spayfw.utils.GsonHolder;
 
 public class McPayloadBuilder {
     private static Gson mGson;
 
     static {
-        mGson = new Gson();
+        mGson = GsonHolder.get();
     }
 
     public static JsonObject buildMcEnrollmentRequestPayload(McSeInfo mcSeInfo, McCardInfoWrapper mcCardInfoWrapper, String str, McSpsdInfo mcSpsdInfo, McDeviceInfo mcDeviceInfo, String str2, String str3) {
@@ -1,12 +1,12 @@
 package com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels;
 
 import android.text.TextUtils;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.payprovider.mastercard.card.McCardClearData;
 import com.samsung.android.spayfw.payprovider.mastercard.utils.CryptoUtils;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
@@ -60,7 +60,7 @@ public final class ApduResponse {
             return null;
         }
         try {
-            String toJson = new Gson().toJson(new NotifyTokenProvisionResult(apduResponseArr));
+            String toJson = GsonHolder.get().toJson(new NotifyTokenProvisionResult(apduResponseArr));
             Log.m285d(TAG, "Apdu String for notify token report" + toJson);
             JsonObject asJsonObject = new JsonParser().parse(toJson).getAsJsonObject();
             Log.m285d(TAG, "Apdu jsonObject for notify report" + asJsonObject.toString());
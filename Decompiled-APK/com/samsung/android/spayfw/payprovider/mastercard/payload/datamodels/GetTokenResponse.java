@@ -1,11 +1,11 @@
 package com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels;
 
 import android.text.TextUtils;
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.utils.GsonHolder;
 
 public class GetTokenResponse {
     private static final String TAG = "GetTokenResponse";
@@ -97,7 +97,7 @@ public class GetTokenResponse {
             return null;
         }
         try {
-            return (GetTokenResponse) new Gson().fromJson((JsonElement) jsonObject, GetTokenResponse.class);
+            return (GetTokenResponse) GsonHolder.get().fromJson((JsonElement) jsonObject, GetTokenResponse.class);
         } catch (JsonSyntaxException e) {
             e.printStackTrace();
             return null;
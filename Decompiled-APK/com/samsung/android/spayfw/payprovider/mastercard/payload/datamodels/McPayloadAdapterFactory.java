@@ -0,0 +1,125 @@
+package com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Streaming adapters for the APDU lists carried by GetTokenResponse and
+ * NotifyTokenProvisionResult, which are the bulk of every Mastercard
+ * provisioning payload. The surrounding payload classes keep their cached
+ * reflective adapters. Unknown names are skipped and null fields are left to
+ * the writer, the same as the reflective adapter.
+ */
+public final class McPayloadAdapterFactory implements TypeAdapterFactory {
+    public static final McPayloadAdapterFactory INSTANCE;
+
+    static {
+        INSTANCE = new McPayloadAdapterFactory();
+    }
+
+    private static class ApduCommandAdapter extends TypeAdapter<ApduCommand> {
+        private ApduCommandAdapter() {
+        }
+
+        public ApduCommand read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            ApduCommand apduCommand = new ApduCommand();
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("apduCommand".equals(nextName)) {
+                    apduCommand.setApduCommand(McPayloadAdapterFactory.readString(jsonReader));
+                } else if ("messageId".equals(nextName)) {
+                    apduCommand.setMessageId(McPayloadAdapterFactory.readString(jsonReader));
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return apduCommand;
+        }
+
+        public void write(JsonWriter jsonWriter, ApduCommand apduCommand) throws IOException {
+            if (apduCommand == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("apduCommand").value(apduCommand.getApduCommand());
+            jsonWriter.name("messageId").value(apduCommand.getMessageId());
+            jsonWriter.endObject();
+        }
+    }
+
+    private static class ApduResponseAdapter extends TypeAdapter<ApduResponse> {
+        private ApduResponseAdapter() {
+        }
+
+        public ApduResponse read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            ApduResponse apduResponse = new ApduResponse(null);
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("apduResponse".equals(nextName)) {
+                    apduResponse.setApduResponse(McPayloadAdapterFactory.readString(jsonReader));
+                } else if ("messageId".equals(nextName)) {
+                    apduResponse.setMessageId(McPayloadAdapterFactory.readString(jsonReader));
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return apduResponse;
+        }
+
+        public void write(JsonWriter jsonWriter, ApduResponse apduResponse) throws IOException {
+            if (apduResponse == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("apduResponse").value(apduResponse.getApduResponse());
+            jsonWriter.name("messageId").value(apduResponse.getMessageId());
+            jsonWriter.endObject();
+        }
+    }
+
+    private McPayloadAdapterFactory() {
+    }
+
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class rawType = typeToken.getRawType();
+        if (rawType == ApduCommand.class) {
+            return (TypeAdapter<T>) new ApduCommandAdapter();
+        }
+        if (rawType == ApduResponse.class) {
+            return (TypeAdapter<T>) new ApduResponseAdapter();
+        }
+        return null;
+    }
+
+    private static String readString(JsonReader jsonReader) throws IOException {
+        JsonToken peek = jsonReader.peek();
+        if (peek == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        } else if (peek == JsonToken.BOOLEAN) {
+            return Boolean.toString(jsonReader.nextBoolean());
+        } else {
+            return jsonReader.nextString();
+        }
+    }
+}
@@ -28,6 +28,8 @@ public interface MCBaseDigitalizedCard {
 
     long prepareMSTData();
 
+    boolean prepareAhead();
+
     byte[] proccessApdu(byte[] bArr);
 
     Bundle processDeactivated();
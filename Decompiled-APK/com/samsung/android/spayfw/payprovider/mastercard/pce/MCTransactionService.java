@@ -438,4 +438,12 @@ public class MCTransactionService {
             this.mCurrentCard.initTransaction(new MCCVMResult(-1, false), null);
         }
     }
+
+    public void prepareAhead() {
+        if (this.mCurrentCard == null || !this.mCurrentCard.isReadyForNFCTransaction()) {
+            Log.m286e(TAG, "prepareAhead: card is not ready for the NFC payment.");
+        } else if (this.mCurrentCard.prepareAhead()) {
+            Log.m285d(TAG, "prepareAhead: preparing TA context.");
+        }
+    }
 }
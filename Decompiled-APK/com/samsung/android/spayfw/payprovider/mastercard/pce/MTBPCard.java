@@ -5,6 +5,7 @@ import com.mastercard.mcbp.core.mcbpcards.profile.DC_CP;
 import com.mastercard.mobile_api.bytes.ByteArray;
 import com.mastercard.mobile_api.bytes.ByteArrayFactory;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spayfw.payprovider.mastercard.dao.McCardProfileDaoImpl;
 import com.samsung.android.spayfw.payprovider.mastercard.pce.data.DSRPInputData;
 import com.samsung.android.spayfw.payprovider.mastercard.pce.data.DSRPOutputData;
@@ -106,13 +107,28 @@ public class MTBPCard implements MCBaseDigitalizedCard {
         return 2;
     }
 
+    public boolean prepareAhead() {
+        if (this.mMppLite != null) {
+            return this.mMppLite.prepareAhead();
+        }
+        Log.m286e(MCTransactionService.TAG, "prepareAhead: card is not initialized...");
+        return false;
+    }
+
     public byte[] proccessApdu(byte[] bArr) {
         if (this.mMppLite == null) {
             Log.m286e(MCTransactionService.TAG, "proccessApdu: card is not initialized...");
             return this.baf.getFromWord(27266).getBytes();
         }
-        Log.m285d(MCTransactionService.TAG, "proccessApdu: call mMppLite.processApdu...");
-        ByteArray processAPDU = this.mMppLite.processAPDU(ByteArrayFactory.getInstance().getByteArray(bArr, bArr.length));
+        Log.d(MCTransactionService.TAG, "proccessApdu: call mMppLite.processApdu...");
+        int i = bArr.length < 2 ? -1 : bArr[1] & 255;
+        TapTracer.begin(TapTracer.EV_MC_APDU, i);
+        ByteArray processAPDU;
+        try {
+            processAPDU = this.mMppLite.processAPDU(ByteArrayFactory.getInstance().getByteArray(bArr, bArr.length));
+        } finally {
+            TapTracer.end(TapTracer.EV_MC_APDU, i);
+        }
         if (processAPDU != null) {
             return processAPDU.getBytes();
         }
@@ -132,7 +148,7 @@ public class MTBPCard implements MCBaseDigitalizedCard {
         }
         try {
             this.mMppLite.initialize(this.mCardProfile);
-            MCTransactionCredentials mCTransactionCredentials = new MCTransactionCredentials();
+            MCTransactionCredentials mCTransactionCredentials = this.mMppLite.obtainTransactionCredentials();
             if (this.mCardProfile.getTADataContainer() == null) {
                 Log.m286e(MCTransactionService.TAG, "initTransaction:  invalid secure profile.");
                 return MTBPCardActivationResult.CARD_ACTIVATION_INVALID_PROFILE;
@@ -15,7 +15,7 @@ import com.mastercard.mobile_api.utils.apdu.emv.VerifyPINApdu;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.payprovider.mastercard.McProvider;
 import com.samsung.android.spayfw.payprovider.mastercard.dao.McCardProfileDaoImpl;
-import com.samsung.android.spayfw.payprovider.mastercard.pce.context.MTBPContextFactory;
+import com.samsung.android.spayfw.payprovider.mastercard.pce.context.MTBPContextPool;
 import com.samsung.android.spayfw.payprovider.mastercard.pce.context.MTBPTransactionContext;
 import com.samsung.android.spayfw.payprovider.mastercard.pce.data.CryptogramInput;
 import com.samsung.android.spayfw.payprovider.mastercard.pce.data.CryptogramType;
@@ -36,6 +36,7 @@ import com.samsung.android.spayfw.payprovider.mastercard.pce.nfc.MCCommandResult
 import com.samsung.android.spayfw.payprovider.mastercard.tzsvc.McTACommands.MC_TA_ERRORS;
 import com.samsung.android.spayfw.payprovider.mastercard.tzsvc.McTACommands.TASetContext.TASetContextResponse.SetContextOut;
 import com.samsung.android.spayfw.payprovider.mastercard.tzsvc.McTAController;
+import com.samsung.android.spayfw.payprovider.mastercard.tzsvc.McTAController.PreparedContextOwner;
 import com.samsung.android.spayfw.payprovider.mastercard.utils.McUtils;
 import com.samsung.android.spayfw.payprovider.visa.transaction.TransactionInfo;
 import com.samsung.android.spayfw.utils.Utils;
@@ -63,6 +64,8 @@ public class MTBPLite {
     private static final boolean UCAF_MODE_MCBP_V1 = false;
     private static HashMap<MTBPState, EnumSet<MTBPState>> mStateTransitionsMap;
     private MCAPDUHandler mAPDUcommandHandlerFactory;
+    private final MTBPContextPool mContextPool;
+    private final PreparedContextOwner mPreparedContextOwner;
     private MTBPState mCurrentState;
     McCardProfileDaoImpl<DC_CP> mDao;
     private MCBaseCardProfile<?> mPaymentProfile;
@@ -88,6 +91,12 @@ public class MTBPLite {
     public MTBPLite(McCardProfileDaoImpl<DC_CP> mcCardProfileDaoImpl) {
         this.mCurrentState = MTBPState.STOPPED;
         this.mDao = mcCardProfileDaoImpl;
+        this.mContextPool = new MTBPContextPool();
+        this.mPreparedContextOwner = new PreparedContextOwner() {
+            public void onPreparedContextDropped(SetContextOut setContextOut) {
+                MTBPLite.this.persistPreparedAtc(setContextOut);
+            }
+        };
     }
 
     private void setState(MTBPState mTBPState) {
@@ -143,7 +152,9 @@ public class MTBPLite {
         ByteArrayFactory instance = ByteArrayFactory.getInstance();
         byte b = byteArray.getByte(1);
         byte b2 = byteArray.getByte(CRYPTOGRAM_MD_AC_OFFSET);
-        Log.m287i(TAG, "processAPDU: ins: " + McUtils.byteToHex(b) + " cla = " + McUtils.byteToHex(b2) + " : " + MCAPDUHandler.getApduName(b));
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.m285d(TAG, "processAPDU: ins: " + McUtils.byteToHex(b) + " cla = " + McUtils.byteToHex(b2) + " : " + MCAPDUHandler.getApduName(b));
+        }
         APDUCommand commandHandlerByInstruction = this.mAPDUcommandHandlerFactory.getCommandHandlerByInstruction(b);
         if (commandHandlerByInstruction == null) {
             Log.m286e(TAG, "APDU command not found, apdu = " + b);
@@ -204,7 +215,7 @@ public class MTBPLite {
                 Log.m286e(TAG, "Credentials is null: " + mCTransactionCredentials);
                 throw new MCTransactionException(generateErrorResponse());
             } else {
-                this.mTransactionContext = MTBPContextFactory.getContext(mCTransactionCredentials);
+                this.mTransactionContext = this.mContextPool.acquire(mCTransactionCredentials);
                 if (this.mTransactionContext.getTransactionInformation() == null) {
                     Log.m286e(TAG, "Transaction information is null");
                     throw new MCTransactionException(generateErrorResponse());
@@ -218,9 +229,61 @@ public class MTBPLite {
         throw new MCTransactionException(generateErrorResponse());
     }
 
+    public MCTransactionCredentials obtainTransactionCredentials() {
+        MCTransactionCredentials obtainCredentials = this.mContextPool.obtainCredentials();
+        if (this.mPaymentProfile != null) {
+            obtainCredentials.setTokenReferenceId(this.mPaymentProfile.getUniqueTokenReferenceId());
+        }
+        return obtainCredentials;
+    }
+
+    public boolean prepareAhead() {
+        if (!MTBPState.READY.equals(getState()) || this.mTransactionContext == null || this.mTransactionContext.getTransactionCredentials() == null) {
+            Log.m286e(TAG, "prepareAhead: transaction context is not ready, state: " + getState());
+            return false;
+        }
+        final McTAController instance = McTAController.getInstance();
+        if (instance == null) {
+            return false;
+        }
+        final long tokenReferenceId = this.mTransactionContext.getTransactionCredentials().getTokenReferenceId();
+        final int tAProfileReference = this.mTransactionContext.getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_GPO);
+        final long contextEpoch = instance.getContextEpoch();
+        new Thread(new Runnable() {
+            public void run() {
+                try {
+                    if (instance.prepareContext(tokenReferenceId, tAProfileReference, contextEpoch, MTBPLite.this.mPreparedContextOwner) == null) {
+                        Log.m285d(MTBPLite.TAG, "prepareAhead: context not prepared.");
+                    }
+                } catch (Exception e) {
+                    Log.m284c(MTBPLite.TAG, "prepareAhead: unexpected TA exception.", e);
+                }
+            }
+        }, "MTBPPrepareAhead").start();
+        return true;
+    }
+
+    private void releasePreparedContext() {
+        McTAController instance = McTAController.getInstance();
+        if (instance != null && this.mPaymentProfile != null) {
+            instance.releasePreparedContext(this.mPaymentProfile.getUniqueTokenReferenceId());
+        }
+    }
+
+    private void persistPreparedAtc(SetContextOut setContextOut) {
+        if (setContextOut != null && setContextOut._wrapped_atc_obj != null && this.mDao != null && this.mPaymentProfile != null && this.mPaymentProfile.getUniqueTokenReferenceId() >= 0) {
+            Log.m287i(TAG, "persistPreparedAtc: update atc object of unused context");
+            if (!this.mDao.updateWrappedAtcData(setContextOut._wrapped_atc_obj.getData(), this.mPaymentProfile.getUniqueTokenReferenceId())) {
+                Log.m286e(TAG, "persistPreparedAtc: update atc object failed !!!!");
+            }
+        }
+    }
+
     public void cleanTransactionContext() {
+        releasePreparedContext();
         if (MTBPState.READY.equals(getState()) || MTBPState.READY.equals(MTBPState.STOPPED)) {
             this.mTransactionContext.clearCredentials();
+            this.mContextPool.release();
         }
     }
 
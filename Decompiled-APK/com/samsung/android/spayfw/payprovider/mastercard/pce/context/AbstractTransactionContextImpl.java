@@ -21,6 +21,7 @@ public abstract class AbstractTransactionContextImpl implements MTBPTransactionC
     protected static final String TAG = "mcpce_AbstractTransactionContextImpl";
     private ByteArray mAIP;
     private MCCryptoOutput mCryptoOutput;
+    private final MCCryptoOutput mReusableCryptoOutput;
     private ByteArray mDeviceRREntropy;
     protected List<MCFilterCriteria> mFilters;
     private boolean mIsAlternateAID;
@@ -42,6 +43,47 @@ public abstract class AbstractTransactionContextImpl implements MTBPTransactionC
         this.mRRPCounter = 0;
         this.mTransactionCredentials = mCTransactionCredentials;
         this.mTransactionInformation = new MCTransactionInformation();
+        this.mReusableCryptoOutput = new MCCryptoOutput();
+    }
+
+    void detach(MCTransactionCredentials mCTransactionCredentials) {
+        if (this.mTransactionCredentials == mCTransactionCredentials) {
+            this.mTransactionCredentials = null;
+        }
+        reset();
+    }
+
+    void rebind(MCTransactionCredentials mCTransactionCredentials) {
+        detach(mCTransactionCredentials);
+        this.mTransactionCredentials = mCTransactionCredentials;
+    }
+
+    public void reset() {
+        wipe();
+        Utils.clearByteArray(this.mDeviceRREntropy);
+        Utils.clearByteArray(this.mTerminalRREntropy);
+        this.mDeviceRREntropy = null;
+        this.mTerminalRREntropy = null;
+        if (this.mCryptoOutput != null) {
+            this.mCryptoOutput.reset();
+            this.mCryptoOutput = null;
+        }
+        this.mReusableCryptoOutput.reset();
+        this.mTransactionInformation.reset();
+        if (this.mTransactionCredentials != null) {
+            this.mTransactionCredentials.wipe();
+            this.mTransactionCredentials = null;
+        }
+        this.mTransactionResult = null;
+        this.mTransactionError = null;
+        this.mTransactionListener = null;
+        this.mIsAlternateAID = false;
+        this.mOnlineAllowed = true;
+    }
+
+    public MCCryptoOutput obtainCryptoOutput() {
+        this.mReusableCryptoOutput.reset();
+        return this.mReusableCryptoOutput;
     }
 
     public void clearCredentials() {
@@ -0,0 +1,64 @@
+package com.samsung.android.spayfw.payprovider.mastercard.pce.context;
+
+import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.payprovider.mastercard.pce.data.MCTransactionCredentials;
+
+/**
+ * Transaction contexts and credentials of one MTBPLite, reused across taps
+ * of that card instead of being allocated per transaction.
+ */
+public class MTBPContextPool {
+    private static final String TAG = "mcpce_MTBPContextPool";
+    private final MCTransactionCredentials mCredentials;
+    private AbstractTransactionContextImpl mInUse;
+    private SimplePayContextWithFeedbackImpl mSimplePayContext;
+    private TapNGoContextImpl mTapNGoContext;
+
+    public MTBPContextPool() {
+        this.mCredentials = new MCTransactionCredentials();
+    }
+
+    public synchronized MCTransactionCredentials obtainCredentials() {
+        release();
+        return this.mCredentials;
+    }
+
+    public synchronized MTBPTransactionContext acquire(MCTransactionCredentials mCTransactionCredentials) {
+        AbstractTransactionContextImpl abstractTransactionContextImpl;
+        if (this.mInUse != null) {
+            this.mInUse.detach(mCTransactionCredentials);
+            this.mInUse = null;
+        }
+        if (MTBPContextFactory.isTapAndGo(mCTransactionCredentials)) {
+            if (this.mTapNGoContext == null) {
+                this.mTapNGoContext = new TapNGoContextImpl(mCTransactionCredentials);
+            } else {
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.m285d(TAG, "TAP&Go context reused");
+                }
+                this.mTapNGoContext.rebind(mCTransactionCredentials);
+            }
+            abstractTransactionContextImpl = this.mTapNGoContext;
+        } else {
+            if (this.mSimplePayContext == null) {
+                this.mSimplePayContext = new SimplePayContextWithFeedbackImpl(mCTransactionCredentials);
+            } else {
+                if (Log.isLoggable(Log.DEBUG)) {
+                    Log.m285d(TAG, "SimplePay context reused");
+                }
+                this.mSimplePayContext.rebind(mCTransactionCredentials);
+            }
+            abstractTransactionContextImpl = this.mSimplePayContext;
+        }
+        this.mInUse = abstractTransactionContextImpl;
+        return abstractTransactionContextImpl;
+    }
+
+    public synchronized void release() {
+        if (this.mInUse != null) {
+            this.mInUse.reset();
+            this.mInUse = null;
+        }
+        this.mCredentials.reset();
+    }
+}
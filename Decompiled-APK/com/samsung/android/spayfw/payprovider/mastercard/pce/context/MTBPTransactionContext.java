@@ -37,6 +37,10 @@ public interface MTBPTransactionContext {
 
     void incrementRRPCounter();
 
+    MCCryptoOutput obtainCryptoOutput();
+
+    void reset();
+
     boolean isAlternateAID();
 
     boolean isOnlineAllowed();
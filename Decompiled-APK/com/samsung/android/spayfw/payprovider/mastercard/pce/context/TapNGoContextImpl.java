@@ -18,6 +18,7 @@ import java.util.Map;
 public class TapNGoContextImpl extends AbstractTransactionContextImpl {
     protected static final String TAG = "mcpce_TapNGoContextImpl";
     private static final Map<MCTransactionResult, Integer> sSdkToAppErrorCodeMap;
+    private final List<MCFilterCriteria> mTapNGoFilters;
 
     static {
         sSdkToAppErrorCodeMap = new HashMap();
@@ -30,7 +31,13 @@ public class TapNGoContextImpl extends AbstractTransactionContextImpl {
     public TapNGoContextImpl(MCTransactionCredentials mCTransactionCredentials) {
         super(mCTransactionCredentials);
         Log.m287i(TAG, "TAP&Go detected. Setting filters");
-        this.mFilters = getTapNGoFilters();
+        this.mTapNGoFilters = getTapNGoFilters();
+        this.mFilters = this.mTapNGoFilters;
+    }
+
+    public void reset() {
+        super.reset();
+        this.mFilters = this.mTapNGoFilters;
     }
 
     protected MCTransactionCompleteResult getTransactionResult() {
@@ -76,4 +76,14 @@ public class MCCryptoOutput {
         Utils.clearByteArray(this.mIssuerApplicationData);
         this.mCid = (byte) 0;
     }
+
+    public void reset() {
+        wipe();
+        Utils.clearByteArray(this.mCDAResult);
+        this.mATC = null;
+        this.mCDAResult = null;
+        this.mCryptogram = null;
+        this.mCryptogramTrack2 = null;
+        this.mIssuerApplicationData = null;
+    }
 }
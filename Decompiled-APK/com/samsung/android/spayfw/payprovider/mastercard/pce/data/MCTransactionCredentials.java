@@ -12,10 +12,20 @@ public class MCTransactionCredentials {
     private byte[] mSecureObject;
     private int mTAProfileType;
     private MCProfilesTable mTAProfilesTable;
+    private long mTokenReferenceId;
     private byte[] mWrappedAtcObject;
 
     public MCTransactionCredentials() {
         this.baf = ByteArrayFactory.getInstance();
+        this.mTokenReferenceId = -1;
+    }
+
+    public long getTokenReferenceId() {
+        return this.mTokenReferenceId;
+    }
+
+    public void setTokenReferenceId(long j) {
+        this.mTokenReferenceId = j;
     }
 
     public byte[] getmWrappedAtcObject() {
@@ -82,4 +92,14 @@ public class MCTransactionCredentials {
         this.mCVMResult = null;
         this.mTAProfileType = 0;
     }
+
+    public void reset() {
+        wipe();
+        this.mATC = null;
+        this.mIDN = null;
+        this.mSecureObject = null;
+        this.mTAProfilesTable = null;
+        this.mWrappedAtcObject = null;
+        this.mTokenReferenceId = -1;
+    }
 }
@@ -175,4 +175,16 @@ public class MCTransactionInformation {
         Utils.clearByteArray(this.mMerchantNameAndLoc);
         this.result = null;
     }
+
+    public void reset() {
+        wipe();
+        this.mAmount = null;
+        this.mCurrencyCode = null;
+        this.mTransactionDate = null;
+        this.mTransactionType = null;
+        this.mMccCategory = null;
+        this.mMerchantNameAndLoc = null;
+        this.mUN = null;
+        this.mCID = (byte) 0;
+    }
 }
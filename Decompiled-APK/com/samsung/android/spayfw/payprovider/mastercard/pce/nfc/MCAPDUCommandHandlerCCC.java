@@ -26,7 +26,7 @@ public class MCAPDUCommandHandlerCCC extends MCCAPDUBaseCommandHandler {
         if (MCTransactionResult.COMMAND_COMPLETED.equals(verifyPaymentProfile.getResponseCode())) {
             verifyPaymentProfile = initializeTransactionContext();
             if (MCTransactionResult.COMMAND_COMPLETED.equals(verifyPaymentProfile.getResponseCode())) {
-                MCCryptoOutput mCCryptoOutput = new MCCryptoOutput();
+                MCCryptoOutput mCCryptoOutput = getTransactionContext().obtainCryptoOutput();
                 mCCryptoOutput.setIssuerApplicationData(this.mPaymentProfile.getContactlessPaymentData().getIssuerApplicationData().clone());
                 getTransactionContext().setCryptoOutput(mCCryptoOutput);
                 if (getTASecureContainer() == null) {
@@ -120,12 +120,12 @@ public class MCAPDUCommandHandlerCCC extends MCCAPDUBaseCommandHandler {
         transactionInformation.setTransactionDate(this.mCCApdu.getTransactionDate());
         transactionInformation.setTransactionType(this.mCCApdu.getTransactionType());
         transactionInformation.setUN(this.mCCApdu.getUnpredictableNumber());
-        Log.m287i(TAG, "Init transaction context and check terminal type OK");
+        Log.d(TAG, "Init transaction context and check terminal type OK");
         return completeCommand();
     }
 
     private MCCommandResult composeCardholderVerificationResult() {
-        Log.m287i(TAG, "Start checking CVM/CC Context/ Card risk management data");
+        Log.d(TAG, "Start checking CVM/CC Context/ Card risk management data");
         ByteArray byteArray = this.baf.getByteArray(3);
         if (getTransactionContext().getTransactionCredentials().getCVMResult() != null && getTransactionContext().getTransactionCredentials().getCVMResult().getResultCode() == 0) {
             byteArray.setByte(1, Tnaf.POW_2_WIDTH);
@@ -157,7 +157,7 @@ public class MCAPDUCommandHandlerCCC extends MCCAPDUBaseCommandHandler {
             } else {
                 getTransactionContext().getTransactionCredentials().setProfileType(getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_TRACK1_NO_CVM));
             }
-            Log.m287i(TAG, "Compute CC: start checking CVM/CC Context/ Card risk management data OK");
+            Log.d(TAG, "Compute CC: start checking CVM/CC Context/ Card risk management data OK");
             return completeCommand();
         } else {
             Log.m286e(TAG, "ComputeCC online transaction is not allowed.");
@@ -186,7 +186,9 @@ public class MCAPDUCommandHandlerCCC extends MCCAPDUBaseCommandHandler {
             }
             return ERROR(27010);
         }
-        Log.m285d(TAG, "Compute CC: Calling generateRAPDU..." + getTransactionContext().getCryptoOutput().getCryptogram().getHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d(TAG, "Compute CC: Calling generateRAPDU...{}", getTransactionContext().getCryptoOutput().getCryptogram().getHexString());
+        }
         if (getTransactionContext().getCryptoOutput().getCryptogramTrack2() == null || getTransactionContext().getCryptoOutput().getCryptogramTrack2().getLength() != 8) {
             if (getTransactionContext().getCryptoOutput().getCryptogramTrack2() != null) {
                 Log.m286e(TAG, "Compute CC: cryptogram track2 len is invalid: " + getTransactionContext().getCryptoOutput().getCryptogramTrack2().getLength());
@@ -204,12 +206,12 @@ public class MCAPDUCommandHandlerCCC extends MCCAPDUBaseCommandHandler {
         fromWord.append(this.baf.getFromWord(-24778));
         fromWord.appendByte((byte) 2);
         fromWord.append(getTransactionContext().getTransactionCredentials().getATC());
-        Log.m287i(TAG, "Compute CC: Calling generateRAPDU...POCII");
+        Log.d(TAG, "Compute CC: Calling generateRAPDU...POCII");
         if ((this.mCCApdu.getMobileSupportIndicator().getByte(0) & 1) == 1) {
             getTransactionContext().getPOSCII().setByte(1, (byte) (getTransactionContext().getPOSCII().getByte(1) | 16));
             fromWord.append(TLV.create(this.baf.getFromWord(-8373), getTransactionContext().getPOSCII().clone()));
         }
-        Log.m287i(TAG, "Compute CC: Calling generateRAPDU...OK");
+        Log.d(TAG, "Compute CC: Calling generateRAPDU...OK");
         getTransactionContext().setTransactionResult(MCTransactionResult.TRANSACTION_COMPLETED);
         return completeTransaction(new CCCRespApdu(fromWord).getByteArray());
     }
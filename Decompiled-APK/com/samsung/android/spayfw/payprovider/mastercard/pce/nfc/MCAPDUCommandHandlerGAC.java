@@ -41,10 +41,12 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
         if (MCTransactionResult.COMMAND_COMPLETED.equals(verifyPaymentProfile.getResponseCode())) {
             verifyPaymentProfile = initializeTransactionContext();
             if (MCTransactionResult.COMMAND_COMPLETED.equals(verifyPaymentProfile.getResponseCode())) {
-                MCCryptoOutput mCCryptoOutput = new MCCryptoOutput();
+                MCCryptoOutput mCCryptoOutput = getTransactionContext().obtainCryptoOutput();
                 if (getTransactionContext().isAlternateAID()) {
                     mCCryptoOutput.setIssuerApplicationData(this.mPaymentProfile.getContactlessPaymentData().getAlternateContactlessPaymentData().getIssuerApplicationData().clone());
-                    Log.m285d(TAG, "processCommand, iad: " + mCCryptoOutput.getIssuerApplicationData().getHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d(TAG, "processCommand, iad: {}", mCCryptoOutput.getIssuerApplicationData().getHexString());
+                    }
                 } else {
                     mCCryptoOutput.setIssuerApplicationData(this.mPaymentProfile.getContactlessPaymentData().getIssuerApplicationData().clone());
                 }
@@ -93,7 +95,7 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
     }
 
     public MCCommandResult verifyPaymentProfile(ByteArray byteArray) {
-        Log.m287i(TAG, "Start checkPaymentData...");
+        Log.d(TAG, "Start checkPaymentData...");
         this.mGenACApdu = new GenerateACApdu(byteArray);
         this.mP1 = byteArray.getByte(2);
         int i = byteArray.getByte(4) & GF2Field.MASK;
@@ -120,7 +122,7 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
     }
 
     private MCCommandResult initializeTransactionContext() {
-        Log.m287i(TAG, "initTransactionContext...");
+        Log.d(TAG, "initTransactionContext...");
         if (MCCAPDUBaseCommandHandler.isTerminalOffline(this.mGenACApdu.getTerminalType())) {
             Log.m286e(TAG, "GAC check transaction context: offline terminal.");
             return ERROR(27013);
@@ -138,10 +140,10 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
 
     private MCCommandResult composeCardholderVerificationResult() {
         int i = 1;
-        Log.m287i(TAG, "check CVR");
+        Log.d(TAG, "check CVR");
         try {
             checkCVRFromTerminal();
-            Log.m287i(TAG, "check CVM");
+            Log.d(TAG, "check CVM");
             byte b = (byte) (this.mP1 & -64);
             if (b == null) {
                 getTransactionContext().setTransactionResult(MCTransactionResult.TRANSACTION_COMPLETED);
@@ -151,7 +153,7 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
                 return completeCommand();
             } else if (Utils.isZero(this.mCVR.copyOfRange(3, 6).bitWiseAnd(this.mClData.getCIAC_Decline()))) {
                 if (getTransactionContext().getTransactionCredentials().getCVMResult() == null || getTransactionContext().getTransactionCredentials().getCVMResult().getResultCode() != 0) {
-                    Log.m287i(TAG, "tap&Go: CVM check flow");
+                    Log.d(TAG, "tap&Go: CVM check flow");
                     ByteArray cvmResults = this.mGenACApdu.getCvmResults();
                     byte b2 = (byte) (cvmResults.getByte(0) & 63);
                     if (!((b2 == (byte) 1 || b2 == 4) && cvmResults.getByte(2) == (byte) 2)) {
@@ -173,7 +175,7 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
                 getTransactionContext().setTransactionResult(MCTransactionResult.TRANSACTION_COMPLETED);
                 if (getTransactionContext().isOnlineAllowed()) {
                     arqc(this.mGenACApdu);
-                    Log.m285d(TAG, "CVM OK, ARQC");
+                    Log.d(TAG, "CVM OK, ARQC");
                     return completeCommand();
                 }
                 getTransactionContext().setPOSCII(this.baf.getByteArray(3));
@@ -211,7 +213,7 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
     private byte[] computeCryptoInputData2() {
         ContactlessPaymentData contactlessPaymentData;
         int i = GF2Field.MASK;
-        Log.m287i(TAG, "Compute input data 2");
+        Log.d(TAG, "Compute input data 2");
         if (getTransactionContext().isAlternateAID()) {
             AlternateContactlessPaymentData alternateContactlessPaymentData = getPaymentProfile().getContactlessPaymentData().getAlternateContactlessPaymentData();
             contactlessPaymentData = getPaymentProfile().getContactlessPaymentData();
@@ -226,10 +228,10 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
         this.mUnmaskedCVR = this.mCVR.clone();
         this.mCVR = this.mCVR.bitWiseAnd(contactlessPaymentData.getCVR_MaskAnd());
         ByteArray copyOfRange = this.mCVR.copyOfRange(1, this.mCVR.getLength());
-        Log.m285d(TAG, "Compute input data 2 Done");
+        Log.d(TAG, "Compute input data 2 Done");
         if ((this.mUnmaskedCVR.getByte(3) & 64) != 64) {
-            Log.m285d(TAG, "RRP MAX RRP time " + Utils.readShort(contactlessPaymentData.getMaxRRTime()));
-            Log.m285d(TAG, "RRP MIN RRP time " + Utils.readShort(contactlessPaymentData.getMinRRTime()));
+            Log.d(TAG, "RRP MAX RRP time {}", Utils.readShort(contactlessPaymentData.getMaxRRTime()));
+            Log.d(TAG, "RRP MIN RRP time {}", Utils.readShort(contactlessPaymentData.getMinRRTime()));
             ByteArray issuerApplicationData = getTransactionContext().getCryptoOutput().getIssuerApplicationData();
             int readShort = (Utils.readShort(contactlessPaymentData.getMaxRRTime()) / 10) & HCEClientConstants.HIGHEST_ATC_DEC_VALUE;
             if (readShort > GF2Field.MASK) {
@@ -243,19 +245,21 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
             issuerApplicationData.setByte(25, (byte) i);
             getTransactionContext().getCryptoOutput().setIssuerApplicationData(issuerApplicationData);
             contactlessPaymentData.setIssuerApplicationData(issuerApplicationData);
-            Log.m285d(TAG, "RRP performed: IAD after RRP counters " + contactlessPaymentData.getIssuerApplicationData().getHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d(TAG, "RRP performed: IAD after RRP counters {}", contactlessPaymentData.getIssuerApplicationData().getHexString());
+            }
         }
         if ((getTransactionContext().getCryptoOutput().getIssuerApplicationData().getByte(1) & 1) == 1) {
-            Log.m287i(TAG, "CVN requires to add counters.");
+            Log.d(TAG, "CVN requires to add counters.");
             copyOfRange.append(getTransactionContext().getCryptoOutput().getIssuerApplicationData().copyOfRange(10, 26));
         }
         return copyOfRange.clone().getBytes();
     }
 
     public MCCommandResult checkP1P2Parameters(byte b, byte b2) {
-        Log.m285d(TAG, "GAC check p1/p2: start checking P1/P2 parameters");
+        Log.d(TAG, "GAC check p1/p2: start checking P1/P2 parameters");
         if ((b & 47) == 0 && b2 == null && (b & CipherSuite.TLS_RSA_WITH_CAMELLIA_256_CBC_SHA256) != CipherSuite.TLS_RSA_WITH_CAMELLIA_256_CBC_SHA256) {
-            Log.m285d(TAG, "GAC check p1/p2: Checking P1/P2 parameters OK");
+            Log.d(TAG, "GAC check p1/p2: Checking P1/P2 parameters OK");
             return completeCommand();
         }
         Log.m286e(TAG, "GAC check p1/p2: p1 = " + b + ", p2 = " + b2);
@@ -401,13 +405,13 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
             this.mCVR.setByte(1, (byte) (this.mCVR.getByte(1) | 64));
         }
         if (getTransactionContext().isAlternateAID()) {
-            Log.m287i(TAG, "ARQC: Alternate profile");
+            Log.d(TAG, "ARQC: Alternate profile");
             getTransactionContext().getTransactionCredentials().setProfileType(getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_ALT_TA_GAC_ONLINE_NO_CVM));
         } else if (getTransactionContext().getTransactionCredentials().getCVMResult() != null && getTransactionContext().getTransactionCredentials().getCVMResult().getResultCode() == 0) {
-            Log.m287i(TAG, "ARQC: CL profile");
+            Log.d(TAG, "ARQC: CL profile");
             getTransactionContext().getTransactionCredentials().setProfileType(getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_GAC_ONLINE_CVM));
         } else if (getTransactionContext().getTransactionCredentials().getCVMResult() != null && getTransactionContext().getTransactionCredentials().getCVMResult().getResultCode() != 0) {
-            Log.m287i(TAG, "tap&Go: ARQC profile");
+            Log.d(TAG, "tap&Go: ARQC profile");
             getTransactionContext().getTransactionCredentials().setProfileType(getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_GAC_ONLINE_NO_CVM));
         }
     }
@@ -415,7 +419,9 @@ public class MCAPDUCommandHandlerGAC extends MCCAPDUBaseCommandHandler {
     private ByteArray computeIssuerApplicationData() {
         int i = 0;
         ByteArray clone = getTransactionContext().getCryptoOutput().getIssuerApplicationData().clone();
-        Log.m285d(TAG, "computeIssuerApplicationData, iad: " + clone.getHexString());
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d(TAG, "computeIssuerApplicationData, iad: {}", clone.getHexString());
+        }
         ByteArray cdol = this.mGenACApdu.getCDOL();
         for (int i2 = 0; i2 < 6; i2++) {
             clone.setByte(i2 + 2, this.mCVR.getByte(i2));
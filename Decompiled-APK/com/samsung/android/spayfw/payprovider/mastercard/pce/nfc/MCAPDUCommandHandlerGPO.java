@@ -16,9 +16,9 @@ public class MCAPDUCommandHandlerGPO extends MCCAPDUBaseCommandHandler {
     public static final String TAG = "mcpce_MCAPDUCommandHandlerGPO";
 
     public MCCommandResult checkP1P2Parameters(byte b, byte b2) {
-        Log.m285d(TAG, "GPO checking params...");
+        Log.d(TAG, "GPO checking params...");
         if (b == null && b2 == null) {
-            Log.m285d(TAG, "checkParams OK");
+            Log.d(TAG, "checkParams OK");
             return completeCommand();
         }
         Log.m286e(TAG, "GPO check params failed: p1 = " + b + ", p2 = " + b2);
@@ -39,7 +39,7 @@ public class MCAPDUCommandHandlerGPO extends MCCAPDUBaseCommandHandler {
                 Log.m286e(TAG, "GPO processCommand: internall error, MC TA isn't loaded.");
                 return ERROR(28416);
             }
-            SetContextOut context = mcTAController.setContext(getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_GPO));
+            SetContextOut context = mcTAController.setContext(getTransactionContext().getTransactionCredentials().getTokenReferenceId(), getTransactionContext().getTransactionCredentials().getTAProfilesTable().getTAProfileReference(TAProfile.PROFILE_CL_TA_GPO));
             if (context == null || context._atc == null || context._wrapped_atc_obj == null || context._iccdn == null) {
                 return completeCommand(27013);
             }
@@ -49,13 +49,17 @@ public class MCAPDUCommandHandlerGPO extends MCCAPDUBaseCommandHandler {
                 return ERROR(27013);
             }
             getTransactionContext().getTransactionCredentials().setATC(data);
-            Log.m287i(TAG, "Contactless transaction ATC: " + this.baf.getByteArray(data, data.length).getHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d(TAG, "Contactless transaction ATC: {}", this.baf.getByteArray(data, data.length).getHexString());
+            }
             data = context._iccdn.getData();
             if (data == null || data.length != 16) {
                 Log.m286e(TAG, "GPO setContext: wrong ICCDN length.");
                 return ERROR(27013);
             }
-            Log.m285d(TAG, "Contactless transaction IDN: " + this.baf.getByteArray(data, data.length).getHexString());
+            if (Log.isLoggable(Log.DEBUG)) {
+                Log.d(TAG, "Contactless transaction IDN: {}", this.baf.getByteArray(data, data.length).getHexString());
+            }
             getTransactionContext().getTransactionCredentials().setIDN(data);
             byte[] data2 = context._wrapped_atc_obj.getData();
             if (data2 == null) {
@@ -70,7 +74,7 @@ public class MCAPDUCommandHandlerGPO extends MCCAPDUBaseCommandHandler {
     }
 
     public MCCommandResult generateResponseAPDU() {
-        Log.m287i(TAG, "GPO start to generate RAPDU");
+        Log.d(TAG, "GPO start to generate RAPDU");
         ByteArray clone = getPaymentProfile().getContactlessPaymentData().getGPO_Response().clone();
         if (getTransactionContext().isAlternateAID()) {
             clone = getPaymentProfile().getContactlessPaymentData().getAlternateContactlessPaymentData().getGPO_Response().clone();
@@ -127,7 +131,9 @@ public class MCAPDUCommandHandlerGPO extends MCCAPDUBaseCommandHandler {
     }
 
     public boolean checkCLA(byte b) {
-        Log.m285d(TAG, "GPO checkCLA " + McUtils.byteToHex(b));
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d(TAG, "GPO checkCLA {}", McUtils.byteToHex(b));
+        }
         return b == -128;
     }
 }
@@ -51,7 +51,9 @@ public class MCAPDUCommandHandlerSELECT extends MCCAPDUBaseCommandHandler {
                 if (alternateContactlessPaymentData == null || alternateContactlessPaymentData.getAID() == null) {
                     Log.m286e(TAG, "Alt Aid is null");
                 } else {
-                    Log.m287i(TAG, "C-APDU SELECT Alt aid: " + alternateContactlessPaymentData.getAID().getHexString());
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.d(TAG, "C-APDU SELECT Alt aid: {}", alternateContactlessPaymentData.getAID().getHexString());
+                    }
                 }
                 return ERROR(27266);
             }
@@ -70,7 +72,9 @@ public class MCAPDUCommandHandlerSELECT extends MCCAPDUBaseCommandHandler {
     }
 
     public boolean checkCLA(byte b) {
-        Log.m287i(TAG, "SELECT checkCLA: " + McUtils.byteToHex(b));
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d(TAG, "SELECT checkCLA: {}", McUtils.byteToHex(b));
+        }
         return b == -128 || b == null;
     }
 }
@@ -37,20 +37,22 @@ public abstract class MCCAPDUBaseCommandHandler {
             Log.m286e(TAG, "Empty apdu. Return error code 27013");
             return ERROR(27013);
         }
-        Log.m287i(TAG, "apdu:" + byteArray.getHexString());
-        Log.m285d(TAG, "Check APDU parameters.");
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.d(TAG, "apdu:{}", byteArray.getHexString());
+        }
+        Log.d(TAG, "Check APDU parameters.");
         MCCommandResult checkP1P2Parameters = checkP1P2Parameters(byteArray.getByte(2), byteArray.getByte(3));
         if (checkP1P2Parameters != null) {
-            Log.m285d(TAG, "checkP1P2Parameters response result: " + checkP1P2Parameters.getResponseCode());
+            Log.d(TAG, "checkP1P2Parameters response result: {}", checkP1P2Parameters.getResponseCode());
         }
         if (MCTransactionResult.COMMAND_COMPLETED.equals(checkP1P2Parameters.getResponseCode())) {
-            Log.m285d(TAG, "Process APDU.");
+            Log.d(TAG, "Process APDU.");
             checkP1P2Parameters = processCommand(byteArray);
             if (MCTransactionResult.COMMAND_COMPLETED.equals(checkP1P2Parameters.getResponseCode())) {
-                Log.m287i(TAG, "Generate APDU response.");
+                Log.d(TAG, "Generate APDU response.");
                 return generateResponseAPDU();
             } else if (MCTransactionResult.TRANSACTION_COMPLETED.equals(checkP1P2Parameters.getResponseCode())) {
-                Log.m287i(TAG, "ProccessAPDU Transaction completed  " + checkP1P2Parameters.getResponseCode());
+                Log.d(TAG, "ProccessAPDU Transaction completed  {}", checkP1P2Parameters.getResponseCode());
                 return checkP1P2Parameters;
             } else {
                 Log.m286e(TAG, "ProccessAPDU execution error, error code " + checkP1P2Parameters.getResponseCode());
@@ -71,7 +71,20 @@ public class McTAController extends TAController {
     private final int MC_TA_INTERNAL_ERROR;
     private final int MC_TA_SUCCESS;
     private byte[] PING_DATA;
+    private long mContextEpoch;
     private McDeviceCert mMcDeviceCert;
+    private SetContextOut mPreparedContext;
+    private PreparedContextOwner mPreparedOwner;
+    private int mPreparedProfile;
+    private long mPreparedToken;
+
+    /**
+     * Owner of a prepared context. It is told when the context is dropped
+     * unused, so it can persist the wrapped ATC the TA already advanced.
+     */
+    public interface PreparedContextOwner {
+        void onPreparedContextDropped(SetContextOut setContextOut);
+    }
 
     public static class CasdParams {
         public byte[] hpk;
@@ -114,6 +127,7 @@ public class McTAController extends TAController {
         this.MC_TA_INTERNAL_ERROR = -1;
         this.MC_TA_SUCCESS = 0;
         this.mMcDeviceCert = null;
+        this.mPreparedContext = null;
         this.PING_DATA = new byte[]{(byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 0, (byte) 1, (byte) 2, (byte) 3};
     }
 
@@ -254,10 +268,75 @@ public class McTAController extends TAController {
         return null;
     }
 
-    public SetContextOut setContext(int i) {
+    /**
+     * Incremented by every set-context and prepared-context release. A
+     * caller samples it before handing prepareContext to another thread.
+     */
+    public synchronized long getContextEpoch() {
+        return this.mContextEpoch;
+    }
+
+    /**
+     * Sets the context for profile i of token j now and keeps the result
+     * for the next setContext(j, i). The TA holds a single context, so any
+     * other set-context first drops the prepared one through its owner.
+     * Nothing is prepared if the context changed since epoch j2 was
+     * sampled, so a late prepare never replaces a transaction's context.
+     */
+    public synchronized SetContextOut prepareContext(long j, int i, long j2, PreparedContextOwner preparedContextOwner) {
+        if (this.mContextEpoch != j2) {
+            Log.m285d(TAG, "MCTAController: prepareContext - superseded");
+            return null;
+        }
+        SetContextOut context = setContext(i);
+        if (context != null) {
+            this.mPreparedContext = context;
+            this.mPreparedOwner = preparedContextOwner;
+            this.mPreparedProfile = i;
+            this.mPreparedToken = j;
+        }
+        return context;
+    }
+
+    /**
+     * Hands an unused context prepared for token j back to its owner while
+     * no other set-context can run.
+     */
+    public synchronized void releasePreparedContext(long j) {
+        this.mContextEpoch++;
+        if (this.mPreparedContext != null && this.mPreparedToken == j) {
+            dropPreparedContext();
+        }
+    }
+
+    public synchronized SetContextOut setContext(long j, int i) {
+        if (this.mPreparedContext == null || this.mPreparedToken != j || this.mPreparedProfile != i) {
+            return setContext(i);
+        }
+        SetContextOut setContextOut = this.mPreparedContext;
+        this.mPreparedContext = null;
+        this.mPreparedOwner = null;
+        Log.m285d(TAG, "MCTAController: setContext - use prepared context");
+        return setContextOut;
+    }
+
+    private void dropPreparedContext() {
+        SetContextOut setContextOut = this.mPreparedContext;
+        PreparedContextOwner preparedContextOwner = this.mPreparedOwner;
+        this.mPreparedContext = null;
+        this.mPreparedOwner = null;
+        if (setContextOut != null && preparedContextOwner != null) {
+            Log.m287i(TAG, "MCTAController: prepared context dropped for profile " + this.mPreparedProfile);
+            preparedContextOwner.onPreparedContextDropped(setContextOut);
+        }
+    }
+
+    public synchronized SetContextOut setContext(int i) {
         if (DEBUG) {
             Log.m285d(TAG, "MCTAController: setContext");
         }
+        dropPreparedContext();
+        this.mContextEpoch++;
         if (isTALoaded()) {
             TASetContextResponse tASetContextResponse = new TASetContextResponse(executeNoLoad(new TASetContextRequest(i)));
             if (tASetContextResponse.mRetVal == null || tASetContextResponse.mRetVal._returnCode == null || tASetContextResponse.mRetVal._returnCode.get() != 0) {
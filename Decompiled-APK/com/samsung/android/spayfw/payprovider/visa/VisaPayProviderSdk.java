@@ -17,6 +17,7 @@ import com.samsung.android.spayfw.appinterface.PaymentFramework;
 import com.samsung.android.spayfw.appinterface.TokenStatus;
 import com.samsung.android.spayfw.core.PaymentFrameworkRequester;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spayfw.payprovider.PaymentNetworkProvider;
 import com.samsung.android.spayfw.payprovider.ProviderRequestData;
 import com.samsung.android.spayfw.payprovider.ProviderResponseData;
@@ -373,14 +374,18 @@ public class VisaPayProviderSdk {
         boolean isCvmVerified = this.zN.isCvmVerified();
         long currentTimeMillis = System.currentTimeMillis();
         Log.m285d("VisaPayProviderSdk", "visa start processApdu measuretime=" + currentTimeMillis);
+        int i = (bArr == null || bArr.length < 2) ? -1 : bArr[1] & 255;
+        TapTracer.begin(TapTracer.EV_VISA_APDU, i);
         try {
             ApduResponse processCommandApdu = this.zN.processCommandApdu(bArr, bundle, isCvmVerified);
+            TapTracer.end(TapTracer.EV_VISA_APDU, i);
             long currentTimeMillis2 = System.currentTimeMillis();
             Log.m285d("VisaPayProviderSdk", "visa end processApdu measuretime=" + currentTimeMillis2);
             Log.m285d("VisaPayProviderSdk", "visa total processApdu measuretime=" + (currentTimeMillis2 - currentTimeMillis));
             Log.m285d("VisaPayProviderSdk", "apduResponse = " + new String(processCommandApdu.getApduData()));
             return processCommandApdu.getApduData();
         } catch (Throwable e) {
+            TapTracer.end(TapTracer.EV_VISA_APDU, i);
             Log.m284c("VisaPayProviderSdk", e.getMessage(), e);
             return new byte[]{(byte) 105, (byte) -123};
         }
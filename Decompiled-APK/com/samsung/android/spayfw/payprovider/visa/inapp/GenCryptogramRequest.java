@@ -2,6 +2,7 @@ package com.samsung.android.spayfw.payprovider.visa.inapp;
 
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.Client;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.TokenRequesterRequest;
@@ -35,4 +36,8 @@ public class GenCryptogramRequest extends TokenRequesterRequest<Data, Data, Resp
     protected Response<Data> m1147b(int i, String str) {
         return new Response(null, (Data) this.Al.fromJson(str, Data.class), i);
     }
+
+    protected Response<Data> parseResponse(int i, Body body) {
+        return new Response(null, (Data) this.Al.fromJson(body.charStream(), Data.class), i);
+    }
 }
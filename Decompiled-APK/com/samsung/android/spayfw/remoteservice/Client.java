@@ -3,6 +3,7 @@ package com.samsung.android.spayfw.remoteservice;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
@@ -22,9 +23,21 @@ public abstract class Client {
             PATCH
         }
 
+        /**
+         * Response body handed to {@link C0574a}. It is read straight from the
+         * connection as UTF-8 and is only valid until the callback returns.
+         */
+        public interface Body {
+            Reader charStream();
+
+            String peek(int i) throws IOException;
+
+            String string() throws IOException;
+        }
+
         /* renamed from: com.samsung.android.spayfw.remoteservice.Client.HttpRequest.a */
         public interface C0574a {
-            void m1154a(int i, Map<String, List<String>> map, byte[] bArr);
+            void m1154a(int i, Map<String, List<String>> map, Body body);
 
             void m1155a(IOException iOException);
         }
@@ -42,6 +55,10 @@ public abstract class Client {
 
         <Z> Z fromJson(String str, Type type);
 
+        <Z> Z fromJson(Reader reader, Class<Z> cls);
+
+        <Z> Z fromJson(Reader reader, Type type);
+
         String toJson(Object obj);
     }
 
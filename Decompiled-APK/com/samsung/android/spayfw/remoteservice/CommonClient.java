@@ -5,7 +5,6 @@ import android.os.Build;
 import android.os.Bundle;
 import com.americanexpress.mobilepayments.hceclient.utils.common.HCEClientConstants;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.samsung.android.spayfw.appinterface.PaymentFramework;
 import com.samsung.android.spayfw.core.ConfigurationManager;
 import com.samsung.android.spayfw.p002b.Log;
@@ -18,9 +17,11 @@ import com.samsung.android.spayfw.remoteservice.p022e.SslUtils;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.DeviceInfo;
 import com.samsung.android.spayfw.utils.AttestationHelper;
 import com.samsung.android.spayfw.utils.GLDManager;
+import com.samsung.android.spayfw.utils.GsonHolder;
 import com.samsung.android.spayfw.utils.Utils;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import java.io.File;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.UUID;
 
@@ -50,7 +51,7 @@ public abstract class CommonClient extends Client {
         final Gson sGson;
 
         private CommonClient() {
-            this.sGson = new GsonBuilder().disableHtmlEscaping().create();
+            this.sGson = GsonHolder.get();
         }
 
         public String toJson(Object obj) {
@@ -64,6 +65,14 @@ public abstract class CommonClient extends Client {
         public <Z> Z fromJson(String str, Type type) {
             return this.sGson.fromJson(str, type);
         }
+
+        public <Z> Z fromJson(Reader reader, Class<Z> cls) {
+            return this.sGson.fromJson(reader, (Class) cls);
+        }
+
+        public <Z> Z fromJson(Reader reader, Type type) {
+            return this.sGson.fromJson(reader, type);
+        }
     }
 
     protected CommonClient(Context context, String str) {
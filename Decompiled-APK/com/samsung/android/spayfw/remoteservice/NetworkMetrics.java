@@ -0,0 +1,356 @@
+package com.samsung.android.spayfw.remoteservice;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.samsung.android.spayfw.p002b.Log;
+import com.squareup.okhttp.Connection;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Interceptor.Chain;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Per-endpoint network metrics for the framework's OkHttp client. Each
+ * call is split into connect (getting a connection, which covers DNS, TCP
+ * and the TLS handshake when the connection is new), time to first byte
+ * and body read. Endpoints are keyed by method, host and a path template
+ * in which id-like segments are replaced with {id}. drainEvents() turns
+ * the window into analytics events and starts a new one.
+ */
+public final class NetworkMetrics {
+    private static final String CATEGORY = "network_metrics";
+    private static final long[] LATENCY_BOUNDS_MS;
+    private static final int MAX_ENDPOINTS = 64;
+    private static final String OTHER = "other";
+    private static final String TAG = "NetworkMetrics";
+    private static final HashMap<String, Endpoint> sEndpoints;
+    private static final WeakHashMap<Connection, Boolean> sSeenConnections;
+    private static long sWindowStart;
+
+    private static class Endpoint {
+        long bodyMs;
+        long bytesIn;
+        long bytesOut;
+        int calls;
+        long connectMs;
+        int failures;
+        final int[] latency;
+        int newConnections;
+        int retries;
+        final TreeMap<String, Integer> statuses;
+        long ttfbMs;
+
+        private Endpoint() {
+            this.latency = new int[(NetworkMetrics.LATENCY_BOUNDS_MS.length + 1)];
+            this.statuses = new TreeMap();
+        }
+    }
+
+    /**
+     * State of one application-level call. It travels to the network
+     * interceptor as the request tag so both ends see the same object.
+     */
+    static class Call {
+        int attempts;
+        long bodyStart;
+        long bytesOut;
+        long connectNanos;
+        final String endpoint;
+        boolean finished;
+        long lastMark;
+        boolean newConnection;
+        final long start;
+        long ttfbNanos;
+
+        Call(String str) {
+            this.endpoint = str;
+            this.start = System.nanoTime();
+            this.lastMark = this.start;
+        }
+
+        synchronized void finish(String str, long j) {
+            if (!this.finished) {
+                this.finished = true;
+                long nanoTime = System.nanoTime();
+                NetworkMetrics.record(this, str, j, this.bodyStart > 0 ? nanoTime - this.bodyStart : 0, nanoTime - this.start);
+            }
+        }
+    }
+
+    private static class MeteredBody extends ResponseBody {
+        private final ResponseBody mBody;
+        private final BufferedSource mSource;
+
+        MeteredBody(ResponseBody responseBody, Call call, int i, String str) throws IOException {
+            this.mBody = responseBody;
+            this.mSource = Okio.buffer(new MeteredSource(responseBody.source(), call, i, str));
+        }
+
+        public MediaType contentType() {
+            return this.mBody.contentType();
+        }
+
+        public long contentLength() throws IOException {
+            return this.mBody.contentLength();
+        }
+
+        public BufferedSource source() {
+            return this.mSource;
+        }
+    }
+
+    private static class MeteredSource extends ForwardingSource {
+        private final int mAttempt;
+        private long mBytes;
+        private final Call mCall;
+        private final String mStatus;
+
+        MeteredSource(Source source, Call call, int i, String str) {
+            super(source);
+            this.mCall = call;
+            this.mAttempt = i;
+            this.mStatus = str;
+        }
+
+        public long read(Buffer buffer, long j) throws IOException {
+            long read = super.read(buffer, j);
+            if (read == -1) {
+                done();
+            } else {
+                this.mBytes += read;
+            }
+            return read;
+        }
+
+        public void close() throws IOException {
+            super.close();
+            done();
+        }
+
+        private void done() {
+            if (this.mAttempt == this.mCall.attempts) {
+                this.mCall.finish(this.mStatus, this.mBytes);
+            }
+        }
+    }
+
+    /**
+     * Application interceptor: opens the call record and accounts calls
+     * that fail with an IOException. Must run before the network
+     * interceptor, which completes the record.
+     */
+    public static class CallInterceptor implements Interceptor {
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            Call call = new Call(NetworkMetrics.template(request.method(), request.url()));
+            try {
+                return chain.proceed(request.newBuilder().tag(call).build());
+            } catch (IOException e) {
+                call.finish("io", 0);
+                throw e;
+            }
+        }
+    }
+
+    static {
+        LATENCY_BOUNDS_MS = new long[]{50, 100, 250, 500, 1000, 2500, 5000, 10000};
+        sEndpoints = new HashMap();
+        sSeenConnections = new WeakHashMap();
+        sWindowStart = System.currentTimeMillis();
+    }
+
+    private NetworkMetrics() {
+    }
+
+    /**
+     * Called by the network interceptor before the request goes out on
+     * the connection. Requests without a call record are ignored.
+     */
+    public static void onNetworkRequest(Request request, Connection connection) {
+        if (request.tag() instanceof Call) {
+            Call call = (Call) request.tag();
+            long nanoTime = System.nanoTime();
+            synchronized (call) {
+                call.attempts++;
+                call.connectNanos += nanoTime - call.lastMark;
+                call.lastMark = nanoTime;
+                if (request.body() != null) {
+                    try {
+                        call.bytesOut += Math.max(0, request.body().contentLength());
+                    } catch (IOException e) {
+                        Log.m285d(TAG, "contentLength: " + e.getMessage());
+                    }
+                }
+            }
+            if (connection != null) {
+                synchronized (sSeenConnections) {
+                    if (sSeenConnections.put(connection, Boolean.TRUE) == null) {
+                        call.newConnection = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by the network interceptor once response headers are in.
+     * Returns the response with a body that finishes the record when it
+     * is exhausted or closed.
+     */
+    public static Response onNetworkResponse(Request request, Response response) throws IOException {
+        if (!(request.tag() instanceof Call)) {
+            return response;
+        }
+        Call call = (Call) request.tag();
+        long nanoTime = System.nanoTime();
+        synchronized (call) {
+            call.ttfbNanos += nanoTime - call.lastMark;
+            call.lastMark = nanoTime;
+            call.bodyStart = nanoTime;
+        }
+        String valueOf = String.valueOf(response.code());
+        ResponseBody body = response.body();
+        if (body != null) {
+            return response.newBuilder().body(new MeteredBody(body, call, call.attempts, valueOf)).build();
+        }
+        call.finish(valueOf, 0);
+        return response;
+    }
+
+    static String template(String str, URL url) {
+        StringBuilder append = new StringBuilder(str).append(' ').append(url.getHost());
+        for (String str2 : url.getPath().split("/")) {
+            if (!str2.isEmpty()) {
+                append.append('/').append(isId(str2) ? "{id}" : str2);
+            }
+        }
+        return append.toString();
+    }
+
+    private static boolean isId(String str) {
+        int i = 0;
+        for (int i2 = 0; i2 < str.length(); i2++) {
+            if (Character.isDigit(str.charAt(i2))) {
+                i++;
+            }
+        }
+        return i == str.length() || str.length() >= 16 || (i > 0 && str.length() >= 8);
+    }
+
+    private static void record(Call call, String str, long j, long j2, long j3) {
+        synchronized (sEndpoints) {
+            Endpoint endpoint = (Endpoint) sEndpoints.get(call.endpoint);
+            if (endpoint == null) {
+                String str2 = sEndpoints.size() < MAX_ENDPOINTS ? call.endpoint : OTHER;
+                endpoint = (Endpoint) sEndpoints.get(str2);
+                if (endpoint == null) {
+                    endpoint = new Endpoint();
+                    sEndpoints.put(str2, endpoint);
+                }
+            }
+            endpoint.calls++;
+            if ("io".equals(str)) {
+                endpoint.failures++;
+            }
+            Integer num = (Integer) endpoint.statuses.get(str);
+            endpoint.statuses.put(str, Integer.valueOf(num != null ? num.intValue() + 1 : 1));
+            endpoint.retries += Math.max(0, call.attempts - 1);
+            if (call.newConnection) {
+                endpoint.newConnections++;
+            }
+            endpoint.connectMs += call.connectNanos / 1000000;
+            endpoint.ttfbMs += call.ttfbNanos / 1000000;
+            endpoint.bodyMs += j2 / 1000000;
+            endpoint.bytesIn += j;
+            endpoint.bytesOut += call.bytesOut;
+            long j4 = j3 / 1000000;
+            int i = 0;
+            while (i < LATENCY_BOUNDS_MS.length && j4 > LATENCY_BOUNDS_MS[i]) {
+                i++;
+            }
+            int[] iArr = endpoint.latency;
+            iArr[i] = iArr[i] + 1;
+        }
+        if (Log.isLoggable(Log.DEBUG)) {
+            Log.m285d(TAG, call.endpoint + " " + str + " in " + (j3 / 1000000) + "ms, attempts " + call.attempts);
+        }
+    }
+
+    /**
+     * Returns one analytics event JSON per endpoint seen since the last
+     * drain, in the same shape as AnalyticEvent, and resets the window.
+     */
+    public static List<String> drainEvents() {
+        HashMap hashMap;
+        long j;
+        synchronized (sEndpoints) {
+            hashMap = new HashMap(sEndpoints);
+            sEndpoints.clear();
+            j = sWindowStart;
+            sWindowStart = System.currentTimeMillis();
+        }
+        List<String> arrayList = new ArrayList();
+        long currentTimeMillis = System.currentTimeMillis();
+        for (Entry entry : hashMap.entrySet()) {
+            Endpoint endpoint = (Endpoint) entry.getValue();
+            StringBuilder stringBuilder = new StringBuilder();
+            for (Entry entry2 : endpoint.statuses.entrySet()) {
+                if (stringBuilder.length() > 0) {
+                    stringBuilder.append(',');
+                }
+                stringBuilder.append((String) entry2.getKey()).append(':').append(entry2.getValue());
+            }
+            StringBuilder stringBuilder2 = new StringBuilder();
+            for (int i = 0; i < endpoint.latency.length; i++) {
+                if (i > 0) {
+                    stringBuilder2.append(',');
+                }
+                stringBuilder2.append(i < LATENCY_BOUNDS_MS.length ? String.valueOf(LATENCY_BOUNDS_MS[i]) : "inf").append(':').append(endpoint.latency[i]);
+            }
+            JsonArray jsonArray = new JsonArray();
+            field(jsonArray, "endpoint", (String) entry.getKey());
+            field(jsonArray, "window_ms", String.valueOf(currentTimeMillis - j));
+            field(jsonArray, "calls", String.valueOf(endpoint.calls));
+            field(jsonArray, "failures", String.valueOf(endpoint.failures));
+            field(jsonArray, "retries", String.valueOf(endpoint.retries));
+            field(jsonArray, "new_connections", String.valueOf(endpoint.newConnections));
+            field(jsonArray, "status", stringBuilder.toString());
+            field(jsonArray, "latency_ms_hist", stringBuilder2.toString());
+            field(jsonArray, "connect_ms_sum", String.valueOf(endpoint.connectMs));
+            field(jsonArray, "ttfb_ms_sum", String.valueOf(endpoint.ttfbMs));
+            field(jsonArray, "body_ms_sum", String.valueOf(endpoint.bodyMs));
+            field(jsonArray, "bytes_in", String.valueOf(endpoint.bytesIn));
+            field(jsonArray, "bytes_out", String.valueOf(endpoint.bytesOut));
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("category", CATEGORY);
+            jsonObject.addProperty("id", UUID.randomUUID().toString());
+            jsonObject.addProperty("timestamp", String.valueOf(currentTimeMillis));
+            jsonObject.add("fields", jsonArray);
+            arrayList.add(jsonObject.toString());
+        }
+        return arrayList;
+    }
+
+    private static void field(JsonArray jsonArray, String str, String str2) {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("key", str);
+        jsonObject.addProperty("value", str2);
+        jsonArray.add(jsonObject);
+    }
+}
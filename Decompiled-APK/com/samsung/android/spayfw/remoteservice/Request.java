@@ -1,8 +1,11 @@
 package com.samsung.android.spayfw.remoteservice;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.Client.C0575a;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.C0574a;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.models.ErrorResponseData;
@@ -10,6 +13,7 @@ import com.samsung.android.spayfw.remoteservice.models.ServerCertificates;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -22,8 +26,9 @@ import java.util.TimerTask;
 import org.bouncycastle.asn1.x509.DisplayText;
 
 public abstract class Request<U, V, W extends Response<V>, T extends Request<U, V, W, T>> {
+    private static final int PEEK_LIMIT = 4096;
     private static final Object AC;
-    private static boolean AD;
+    private static volatile boolean AD;
     private static List<Request> AE;
     private String AA;
     private String AB;
@@ -68,55 +73,58 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
             this.AF = request;
         }
 
-        public void m1157a(int i, Map<String, List<String>> map, byte[] bArr) {
+        public void m1157a(int i, Map<String, List<String>> map, Body body) {
             try {
                 Log.m287i(this.AF.TAG, "TR Response : " + i);
-                if (i == 401 && bArr != null) {
+                boolean z = false;
+                if (i == 401 && body != null) {
                     try {
-                        String str = new String(bArr);
-                        Log.m286e(this.AF.TAG, "TR Response : " + str);
-                        CifResponse cifResponse = (CifResponse) this.AF.Al.fromJson(str, CifResponse.class);
-                        if (!(cifResponse == null || cifResponse.resultCode == null || !cifResponse.resultCode.equals("CIF1N1017"))) {
+                        String peek = body.peek(Request.PEEK_LIMIT);
+                        Log.m286e(this.AF.TAG, "TR Response : " + peek);
+                        if ("CIF1N1017".equals(Request.bf(peek))) {
                             i = -2;
                         }
-                        this.AF.At = this.AF.m841e(i, str);
+                        this.AF.At = this.AF.m841e(i, body.string());
+                        z = true;
                     } catch (Exception e) {
                         Log.m286e(this.AF.TAG, e.getMessage());
                     }
                 }
+                String str;
                 if (i == 412) {
                     Log.m286e(this.AF.TAG, "TR Response : HEADER_PF_VERSION : " + Request.m829b((Map) map, "PF-Version"));
                 } else if (i == 421) {
-                    this.AF.m830b(i, map, bArr);
+                    this.AF.m830b(i, map, body);
                     return;
                 } else if (i == 409) {
-                    if (bArr != null) {
-                        r0 = new String(bArr);
-                        Log.m286e(this.AF.TAG, "TR Response : " + r0);
-                        this.AF.At = this.AF.m838b(i, r0);
+                    if (body != null) {
+                        str = body.string();
+                        Log.m286e(this.AF.TAG, "TR Response : " + str);
+                        this.AF.At = this.AF.m838b(i, str);
                     }
                 } else if (i == 503) {
-                    r0 = Request.m829b((Map) map, "Retry-After");
-                    Log.m286e(this.AF.TAG, "TR Response ::onFailure : retry-after = " + r0);
+                    str = Request.m829b((Map) map, "Retry-After");
+                    Log.m286e(this.AF.TAG, "TR Response ::onFailure : retry-after = " + str);
                     if (this.AF.Aq != null) {
-                        this.AF.Aq.m365f(i, r0);
+                        this.AF.Aq.m365f(i, str);
                     }
                 } else if (i >= DisplayText.DISPLAY_TEXT_MAXIMUM_SIZE && i <= 300) {
                     Log.m285d(this.AF.TAG, "TR Response : HEADER_PF_VERSION : " + Request.m829b((Map) map, "PF-Version"));
-                    if (bArr != null) {
-                        r0 = new String(bArr);
-                        Log.m285d(this.AF.TAG, "TR Response : " + r0);
-                        this.AF.At = this.AF.m838b(i, r0);
-                        r0 = Request.m829b((Map) map, "Server-Tokens");
-                        Log.m285d(this.AF.TAG, "TR Response : HEADER_SERVER_TOKENS : " + r0);
-                        if (r0 != null) {
-                            this.AF.At.bh(r0);
+                    if (body != null) {
+                        if (Log.isLoggable(Log.DEBUG)) {
+                            Log.m285d(this.AF.TAG, "TR Response : " + body.peek(Request.PEEK_LIMIT));
+                        }
+                        this.AF.At = this.AF.parseResponse(i, body);
+                        str = Request.m829b((Map) map, "Server-Tokens");
+                        Log.m285d(this.AF.TAG, "TR Response : HEADER_SERVER_TOKENS : " + str);
+                        if (str != null) {
+                            this.AF.At.bh(str);
                         }
                     }
-                } else if (bArr != null) {
-                    r0 = new String(bArr);
-                    Log.m286e(this.AF.TAG, "TR Response Error: " + r0);
-                    this.AF.At = this.AF.m841e(i, r0);
+                } else if (body != null && !z) {
+                    str = body.string();
+                    Log.m286e(this.AF.TAG, "TR Response Error: " + str);
+                    this.AF.At = this.AF.m841e(i, str);
                 }
                 Log.m285d(this.AF.TAG, "mCallback : " + this.AF.Aq);
                 if (this.AF.Aq != null) {
@@ -160,61 +168,22 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
             this.AF = request;
         }
 
-        /* JADX WARNING: inconsistent code. */
-        /* Code decompiled incorrectly, please refer to instructions dump. */
         public void run() {
-            /*
-            r6 = this;
-            r1 = com.samsung.android.spayfw.remoteservice.Request.AC;
-            monitor-enter(r1);
-            r0 = r6.AF;	 Catch:{ all -> 0x0051 }
-            r0 = r0.TAG;	 Catch:{ all -> 0x0051 }
-            r2 = "runUnattestedFlow: dispatching req queue";
-            com.samsung.android.spayfw.p002b.Log.m287i(r0, r2);	 Catch:{ all -> 0x0051 }
-            r0 = 0;
-            com.samsung.android.spayfw.remoteservice.Request.AD = r0;	 Catch:{ all -> 0x0051 }
-            r0 = com.samsung.android.spayfw.remoteservice.Request.AE;	 Catch:{ all -> 0x0051 }
-            r2 = r0.iterator();	 Catch:{ all -> 0x0051 }
-        L_0x001c:
-            r0 = r2.hasNext();	 Catch:{ all -> 0x0051 }
-            if (r0 == 0) goto L_0x0054;
-        L_0x0022:
-            r0 = r2.next();	 Catch:{ all -> 0x0051 }
-            r0 = (com.samsung.android.spayfw.remoteservice.Request) r0;	 Catch:{ all -> 0x0051 }
-            r3 = r6.AF;	 Catch:{ all -> 0x0051 }
-            r3 = r3.TAG;	 Catch:{ all -> 0x0051 }
-            r4 = new java.lang.StringBuilder;	 Catch:{ all -> 0x0051 }
-            r4.<init>();	 Catch:{ all -> 0x0051 }
-            r5 = "runUnattestedFlow: dispatch req : ";
-            r4 = r4.append(r5);	 Catch:{ all -> 0x0051 }
-            r5 = r0.getRequestType();	 Catch:{ all -> 0x0051 }
-            r4 = r4.append(r5);	 Catch:{ all -> 0x0051 }
-            r4 = r4.toString();	 Catch:{ all -> 0x0051 }
-            com.samsung.android.spayfw.p002b.Log.m287i(r3, r4);	 Catch:{ all -> 0x0051 }
-            r0.eW();	 Catch:{ Exception -> 0x004c }
-            goto L_0x001c;
-        L_0x004c:
-            r0 = move-exception;
-            r0.printStackTrace();	 Catch:{ all -> 0x0051 }
-            goto L_0x001c;
-        L_0x0051:
-            r0 = move-exception;
-            monitor-exit(r1);	 Catch:{ all -> 0x0051 }
-            throw r0;
-        L_0x0054:
-            r0 = com.samsung.android.spayfw.remoteservice.Request.AE;	 Catch:{ all -> 0x0051 }
-            r0.clear();	 Catch:{ all -> 0x0051 }
-            monitor-exit(r1);	 Catch:{ all -> 0x0051 }
-            return;
-            */
-            throw new UnsupportedOperationException("Method not decompiled: com.samsung.android.spayfw.remoteservice.Request.2.run():void");
-        }
-    }
-
-    private static class CifResponse {
-        String resultCode;
-
-        private CifResponse() {
+            List<Request> list;
+            synchronized (Request.AC) {
+                Log.m287i(this.AF.TAG, "runUnattestedFlow: dispatching req queue");
+                Request.AD = false;
+                list = Request.AE;
+                Request.AE = new ArrayList();
+            }
+            for (Request request : list) {
+                Log.m287i(this.AF.TAG, "runUnattestedFlow: dispatch req : " + request.getRequestType());
+                try {
+                    request.eW();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
         }
     }
 
@@ -224,6 +193,26 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
 
     protected abstract String getRequestType();
 
+    protected W parseResponse(int i, Body body) throws IOException {
+        return m838b(i, body.string());
+    }
+
+    private static String bf(String str) {
+        JsonReader jsonReader = new JsonReader(new StringReader(str));
+        try {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if ("resultCode".equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.STRING) {
+                    return jsonReader.nextString();
+                }
+                jsonReader.skipValue();
+            }
+        } catch (Exception e) {
+            Log.m285d("Request", "resultCode not found: " + e.getMessage());
+        }
+        return null;
+    }
+
     private static String m829b(Map<String, List<String>> map, String str) {
         if (map == null || map.get(str) == null) {
             return null;
@@ -828,36 +817,66 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
     }
 
     W eW() {
-        synchronized (AC) {
-            if (AD && this.Ap == null && !this.Au) {
-                AE.add(this);
-                Log.m287i(this.TAG, "executeInternal : req added in queue : " + getRequestType());
-                W w = this.At;
-                return w;
-            }
-            this.An = this.Am.bd(this.Av);
-            String eU = eU();
-            Log.m287i(this.TAG, "executeInternal : " + getRequestType());
-            Log.m285d(this.TAG, "requestUrl : " + eU);
-            if (eU == null) {
-                Log.m286e(this.TAG, "The requested url is null");
-                if (this.Aq == null) {
-                    return null;
+        if (AD && this.Ap == null && !this.Au) {
+            synchronized (AC) {
+                if (AD) {
+                    AE.add(this);
+                    Log.m287i(this.TAG, "executeInternal : req added in queue : " + getRequestType());
+                    return this.At;
                 }
-                this.Aq.m363a(0, null);
+            }
+        }
+        this.An = this.Am.bd(this.Av);
+        String eU = eU();
+        Log.m287i(this.TAG, "executeInternal : " + getRequestType());
+        Log.m285d(this.TAG, "requestUrl : " + eU);
+        if (eU == null) {
+            Log.m286e(this.TAG, "The requested url is null");
+            if (this.Aq == null) {
                 return null;
             }
-            URI.create(eU);
-            init();
-            eX();
-            eV();
-            Log.m285d(this.TAG, "TR Request : mRequestData" + this.As);
-            String j = m842j(this.As);
-            Log.m285d(this.TAG, "TR Request : requestDataString" + j);
-            this.Aw++;
-            this.An.m1156a(this.Ar, eU, j, this.Ao, this.Au);
-            return this.At;
+            this.Aq.m363a(0, null);
+            return null;
+        }
+        URI.create(eU);
+        init();
+        eX();
+        eV();
+        Log.m285d(this.TAG, "TR Request : mRequestData" + this.As);
+        String j = m842j(this.As);
+        Log.m285d(this.TAG, "TR Request : requestDataString" + j);
+        this.Aw++;
+        C0574a c0574a = this.Ao;
+        if (!this.Au && this.Ap == null && eY()) {
+            c0574a = RequestCoalescer.join(RequestCoalescer.key(this.Ar, eU, eZ(), j), this.Ao);
+            if (c0574a == null) {
+                Log.m287i(this.TAG, "executeInternal : coalesced with in-flight " + getRequestType());
+                return this.At;
+            }
         }
+        this.An.m1156a(this.Ar, eU, j, c0574a, this.Au);
+        return this.At;
+    }
+
+    protected boolean eY() {
+        return false;
+    }
+
+    private Map<String, String> eZ() {
+        Map<String, String> hashMap = new HashMap(this.Ax);
+        if (this.AA != null) {
+            hashMap.put("Server-Cert-Id", this.AA);
+        }
+        if (this.Ay != null) {
+            hashMap.put("Device-Huid", this.Ay);
+        }
+        if (this.Az != null) {
+            hashMap.put("Device-Hpk", this.Az);
+        }
+        if (this.Av != null) {
+            hashMap.put("User-Agent", this.Av);
+        }
+        return hashMap;
     }
 
     private void eX() {
@@ -902,7 +921,7 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
         Log.m286e(this.TAG, "HTTP CLIENT IS NULL");
     }
 
-    private void m830b(int i, Map<String, List<String>> map, byte[] bArr) {
+    private void m830b(int i, Map<String, List<String>> map, Body body) {
         ServerCertificates serverCertificates = null;
         Log.m285d(this.TAG, "runUnattestedFlow()");
         String b = m829b((Map) map, "Attestation-Nonce");
@@ -913,16 +932,16 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
             synchronized (AC) {
                 if (!AD || this.Au) {
                     AD = true;
-                    Log.m287i(this.TAG, "runUnattestedFlow: generating attestation blob");
-                    this.Ap = this.Am.bc(b);
-                    Log.m287i(this.TAG, "runUnattestedFlow: attestation blob generated");
-                    new Timer().schedule(new C05782(this), 1000);
                 } else {
                     AE.add(this);
                     Log.m287i(this.TAG, "runUnattestedFlow: req added in queue : " + getRequestType());
                     return;
                 }
             }
+            Log.m287i(this.TAG, "runUnattestedFlow: generating attestation blob");
+            this.Ap = this.Am.bc(b);
+            Log.m287i(this.TAG, "runUnattestedFlow: attestation blob generated");
+            new Timer().schedule(new C05782(this), 1000);
         }
         if (!(this.Ay == null || this.Az == null)) {
             b = m829b((Map) map, "Device-Ecasd");
@@ -946,10 +965,15 @@ public abstract class Request<U, V, W extends Response<V>, T extends Request<U,
         b = m829b((Map) map, "Server-Cert-Id");
         Log.m285d(this.TAG, "serverCertsHash : " + b);
         if (b != null && !b.isEmpty()) {
-            if (bArr != null && bArr.length > 0) {
-                String str = new String(bArr);
-                Log.m285d(this.TAG, "TR Response : " + str);
-                serverCertificates = (ServerCertificates) this.Al.fromJson(str, ServerCertificates.class);
+            if (body != null) {
+                try {
+                    if (Log.isLoggable(Log.DEBUG)) {
+                        Log.m285d(this.TAG, "TR Response : " + body.peek(PEEK_LIMIT));
+                    }
+                    serverCertificates = (ServerCertificates) this.Al.fromJson(body.charStream(), ServerCertificates.class);
+                } catch (IOException e) {
+                    Log.m286e(this.TAG, "server certificates: " + e.getMessage());
+                }
             }
             Log.m285d(this.TAG, "mCallback : " + this.Aq);
             if (this.Aq != null) {
@@ -0,0 +1,162 @@
+package com.samsung.android.spayfw.remoteservice;
+
+import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.C0574a;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares one network call between identical idempotent requests that are
+ * in flight at the same time. The first caller for a key goes to the
+ * network; later callers are parked until its response arrives and then
+ * each gets the same status, headers and body. The key is the method, URL,
+ * headers and a SHA-256 of the body.
+ */
+public final class RequestCoalescer {
+    private static final String TAG = "RequestCoalescer";
+    private static final Charset UTF_8;
+    private static final AtomicLong sHits;
+    private static final HashMap<String, List<C0574a>> sInFlight;
+    private static final AtomicLong sMisses;
+
+    private static class FanOut implements C0574a {
+        private final String mKey;
+        private final C0574a mLeader;
+
+        FanOut(String str, C0574a c0574a) {
+            this.mKey = str;
+            this.mLeader = c0574a;
+        }
+
+        public void m1154a(int i, Map<String, List<String>> map, Body body) {
+            List<C0574a> finish = RequestCoalescer.finish(this.mKey);
+            if (finish.isEmpty()) {
+                this.mLeader.m1154a(i, map, body);
+                return;
+            }
+            String str = null;
+            if (body != null) {
+                try {
+                    str = body.string();
+                } catch (IOException e) {
+                    this.mLeader.m1155a(e);
+                    for (C0574a c0574a : finish) {
+                        c0574a.m1155a(e);
+                    }
+                    return;
+                }
+            }
+            this.mLeader.m1154a(i, map, str != null ? new StringBody(str) : null);
+            for (C0574a c0574a2 : finish) {
+                c0574a2.m1154a(i, map, str != null ? new StringBody(str) : null);
+            }
+        }
+
+        public void m1155a(IOException iOException) {
+            List<C0574a> finish = RequestCoalescer.finish(this.mKey);
+            this.mLeader.m1155a(iOException);
+            for (C0574a c0574a : finish) {
+                c0574a.m1155a(iOException);
+            }
+        }
+    }
+
+    private static class StringBody implements Body {
+        private final String mString;
+
+        StringBody(String str) {
+            this.mString = str;
+        }
+
+        public Reader charStream() {
+            return new StringReader(this.mString);
+        }
+
+        public String peek(int i) {
+            return this.mString.length() <= i ? this.mString : this.mString.substring(0, i);
+        }
+
+        public String string() {
+            return this.mString;
+        }
+    }
+
+    static {
+        UTF_8 = Charset.forName("UTF-8");
+        sInFlight = new HashMap();
+        sHits = new AtomicLong();
+        sMisses = new AtomicLong();
+    }
+
+    private RequestCoalescer() {
+    }
+
+    static String key(RequestMethod requestMethod, String str, Map<String, String> map, String str2) {
+        StringBuilder append = new StringBuilder(requestMethod.name()).append(' ').append(str);
+        for (Entry entry : new TreeMap(map).entrySet()) {
+            append.append('\n').append((String) entry.getKey()).append(':').append((String) entry.getValue());
+        }
+        if (str2 == null || str2.isEmpty()) {
+            return append.toString();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(str2.getBytes(UTF_8));
+            append.append('\n');
+            for (byte b : digest) {
+                append.append(Character.forDigit((b >> 4) & 15, 16)).append(Character.forDigit(b & 15, 16));
+            }
+        } catch (NoSuchAlgorithmException e) {
+            append.append('\n').append(str2);
+        }
+        return append.toString();
+    }
+
+    /**
+     * Returns the callback the caller should send its request with, or null
+     * if an identical request is already in flight and the caller's callback
+     * has been attached to it.
+     */
+    static C0574a join(String str, C0574a c0574a) {
+        synchronized (sInFlight) {
+            List list = (List) sInFlight.get(str);
+            if (list != null) {
+                list.add(c0574a);
+                sHits.incrementAndGet();
+                Log.m287i(TAG, "joined in-flight request, waiters " + list.size());
+                return null;
+            }
+            sInFlight.put(str, new ArrayList());
+            sMisses.incrementAndGet();
+            return new FanOut(str, c0574a);
+        }
+    }
+
+    private static List<C0574a> finish(String str) {
+        List<C0574a> list;
+        synchronized (sInFlight) {
+            list = (List) sInFlight.remove(str);
+        }
+        return list != null ? list : new ArrayList();
+    }
+
+    public static long getHitCount() {
+        return sHits.get();
+    }
+
+    public static long getMissCount() {
+        return sMisses.get();
+    }
+}
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.cashcard;
 
 import com.google.gson.reflect.TypeToken;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Request;
 import com.samsung.android.spayfw.remoteservice.Response;
@@ -47,10 +48,18 @@ public class ListCashCardRequest extends Request<String, Collection<CashCardInfo
         return "ListCashCardRequest";
     }
 
+    protected boolean eY() {
+        return true;
+    }
+
     protected Response<Collection<CashCardInfo>> m1178b(int i, String str) {
         return new Response(null, (Collection) this.Al.fromJson(str, new ListCashCardRequest(this).getType()), i);
     }
 
+    protected Response<Collection<CashCardInfo>> parseResponse(int i, Body body) {
+        return new Response(null, (Collection) this.Al.fromJson(body.charStream(), new ListCashCardRequest(this).getType()), i);
+    }
+
     protected void init() {
         if (this.AL != null && !this.AL.isEmpty()) {
             addHeader("OTP", this.AL);
@@ -1,5 +1,6 @@
 package com.samsung.android.spayfw.remoteservice.cashcard;
 
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Request;
 import com.samsung.android.spayfw.remoteservice.Response;
@@ -37,6 +38,10 @@ public class QueryCashCardRequest extends Request<String, CashCardInfo, Response
         return new Response(null, (CashCardInfo) this.Al.fromJson(str, CashCardInfo.class), i);
     }
 
+    protected Response<CashCardInfo> parseResponse(int i, Body body) {
+        return new Response(null, (CashCardInfo) this.Al.fromJson(body.charStream(), CashCardInfo.class), i);
+    }
+
     protected void init() {
         if (!(this.AL == null || this.AL.isEmpty())) {
             addHeader("OTP", this.AL);
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.commerce;
 
 import com.samsung.android.spayfw.remoteservice.Client;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Request;
 import com.samsung.android.spayfw.remoteservice.Response;
@@ -24,4 +25,8 @@ public class PaymentRequest extends Request<PaymentRequestData, PaymentResponseD
     protected Response<PaymentResponseData> m1182b(int i, String str) {
         return new Response(null, (PaymentResponseData) this.Al.fromJson(str, PaymentResponseData.class), i);
     }
+
+    protected Response<PaymentResponseData> parseResponse(int i, Body body) {
+        return new Response(null, (PaymentResponseData) this.Al.fromJson(body.charStream(), PaymentResponseData.class), i);
+    }
 }
@@ -4,8 +4,12 @@ import com.google.android.gms.location.LocationStatusCodes;
 import com.samsung.android.spayfw.appinterface.PaymentFramework;
 import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.C0574a;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
+import com.samsung.android.spayfw.remoteservice.NetworkMetrics;
+import com.samsung.android.spayfw.remoteservice.NetworkMetrics.CallInterceptor;
+import com.samsung.android.spayfw.utils.HttpClientCore;
 import com.squareup.okhttp.Callback;
 import com.squareup.okhttp.Interceptor;
 import com.squareup.okhttp.Interceptor.Chain;
@@ -17,9 +21,14 @@ import com.squareup.okhttp.RequestBody;
 import com.squareup.okhttp.Response;
 import com.squareup.okhttp.ResponseBody;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLSocketFactory;
+import okio.Buffer;
+import okio.BufferedSource;
 import org.bouncycastle.math.ec.ECCurve;
 import org.bouncycastle.math.ec.ECFieldElement.F2m;
 import org.bouncycastle.pqc.jcajce.provider.util.CipherSpiExt;
@@ -27,9 +36,14 @@ import org.bouncycastle.x509.ExtendedPKIXParameters;
 
 /* renamed from: com.samsung.android.spayfw.remoteservice.b.a */
 public class HttpRequestAdapter implements HttpRequest {
+    private static final Charset UTF_8;
     private static OkHttpClient AR;
     private Builder AS;
 
+    static {
+        UTF_8 = Charset.forName("UTF-8");
+    }
+
     /* renamed from: com.samsung.android.spayfw.remoteservice.b.a.1 */
     class HttpRequestAdapter implements Callback {
         final /* synthetic */ C0574a AT;
@@ -45,34 +59,62 @@ public class HttpRequestAdapter implements HttpRequest {
         }
 
         public void onResponse(Response response) {
-            byte[] bArr = null;
             if (response != null) {
+                Map toMultimap;
+                int code = response.code();
+                if (response.headers() != null) {
+                    toMultimap = response.headers().toMultimap();
+                } else {
+                    toMultimap = null;
+                }
+                ResponseBody body = response.body();
+                if (code >= LocationStatusCodes.GEOFENCE_NOT_AVAILABLE) {
+                    code += PaymentFramework.RESULT_CODE_FAIL_UNSUPPORTED_VERSION;
+                }
                 try {
-                    Map toMultimap;
-                    int code = response.code();
-                    if (response.headers() != null) {
-                        toMultimap = response.headers().toMultimap();
-                    } else {
-                        toMultimap = null;
-                    }
-                    ResponseBody body = response.body();
-                    if (body != null) {
-                        bArr = body.bytes();
-                    }
-                    if (code >= LocationStatusCodes.GEOFENCE_NOT_AVAILABLE) {
-                        code += PaymentFramework.RESULT_CODE_FAIL_UNSUPPORTED_VERSION;
-                    }
-                    this.AT.m1154a(code, toMultimap, bArr);
+                    this.AT.m1154a(code, toMultimap, body != null ? new SourceBody(body.source()) : null);
                     return;
                 } catch (IOException e) {
                     this.AT.m1155a(e);
                     return;
+                } finally {
+                    if (body != null) {
+                        try {
+                            body.close();
+                        } catch (IOException e2) {
+                            Log.m290w("HttpRequestAdapter", "close body: " + e2.getMessage());
+                        }
+                    }
                 }
             }
             Log.m286e("HttpRequestAdapter", "Response is null");
         }
     }
 
+    private static class SourceBody implements Body {
+        private final BufferedSource mSource;
+
+        SourceBody(BufferedSource bufferedSource) {
+            this.mSource = bufferedSource;
+        }
+
+        public Reader charStream() {
+            return new InputStreamReader(this.mSource.inputStream(), UTF_8);
+        }
+
+        public String peek(int i) throws IOException {
+            this.mSource.request((long) i);
+            Buffer buffer = this.mSource.buffer();
+            Buffer buffer2 = new Buffer();
+            buffer.copyTo(buffer2, 0, Math.min((long) i, buffer.size()));
+            return buffer2.readString(UTF_8);
+        }
+
+        public String string() throws IOException {
+            return this.mSource.readString(UTF_8);
+        }
+    }
+
     /* renamed from: com.samsung.android.spayfw.remoteservice.b.a.2 */
     static /* synthetic */ class HttpRequestAdapter {
         static final /* synthetic */ int[] AV;
@@ -103,14 +145,20 @@ public class HttpRequestAdapter implements HttpRequest {
         HttpRequestAdapter() {
         }
 
-        public Response intercept(Chain chain) {
+        public Response intercept(Chain chain) throws IOException {
             Request request = chain.request();
             long nanoTime = System.nanoTime();
-            Log.m285d("HttpRequestAdapter", String.format("Sending request %s on %s%n%s", new Object[]{request.url(), chain.connection(), request.headers()}));
-            Log.m285d("HttpRequestAdapter", "Connection : " + chain.connection().hashCode());
-            Response proceed = chain.proceed(request);
+            boolean isLoggable = Log.isLoggable(Log.DEBUG);
+            if (isLoggable) {
+                Log.m285d("HttpRequestAdapter", String.format("Sending request %s on %s%n%s", new Object[]{request.url(), chain.connection(), request.headers()}));
+                Log.m285d("HttpRequestAdapter", "Connection : " + chain.connection().hashCode());
+            }
+            NetworkMetrics.onNetworkRequest(request, chain.connection());
+            Response proceed = NetworkMetrics.onNetworkResponse(request, chain.proceed(request));
             long nanoTime2 = System.nanoTime();
-            Log.m285d("HttpRequestAdapter", String.format("Received response for %s in %.1fms%n%s", new Object[]{proceed.request().url(), Double.valueOf(((double) (nanoTime2 - nanoTime)) / 1000000.0d), proceed.headers()}));
+            if (isLoggable) {
+                Log.m285d("HttpRequestAdapter", String.format("Received response for %s in %.1fms%n%s", new Object[]{proceed.request().url(), Double.valueOf(((double) (nanoTime2 - nanoTime)) / 1000000.0d), proceed.headers()}));
+            }
             if (proceed.code() == 407) {
                 return proceed.newBuilder().code(proceed.code() + LocationStatusCodes.GEOFENCE_NOT_AVAILABLE).build();
             }
@@ -135,7 +183,8 @@ public class HttpRequestAdapter implements HttpRequest {
         HttpRequestAdapter httpRequestAdapter;
         synchronized (HttpRequestAdapter.class) {
             if (AR == null) {
-                AR = new OkHttpClient();
+                AR = HttpClientCore.newClient();
+                AR.interceptors().add(new CallInterceptor());
                 AR.interceptors().add(new HttpRequestAdapter(str));
                 AR.setSslSocketFactory(sSLSocketFactory);
                 AR.setRetryOnConnectionFailure(true);
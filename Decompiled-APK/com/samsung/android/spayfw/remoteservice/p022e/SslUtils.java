@@ -18,11 +18,14 @@ import java.security.KeyStore;
 import java.security.cert.X509Certificate;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509KeyManager;
 
 /* renamed from: com.samsung.android.spayfw.remoteservice.e.c */
 public class SslUtils {
+    private static final int SESSION_CACHE_SIZE = 32;
+    private static final int SESSION_TIMEOUT_SECONDS = 86400;
     private static final boolean Bb;
     private static SSLContext Bc;
     private static String Bd;
@@ -42,6 +45,13 @@ public class SslUtils {
         synchronized (SslUtils.class) {
             if (Bc == null) {
                 Bc = SslUtils.m1192O(context);
+                if (Bc != null) {
+                    SSLSessionContext clientSessionContext = Bc.getClientSessionContext();
+                    if (clientSessionContext != null) {
+                        clientSessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+                        clientSessionContext.setSessionTimeout(SESSION_TIMEOUT_SECONDS);
+                    }
+                }
             }
             sSLContext = Bc;
         }
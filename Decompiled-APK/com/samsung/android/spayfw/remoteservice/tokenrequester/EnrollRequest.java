@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.EnrollmentRequestData;
@@ -21,7 +22,14 @@ public class EnrollRequest extends TokenRequesterRequest<EnrollmentRequestData,
     }
 
     protected Response<EnrollmentResponseData> m1198b(int i, String str) {
-        EnrollmentResponseData enrollmentResponseData = (EnrollmentResponseData) this.Al.fromJson(str, EnrollmentResponseData.class);
+        return m1218a(i, (EnrollmentResponseData) this.Al.fromJson(str, EnrollmentResponseData.class));
+    }
+
+    protected Response<EnrollmentResponseData> parseResponse(int i, Body body) {
+        return m1218a(i, (EnrollmentResponseData) this.Al.fromJson(body.charStream(), EnrollmentResponseData.class));
+    }
+
+    private Response<EnrollmentResponseData> m1218a(int i, EnrollmentResponseData enrollmentResponseData) {
         Log.m285d("EnrollRequest", "EnrollmentResponseData : " + enrollmentResponseData);
         if (enrollmentResponseData != null) {
             m840b(enrollmentResponseData.getEulas());
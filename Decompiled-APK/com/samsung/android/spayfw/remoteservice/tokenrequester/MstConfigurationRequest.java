@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.MstConfigurationRequestData;
@@ -20,8 +21,19 @@ public class MstConfigurationRequest extends TokenRequesterRequest<MstConfigurat
         return "MstConfigurationRequest";
     }
 
+    protected boolean eY() {
+        return true;
+    }
+
     protected Response<MstConfigurationResponseData> m1199b(int i, String str) {
-        MstConfigurationResponseData mstConfigurationResponseData = (MstConfigurationResponseData) this.Al.fromJson(str, MstConfigurationResponseData.class);
+        return m1219a(i, (MstConfigurationResponseData) this.Al.fromJson(str, MstConfigurationResponseData.class));
+    }
+
+    protected Response<MstConfigurationResponseData> parseResponse(int i, Body body) {
+        return m1219a(i, (MstConfigurationResponseData) this.Al.fromJson(body.charStream(), MstConfigurationResponseData.class));
+    }
+
+    private Response<MstConfigurationResponseData> m1219a(int i, MstConfigurationResponseData mstConfigurationResponseData) {
         Log.m285d("MstConfigurationRequest", "MstConfigurationResponseData : " + mstConfigurationResponseData);
         return new Response(null, mstConfigurationResponseData, i);
     }
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.models.Art;
@@ -38,8 +39,19 @@ public class QueryTokenRequest extends TokenRequesterRequest<String, TokenRespon
         return "SPAYFW:QueryTokenRequest";
     }
 
+    protected boolean eY() {
+        return true;
+    }
+
     protected Response<TokenResponseData> m1204b(int i, String str) {
-        TokenResponseData tokenResponseData = (TokenResponseData) this.Al.fromJson(str, TokenResponseData.class);
+        return m1220a(i, (TokenResponseData) this.Al.fromJson(str, TokenResponseData.class));
+    }
+
+    protected Response<TokenResponseData> parseResponse(int i, Body body) {
+        return m1220a(i, (TokenResponseData) this.Al.fromJson(body.charStream(), TokenResponseData.class));
+    }
+
+    private Response<TokenResponseData> m1220a(int i, TokenResponseData tokenResponseData) {
         if (this.Bg) {
             if (!(tokenResponseData == null || tokenResponseData.getCard() == null)) {
                 m837a(tokenResponseData.getCard().getArts());
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.IdvOptionsData;
@@ -28,6 +29,10 @@ public class RefreshIdvRequest extends TokenRequesterRequest<String, IdvOptionsD
         return new Response(null, (IdvOptionsData) this.Al.fromJson(str, IdvOptionsData.class), i);
     }
 
+    protected Response<IdvOptionsData> parseResponse(int i, Body body) {
+        return new Response(null, (IdvOptionsData) this.Al.fromJson(body.charStream(), IdvOptionsData.class), i);
+    }
+
     protected void init() {
         addHeader("Cache-Control", "no-cache");
     }
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ReplenishTokenRequestData;
@@ -33,4 +34,8 @@ public class ReplenishTokenRequest extends TokenRequesterRequest<ReplenishTokenR
     protected Response<ReplenishTokenRequestData> m1207b(int i, String str) {
         return new Response(null, (ReplenishTokenRequestData) this.Al.fromJson(str, ReplenishTokenRequestData.class), i);
     }
+
+    protected Response<ReplenishTokenRequestData> parseResponse(int i, Body body) {
+        return new Response(null, (ReplenishTokenRequestData) this.Al.fromJson(body.charStream(), ReplenishTokenRequestData.class), i);
+    }
 }
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.appinterface.IdvMethod;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.IdvSelectionResponseData;
@@ -27,6 +28,10 @@ public class SelectIdvRequest extends TokenRequesterRequest<TokenRequestData, Id
         return new Response(null, (IdvSelectionResponseData) this.Al.fromJson(str, IdvSelectionResponseData.class), i);
     }
 
+    protected Response<IdvSelectionResponseData> parseResponse(int i, Body body) {
+        return new Response(null, (IdvSelectionResponseData) this.Al.fromJson(body.charStream(), IdvSelectionResponseData.class), i);
+    }
+
     protected void init() {
         addHeader("Proxy-Authorization", "IDV " + this.Bi.getId());
     }
@@ -1,6 +1,7 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Data;
@@ -33,4 +34,8 @@ public class UpdateLoyaltyCardRequest extends TokenRequesterRequest<List<Instruc
     protected Response<Data> m1216b(int i, String str) {
         return new Response(null, (Data) this.Al.fromJson(str, Data.class), i);
     }
+
+    protected Response<Data> parseResponse(int i, Body body) {
+        return new Response(null, (Data) this.Al.fromJson(body.charStream(), Data.class), i);
+    }
 }
@@ -1,5 +1,6 @@
 package com.samsung.android.spayfw.remoteservice.tokenrequester;
 
+import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.Body;
 import com.samsung.android.spayfw.remoteservice.Client.HttpRequest.RequestMethod;
 import com.samsung.android.spayfw.remoteservice.Response;
 import com.samsung.android.spayfw.remoteservice.tokenrequester.models.TokenRequestData;
@@ -26,6 +27,10 @@ public class VerifyIdvRequest extends TokenRequesterRequest<TokenRequestData, To
         return new Response(null, (TokenResponseData) this.Al.fromJson(str, TokenResponseData.class), i);
     }
 
+    protected Response<TokenResponseData> parseResponse(int i, Body body) {
+        return new Response(null, (TokenResponseData) this.Al.fromJson(body.charStream(), TokenResponseData.class), i);
+    }
+
     protected void init() {
         addHeader("Proxy-Authorization", this.Bk);
     }
@@ -5,6 +5,18 @@ public class ContextData {
     private Network network;
     private Token token;
 
+    Environment getEnvironment() {
+        return this.environment;
+    }
+
+    Network getNetwork() {
+        return this.network;
+    }
+
+    Token getToken() {
+        return this.token;
+    }
+
     public void setNetwork(Network network) {
         this.network = network;
     }
@@ -4,6 +4,14 @@ public class Expiry {
     private String month;
     private String year;
 
+    public Expiry() {
+    }
+
+    Expiry(String str, String str2) {
+        this.month = str;
+        this.year = str2;
+    }
+
     public String getMonth() {
         return this.month;
     }
@@ -0,0 +1,353 @@
+package com.samsung.android.spayfw.remoteservice.tokenrequester.models;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming adapters for the token requester models that show up in almost
+ * every request and response, so Gson does not bind them reflectively:
+ * the single-string value types, Expiry, Token, ContextData and
+ * MstConfigurationResponseData. Nested members of other types still go
+ * through the adapters Gson caches for them.
+ * Only exact classes are matched. A field declared as Id or Name may hold a
+ * subclass such as DeviceInfo; those values are written with the
+ * reflective adapter for their runtime class so no fields are lost. Unknown
+ * names are skipped and null fields are left to the writer, the same as the
+ * reflective adapter.
+ */
+public final class ModelAdapterFactory implements TypeAdapterFactory {
+    public static final ModelAdapterFactory INSTANCE;
+
+    static {
+        INSTANCE = new ModelAdapterFactory();
+    }
+
+    private static abstract class StringFieldAdapter<T> extends TypeAdapter<T> {
+        private final ConcurrentHashMap<Class<?>, TypeAdapter> mDelegates;
+        private final Gson mGson;
+        private final String mName;
+        private final Class<T> mType;
+
+        abstract T create(String str);
+
+        abstract String get(T t);
+
+        StringFieldAdapter(Gson gson, Class<T> cls, String str) {
+            this.mDelegates = new ConcurrentHashMap();
+            this.mGson = gson;
+            this.mType = cls;
+            this.mName = str;
+        }
+
+        public T read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            String str = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if (this.mName.equals(jsonReader.nextName())) {
+                    str = ModelAdapterFactory.readString(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return create(str);
+        }
+
+        public void write(JsonWriter jsonWriter, T t) throws IOException {
+            if (t == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            Class cls = t.getClass();
+            if (cls != this.mType) {
+                TypeAdapter typeAdapter = (TypeAdapter) this.mDelegates.get(cls);
+                if (typeAdapter == null) {
+                    typeAdapter = this.mGson.getDelegateAdapter(ModelAdapterFactory.INSTANCE, TypeToken.get(cls));
+                    this.mDelegates.put(cls, typeAdapter);
+                }
+                typeAdapter.write(jsonWriter, t);
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name(this.mName).value(get(t));
+            jsonWriter.endObject();
+        }
+    }
+
+    private static class ExpiryAdapter extends TypeAdapter<Expiry> {
+        private ExpiryAdapter() {
+        }
+
+        public Expiry read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            String str = null;
+            String str2 = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("month".equals(nextName)) {
+                    str = ModelAdapterFactory.readString(jsonReader);
+                } else if ("year".equals(nextName)) {
+                    str2 = ModelAdapterFactory.readString(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return new Expiry(str, str2);
+        }
+
+        public void write(JsonWriter jsonWriter, Expiry expiry) throws IOException {
+            if (expiry == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("month").value(expiry.getMonth());
+            jsonWriter.name("year").value(expiry.getYear());
+            jsonWriter.endObject();
+        }
+    }
+
+    private static class TokenAdapter extends TypeAdapter<Token> {
+        private TokenAdapter() {
+        }
+
+        public Token read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            String str = null;
+            String str2 = null;
+            String str3 = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("id".equals(nextName)) {
+                    str = ModelAdapterFactory.readString(jsonReader);
+                } else if (!"card".equals(nextName) || jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                    jsonReader.skipValue();
+                } else {
+                    jsonReader.beginObject();
+                    while (jsonReader.hasNext()) {
+                        nextName = jsonReader.nextName();
+                        if ("brand".equals(nextName)) {
+                            str2 = ModelAdapterFactory.readString(jsonReader);
+                        } else if ("merchantId".equals(nextName)) {
+                            str3 = ModelAdapterFactory.readString(jsonReader);
+                        } else {
+                            jsonReader.skipValue();
+                        }
+                    }
+                    jsonReader.endObject();
+                }
+            }
+            jsonReader.endObject();
+            return new Token(str, str2, str3);
+        }
+
+        public void write(JsonWriter jsonWriter, Token token) throws IOException {
+            if (token == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("card").beginObject();
+            jsonWriter.name("brand").value(token.getBrand());
+            jsonWriter.name("merchantId").value(token.getMerchantId());
+            jsonWriter.endObject();
+            jsonWriter.name("id").value(token.getId());
+            jsonWriter.endObject();
+        }
+    }
+
+    private static class ContextDataAdapter extends TypeAdapter<ContextData> {
+        private final TypeAdapter<Environment> mEnvironment;
+        private final TypeAdapter<Network> mNetwork;
+        private final TypeAdapter<Token> mToken;
+
+        ContextDataAdapter(Gson gson) {
+            this.mEnvironment = gson.getAdapter(Environment.class);
+            this.mNetwork = gson.getAdapter(Network.class);
+            this.mToken = gson.getAdapter(Token.class);
+        }
+
+        public ContextData read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            ContextData contextData = new ContextData();
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("environment".equals(nextName)) {
+                    contextData.setEnvironment((Environment) this.mEnvironment.read(jsonReader));
+                } else if ("network".equals(nextName)) {
+                    contextData.setNetwork((Network) this.mNetwork.read(jsonReader));
+                } else if ("token".equals(nextName)) {
+                    contextData.setToken((Token) this.mToken.read(jsonReader));
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return contextData;
+        }
+
+        public void write(JsonWriter jsonWriter, ContextData contextData) throws IOException {
+            if (contextData == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("environment");
+            this.mEnvironment.write(jsonWriter, contextData.getEnvironment());
+            jsonWriter.name("network");
+            this.mNetwork.write(jsonWriter, contextData.getNetwork());
+            jsonWriter.name("token");
+            this.mToken.write(jsonWriter, contextData.getToken());
+            jsonWriter.endObject();
+        }
+    }
+
+    private static class MstConfigurationResponseAdapter extends TypeAdapter<MstConfigurationResponseData> {
+        private final TypeAdapter<CacheMetaData[]> mCaches;
+        private final TypeAdapter<Recommendation[]> mRecommendations;
+
+        MstConfigurationResponseAdapter(Gson gson) {
+            this.mCaches = gson.getAdapter(CacheMetaData[].class);
+            this.mRecommendations = gson.getAdapter(Recommendation[].class);
+        }
+
+        public MstConfigurationResponseData read(JsonReader jsonReader) throws IOException {
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return null;
+            }
+            String str = null;
+            Recommendation[] recommendationArr = null;
+            CacheMetaData[] cacheMetaDataArr = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String nextName = jsonReader.nextName();
+                if ("id".equals(nextName)) {
+                    str = ModelAdapterFactory.readString(jsonReader);
+                } else if ("recommendations".equals(nextName)) {
+                    recommendationArr = (Recommendation[]) this.mRecommendations.read(jsonReader);
+                } else if ("caches".equals(nextName)) {
+                    cacheMetaDataArr = (CacheMetaData[]) this.mCaches.read(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return new MstConfigurationResponseData(str, recommendationArr, cacheMetaDataArr);
+        }
+
+        public void write(JsonWriter jsonWriter, MstConfigurationResponseData mstConfigurationResponseData) throws IOException {
+            if (mstConfigurationResponseData == null) {
+                jsonWriter.nullValue();
+                return;
+            }
+            jsonWriter.beginObject();
+            jsonWriter.name("caches");
+            this.mCaches.write(jsonWriter, mstConfigurationResponseData.getCaches());
+            jsonWriter.name("id").value(mstConfigurationResponseData.getId());
+            jsonWriter.name("recommendations");
+            this.mRecommendations.write(jsonWriter, mstConfigurationResponseData.getRecommendations());
+            jsonWriter.endObject();
+        }
+    }
+
+    private ModelAdapterFactory() {
+    }
+
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class rawType = typeToken.getRawType();
+        if (rawType == Id.class) {
+            return (TypeAdapter<T>) new StringFieldAdapter<Id>(gson, Id.class, "id") {
+                Id create(String str) {
+                    return new Id(str);
+                }
+
+                String get(Id id) {
+                    return id.getId();
+                }
+            };
+        }
+        if (rawType == Name.class) {
+            return (TypeAdapter<T>) new StringFieldAdapter<Name>(gson, Name.class, "name") {
+                Name create(String str) {
+                    return new Name(str);
+                }
+
+                String get(Name name) {
+                    return name.getName();
+                }
+            };
+        }
+        if (rawType == Url.class) {
+            return (TypeAdapter<T>) new StringFieldAdapter<Url>(gson, Url.class, "href") {
+                Url create(String str) {
+                    return new Url(str);
+                }
+
+                String get(Url url) {
+                    return url.getHref();
+                }
+            };
+        }
+        if (rawType == Code.class) {
+            return (TypeAdapter<T>) new StringFieldAdapter<Code>(gson, Code.class, "code") {
+                Code create(String str) {
+                    return new Code(str);
+                }
+
+                String get(Code code) {
+                    return code.code;
+                }
+            };
+        }
+        if (rawType == Expiry.class) {
+            return (TypeAdapter<T>) new ExpiryAdapter();
+        }
+        if (rawType == Token.class) {
+            return (TypeAdapter<T>) new TokenAdapter();
+        }
+        if (rawType == ContextData.class) {
+            return (TypeAdapter<T>) new ContextDataAdapter(gson);
+        }
+        if (rawType == MstConfigurationResponseData.class) {
+            return (TypeAdapter<T>) new MstConfigurationResponseAdapter(gson);
+        }
+        return null;
+    }
+
+    private static String readString(JsonReader jsonReader) throws IOException {
+        JsonToken peek = jsonReader.peek();
+        if (peek == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        } else if (peek == JsonToken.BOOLEAN) {
+            return Boolean.toString(jsonReader.nextBoolean());
+        } else {
+            return jsonReader.nextString();
+        }
+    }
+}
@@ -5,6 +5,15 @@ public class MstConfigurationResponseData {
     private String id;
     private Recommendation[] recommendations;
 
+    public MstConfigurationResponseData() {
+    }
+
+    MstConfigurationResponseData(String str, Recommendation[] recommendationArr, CacheMetaData[] cacheMetaDataArr) {
+        this.id = str;
+        this.recommendations = recommendationArr;
+        this.caches = cacheMetaDataArr;
+    }
+
     public String getId() {
         return this.id;
     }
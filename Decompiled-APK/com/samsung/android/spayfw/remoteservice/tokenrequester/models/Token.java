@@ -18,4 +18,16 @@ public class Token {
         this.card.brand = str2;
         this.card.merchantId = str3;
     }
+
+    String getId() {
+        return this.id;
+    }
+
+    String getBrand() {
+        return this.card != null ? this.card.brand : null;
+    }
+
+    String getMerchantId() {
+        return this.card != null ? this.card.merchantId : null;
+    }
 }
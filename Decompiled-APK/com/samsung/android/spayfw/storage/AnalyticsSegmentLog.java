@@ -0,0 +1,243 @@
+package com.samsung.android.spayfw.storage;
+
+import com.samsung.android.spayfw.p002b.Log;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.zip.Adler32;
+import java.util.zip.GZIPOutputStream;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Append-only event log backed by one fixed-size memory-mapped segment.
+ * Each record is followed by an Adler32 checksum chained over the whole
+ * segment, so a torn write ends recovery at the last good record. Full
+ * segments are compacted into gzip upload batches. Not thread safe; the
+ * owner calls it from a single thread.
+ */
+class AnalyticsSegmentLog {
+    static final String BATCH_SUFFIX = ".gz";
+    private static final int HEADER_SIZE = 12;
+    private static final int MAGIC = 1095127879;
+    private static final int RECORD_OVERHEAD = 9;
+    static final int SEGMENT_SIZE = 262144;
+    private static final String TAG = "AnalyticsSegmentLog";
+    private static final byte TYPE_CONTEXT = (byte) 1;
+    private static final byte TYPE_EVENT = (byte) 2;
+    private static final Charset UTF_8;
+    private static final int VERSION = 1;
+    private final Adler32 mChecksum;
+    private int mEventCount;
+    private int mGeneration;
+    private String mLastContext;
+    private final MappedByteBuffer mSegment;
+
+    static {
+        UTF_8 = Charset.forName("UTF-8");
+    }
+
+    AnalyticsSegmentLog(File file) throws IOException {
+        this.mChecksum = new Adler32();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.setLength((long) SEGMENT_SIZE);
+            this.mSegment = randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, (long) SEGMENT_SIZE);
+        } finally {
+            randomAccessFile.close();
+        }
+        recover();
+    }
+
+    int getEventCount() {
+        return this.mEventCount;
+    }
+
+    int getUsedBytes() {
+        return this.mSegment.position();
+    }
+
+    boolean append(String str, String str2) {
+        byte[] bytes = str.getBytes(UTF_8);
+        byte[] bytes2 = str2.getBytes(UTF_8);
+        boolean z = !str.equals(this.mLastContext);
+        int length = bytes2.length + RECORD_OVERHEAD;
+        if (z) {
+            length += bytes.length + RECORD_OVERHEAD;
+        }
+        if (this.mSegment.remaining() < length + 4) {
+            return false;
+        }
+        if (z) {
+            writeRecord(TYPE_CONTEXT, bytes);
+            this.mLastContext = str;
+        }
+        writeRecord(TYPE_EVENT, bytes2);
+        this.mEventCount++;
+        return true;
+    }
+
+    static boolean fits(String str, String str2) {
+        return ((str.getBytes(UTF_8).length + str2.getBytes(UTF_8).length) + 22) + HEADER_SIZE <= SEGMENT_SIZE;
+    }
+
+    File compact(File file) {
+        if (this.mEventCount == 0) {
+            return null;
+        }
+        LinkedHashMap linkedHashMap = new LinkedHashMap();
+        int position = this.mSegment.position();
+        this.mSegment.position(HEADER_SIZE);
+        JSONArray jSONArray = null;
+        while (this.mSegment.position() < position) {
+            int i = this.mSegment.getInt();
+            byte b = this.mSegment.get();
+            byte[] bArr = new byte[i];
+            this.mSegment.get(bArr);
+            this.mSegment.getInt();
+            String str = new String(bArr, UTF_8);
+            if (b == TYPE_CONTEXT) {
+                jSONArray = (JSONArray) linkedHashMap.get(str);
+                if (jSONArray == null) {
+                    jSONArray = new JSONArray();
+                    linkedHashMap.put(str, jSONArray);
+                }
+            } else if (jSONArray != null) {
+                try {
+                    jSONArray.put(new JSONObject(str));
+                } catch (JSONException e) {
+                    Log.m286e(TAG, "compact: dropping malformed event");
+                }
+            }
+        }
+        this.mSegment.position(position);
+        try {
+            JSONArray jSONArray2 = new JSONArray();
+            for (Entry entry : linkedHashMap.entrySet()) {
+                if (((JSONArray) entry.getValue()).length() > 0) {
+                    JSONObject jSONObject = new JSONObject();
+                    jSONObject.put("context", new JSONObject((String) entry.getKey()));
+                    jSONObject.put("events", entry.getValue());
+                    jSONArray2.put(jSONObject);
+                }
+            }
+            JSONObject jSONObject2 = new JSONObject();
+            jSONObject2.put("elements", jSONArray2);
+            JSONObject jSONObject3 = new JSONObject();
+            jSONObject3.put("app", jSONObject2);
+            JSONObject jSONObject4 = new JSONObject();
+            jSONObject4.put("data", jSONObject3);
+            File writeBatch = writeBatch(file, jSONObject4.toString().getBytes(UTF_8));
+            if (writeBatch != null) {
+                reset(this.mGeneration + 1);
+            }
+            return writeBatch;
+        } catch (JSONException e2) {
+            Log.m286e(TAG, "compact: cannot build batch, " + e2.getMessage());
+            reset(this.mGeneration + 1);
+            return null;
+        }
+    }
+
+    private File writeBatch(File file, byte[] bArr) {
+        String str = Long.toHexString(System.currentTimeMillis()) + "-" + Integer.toHexString(this.mGeneration);
+        File file2 = new File(file, str + ".tmp");
+        File file3 = new File(file, str + BATCH_SUFFIX);
+        try {
+            GZIPOutputStream gZIPOutputStream = new GZIPOutputStream(new FileOutputStream(file2));
+            try {
+                gZIPOutputStream.write(bArr);
+            } finally {
+                gZIPOutputStream.close();
+            }
+            if (file2.renameTo(file3)) {
+                Log.m285d(TAG, "compacted " + this.mEventCount + " events into " + file3.getName() + " (" + file3.length() + " bytes)");
+                return file3;
+            }
+            Log.m286e(TAG, "writeBatch: rename failed");
+        } catch (IOException e) {
+            Log.m286e(TAG, "writeBatch: " + e.getMessage());
+        }
+        file2.delete();
+        return null;
+    }
+
+    private void writeRecord(byte b, byte[] bArr) {
+        this.mChecksum.update(b);
+        this.mChecksum.update(bArr, 0, bArr.length);
+        this.mSegment.putInt(bArr.length);
+        this.mSegment.put(b);
+        this.mSegment.put(bArr);
+        this.mSegment.putInt((int) this.mChecksum.getValue());
+        this.mSegment.putInt(this.mSegment.position(), 0);
+    }
+
+    private void recover() {
+        this.mSegment.position(0);
+        if (this.mSegment.getInt() != MAGIC || this.mSegment.getInt() != VERSION) {
+            reset(0);
+            return;
+        }
+        this.mGeneration = this.mSegment.getInt();
+        seed();
+        int i = 0;
+        int i2 = 0;
+        String str = null;
+        while (this.mSegment.remaining() >= RECORD_OVERHEAD) {
+            int position = this.mSegment.position();
+            int i3 = this.mSegment.getInt();
+            if (i3 <= 0 || i3 > this.mSegment.remaining() - 5) {
+                this.mSegment.position(position);
+                break;
+            }
+            byte b = this.mSegment.get();
+            byte[] bArr = new byte[i3];
+            this.mSegment.get(bArr);
+            this.mChecksum.update(b);
+            this.mChecksum.update(bArr, 0, bArr.length);
+            if (this.mSegment.getInt() != ((int) this.mChecksum.getValue()) || (b != TYPE_CONTEXT && b != TYPE_EVENT)) {
+                Log.m286e(TAG, "recover: checksum mismatch at " + position + ", truncating");
+                this.mSegment.position(position);
+                this.mSegment.putInt(position, 0);
+                break;
+            }
+            if (b == TYPE_CONTEXT) {
+                str = new String(bArr, UTF_8);
+            } else {
+                i2++;
+            }
+            i++;
+        }
+        this.mLastContext = str;
+        this.mEventCount = i2;
+        Log.m285d(TAG, "recovered " + i + " records, " + i2 + " events");
+        if (this.mEventCount == 0 && this.mSegment.position() > HEADER_SIZE) {
+            reset(this.mGeneration + 1);
+        }
+    }
+
+    private void reset(int i) {
+        this.mGeneration = i;
+        this.mSegment.position(0);
+        this.mSegment.putInt(MAGIC);
+        this.mSegment.putInt(VERSION);
+        this.mSegment.putInt(i);
+        this.mSegment.putInt(HEADER_SIZE, 0);
+        this.mSegment.force();
+        this.mEventCount = 0;
+        this.mLastContext = null;
+        seed();
+    }
+
+    private void seed() {
+        this.mChecksum.reset();
+        this.mChecksum.update(new byte[]{(byte) (this.mGeneration >>> 24), (byte) (this.mGeneration >>> 16), (byte) (this.mGeneration >>> 8), (byte) this.mGeneration});
+    }
+}
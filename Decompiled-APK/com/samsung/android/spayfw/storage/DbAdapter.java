@@ -11,14 +11,25 @@ import com.samsung.android.spayfw.p008e.p009a.DBHelperWrapper;
 import com.samsung.android.spayfw.utils.DBUtils;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.bouncycastle.math.ec.ECFieldElement.F2m;
 import org.bouncycastle.pqc.jcajce.provider.util.CipherSpiExt;
 import org.bouncycastle.x509.ExtendedPKIXParameters;
 
 public abstract class DbAdapter {
+    private static final ReentrantReadWriteLock sLock;
+    private static volatile boolean sWalEnabled;
+    private static final Lock sWriterLock;
     private DBHelperWrapper BT;
     private SQLiteDatabase Bq;
 
+    static {
+        sLock = new ReentrantReadWriteLock();
+        sWriterLock = new ReentrantLock();
+    }
+
     /* renamed from: com.samsung.android.spayfw.storage.DbAdapter.1 */
     static /* synthetic */ class C05891 {
         static final /* synthetic */ int[] BU;
@@ -73,60 +84,60 @@ public abstract class DbAdapter {
         this.BT = null;
         this.BT = DBHelperWrapper.m689b(context, "spayfw_enc.db", 1, DBName.spayfw_enc);
         this.Bq = this.BT.getWritableDatabase(DBUtils.getDbPassword());
+        enableWriteAheadLogging(this.Bq);
+    }
+
+    private static void enableWriteAheadLogging(SQLiteDatabase sQLiteDatabase) {
+        Lock writeLock = sLock.writeLock();
+        writeLock.lock();
+        try {
+            if (!sWalEnabled) {
+                sWalEnabled = sQLiteDatabase.enableWriteAheadLogging();
+                Log.m287i("DbAdapter", "write-ahead logging enabled: " + sWalEnabled);
+            }
+        } catch (Exception e) {
+            Log.m286e("DbAdapter", "cannot enable write-ahead logging: " + e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Lock readLock() {
+        return sLock.readLock();
+    }
+
+    private static Lock writeLock() {
+        return sWalEnabled ? sWriterLock : sLock.writeLock();
     }
 
     public int m1112d(String str, String str2, String str3) {
         String str4;
         String[] strArr;
-        Throwable th;
         if (str2 != null) {
             str4 = str2 + " = ?";
             strArr = str3 != null ? new String[]{str3} : null;
         } else {
-            str2 = "_id";
             strArr = null;
             str4 = null;
         }
-        Cursor query;
+        Cursor cursor = null;
+        Lock readLock = readLock();
+        readLock.lock();
         try {
-            synchronized (DbAdapter.class) {
-                try {
-                    query = this.Bq.query(str, new String[]{str2}, str4, strArr, null, null, null);
-                    try {
-                        if (query != null) {
-                            try {
-                                Log.m285d("DbAdapter", "get count by column:" + query.getCount());
-                                int count = query.getCount();
-                                m1106a(query);
-                                return count;
-                            } catch (Throwable th2) {
-                                th = th2;
-                            }
-                        } else {
-                            m1106a(query);
-                            return 0;
-                        }
-                    } catch (Throwable th3) {
-                        th = th3;
-                        throw th;
-                    }
-                } catch (Throwable th4) {
-                    th = th4;
-                    query = null;
-                    throw th;
-                }
+            cursor = this.Bq.query(str, new String[]{"COUNT(*)"}, str4, strArr, null, null, null);
+            if (cursor == null || !cursor.moveToFirst()) {
+                return 0;
             }
-        } catch (Throwable th5) {
-            th = th5;
-            query = null;
-            m1106a(query);
-            throw th;
+            int i = cursor.getInt(0);
+            Log.m285d("DbAdapter", "get count by column:" + i);
+            return i;
+        } finally {
+            m1106a(cursor);
+            readLock.unlock();
         }
     }
 
     public List<String> m1111a(String str, String str2, String str3, String str4) {
-        Throwable th;
-        List<String> list = null;
         if (str2 == null) {
             return null;
         }
@@ -140,52 +151,23 @@ public abstract class DbAdapter {
             strArr = null;
             str5 = null;
         }
-        Cursor query;
+        Cursor cursor = null;
+        Lock readLock = readLock();
+        readLock.lock();
         try {
-            synchronized (DbAdapter.class) {
-                try {
-                    query = this.Bq.query(str, strArr2, str5, strArr, null, null, null);
-                    try {
-                        ArrayList arrayList;
-                        if (query != null) {
-                            try {
-                                if (query.getCount() > 0) {
-                                    arrayList = new ArrayList(query.getCount());
-                                    while (query.moveToNext()) {
-                                        arrayList.add(query.getString(query.getColumnIndex(str2)));
-                                    }
-                                    m1106a(query);
-                                    return arrayList;
-                                }
-                            } catch (Throwable th2) {
-                                th = th2;
-                                m1106a(query);
-                                throw th;
-                            }
-                        }
-                        arrayList = null;
-                        m1106a(query);
-                        return arrayList;
-                    } catch (Throwable th3) {
-                        th = th3;
-                        Object obj = query;
-                        try {
-                            throw th;
-                        } catch (Throwable th4) {
-                            th = th4;
-                            Object obj2 = list;
-                        }
-                    }
-                } catch (Throwable th5) {
-                    th = th5;
-                    throw th;
-                }
+            cursor = this.Bq.query(str, strArr2, str5, strArr, null, null, null);
+            if (cursor == null || cursor.getCount() <= 0) {
+                return null;
             }
-        } catch (Throwable th6) {
-            th = th6;
-            query = null;
-            m1106a(query);
-            throw th;
+            List<String> arrayList = new ArrayList(cursor.getCount());
+            int columnIndex = cursor.getColumnIndex(str2);
+            while (cursor.moveToNext()) {
+                arrayList.add(cursor.getString(columnIndex));
+            }
+            return arrayList;
+        } finally {
+            m1106a(cursor);
+            readLock.unlock();
         }
     }
 
@@ -195,7 +177,6 @@ public abstract class DbAdapter {
             return -1;
         }
         String str4;
-        int update;
         if (str2 != null) {
             str4 = str2 + " = ?";
             if (str3 != null) {
@@ -204,10 +185,13 @@ public abstract class DbAdapter {
         } else {
             str4 = null;
         }
-        synchronized (DbAdapter.class) {
-            update = this.Bq.update(str, contentValues, str4, strArr);
+        Lock writeLock = writeLock();
+        writeLock.lock();
+        try {
+            return this.Bq.update(str, contentValues, str4, strArr);
+        } finally {
+            writeLock.unlock();
         }
-        return update;
     }
 
     public int m1109a(String str, String str2, Object obj, ColumnType columnType, String str3, String str4) {
@@ -233,7 +217,6 @@ public abstract class DbAdapter {
 
     public int m1113e(String str, String str2, String str3) {
         String str4;
-        int delete;
         String[] strArr = null;
         if (str2 != null) {
             str4 = str2 + " = ?";
@@ -243,65 +226,65 @@ public abstract class DbAdapter {
         } else {
             str4 = null;
         }
-        synchronized (DbAdapter.class) {
-            delete = this.Bq.delete(str, str4, strArr);
-        }
-        return delete;
+        return delete(str, str4, strArr);
     }
 
     public int m1107a(String str, ContentValues contentValues) {
         if (contentValues == null) {
             return -1;
         }
-        int replaceOrThrow;
-        synchronized (DbAdapter.class) {
-            replaceOrThrow = (int) this.Bq.replaceOrThrow(str, null, contentValues);
+        Lock writeLock = writeLock();
+        writeLock.lock();
+        try {
+            return (int) this.Bq.replaceOrThrow(str, null, contentValues);
+        } finally {
+            writeLock.unlock();
         }
-        return replaceOrThrow;
     }
 
     public Cursor m1114f(String str, String str2, String str3) {
-        Cursor query;
         String[] strArr = null;
-        if (str2 != null) {
-            String str4 = str2 + " = ?";
-            if (str3 != null) {
-                strArr = new String[]{str3};
-            }
-            synchronized (DbAdapter.class) {
-                query = this.Bq.query(str, null, str4, strArr, null, null, null);
-            }
+        if (str2 == null) {
+            return null;
+        }
+        String str4 = str2 + " = ?";
+        if (str3 != null) {
+            strArr = new String[]{str3};
         }
-        return query;
+        return query(str, null, str4, strArr, null, null, null);
     }
 
     public Cursor m1110a(String str, String[] strArr, String str2, String[] strArr2, String str3) {
-        Cursor query;
-        synchronized (DbAdapter.class) {
-            query = this.Bq.query(str, strArr, str2, strArr2, null, null, str3);
-        }
-        return query;
+        return query(str, strArr, str2, strArr2, null, null, str3);
     }
 
     public Cursor query(String str, String[] strArr, String str2, String[] strArr2, String str3, String str4, String str5) {
-        Cursor query;
-        synchronized (DbAdapter.class) {
-            query = this.Bq.query(str, strArr, str2, strArr2, str3, str4, str5);
+        Lock readLock = readLock();
+        readLock.lock();
+        try {
+            return this.Bq.query(str, strArr, str2, strArr2, str3, str4, str5);
+        } finally {
+            readLock.unlock();
         }
-        return query;
     }
 
     public int delete(String str, String str2, String[] strArr) {
-        int delete;
-        synchronized (DbAdapter.class) {
-            delete = this.Bq.delete(str, str2, strArr);
+        Lock writeLock = writeLock();
+        writeLock.lock();
+        try {
+            return this.Bq.delete(str, str2, strArr);
+        } finally {
+            writeLock.unlock();
         }
-        return delete;
     }
 
     public void execSQL(String str) {
-        synchronized (DbAdapter.class) {
+        Lock writeLock = writeLock();
+        writeLock.lock();
+        try {
             this.Bq.execSQL(str);
+        } finally {
+            writeLock.unlock();
         }
     }
 }
@@ -0,0 +1,196 @@
+package com.samsung.android.spayfw.storage;
+
+import com.samsung.android.spayfw.storage.models.TokenRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the token_group table, keyed by enrollment id with
+ * secondary indexes on tr token id and card brand. Readers are lock-free and
+ * always get a copy; writers are serialized and called only after the
+ * corresponding database write succeeded.
+ */
+class TokenRecordCache {
+    private static final Comparator<Entry> ROW_ORDER;
+    private final ConcurrentHashMap<String, Set<String>> mByCardBrand;
+    private final ConcurrentHashMap<String, Entry> mByEnrollmentId;
+    private final ConcurrentHashMap<String, String> mByTrTokenId;
+    private volatile boolean mLoaded;
+
+    private static final class Entry {
+        final TokenRecord record;
+        final long rowId;
+
+        Entry(long j, TokenRecord tokenRecord) {
+            this.rowId = j;
+            this.record = tokenRecord;
+        }
+    }
+
+    private static final class RowOrder implements Comparator<Entry> {
+        private RowOrder() {
+        }
+
+        public int compare(Entry entry, Entry entry2) {
+            if (entry.rowId < entry2.rowId) {
+                return -1;
+            }
+            return entry.rowId == entry2.rowId ? 0 : 1;
+        }
+    }
+
+    static {
+        ROW_ORDER = new RowOrder();
+    }
+
+    TokenRecordCache() {
+        this.mByCardBrand = new ConcurrentHashMap();
+        this.mByEnrollmentId = new ConcurrentHashMap();
+        this.mByTrTokenId = new ConcurrentHashMap();
+    }
+
+    boolean isLoaded() {
+        return this.mLoaded;
+    }
+
+    synchronized void markLoaded() {
+        this.mLoaded = true;
+    }
+
+    synchronized void invalidate() {
+        this.mLoaded = false;
+        this.mByCardBrand.clear();
+        this.mByEnrollmentId.clear();
+        this.mByTrTokenId.clear();
+    }
+
+    synchronized void put(long j, TokenRecord tokenRecord) {
+        String enrollmentId = tokenRecord.getEnrollmentId();
+        if (enrollmentId != null) {
+            Entry entry = (Entry) this.mByEnrollmentId.get(enrollmentId);
+            if (j < 0 && entry != null) {
+                j = entry.rowId;
+            }
+            removeIndexes(entry);
+            String trTokenId = tokenRecord.getTrTokenId();
+            if (trTokenId != null) {
+                String str = (String) this.mByTrTokenId.get(trTokenId);
+                if (!(str == null || str.equals(enrollmentId))) {
+                    remove(str);
+                }
+            }
+            Entry entry2 = new Entry(j, tokenRecord.copy());
+            this.mByEnrollmentId.put(enrollmentId, entry2);
+            if (trTokenId != null) {
+                this.mByTrTokenId.put(trTokenId, enrollmentId);
+            }
+            String cardBrand = tokenRecord.getCardBrand();
+            if (cardBrand != null) {
+                Set set = (Set) this.mByCardBrand.get(cardBrand);
+                if (set == null) {
+                    set = Collections.newSetFromMap(new ConcurrentHashMap());
+                    this.mByCardBrand.put(cardBrand, set);
+                }
+                set.add(enrollmentId);
+            }
+        }
+    }
+
+    synchronized void remove(String str) {
+        if (str != null) {
+            removeIndexes((Entry) this.mByEnrollmentId.remove(str));
+        }
+    }
+
+    private void removeIndexes(Entry entry) {
+        if (entry != null) {
+            TokenRecord tokenRecord = entry.record;
+            String trTokenId = tokenRecord.getTrTokenId();
+            if (trTokenId != null && tokenRecord.getEnrollmentId().equals(this.mByTrTokenId.get(trTokenId))) {
+                this.mByTrTokenId.remove(trTokenId);
+            }
+            String cardBrand = tokenRecord.getCardBrand();
+            if (cardBrand != null) {
+                Set set = (Set) this.mByCardBrand.get(cardBrand);
+                if (set != null) {
+                    set.remove(tokenRecord.getEnrollmentId());
+                    if (set.isEmpty()) {
+                        this.mByCardBrand.remove(cardBrand);
+                    }
+                }
+            }
+        }
+    }
+
+    int size() {
+        return this.mByEnrollmentId.size();
+    }
+
+    boolean contains(String str) {
+        return str != null && this.mByEnrollmentId.containsKey(str);
+    }
+
+    String enrollmentIdOf(String str) {
+        if (str == null) {
+            return null;
+        }
+        return (String) this.mByTrTokenId.get(str);
+    }
+
+    TokenRecord getByEnrollmentId(String str) {
+        if (str == null) {
+            return null;
+        }
+        Entry entry = (Entry) this.mByEnrollmentId.get(str);
+        return entry != null ? entry.record.copy() : null;
+    }
+
+    TokenRecord getByTrTokenId(String str) {
+        return getByEnrollmentId(enrollmentIdOf(str));
+    }
+
+    int countByCardBrand(String str) {
+        Set set = str != null ? (Set) this.mByCardBrand.get(str) : null;
+        return set != null ? set.size() : 0;
+    }
+
+    List<TokenRecord> getByCardBrand(String str) {
+        Set<String> set = str != null ? (Set) this.mByCardBrand.get(str) : null;
+        if (set == null) {
+            return null;
+        }
+        List arrayList = new ArrayList(set.size());
+        for (String str2 : set) {
+            Entry entry = (Entry) this.mByEnrollmentId.get(str2);
+            if (entry != null) {
+                arrayList.add(entry);
+            }
+        }
+        if (arrayList.isEmpty()) {
+            return null;
+        }
+        Collections.sort(arrayList, ROW_ORDER);
+        List<TokenRecord> arrayList2 = new ArrayList(arrayList.size());
+        for (int i = 0; i < arrayList.size(); i++) {
+            arrayList2.add(((Entry) arrayList.get(i)).record.copy());
+        }
+        return arrayList2;
+    }
+
+    List<String> enrollmentIds() {
+        List arrayList = new ArrayList(this.mByEnrollmentId.values());
+        if (arrayList.isEmpty()) {
+            return null;
+        }
+        Collections.sort(arrayList, ROW_ORDER);
+        List<String> arrayList2 = new ArrayList(arrayList.size());
+        for (int i = 0; i < arrayList.size(); i++) {
+            arrayList2.add(((Entry) arrayList.get(i)).record.getEnrollmentId());
+        }
+        return arrayList2;
+    }
+}
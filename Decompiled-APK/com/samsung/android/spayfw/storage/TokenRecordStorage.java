@@ -10,10 +10,12 @@ import com.samsung.android.spayfw.p002b.Log;
 import com.samsung.android.spayfw.storage.DbAdapter.ColumnType;
 import com.samsung.android.spayfw.storage.models.TokenRecord;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TokenRecordStorage extends DbAdapter {
     private static TokenRecordStorage Cl;
+    private final TokenRecordCache Cm;
 
     public static class TokenGroup {
 
@@ -127,9 +129,147 @@ public class TokenRecordStorage extends DbAdapter {
         super(context);
         execSQL("CREATE TABLE IF NOT EXISTS token_group ( _id INTEGER PRIMARY KEY AUTOINCREMENT, enrollment_id TEXT NOT NULL UNIQUE, tr_token_id TEXT UNIQUE, user_id TEXT, app_id TEXT, provider_token_key TEXT, token_status TEXT, token_status_reason TEXT, card_brand TEXT, card_type TEXT, card_product TEXT, card_present_mode INTEGER, tnc_acceptance_time INTEGER, transaction_count INTEGER, transaction_url TEXT, data_1 TEXT, data_2 INTEGER, data_3 TEXT,  data_4 TEXT, data_5 TEXT, data_6 TEXT, data_7 BLOB, data_8 BLOB )");
         Log.m287i("TokenRecordStorage", "Create TokenGroup Table If Not Exists");
+        this.Cm = new TokenRecordCache();
+        loadCache();
+    }
+
+    private void loadCache() {
+        Cursor cursor = null;
+        synchronized (this.Cm) {
+            this.Cm.invalidate();
+            try {
+                cursor = query("token_group", null, null, null, null, null, TokenColumn.ID.getColumn());
+                if (cursor != null) {
+                    while (cursor.moveToNext()) {
+                        this.Cm.put(cursor.getLong(TokenColumn.ID.getColumnIndex()), m1222i(cursor));
+                    }
+                }
+                this.Cm.markLoaded();
+                Log.m287i("TokenRecordStorage", "token cache loaded: " + this.Cm.size());
+            } catch (Exception e) {
+                this.Cm.invalidate();
+                Log.m286e("TokenRecordStorage", "cannot load token cache: " + e.getMessage());
+            } finally {
+                DbAdapter.m1106a(cursor);
+            }
+        }
+    }
+
+    private TokenRecordCache cache() {
+        if (!this.Cm.isLoaded()) {
+            loadCache();
+        }
+        return this.Cm.isLoaded() ? this.Cm : null;
+    }
+
+    private static String getColumnValue(TokenRecord tokenRecord, TokenColumn tokenColumn) {
+        switch (tokenColumn) {
+            case ENROLLMENT_ID:
+                return tokenRecord.getEnrollmentId();
+            case TR_TOKEN_ID:
+                return tokenRecord.getTrTokenId();
+            case USER_ID:
+                return tokenRecord.getUserId();
+            case APP_ID:
+                return tokenRecord.getAppId();
+            case TOKEN_REF_ID:
+                return tokenRecord.getTokenRefId();
+            case TOKEN_STATUS:
+                return tokenRecord.getTokenStatus();
+            case TOKEN_STATUS_REASON:
+                return tokenRecord.fy();
+            case CARD_BRAND:
+                return tokenRecord.getCardBrand();
+            case CARD_TYPE:
+                return tokenRecord.getCardType();
+            case CARD_PRODUCT:
+                return tokenRecord.fz();
+            case TRANSACTION_URL:
+                return tokenRecord.getTransactionUrl();
+            case TRANSACTION_ID_LIST:
+                return tokenRecord.fD();
+            case CASH_CARD_ID:
+                return tokenRecord.fx();
+            default:
+                throw new IllegalArgumentException("column not cached: " + tokenColumn);
+        }
+    }
+
+    private static boolean setColumnValue(TokenRecord tokenRecord, TokenColumn tokenColumn, Object obj) {
+        switch (tokenColumn) {
+            case TR_TOKEN_ID:
+                tokenRecord.setTrTokenId((String) obj);
+                return true;
+            case USER_ID:
+                tokenRecord.setUserId((String) obj);
+                return true;
+            case APP_ID:
+                tokenRecord.bt((String) obj);
+                return true;
+            case TOKEN_REF_ID:
+                tokenRecord.setTokenRefId((String) obj);
+                return true;
+            case TOKEN_STATUS:
+                tokenRecord.setTokenStatus((String) obj);
+                return true;
+            case TOKEN_STATUS_REASON:
+                tokenRecord.m1251H((String) obj);
+                return true;
+            case CARD_BRAND:
+                tokenRecord.setCardBrand((String) obj);
+                return true;
+            case CARD_TYPE:
+                tokenRecord.setCardType((String) obj);
+                return true;
+            case CARD_PRODUCT:
+                tokenRecord.bu((String) obj);
+                return true;
+            case TRANSACTION_URL:
+                tokenRecord.bv((String) obj);
+                return true;
+            case TRANSACTION_ID_LIST:
+                tokenRecord.bw((String) obj);
+                return true;
+            case CASH_CARD_ID:
+                tokenRecord.bs((String) obj);
+                return true;
+            case CARD_PRESENT_MODE:
+                tokenRecord.m1255j(obj != null ? ((Integer) obj).intValue() : 0);
+                return true;
+            case TNC_ACCEPTANCE_TIME:
+                tokenRecord.m1252b(obj != null ? ((Integer) obj).longValue() : 0);
+                return true;
+            case TRANSACTION_COUNT:
+                tokenRecord.m1250B(obj != null ? ((Integer) obj).longValue() : 0);
+                return true;
+            case TRANSACTION_RETRY_ALLOWED:
+                tokenRecord.m1254i(obj != null && ((Integer) obj).intValue() == 1);
+                return true;
+            case USER_SIGNATURE_DATA:
+                tokenRecord.m1256m((byte[]) obj);
+                return true;
+            default:
+                return false;
+        }
     }
 
     public int m1224a(TokenColumn tokenColumn, String str) {
+        TokenRecordCache cache = cache();
+        if (cache != null) {
+            if (tokenColumn == null) {
+                return cache.size();
+            }
+            if (str != null) {
+                switch (tokenColumn) {
+                    case ENROLLMENT_ID:
+                        return cache.contains(str) ? 1 : 0;
+                    case TR_TOKEN_ID:
+                        return cache.enrollmentIdOf(str) != null ? 1 : 0;
+                    case CARD_BRAND:
+                        return cache.countByCardBrand(str);
+                }
+            }
+        }
         return m1112d("token_group", tokenColumn == null ? null : tokenColumn.getColumn(), str);
     }
 
@@ -138,6 +278,10 @@ public class TokenRecordStorage extends DbAdapter {
     }
 
     public List<String> fv() {
+        TokenRecordCache cache = cache();
+        if (cache != null) {
+            return cache.enrollmentIds();
+        }
         return m1225a(TokenColumn.ENROLLMENT_ID, null, null);
     }
 
@@ -156,6 +300,15 @@ public class TokenRecordStorage extends DbAdapter {
         if (str == null) {
             return null;
         }
+        TokenRecordCache cache = cache();
+        if (cache != null && tokenColumn != null && tokenColumn.getColumnTypeFormat() == ColumnType.TEXT) {
+            TokenRecord byTrTokenId = cache.getByTrTokenId(str);
+            if (byTrTokenId != null) {
+                return getColumnValue(byTrTokenId, tokenColumn);
+            }
+            Log.m286e("TokenRecordStorage", "getColomn: list is null");
+            return null;
+        }
         List a = m1225a(tokenColumn, TokenColumn.TR_TOKEN_ID, str);
         if (a != null) {
             return (String) a.get(0);
@@ -168,10 +321,53 @@ public class TokenRecordStorage extends DbAdapter {
         if (tokenColumn == null || tokenColumn2 == null) {
             return -1;
         }
-        return m1109a("token_group", tokenColumn.getColumn(), obj, tokenColumn.getColumnTypeFormat(), tokenColumn2.getColumn(), str);
+        int a;
+        synchronized (this.Cm) {
+            a = m1109a("token_group", tokenColumn.getColumn(), obj, tokenColumn.getColumnTypeFormat(), tokenColumn2.getColumn(), str);
+            if (a > 0 && this.Cm.isLoaded()) {
+                TokenRecord tokenRecord = null;
+                if (tokenColumn2 == TokenColumn.ENROLLMENT_ID) {
+                    tokenRecord = this.Cm.getByEnrollmentId(str);
+                } else if (tokenColumn2 == TokenColumn.TR_TOKEN_ID) {
+                    tokenRecord = this.Cm.getByTrTokenId(str);
+                }
+                if (tokenRecord == null || !setColumnValue(tokenRecord, tokenColumn, obj)) {
+                    loadCache();
+                } else {
+                    this.Cm.put(-1, tokenRecord);
+                }
+            }
+        }
+        return a;
     }
 
     public List<TokenRecord> m1228c(TokenColumn tokenColumn, String str) {
+        TokenRecordCache cache = (tokenColumn == null || str == null) ? null : cache();
+        if (cache != null) {
+            TokenRecord tokenRecord = null;
+            switch (tokenColumn) {
+                case ENROLLMENT_ID:
+                    tokenRecord = cache.getByEnrollmentId(str);
+                    break;
+                case TR_TOKEN_ID:
+                    tokenRecord = cache.getByTrTokenId(str);
+                    break;
+                case CARD_BRAND:
+                    return cache.getByCardBrand(str);
+                default:
+                    return queryTokenRecords(tokenColumn, str);
+            }
+            if (tokenRecord == null) {
+                return null;
+            }
+            List<TokenRecord> arrayList = new ArrayList(1);
+            arrayList.add(tokenRecord);
+            return arrayList;
+        }
+        return queryTokenRecords(tokenColumn, str);
+    }
+
+    private List<TokenRecord> queryTokenRecords(TokenColumn tokenColumn, String str) {
         Cursor f;
         Throwable th;
         List<TokenRecord> list = null;
@@ -228,11 +424,16 @@ public class TokenRecordStorage extends DbAdapter {
         if (!(tokenRecord == null || tokenRecord.getEnrollmentId() == null)) {
             ContentValues b = m1221b(tokenRecord);
             b.put(TokenColumn.ENROLLMENT_ID.getColumn(), tokenRecord.getEnrollmentId());
-            try {
-                m1107a("token_group", b);
-            } catch (Throwable e) {
-                Log.m286e("TokenRecordStorage", "addTokenRecord: cannot add a token");
-                Log.m284c("TokenRecordStorage", e.getMessage(), e);
+            synchronized (this.Cm) {
+                try {
+                    long a = (long) m1107a("token_group", b);
+                    if (this.Cm.isLoaded()) {
+                        this.Cm.put(a, tokenRecord);
+                    }
+                } catch (Throwable e) {
+                    Log.m286e("TokenRecordStorage", "addTokenRecord: cannot add a token");
+                    Log.m284c("TokenRecordStorage", e.getMessage(), e);
+                }
             }
         }
         return -1;
@@ -242,18 +443,97 @@ public class TokenRecordStorage extends DbAdapter {
         if (tokenRecord == null) {
             return -1;
         }
-        return m1108a("token_group", m1221b(tokenRecord), TokenColumn.ENROLLMENT_ID.getColumn(), tokenRecord.getEnrollmentId());
+        int a;
+        synchronized (this.Cm) {
+            a = m1108a("token_group", m1221b(tokenRecord), TokenColumn.ENROLLMENT_ID.getColumn(), tokenRecord.getEnrollmentId());
+            if (a > 0 && this.Cm.isLoaded()) {
+                if (this.Cm.contains(tokenRecord.getEnrollmentId())) {
+                    this.Cm.put(-1, tokenRecord);
+                } else {
+                    loadCache();
+                }
+            }
+        }
+        return a;
     }
 
     public int m1229d(TokenColumn tokenColumn, String str) {
         if (tokenColumn == null) {
             return -1;
         }
-        int e = m1113e("token_group", tokenColumn.getColumn(), str);
+        int e;
+        synchronized (this.Cm) {
+            e = m1113e("token_group", tokenColumn.getColumn(), str);
+            if (e > 0 && this.Cm.isLoaded()) {
+                if (tokenColumn == TokenColumn.ENROLLMENT_ID) {
+                    this.Cm.remove(str);
+                } else if (tokenColumn == TokenColumn.TR_TOKEN_ID) {
+                    this.Cm.remove(this.Cm.enrollmentIdOf(str));
+                } else {
+                    loadCache();
+                }
+            }
+        }
         Log.m287i("TokenRecordStorage", "deleteTokenRecord" + e);
         return e;
     }
 
+    private static boolean isSameRecord(TokenRecord tokenRecord, TokenRecord tokenRecord2) {
+        ContentValues b = m1221b(tokenRecord);
+        ContentValues b2 = m1221b(tokenRecord2);
+        for (String str : b.keySet()) {
+            Object obj = b.get(str);
+            Object obj2 = b2.get(str);
+            if (obj instanceof byte[] || obj2 instanceof byte[]) {
+                if (!(obj instanceof byte[]) || !(obj2 instanceof byte[]) || !Arrays.equals((byte[]) obj, (byte[]) obj2)) {
+                    return false;
+                }
+            } else if (obj == null) {
+                if (obj2 != null) {
+                    return false;
+                }
+            } else if (!obj.equals(obj2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean verifyCache() {
+        Cursor cursor = null;
+        synchronized (this.Cm) {
+            if (!this.Cm.isLoaded()) {
+                return false;
+            }
+            int i = 0;
+            boolean z = true;
+            try {
+                cursor = query("token_group", null, null, null, null, null, TokenColumn.ID.getColumn());
+                if (cursor != null) {
+                    while (cursor.moveToNext()) {
+                        TokenRecord tokenRecord = m1222i(cursor);
+                        TokenRecord byEnrollmentId = this.Cm.getByEnrollmentId(tokenRecord.getEnrollmentId());
+                        if (byEnrollmentId == null || !isSameRecord(tokenRecord, byEnrollmentId)) {
+                            Log.m286e("TokenRecordStorage", "verifyCache: mismatch for " + tokenRecord.getEnrollmentId());
+                            z = false;
+                        }
+                        i++;
+                    }
+                }
+                if (i != this.Cm.size()) {
+                    Log.m286e("TokenRecordStorage", "verifyCache: db rows " + i + ", cached " + this.Cm.size());
+                    z = false;
+                }
+            } finally {
+                DbAdapter.m1106a(cursor);
+            }
+            if (!z) {
+                loadCache();
+            }
+            return z;
+        }
+    }
+
     public int m1231d(String str, byte[] bArr) {
         if (bArr == null || TextUtils.isEmpty(str)) {
             return -1;
@@ -203,6 +203,28 @@ public class TokenRecord {
         this.CP = bArr;
     }
 
+    public TokenRecord copy() {
+        TokenRecord tokenRecord = new TokenRecord(this.mEnrollmentId);
+        tokenRecord.mF = this.mF;
+        tokenRecord.bN = this.bN;
+        tokenRecord.CG = this.CG;
+        tokenRecord.oZ = this.oZ;
+        tokenRecord.kd = this.kd;
+        tokenRecord.CH = this.CH;
+        tokenRecord.mCardBrand = this.mCardBrand;
+        tokenRecord.iU = this.iU;
+        tokenRecord.CI = this.CI;
+        tokenRecord.iV = this.iV;
+        tokenRecord.jb = this.jb;
+        tokenRecord.CJ = this.CJ;
+        tokenRecord.CK = this.CK;
+        tokenRecord.CL = this.CL;
+        tokenRecord.CM = this.CM;
+        tokenRecord.CO = this.CO;
+        tokenRecord.CP = this.CP != null ? (byte[]) this.CP.clone() : null;
+        return tokenRecord;
+    }
+
     public String dump() {
         return "TokenRecord { (" + TokenColumn.ENROLLMENT_ID.getColumn() + ", \"" + this.mEnrollmentId + "\"), (" + TokenColumn.TR_TOKEN_ID.getColumn() + ", \"" + this.mF + "\"), (" + TokenColumn.APP_ID.getColumn() + ", \"" + this.CG + "\"), (" + TokenColumn.TOKEN_REF_ID.getColumn() + ", \"" + this.oZ + "\"), (" + TokenColumn.CARD_TYPE.getColumn() + ", \"" + this.iU + "\"), (" + TokenColumn.CARD_PRESENT_MODE.getColumn() + ", \"" + this.iV + "\"), (" + TokenColumn.TOKEN_STATUS.getColumn() + ", \"" + this.kd + "\"), (" + TokenColumn.TOKEN_STATUS_REASON.getColumn() + ", \"" + this.CH + "\"), (" + TokenColumn.TNC_ACCEPTANCE_TIME.getColumn() + ", \"" + this.jb + "\"), (" + TokenColumn.TRANSACTION_COUNT.getColumn() + ", \"" + this.CJ + "\"), (" + TokenColumn.TRANSACTION_URL.getColumn() + ", \"" + this.CK + "\")}";
     }
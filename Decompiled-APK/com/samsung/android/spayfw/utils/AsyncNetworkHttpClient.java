@@ -57,7 +57,7 @@ public class AsyncNetworkHttpClient {
     }
 
     public AsyncNetworkHttpClient() {
-        this.AR = new OkHttpClient();
+        this.AR = HttpClientCore.newClient();
         this.AS = new Builder();
     }
 
@@ -0,0 +1,26 @@
+package com.samsung.android.spayfw.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels.McPayloadAdapterFactory;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ModelAdapterFactory;
+
+/**
+ * The one configured Gson instance for the framework. Gson caches the
+ * adapters it builds per instance, so sharing it means each model class is
+ * introspected once per process instead of once per holder.
+ */
+public final class GsonHolder {
+    private static final Gson sGson;
+
+    static {
+        sGson = new GsonBuilder().disableHtmlEscaping().registerTypeAdapterFactory(ModelAdapterFactory.INSTANCE).registerTypeAdapterFactory(McPayloadAdapterFactory.INSTANCE).create();
+    }
+
+    private GsonHolder() {
+    }
+
+    public static Gson get() {
+        return sGson;
+    }
+}
@@ -0,0 +1,86 @@
+package com.samsung.android.spayfw.utils;
+
+import android.content.Context;
+import com.squareup.okhttp.Cache;
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Interceptor.Chain;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Response;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Process-wide OkHttp core. Every client in the framework is cloned from
+ * the same base so they share one connection pool and one dispatcher
+ * thread pool; clones only differ in timeouts, interceptors and socket
+ * factory. Connections are reused across clients whenever the address
+ * (host, port and socket factory instance) matches, and HTTP/2 lets
+ * concurrent calls to the same host share a single TLS connection.
+ */
+public final class HttpClientCore {
+    private static final String CACHE_DIR = "okhttp";
+    private static final long CACHE_SIZE = 8388608;
+    private static final long KEEP_ALIVE_MS = 120000;
+    private static final int MAX_IDLE_CONNECTIONS = 6;
+    private static final int MAX_REQUESTS_PER_HOST = 8;
+    private static final OkHttpClient sBase;
+    private static Cache sCache;
+
+    /**
+     * Network interceptor of the caching clients. A response that does not
+     * say how long it stays fresh is stored as no-cache, so it is always
+     * revalidated with If-None-Match / If-Modified-Since before it is
+     * reused rather than served on heuristic freshness.
+     */
+    private static class RevalidateInterceptor implements Interceptor {
+        private RevalidateInterceptor() {
+        }
+
+        public Response intercept(Chain chain) throws IOException {
+            Response proceed = chain.proceed(chain.request());
+            if (proceed.header("Cache-Control") == null && proceed.header("Expires") == null) {
+                return proceed.newBuilder().header("Cache-Control", "no-cache").build();
+            }
+            return proceed;
+        }
+    }
+
+    static {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        sBase = new OkHttpClient();
+        sBase.setDispatcher(dispatcher);
+        sBase.setConnectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MS));
+        sBase.setProtocols(Arrays.asList(new Protocol[]{Protocol.HTTP_2, Protocol.HTTP_1_1}));
+    }
+
+    private HttpClientCore() {
+    }
+
+    public static OkHttpClient newClient() {
+        return sBase.clone();
+    }
+
+    /**
+     * Like newClient() but backed by the shared on-disk HTTP cache. Use it
+     * only for public files such as configuration downloads; an unchanged
+     * file then costs a single 304 and its body is read from the cache.
+     */
+    public static OkHttpClient newCachingClient(Context context) {
+        OkHttpClient clone = sBase.clone();
+        clone.setCache(cache(context));
+        clone.networkInterceptors().add(new RevalidateInterceptor());
+        return clone;
+    }
+
+    private static synchronized Cache cache(Context context) {
+        if (sCache == null) {
+            sCache = new Cache(new File(context.getCacheDir(), CACHE_DIR), CACHE_SIZE);
+        }
+        return sCache;
+    }
+}
@@ -1,5 +1,6 @@
 package com.samsung.android.spayfw.utils;
 
+import android.content.Context;
 import android.graphics.Bitmap;
 import com.android.volley.VolleyError;
 import com.android.volley.p000a.ImageRequest;
@@ -7,6 +8,7 @@ import com.android.volley.p000a.RequestFuture;
 import com.samsung.android.spayfw.p002b.Log;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request.Builder;
+import com.squareup.okhttp.Response;
 import java.io.File;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -18,10 +20,43 @@ public class SyncFileDownloaderClient {
     private File Dc;
 
     public SyncFileDownloaderClient() {
-        this.AR = new OkHttpClient();
+        this.AR = HttpClientCore.newClient();
         this.AS = new Builder();
     }
 
+    /**
+     * Downloader backed by the shared HTTP cache: files that were fetched
+     * before are requested conditionally and served from the cache on 304.
+     */
+    public SyncFileDownloaderClient(Context context) {
+        this.AR = HttpClientCore.newCachingClient(context);
+        this.AS = new Builder();
+    }
+
+    /**
+     * True if the body of the response came from the HTTP cache, either
+     * still fresh or revalidated by the server with a 304.
+     */
+    public static boolean isNotModified(Response response) {
+        if (response == null || response.cacheResponse() == null) {
+            return false;
+        }
+        Response networkResponse = response.networkResponse();
+        return networkResponse == null || networkResponse.code() == 304;
+    }
+
+    /**
+     * Returns the validator the server sent for the body, the ETag if any
+     * and otherwise Last-Modified, or null if there is none.
+     */
+    public static String validator(Response response) {
+        if (response == null) {
+            return null;
+        }
+        String header = response.header("ETag");
+        return header != null ? header : response.header("Last-Modified");
+    }
+
     /* JADX WARNING: inconsistent code. */
     /* Code decompiled incorrectly, please refer to instructions dump. */
     public com.squareup.okhttp.Response m1270a(java.lang.String r13, java.io.File r14) {
@@ -22,7 +22,7 @@ public class SyncNetworkHttpClient {
     }
 
     public SyncNetworkHttpClient() {
-        this.AR = new OkHttpClient();
+        this.AR = HttpClientCore.newClient();
         this.AS = new Builder();
     }
 
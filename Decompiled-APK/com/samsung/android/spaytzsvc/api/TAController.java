@@ -15,6 +15,7 @@ import android.spay.TACommandRequest;
 import android.spay.TACommandResponse;
 import com.google.android.gms.location.LocationStatusCodes;
 import com.samsung.android.spayfw.p002b.Log;
+import com.samsung.android.spayfw.p002b.TapTracer;
 import com.samsung.android.spaytzsvc.api.TACommands.Init.Request;
 import com.samsung.android.spaytzsvc.api.TACommands.Init.Response;
 import com.samsung.android.spaytzsvc.api.TACommands.LoadPinRandom;
@@ -593,11 +594,16 @@ public class TAController implements IPaymentSvcDeathReceiver {
             if (isTALoaded()) {
                 try {
                     if (this.mPaymentHandle != null) {
-                        tACommandResponse = this.mPaymentHandle.processTACommand(tACommandRequest);
+                        TapTracer.begin(TapTracer.EV_TA_COMMAND, tACommandRequest.mCommandId);
+                        try {
+                            tACommandResponse = this.mPaymentHandle.processTACommand(tACommandRequest);
+                        } finally {
+                            TapTracer.end(TapTracer.EV_TA_COMMAND, tACommandRequest.mCommandId);
+                        }
                         if (tACommandResponse != null && DEBUG) {
-                            Log.m285d(TAG, "executeNoLoad: Response Code = " + tACommandResponse.mResponseCode);
-                            Log.m285d(TAG, "executeNoLoad: Error Message = " + tACommandResponse.mErrorMsg);
-                            Log.m285d(TAG, "executeNoLoad: Response Len = " + tACommandResponse.mResponse.length + " Buf = " + Arrays.toString(tACommandResponse.mResponse));
+                            Log.d(TAG, "executeNoLoad: Response Code = {}", tACommandResponse.mResponseCode);
+                            Log.d(TAG, "executeNoLoad: Error Message = {}", tACommandResponse.mErrorMsg);
+                            Log.d(TAG, "executeNoLoad: Response Len = {} Buf = {}", tACommandResponse.mResponse.length, tACommandResponse.mResponse);
                         }
                     } else {
                         Log.m286e(TAG, "executeNoLoad: mPaymentHandle is null");
@@ -37,7 +37,7 @@ public class DbAdapter extends DbOpenHelper {
     private DbAdapter(Context context) {
         super(context);
         this.Gs = null;
-        this.Gs = DBHelperWrapper.m689b(context, "cbp_jan_enc.db", 3, DBName.cbp_jan_enc);
+        this.Gs = DBHelperWrapper.m689b(context, "cbp_jan_enc.db", 4, DBName.cbp_jan_enc);
         this.Gs.m690b(this);
         this.db = this.Gs.getWritableDatabase(DBUtils.getDbPassword());
         VisaPaymentSDKImpl.resetDbPassword();
@@ -229,6 +229,27 @@ public class DbAdapter extends DbOpenHelper {
         return insertOrThrow;
     }
 
+    public int insertAll(String str, List<ContentValues> list) {
+        int i = 0;
+        if (list == null || list.isEmpty()) {
+            return 0;
+        }
+        synchronized (DbAdapter.class) {
+            this.db.beginTransaction();
+            try {
+                for (ContentValues insertOrThrow : list) {
+                    if (this.db.insertOrThrow(str, null, insertOrThrow) != -1) {
+                        i++;
+                    }
+                }
+                this.db.setTransactionSuccessful();
+            } finally {
+                this.db.endTransaction();
+            }
+        }
+        return i;
+    }
+
     public Cursor m1363f(String str, String str2, String str3) {
         Cursor query;
         String[] strArr = null;
@@ -275,6 +275,7 @@ public class DbEnhancedTokenInfoDao {
         if (tokenKey == null) {
             throw new TokenInvalidException("token key is null");
         }
+        TvlJournal.getInstance(this.Gu).purge(tokenKey.getTokenId());
         try {
             this.Gu.m1362e("tbl_enhanced_token_info", "_id", Long.toString(tokenKey.getTokenId()));
             Log.m1300d("DbEnhancedTokenInfo", "token " + tokenKey.getTokenId() + " is deleted");
@@ -37,6 +37,7 @@ public class DbOpenHelper implements DBHelperCallback {
                 sQLiteDatabase.execSQL("CREATE TABLE tbl_data_group(_id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, token_key INTEGER, dgi TEXT NOT NULL, dgi_data BLOB NOT NULL, FOREIGN KEY(token_key) REFERENCES tbl_enhanced_token_info (_id) ON DELETE CASCADE, UNIQUE (token_key,dgi) ON CONFLICT REPLACE)");
                 sQLiteDatabase.execSQL("CREATE TABLE tbl_settings (_id INTEGER PRIMARY KEY, access_token_adv_warning_percent INTEGER, access_token_adv_warning_time INTEGER, check_status_period INTEGER, select_card INTEGER, cvm_entity TEXT, cvm_type TEXT, cvm_verified INTEGER, end_point TEXT, environment TEXT, thm_enabled INTEGER, bouncy_airplane BLOB, max_tvl INTEGER DEFAULT 100)");
                 sQLiteDatabase.execSQL("CREATE TABLE tbl_tvl (_id INTEGER PRIMARY KEY AUTOINCREMENT, token_key INTEGER, timestamp NUMERIC, unpredictable_number TEXT, atc INTEGER, transaction_type TEXT, api TEXT, cryptogram TEXT, FOREIGN KEY(token_key) REFERENCES tbl_enhanced_token_info (_id) ON DELETE CASCADE )");
+                DbOpenHelper.createTvlIndex(sQLiteDatabase);
                 Log.m1302i("DbOpenHelper", "Database is created");
             }
         } catch (Exception e) {
@@ -66,6 +67,10 @@ public class DbOpenHelper implements DBHelperCallback {
                 Log.m1302i("DbOpenHelper", "migrate DB to ver 3");
                 DbOpenHelper.m1353b(sQLiteDatabase);
             }
+            if (i < 4) {
+                Log.m1302i("DbOpenHelper", "migrate DB to ver 4");
+                DbOpenHelper.createTvlIndex(sQLiteDatabase);
+            }
         }
     }
 
@@ -162,6 +167,11 @@ public class DbOpenHelper implements DBHelperCallback {
         sQLiteDatabase.execSQL(Gv);
     }
 
+    private static void createTvlIndex(SQLiteDatabase sQLiteDatabase) {
+        Log.m1300d("DbOpenHelper", "create tvl token_key index");
+        sQLiteDatabase.execSQL("CREATE INDEX IF NOT EXISTS idx_tvl_token_key ON tbl_tvl (token_key, api, atc)");
+    }
+
     private static void m1355d(SQLiteDatabase sQLiteDatabase) {
         Cursor cursor = null;
         Log.m1300d("DbOpenHelper", "ODA data exp date format migration");
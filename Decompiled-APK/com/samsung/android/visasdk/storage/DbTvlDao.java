@@ -1,9 +1,7 @@
 package com.samsung.android.visasdk.storage;
 
-import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
-import android.database.SQLException;
 import com.samsung.android.spaytzsvc.api.visa.BuildConfig;
 import com.samsung.android.visasdk.facade.data.TokenKey;
 import com.samsung.android.visasdk.facade.exception.InitializationException;
@@ -15,6 +13,7 @@ import java.util.List;
 /* renamed from: com.samsung.android.visasdk.storage.e */
 public class DbTvlDao {
     private final DbAdapter Gu;
+    private final TvlJournal Hc;
 
     public DbTvlDao(Context context) {
         if (context == null) {
@@ -24,33 +23,23 @@ public class DbTvlDao {
         if (this.Gu == null) {
             throw new InitializationException("cannot get db adapter");
         }
+        this.Hc = TvlJournal.getInstance(this.Gu);
     }
 
-    public synchronized void m1374a(TVL tvl) {
+    public void m1374a(TVL tvl) {
         if (tvl == null) {
             Log.m1301e("DbTvlDao", "tvl is null");
-        } else if (m1375b(tvl)) {
+        } else if (!this.Hc.append(tvl)) {
             Log.m1301e("DbTvlDao", "tvl entry already exist tokenkey " + tvl.getTokenKey().getTokenId() + " atc: " + tvl.getAtc());
-        } else {
-            ContentValues contentValues = new ContentValues();
-            try {
-                contentValues.put("token_key", Long.valueOf(tvl.getTokenKey().getTokenId()));
-                contentValues.put("atc", Integer.valueOf(tvl.getAtc()));
-                contentValues.put("api", tvl.getApi());
-                contentValues.put("timestamp", Long.valueOf(tvl.getTimeStamp()));
-                contentValues.put("transaction_type", tvl.getTransactionType());
-                contentValues.put("unpredictable_number", tvl.getUnpredictableNumber());
-                this.Gu.m1360b("tbl_tvl", contentValues);
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new SQLException("cannot store tvl");
-            }
         }
     }
 
     public List<String> m1373a(TokenKey tokenKey, String str) {
         Throwable th;
         Cursor cursor = null;
+        if (this.Hc.hasPending(tokenKey.getTokenId())) {
+            this.Hc.flush(tokenKey.getTokenId());
+        }
         try {
             String[] strArr = new String[]{"timestamp", "unpredictable_number", "atc", "transaction_type"};
             String[] strArr2 = new String[]{Long.toString(tokenKey.getTokenId()), str};
@@ -91,31 +80,9 @@ public class DbTvlDao {
     }
 
     public boolean m1375b(TVL tvl) {
-        Throwable th;
-        Cursor a;
-        try {
-            String[] strArr = new String[]{"timestamp", "unpredictable_number", "atc", "transaction_type"};
-            String[] strArr2 = new String[]{Long.toString(tvl.getTokenKey().getTokenId()), Integer.toString(tvl.getAtc())};
-            a = this.Gu.m1358a("tbl_tvl", strArr, "token_key = ? AND atc = ? ", strArr2, "atc DESC");
-            if (a != null) {
-                try {
-                    if (a.getCount() > 0) {
-                        DbAdapter.m1356a(a);
-                        return true;
-                    }
-                } catch (Throwable th2) {
-                    th = th2;
-                    DbAdapter.m1356a(a);
-                    throw th;
-                }
-            }
-            DbAdapter.m1356a(a);
-            return false;
-        } catch (Throwable th3) {
-            th = th3;
-            a = null;
-            DbAdapter.m1356a(a);
-            throw th;
+        if (this.Hc.isPending(tvl.getTokenKey().getTokenId(), tvl.getAtc())) {
+            return true;
         }
+        return this.Hc.existsInDb(tvl.getTokenKey().getTokenId(), tvl.getAtc());
     }
 }
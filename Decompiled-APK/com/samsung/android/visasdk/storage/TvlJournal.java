@@ -0,0 +1,221 @@
+package com.samsung.android.visasdk.storage;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteConstraintException;
+import android.os.Handler;
+import android.os.HandlerThread;
+import com.samsung.android.visasdk.p025c.Log;
+import com.samsung.android.visasdk.paywave.data.TVL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Write-behind journal for tbl_tvl. Entries are appended in memory on the
+ * payment path and group-committed in one transaction on a background thread.
+ * If the batch fails the entries are written one by one, and any entry that
+ * still cannot be written goes back to the journal and is retried later, so
+ * a TVL entry is only released once its row exists. A constraint failure is
+ * permanent (the token row is gone), so that entry is dropped instead.
+ */
+public class TvlJournal {
+    private static final long FLUSH_DELAY_MS = 200;
+    private static final long RETRY_DELAY_MS = 5000;
+    private static final String TAG = "TvlJournal";
+    private static TvlJournal sInstance;
+    private final DbAdapter mAdapter;
+    private final Runnable mFlushTask;
+    private final Handler mHandler;
+    private ArrayList<TVL> mPending;
+    private final HashMap<Long, HashSet<Integer>> mPendingAtcs;
+    private boolean mScheduled;
+    private final Object mWriteLock;
+
+    private class FlushTask implements Runnable {
+        private FlushTask() {
+        }
+
+        public void run() {
+            TvlJournal.this.drain();
+        }
+    }
+
+    public static synchronized TvlJournal getInstance(DbAdapter dbAdapter) {
+        TvlJournal tvlJournal;
+        synchronized (TvlJournal.class) {
+            if (sInstance == null) {
+                sInstance = new TvlJournal(dbAdapter);
+            }
+            tvlJournal = sInstance;
+        }
+        return tvlJournal;
+    }
+
+    private TvlJournal(DbAdapter dbAdapter) {
+        this.mPending = new ArrayList(8);
+        this.mPendingAtcs = new HashMap();
+        this.mWriteLock = new Object();
+        this.mAdapter = dbAdapter;
+        HandlerThread handlerThread = new HandlerThread("TvlJournalThread", 10);
+        handlerThread.start();
+        this.mHandler = new Handler(handlerThread.getLooper());
+        this.mFlushTask = new FlushTask();
+    }
+
+    public boolean append(TVL tvl) {
+        Long valueOf = Long.valueOf(tvl.getTokenKey().getTokenId());
+        synchronized (this) {
+            HashSet hashSet = (HashSet) this.mPendingAtcs.get(valueOf);
+            if (hashSet == null) {
+                hashSet = new HashSet();
+                this.mPendingAtcs.put(valueOf, hashSet);
+            }
+            if (hashSet.add(Integer.valueOf(tvl.getAtc()))) {
+                this.mPending.add(tvl);
+                if (!this.mScheduled) {
+                    this.mScheduled = true;
+                    this.mHandler.postDelayed(this.mFlushTask, FLUSH_DELAY_MS);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public synchronized boolean isPending(long j, int i) {
+        HashSet hashSet = (HashSet) this.mPendingAtcs.get(Long.valueOf(j));
+        return hashSet != null && hashSet.contains(Integer.valueOf(i));
+    }
+
+    public synchronized boolean hasPending(long j) {
+        HashSet hashSet = (HashSet) this.mPendingAtcs.get(Long.valueOf(j));
+        return (hashSet == null || hashSet.isEmpty()) ? false : true;
+    }
+
+    /**
+     * Writes every pending entry now. Throws SQLException if entries of
+     * token j could not be written; they stay in the journal and are retried.
+     * Failures of other tokens are left to the retry.
+     */
+    public void flush(long j) {
+        int i = 0;
+        for (TVL tvl : drain()) {
+            if (tvl.getTokenKey().getTokenId() == j) {
+                i++;
+            }
+        }
+        if (i > 0) {
+            throw new SQLException("cannot store " + i + " tvl entries of token " + j);
+        }
+    }
+
+    /**
+     * Forgets the pending entries of token j. Called when the token is
+     * deleted, since its rows could never be written afterwards.
+     */
+    public synchronized void purge(long j) {
+        HashSet hashSet = (HashSet) this.mPendingAtcs.remove(Long.valueOf(j));
+        if (hashSet != null) {
+            int size = this.mPending.size();
+            for (int i = size - 1; i >= 0; i--) {
+                if (((TVL) this.mPending.get(i)).getTokenKey().getTokenId() == j) {
+                    this.mPending.remove(i);
+                }
+            }
+            Log.m1300d(TAG, "purged " + (size - this.mPending.size()) + " tvl entries of token " + j);
+        }
+    }
+
+    private List<TVL> drain() {
+        synchronized (this.mWriteLock) {
+            List<TVL> list;
+            synchronized (this) {
+                if (this.mPending.isEmpty()) {
+                    this.mScheduled = false;
+                    return new ArrayList(0);
+                }
+                list = this.mPending;
+                this.mPending = new ArrayList(8);
+                this.mHandler.removeCallbacks(this.mFlushTask);
+                this.mScheduled = false;
+            }
+            List<TVL> arrayList = new ArrayList(list.size());
+            List arrayList2 = new ArrayList(list.size());
+            List<TVL> arrayList3 = new ArrayList();
+            for (TVL tvl : list) {
+                try {
+                    if (existsInDb(tvl.getTokenKey().getTokenId(), tvl.getAtc())) {
+                        Log.m1301e(TAG, "tvl entry already exist tokenkey " + tvl.getTokenKey().getTokenId() + " atc: " + tvl.getAtc());
+                    } else {
+                        arrayList.add(tvl);
+                        arrayList2.add(toContentValues(tvl));
+                    }
+                } catch (Exception e) {
+                    Log.m1301e(TAG, "cannot check tvl entry: " + e.getMessage());
+                    arrayList3.add(tvl);
+                }
+            }
+            try {
+                Log.m1300d(TAG, "committed " + this.mAdapter.insertAll("tbl_tvl", arrayList2) + " tvl entries");
+            } catch (Exception e2) {
+                Log.m1301e(TAG, "cannot store tvl batch, writing entries one by one: " + e2.getMessage());
+                for (int i = 0; i < arrayList.size(); i++) {
+                    try {
+                        this.mAdapter.m1360b("tbl_tvl", (ContentValues) arrayList2.get(i));
+                    } catch (SQLiteConstraintException e3) {
+                        TVL tvl2 = (TVL) arrayList.get(i);
+                        Log.m1301e(TAG, "dropping tvl entry tokenkey " + tvl2.getTokenKey().getTokenId() + " atc: " + tvl2.getAtc() + ": " + e3.getMessage());
+                    } catch (Exception e4) {
+                        TVL tvl2 = (TVL) arrayList.get(i);
+                        Log.m1301e(TAG, "cannot store tvl entry tokenkey " + tvl2.getTokenKey().getTokenId() + " atc: " + tvl2.getAtc() + ": " + e4.getMessage());
+                        arrayList3.add(tvl2);
+                    }
+                }
+            }
+            synchronized (this) {
+                if (!arrayList3.isEmpty()) {
+                    this.mPending.addAll(0, arrayList3);
+                    if (!this.mScheduled) {
+                        this.mScheduled = true;
+                        this.mHandler.postDelayed(this.mFlushTask, RETRY_DELAY_MS);
+                    }
+                    list.removeAll(arrayList3);
+                }
+                for (TVL tvl3 : list) {
+                    HashSet hashSet = (HashSet) this.mPendingAtcs.get(Long.valueOf(tvl3.getTokenKey().getTokenId()));
+                    if (hashSet != null) {
+                        hashSet.remove(Integer.valueOf(tvl3.getAtc()));
+                        if (hashSet.isEmpty()) {
+                            this.mPendingAtcs.remove(Long.valueOf(tvl3.getTokenKey().getTokenId()));
+                        }
+                    }
+                }
+            }
+            return arrayList3;
+        }
+    }
+
+    boolean existsInDb(long j, int i) {
+        Cursor a = this.mAdapter.m1358a("tbl_tvl", new String[]{"_id"}, "token_key = ? AND atc = ? ", new String[]{Long.toString(j), Integer.toString(i)}, null);
+        try {
+            boolean z = a != null && a.getCount() > 0;
+            return z;
+        } finally {
+            DbAdapter.m1356a(a);
+        }
+    }
+
+    private static ContentValues toContentValues(TVL tvl) {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put("token_key", Long.valueOf(tvl.getTokenKey().getTokenId()));
+        contentValues.put("atc", Integer.valueOf(tvl.getAtc()));
+        contentValues.put("api", tvl.getApi());
+        contentValues.put("timestamp", Long.valueOf(tvl.getTimeStamp()));
+        contentValues.put("transaction_type", tvl.getTransactionType());
+        contentValues.put("unpredictable_number", tvl.getUnpredictableNumber());
+        return contentValues;
+    }
+}
@@ -2,6 +2,7 @@ package com.samsung.contextservice.server;
 
 import android.content.Context;
 import android.os.AsyncTask;
+import com.samsung.android.spayfw.utils.HttpClientCore;
 import com.samsung.contextclient.data.Poi;
 import com.samsung.contextservice.p028a.RCacheDao;
 import com.samsung.contextservice.p029b.CSlog;
@@ -19,6 +20,7 @@ import org.bouncycastle.x509.ExtendedPKIXParameters;
 /* renamed from: com.samsung.contextservice.server.b */
 class CacheFileDownloaderClient {
     private RCacheDao GD;
+    private final Context mContext;
 
     /* renamed from: com.samsung.contextservice.server.b.a */
     private class CacheFileDownloaderClient extends AsyncTask<Cache, String, Integer> {
@@ -112,7 +114,7 @@ class CacheFileDownloaderClient {
         }
 
         protected void onPreExecute() {
-            this.AR = new OkHttpClient();
+            this.AR = HttpClientCore.newCachingClient(this.GF.mContext);
             this.AS = new Builder();
         }
 
@@ -122,6 +124,7 @@ class CacheFileDownloaderClient {
 
     public CacheFileDownloaderClient(Context context) {
         this.GD = new RCacheDao(context);
+        this.mContext = context;
     }
 
     public void m1430a(Cache cache, ServerListener serverListener) {
@@ -0,0 +1,307 @@
+package com.samsung.android.spayfw.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the token requester (/pf/v1), CIF (/pf/cc/v1) and
+ * analytics (/af/v1) endpoints. Every *.json file in the fixture directory
+ * holds one fixture or an array of them:
+ *
+ *   {"method": "GET", "path": "/pf/v1/tokens/*", "status": 200,
+ *    "headers": {"ETag": "\"1\""}, "delayMs": 40, "body": {...}}
+ *
+ * The first fixture whose method and path match wins; "*" matches one path
+ * segment and the query string is ignored. The server speaks plain
+ * HTTP/1.1 with keep-alive on 127.0.0.1, so the framework's OkHttp stack
+ * reuses connections the same way it does against the real backend.
+ *
+ * Runs on a plain JVM (main) or in-process next to LoadHarness.
+ */
+public final class FixtureServer {
+    private static final Charset UTF_8;
+    private final ExecutorService mConnections;
+    private final List<Fixture> mFixtures;
+    private final AtomicLong mServed;
+    private ServerSocket mServerSocket;
+
+    static final class Fixture {
+        long delayMs;
+        Map<String, String> headers;
+        String method;
+        String path;
+        transient Pattern pattern;
+        transient byte[] payload;
+        int status;
+
+        Fixture() {
+            this.status = 200;
+        }
+
+        boolean matches(String str, String str2) {
+            return this.method.equalsIgnoreCase(str) && this.pattern.matcher(str2).matches();
+        }
+    }
+
+    static {
+        UTF_8 = Charset.forName("UTF-8");
+    }
+
+    private FixtureServer(List<Fixture> list) {
+        this.mFixtures = list;
+        this.mServed = new AtomicLong();
+        this.mConnections = Executors.newCachedThreadPool();
+    }
+
+    public static FixtureServer load(File file) throws IOException {
+        File[] listFiles = file.listFiles();
+        if (listFiles == null) {
+            throw new IOException("no fixtures in " + file);
+        }
+        Arrays.sort(listFiles);
+        Gson gson = new Gson();
+        List<Fixture> arrayList = new ArrayList();
+        for (File file2 : listFiles) {
+            if (file2.getName().endsWith(".json")) {
+                Reader inputStreamReader = new InputStreamReader(new FileInputStream(file2), UTF_8);
+                try {
+                    JsonElement parse = new JsonParser().parse(inputStreamReader);
+                    if (parse.isJsonArray()) {
+                        for (JsonElement add : parse.getAsJsonArray()) {
+                            arrayList.add(compile(gson, add));
+                        }
+                    } else {
+                        arrayList.add(compile(gson, parse));
+                    }
+                } finally {
+                    inputStreamReader.close();
+                }
+            }
+        }
+        return new FixtureServer(arrayList);
+    }
+
+    private static Fixture compile(Gson gson, JsonElement jsonElement) {
+        Fixture fixture = (Fixture) gson.fromJson(jsonElement, Fixture.class);
+        if (fixture.method == null || fixture.path == null) {
+            throw new IllegalArgumentException("fixture needs method and path: " + jsonElement);
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String str : fixture.path.split("\\*", -1)) {
+            if (stringBuilder.length() > 0) {
+                stringBuilder.append("[^/]+");
+            }
+            stringBuilder.append(Pattern.quote(str));
+        }
+        fixture.pattern = Pattern.compile(stringBuilder.toString());
+        JsonElement jsonElement2 = jsonElement.getAsJsonObject().get("body");
+        fixture.payload = jsonElement2 != null ? jsonElement2.toString().getBytes(UTF_8) : new byte[0];
+        return fixture;
+    }
+
+    public synchronized int start(int i) throws IOException {
+        this.mServerSocket = new ServerSocket(i, 64, InetAddress.getByName("127.0.0.1"));
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                FixtureServer.this.acceptLoop();
+            }
+        }, "FixtureServerAccept");
+        thread.setDaemon(true);
+        thread.start();
+        return this.mServerSocket.getLocalPort();
+    }
+
+    public synchronized void stop() {
+        if (this.mServerSocket != null) {
+            try {
+                this.mServerSocket.close();
+            } catch (IOException e) {
+            }
+            this.mServerSocket = null;
+        }
+        this.mConnections.shutdownNow();
+    }
+
+    public long getServedCount() {
+        return this.mServed.get();
+    }
+
+    private void acceptLoop() {
+        ServerSocket serverSocket;
+        synchronized (this) {
+            serverSocket = this.mServerSocket;
+        }
+        while (serverSocket != null && !serverSocket.isClosed()) {
+            try {
+                final Socket accept = serverSocket.accept();
+                this.mConnections.execute(new Runnable() {
+                    public void run() {
+                        FixtureServer.this.serve(accept);
+                    }
+                });
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            InputStream bufferedInputStream = new BufferedInputStream(socket.getInputStream(), 8192);
+            OutputStream outputStream = socket.getOutputStream();
+            while (true) {
+                String readLine = readLine(bufferedInputStream);
+                if (readLine == null || readLine.length() == 0) {
+                    break;
+                }
+                String[] split = readLine.split(" ");
+                if (split.length < 2) {
+                    break;
+                }
+                long j = 0;
+                boolean z = false;
+                while (true) {
+                    String readLine2 = readLine(bufferedInputStream);
+                    if (readLine2 == null || readLine2.length() == 0) {
+                        break;
+                    }
+                    int indexOf = readLine2.indexOf(58);
+                    if (indexOf > 0) {
+                        String toLowerCase = readLine2.substring(0, indexOf).trim().toLowerCase(Locale.US);
+                        String trim = readLine2.substring(indexOf + 1).trim();
+                        if ("content-length".equals(toLowerCase)) {
+                            j = Long.parseLong(trim);
+                        } else if ("connection".equals(toLowerCase)) {
+                            z = "close".equalsIgnoreCase(trim);
+                        }
+                    }
+                }
+                while (j > 0) {
+                    long skip = bufferedInputStream.skip(j);
+                    if (skip <= 0) {
+                        if (bufferedInputStream.read() < 0) {
+                            break;
+                        }
+                        skip = 1;
+                    }
+                    j -= skip;
+                }
+                String str = split[1];
+                int indexOf2 = str.indexOf(63);
+                if (indexOf2 >= 0) {
+                    str = str.substring(0, indexOf2);
+                }
+                respond(outputStream, find(split[0], str), split[0], str);
+                this.mServed.incrementAndGet();
+                if (z) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e2) {
+            }
+        }
+    }
+
+    private Fixture find(String str, String str2) {
+        for (Fixture fixture : this.mFixtures) {
+            if (fixture.matches(str, str2)) {
+                return fixture;
+            }
+        }
+        return null;
+    }
+
+    private static void respond(OutputStream outputStream, Fixture fixture, String str, String str2) throws IOException {
+        int i;
+        byte[] bytes;
+        if (fixture == null) {
+            i = 404;
+            bytes = ("{\"code\":\"NOT_FOUND\",\"message\":\"no fixture for " + str + " " + str2 + "\"}").getBytes(UTF_8);
+        } else {
+            if (fixture.delayMs > 0) {
+                try {
+                    Thread.sleep(fixture.delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            i = fixture.status;
+            bytes = fixture.payload;
+        }
+        StringBuilder stringBuilder = new StringBuilder(256);
+        stringBuilder.append("HTTP/1.1 ").append(i).append(i < 400 ? " OK" : " Error").append("\r\n");
+        stringBuilder.append("Content-Type: application/json; charset=utf-8\r\n");
+        stringBuilder.append("Content-Length: ").append(bytes.length).append("\r\n");
+        if (!(fixture == null || fixture.headers == null)) {
+            for (Entry entry : fixture.headers.entrySet()) {
+                stringBuilder.append((String) entry.getKey()).append(": ").append((String) entry.getValue()).append("\r\n");
+            }
+        }
+        stringBuilder.append("\r\n");
+        outputStream.write(stringBuilder.toString().getBytes(UTF_8));
+        if (!"HEAD".equalsIgnoreCase(str)) {
+            outputStream.write(bytes);
+        }
+        outputStream.flush();
+    }
+
+    private static String readLine(InputStream inputStream) throws IOException {
+        StringBuilder stringBuilder = new StringBuilder(128);
+        while (true) {
+            int read = inputStream.read();
+            if (read < 0) {
+                return stringBuilder.length() > 0 ? stringBuilder.toString() : null;
+            }
+            if (read == 10) {
+                int length = stringBuilder.length();
+                if (length > 0 && stringBuilder.charAt(length - 1) == '\r') {
+                    stringBuilder.setLength(length - 1);
+                }
+                return stringBuilder.toString();
+            }
+            stringBuilder.append((char) read);
+        }
+    }
+
+    public static void main(String[] strArr) throws Exception {
+        if (strArr.length < 1) {
+            System.err.println("usage: FixtureServer <fixture dir> [port]");
+            System.exit(2);
+        }
+        FixtureServer load = load(new File(strArr[0]));
+        int start = load.start(strArr.length > 1 ? Integer.parseInt(strArr[1]) : 8080);
+        System.out.println("serving " + load.mFixtures.size() + " fixtures on http://127.0.0.1:" + start);
+        while (true) {
+            Thread.sleep(60000);
+            System.out.println("served " + load.getServedCount());
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.samsung.android.spayfw.loadtest;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Debug;
+import android.os.SystemClock;
+import com.samsung.android.spayfw.remoteservice.Request;
+import com.samsung.android.spayfw.remoteservice.Request.C0413a;
+import com.samsung.android.spayfw.remoteservice.cashcard.CashCardClient;
+import com.samsung.android.spayfw.remoteservice.p018a.AnalyticsRequesterClient;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.TokenRequesterClient;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ContextData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Id;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.MstConfigurationRequestData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ReplenishTokenRequestData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.TimeStamp;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.TokenRequestData;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives TokenRequesterClient, CashCardClient and AnalyticsRequesterClient
+ * against a FixtureServer at a fixed concurrency and reports throughput,
+ * latency percentiles and allocation per request for each flow.
+ *
+ * The clients resolve their host through GLDManager, so the harness points
+ * them at the stand-in through the existing "TrUrl1" override in GLDPrefs
+ * and restores the previous value afterwards. The stand-in is always
+ * addressed as 127.0.0.1, so the UnknownHostException path that clears the
+ * override never fires. Requests run with
+ * executeSync, one outstanding request per worker thread. Allocation is the
+ * runtime-wide art.gc.bytes-allocated delta over the measured phase divided
+ * by the requests issued, so keep the rest of the process quiet while
+ * measuring.
+ */
+public final class LoadHarness {
+    private static final String CARD_BRAND = "VI";
+    private static final String GLD_PREFS = "GLDPrefs";
+    private static final String GLD_URL_KEY = "TrUrl1";
+
+    public enum Flow {
+        QUERY_TOKEN,
+        PROVISION,
+        REPLENISH,
+        MST_CONFIG,
+        CASH_CARD,
+        ANALYTICS
+    }
+
+    public static final class Config {
+        public String baseUrl;
+        public int concurrency;
+        public File fixtureDir;
+        public Flow[] flows;
+        public int requestsPerWorker;
+        public int warmupPerWorker;
+
+        public Config() {
+            this.concurrency = 4;
+            this.requestsPerWorker = 200;
+            this.warmupPerWorker = 20;
+            this.flows = Flow.values();
+        }
+    }
+
+    private static final class FlowStats {
+        final AtomicInteger mCount;
+        final AtomicInteger mErrors;
+        final Flow mFlow;
+        final long[] mLatencies;
+
+        FlowStats(Flow flow, int i) {
+            this.mFlow = flow;
+            this.mLatencies = new long[i];
+            this.mCount = new AtomicInteger();
+            this.mErrors = new AtomicInteger();
+        }
+
+        void record(long j, boolean z) {
+            int andIncrement = this.mCount.getAndIncrement();
+            if (andIncrement < this.mLatencies.length) {
+                this.mLatencies[andIncrement] = j;
+            }
+            if (!z) {
+                this.mErrors.incrementAndGet();
+            }
+        }
+    }
+
+    public static final class Report {
+        private final long mAllocatedBytes;
+        private final long mElapsedMs;
+        private final FlowStats[] mStats;
+        private final int mTotal;
+
+        private Report(FlowStats[] flowStatsArr, long j, long j2) {
+            int i = 0;
+            this.mStats = flowStatsArr;
+            this.mElapsedMs = j;
+            this.mAllocatedBytes = j2;
+            for (FlowStats flowStats : flowStatsArr) {
+                i += Math.min(flowStats.mCount.get(), flowStats.mLatencies.length);
+            }
+            this.mTotal = i;
+        }
+
+        public String toString() {
+            StringBuilder stringBuilder = new StringBuilder(512);
+            double max = ((double) Math.max(1, this.mElapsedMs)) / 1000.0d;
+            stringBuilder.append(String.format(Locale.US, "requests %d in %d ms, %.1f req/s, %d bytes allocated/request%n", new Object[]{Integer.valueOf(this.mTotal), Long.valueOf(this.mElapsedMs), Double.valueOf(((double) this.mTotal) / max), Long.valueOf(this.mAllocatedBytes / ((long) Math.max(1, this.mTotal)))}));
+            stringBuilder.append(String.format(Locale.US, "%-12s %7s %6s %9s %8s %8s %8s %8s%n", new Object[]{"flow", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"}));
+            for (FlowStats flowStats : this.mStats) {
+                int min = Math.min(flowStats.mCount.get(), flowStats.mLatencies.length);
+                if (min != 0) {
+                    long[] copyOf = Arrays.copyOf(flowStats.mLatencies, min);
+                    Arrays.sort(copyOf);
+                    stringBuilder.append(String.format(Locale.US, "%-12s %7d %6d %9.1f %8.2f %8.2f %8.2f %8.2f%n", new Object[]{flowStats.mFlow.name().toLowerCase(Locale.US), Integer.valueOf(min), Integer.valueOf(flowStats.mErrors.get()), Double.valueOf(((double) min) / max), Double.valueOf(percentile(copyOf, 50)), Double.valueOf(percentile(copyOf, 90)), Double.valueOf(percentile(copyOf, 99)), Double.valueOf(((double) copyOf[min - 1]) / 1000000.0d)}));
+                }
+            }
+            return stringBuilder.toString();
+        }
+
+        private static double percentile(long[] jArr, int i) {
+            return ((double) jArr[Math.min(jArr.length - 1, (jArr.length * i) / 100)]) / 1000000.0d;
+        }
+    }
+
+    private static final class StatusCallback extends C0413a<Object, Object> {
+        private final CountDownLatch mDone;
+        volatile int mStatus;
+
+        private StatusCallback() {
+            this.mDone = new CountDownLatch(1);
+        }
+
+        public void m363a(int i, Object obj) {
+            this.mStatus = i;
+            this.mDone.countDown();
+        }
+
+        int await() throws InterruptedException {
+            this.mDone.await();
+            return this.mStatus;
+        }
+    }
+
+    private LoadHarness() {
+    }
+
+    public static Report run(Context context, Config config) throws IOException, InterruptedException {
+        FixtureServer fixtureServer = null;
+        String str = config.baseUrl;
+        if (str == null) {
+            if (config.fixtureDir == null) {
+                throw new IllegalArgumentException("either baseUrl or fixtureDir is required");
+            }
+            fixtureServer = FixtureServer.load(config.fixtureDir);
+            str = "http://127.0.0.1:" + fixtureServer.start(0);
+        }
+        SharedPreferences sharedPreferences = context.getSharedPreferences(GLD_PREFS, 0);
+        String string = sharedPreferences.getString(GLD_URL_KEY, null);
+        sharedPreferences.edit().putString(GLD_URL_KEY, str).commit();
+        try {
+            runPhase(context, config, config.warmupPerWorker);
+            return runPhase(context, config, config.requestsPerWorker);
+        } finally {
+            if (string != null) {
+                sharedPreferences.edit().putString(GLD_URL_KEY, string).commit();
+            } else {
+                sharedPreferences.edit().remove(GLD_URL_KEY).commit();
+            }
+            if (fixtureServer != null) {
+                fixtureServer.stop();
+            }
+        }
+    }
+
+    private static Report runPhase(final Context context, final Config config, final int i) throws InterruptedException {
+        final FlowStats[] flowStatsArr = new FlowStats[config.flows.length];
+        for (int i2 = 0; i2 < flowStatsArr.length; i2++) {
+            flowStatsArr[i2] = new FlowStats(config.flows[i2], config.concurrency * i);
+        }
+        Thread[] threadArr = new Thread[config.concurrency];
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        for (int i3 = 0; i3 < threadArr.length; i3++) {
+            final int i4 = i3;
+            threadArr[i3] = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        countDownLatch.await();
+                        for (int i5 = 0; i5 < i; i5++) {
+                            FlowStats flowStats = flowStatsArr[(i4 + i5) % flowStatsArr.length];
+                            long elapsedRealtimeNanos = SystemClock.elapsedRealtimeNanos();
+                            boolean z = LoadHarness.issue(context, flowStats.mFlow, i4, i5);
+                            flowStats.record(SystemClock.elapsedRealtimeNanos() - elapsedRealtimeNanos, z);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, "LoadHarness-" + i3);
+            threadArr[i3].start();
+        }
+        long allocatedBytes = allocatedBytes();
+        long elapsedRealtime = SystemClock.elapsedRealtime();
+        countDownLatch.countDown();
+        for (Thread join : threadArr) {
+            join.join();
+        }
+        return new Report(flowStatsArr, SystemClock.elapsedRealtime() - elapsedRealtime, allocatedBytes() - allocatedBytes);
+    }
+
+    private static boolean issue(Context context, Flow flow, int i, int i2) throws InterruptedException {
+        Request x;
+        String str = "tok-" + i + "-" + (i2 % 16);
+        switch (flow) {
+            case QUERY_TOKEN:
+                x = TokenRequesterClient.m1126Q(context).m1141x(CARD_BRAND, str);
+                break;
+            case PROVISION:
+                x = TokenRequesterClient.m1126Q(context).m1130a(CARD_BRAND, new TokenRequestData(new Id("enr-" + i + "-" + i2), new TimeStamp(System.currentTimeMillis())));
+                break;
+            case REPLENISH:
+                x = TokenRequesterClient.m1126Q(context).m1131a(CARD_BRAND, str, new ReplenishTokenRequestData(str));
+                break;
+            case MST_CONFIG:
+                x = TokenRequesterClient.m1126Q(context).m1129a(CARD_BRAND, new MstConfigurationRequestData(new ContextData()));
+                break;
+            case CASH_CARD:
+                x = CashCardClient.m1172I(context).bi("user-" + i);
+                break;
+            default:
+                x = AnalyticsRequesterClient.m1159H(context).m1161t(CARD_BRAND, "{\"events\":[]}");
+                break;
+        }
+        StatusCallback statusCallback = new StatusCallback();
+        x.m839b(statusCallback);
+        int await = statusCallback.await();
+        return await >= 200 && await < 300;
+    }
+
+    private static long allocatedBytes() {
+        String runtimeStat = Debug.getRuntimeStat("art.gc.bytes-allocated");
+        if (runtimeStat == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(runtimeStat);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.samsung.android.spayfw.loadtest;
+
+import android.app.Activity;
+import android.app.Instrumentation;
+import android.os.Bundle;
+import android.util.Log;
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Entry point for LoadHarness when packaged into a test APK that targets the
+ * framework, e.g.
+ *
+ *   adb shell am instrument -w -e fixtures /data/local/tmp/fixtures
+ *       -e concurrency 8 -e requests 500 -e flows query_token,replenish
+ *       com.samsung.android.spayfw.loadtest/.LoadTestInstrumentation
+ *
+ * Pass "url" instead of "fixtures" to use a FixtureServer running on the
+ * host behind "adb reverse tcp:8080 tcp:8080". The report is returned in
+ * the instrumentation result under "stream".
+ */
+public class LoadTestInstrumentation extends Instrumentation {
+    private static final String TAG = "LoadTestInstrumentation";
+    private Bundle mArguments;
+
+    public void onCreate(Bundle bundle) {
+        super.onCreate(bundle);
+        this.mArguments = bundle != null ? bundle : new Bundle();
+        start();
+    }
+
+    public void onStart() {
+        super.onStart();
+        Bundle bundle = new Bundle();
+        try {
+            LoadHarness.Config config = new LoadHarness.Config();
+            config.baseUrl = this.mArguments.getString("url");
+            String string = this.mArguments.getString("fixtures");
+            if (string != null) {
+                config.fixtureDir = new File(string);
+            }
+            config.concurrency = intArg("concurrency", config.concurrency);
+            config.requestsPerWorker = intArg("requests", config.requestsPerWorker);
+            config.warmupPerWorker = intArg("warmup", config.warmupPerWorker);
+            String string2 = this.mArguments.getString("flows");
+            if (string2 != null) {
+                String[] split = string2.split(",");
+                config.flows = new LoadHarness.Flow[split.length];
+                for (int i = 0; i < split.length; i++) {
+                    config.flows[i] = LoadHarness.Flow.valueOf(split[i].trim().toUpperCase(Locale.US));
+                }
+            }
+            String report = LoadHarness.run(getTargetContext(), config).toString();
+            Log.i(TAG, report);
+            bundle.putString("stream", report);
+            finish(Activity.RESULT_OK, bundle);
+        } catch (Throwable e) {
+            Log.e(TAG, "load test failed", e);
+            bundle.putString("stream", "load test failed: " + e + "\n");
+            finish(Activity.RESULT_CANCELED, bundle);
+        }
+    }
+
+    private int intArg(String str, int i) {
+        String string = this.mArguments.getString(str);
+        return string != null ? Integer.parseInt(string) : i;
+    }
+}
@@ -0,0 +1,163 @@
+package com.samsung.android.spayfw.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels.ApduCommand;
+import com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels.ApduResponse;
+import com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels.GetTokenResponse;
+import com.samsung.android.spayfw.payprovider.mastercard.payload.datamodels.NotifyTokenProvisionResult;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Code;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.ContextData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Environment;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Location;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.MstConfigurationRequestData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.MstConfigurationResponseData;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Network;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Token;
+import com.samsung.android.spayfw.remoteservice.tokenrequester.models.Wifi;
+import com.samsung.android.spayfw.utils.GsonHolder;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Compares the shared GsonHolder instance with a plain reflective Gson on
+ * the payloads that carry the hand-written adapters, and checks that both
+ * produce the same JSON. Prints ns/op and bytes allocated/op per case.
+ * Runs on any JVM or device that has the framework classes and Gson on the
+ * classpath, e.g.
+ *
+ *   java -cp gson.jar:framework-classes ...loadtest.ModelCodecBenchmark 200000
+ *
+ * Allocation is read from the HotSpot thread MXBean and reported as -1
+ * where that is unavailable.
+ */
+public final class ModelCodecBenchmark {
+    private static final int WARMUP = 20000;
+
+    private interface Case {
+        Object run(Gson gson);
+    }
+
+    private ModelCodecBenchmark() {
+    }
+
+    public static void main(String[] strArr) {
+        int parseInt = strArr.length > 0 ? Integer.parseInt(strArr[0]) : 100000;
+        Gson gson = GsonHolder.get();
+        Gson create = new GsonBuilder().disableHtmlEscaping().create();
+        final ContextData contextData = contextData();
+        final GetTokenResponse getTokenResponse = getTokenResponse();
+        final NotifyTokenProvisionResult notifyTokenProvisionResult = new NotifyTokenProvisionResult(ApduResponse.initApduResponseFromCommand(getTokenResponse.getApduCommands()));
+        final String toJson = create.toJson(new MstConfigurationRequestData(contextData));
+        final String toJson2 = create.toJson(getTokenResponse);
+        final String str = "{\"id\":\"cfg-1\",\"recommendations\":[],\"caches\":[]}";
+        check("contextData", gson.toJson(contextData), create.toJson(contextData));
+        check("getTokenResponse", gson.toJson(getTokenResponse), toJson2);
+        check("notifyTokenProvisionResult", gson.toJson(notifyTokenProvisionResult), create.toJson(notifyTokenProvisionResult));
+        check("mstConfigurationResponse", gson.toJson(gson.fromJson(str, MstConfigurationResponseData.class)), create.toJson(create.fromJson(str, MstConfigurationResponseData.class)));
+        System.out.println(String.format(Locale.US, "%-28s %12s %12s %12s %12s", new Object[]{"case", "shared ns", "refl ns", "shared B", "refl B"}));
+        bench("write mst request", parseInt, gson, create, new Case() {
+            public Object run(Gson gson) {
+                return gson.toJson(new MstConfigurationRequestData(contextData));
+            }
+        });
+        bench("read mst request", parseInt, gson, create, new Case() {
+            public Object run(Gson gson) {
+                return gson.fromJson(toJson, MstConfigurationRequestData.class);
+            }
+        });
+        bench("read get token", parseInt, gson, create, new Case() {
+            public Object run(Gson gson) {
+                return gson.fromJson(toJson2, GetTokenResponse.class);
+            }
+        });
+        bench("write notify provision", parseInt, gson, create, new Case() {
+            public Object run(Gson gson) {
+                return gson.toJson(notifyTokenProvisionResult);
+            }
+        });
+        bench("read mst response", parseInt, gson, create, new Case() {
+            public Object run(Gson gson) {
+                return gson.fromJson(str, MstConfigurationResponseData.class);
+            }
+        });
+    }
+
+    private static void bench(String str, int i, Gson gson, Gson gson2, Case caseR) {
+        measure(gson, caseR, WARMUP);
+        measure(gson2, caseR, WARMUP);
+        long[] measure = measure(gson, caseR, i);
+        long[] measure2 = measure(gson2, caseR, i);
+        System.out.println(String.format(Locale.US, "%-28s %12d %12d %12d %12d", new Object[]{str, Long.valueOf(measure[0]), Long.valueOf(measure2[0]), Long.valueOf(measure[1]), Long.valueOf(measure2[1])}));
+    }
+
+    private static long[] measure(Gson gson, Case caseR, int i) {
+        int i2 = 0;
+        long allocatedBytes = allocatedBytes();
+        long nanoTime = System.nanoTime();
+        for (int i3 = 0; i3 < i; i3++) {
+            if (caseR.run(gson) != null) {
+                i2++;
+            }
+        }
+        long nanoTime2 = System.nanoTime() - nanoTime;
+        long allocatedBytes2 = allocatedBytes();
+        if (i2 != i) {
+            throw new IllegalStateException("null result");
+        }
+        return new long[]{nanoTime2 / ((long) i), allocatedBytes < 0 ? -1 : (allocatedBytes2 - allocatedBytes) / ((long) i)};
+    }
+
+    private static long allocatedBytes() {
+        try {
+            Object threadMXBean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean", new Class[0]).invoke(null, new Object[0]);
+            return ((Long) Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", new Class[]{Long.TYPE}).invoke(threadMXBean, new Object[]{Long.valueOf(Thread.currentThread().getId())})).longValue();
+        } catch (Throwable e) {
+            return -1;
+        }
+    }
+
+    private static void check(String str, String str2, String str3) {
+        if (!str2.equals(str3)) {
+            throw new IllegalStateException(str + ": shared and reflective output differ\n" + str2 + "\n" + str3);
+        }
+    }
+
+    private static ContextData contextData() {
+        Environment environment = new Environment();
+        environment.setCountry(new Code("USA"));
+        environment.setMstSequenceId("42");
+        Location location = new Location("37.4", "-122.1", "America/Los_Angeles", "fused", "12");
+        location.setAccuracy("20");
+        location.setTime("1700000000000");
+        environment.setLocation(location);
+        ArrayList arrayList = new ArrayList();
+        for (int i = 0; i < 8; i++) {
+            arrayList.add(new Wifi("00:11:22:33:44:0" + i, "ssid-" + i, "-6" + i, "1700000000000", "2412", "3"));
+        }
+        Network network = new Network();
+        network.setWifi(arrayList);
+        ContextData contextData = new ContextData();
+        contextData.setEnvironment(environment);
+        contextData.setNetwork(network);
+        contextData.setToken(new Token("tok-1", "MC", "merchant-1"));
+        return contextData;
+    }
+
+    private static GetTokenResponse getTokenResponse() {
+        ApduCommand[] apduCommandArr = new ApduCommand[24];
+        for (int i = 0; i < apduCommandArr.length; i++) {
+            apduCommandArr[i] = new ApduCommand();
+            apduCommandArr[i].setMessageId("msg-" + i);
+            apduCommandArr[i].setApduCommand("80E2000043" + Integer.toHexString(i) + "0102030405060708090A0B0C0D0E0F101112131415161718191A1B1C1D1E1F");
+        }
+        GetTokenResponse getTokenResponse = new GetTokenResponse();
+        getTokenResponse.setApduCommands(apduCommandArr);
+        getTokenResponse.setMdesTokenUniqueReference("DWSPMC000000000132d72d4fcb2f4136a0532d3093ff1a45");
+        getTokenResponse.setPanUniqueReference("FWSPMC000000000159f71e33e4c64ad79aeba6a6e9ad8ac0");
+        getTokenResponse.setPaymentAppInstanceId("123456789");
+        getTokenResponse.setPaymentAppProviderId("547102052016");
+        getTokenResponse.setSeId("se-1");
+        return getTokenResponse;
+    }
+}